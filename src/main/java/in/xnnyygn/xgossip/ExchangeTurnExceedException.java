@@ -1,4 +0,0 @@
-package in.xnnyygn.xgossip;
-
-public class ExchangeTurnExceedException extends RuntimeException {
-}
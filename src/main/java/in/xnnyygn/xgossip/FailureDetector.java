@@ -1,7 +1,6 @@
 package in.xnnyygn.xgossip;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
 import in.xnnyygn.xgossip.rpc.messages.*;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
 import org.slf4j.Logger;
@@ -23,18 +22,21 @@ class FailureDetector {
     private static final long PING_TIMEOUT = 100;
     private static final long PROXY_PING_TIMEOUT = 200;
     private final ConcurrentLinkedDeque<MemberEndpoint> memberDeque = new ConcurrentLinkedDeque<>();
-    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+    private final LatencyRecorder latencyRecorder;
     private final MemberListContext context;
+    private final Piggybacker piggybacker;
     private volatile Ping lastPing = NO_PING;
 
-    FailureDetector(MemberListContext context) {
+    FailureDetector(MemberListContext context, Piggybacker piggybacker) {
         this.context = context;
+        this.piggybacker = piggybacker;
+        this.latencyRecorder = new LatencyRecorder(context.getMemberList().getMemberTable());
     }
 
     void initialize() {
         MessageDispatcher dispatcher = context.getMessageDispatcher();
         dispatcher.register(PingRpc.class, this::onReceivePingRpc);
-        dispatcher.register(PingResponse.class, m -> lastPing.onResponse(m));
+        dispatcher.register(PingResponse.class, this::onReceivePingResponse);
         dispatcher.register(PingRequestRpc.class, this::onReceivePingRequestRpc);
         dispatcher.register(ProxyPingRpc.class, this::onReceiveProxyPingRpc);
         dispatcher.register(ProxyPingResponse.class, this::onReceiveProxyPingResponse);
@@ -53,16 +55,19 @@ class FailureDetector {
             schedulePing();
             return;
         }
-        PingRpc rpc = new PingRpc();
+        PingRpc rpc = new PingRpc(context.getScheduler().currentTimeMillis(), piggybacker.take());
         lastPing = new DirectPing(endpoint, rpc.getPingAt());
         context.getTransporter().send(endpoint, rpc);
     }
 
     private MemberEndpoint selectMember() {
-        MemberEndpoint endpoint = memberDeque.poll();
-        if (endpoint != null) {
-            logger.debug("test member {}", endpoint);
-            return endpoint;
+        MemberEndpoint endpoint;
+        while ((endpoint = memberDeque.poll()) != null) {
+            // removed after added to deque
+            if (latencyRecorder.isRecordable(endpoint)) {
+                logger.debug("test member {}", endpoint);
+                return endpoint;
+            }
         }
         return context.getMemberList().getRandomEndpointExceptSelf();
     }
@@ -70,24 +75,33 @@ class FailureDetector {
     // subscriber
     void onReceivePingRpc(RemoteMessage<PingRpc> message) {
         PingRpc rpc = message.get();
-        context.getTransporter().reply(message, new PingResponse(rpc.getPingAt()));
+        processPiggyback(rpc.getPiggyback());
+        context.getTransporter().reply(message, new PingResponse(rpc.getPingAt(), piggybacker.take()));
+    }
+
+    // subscriber
+    private void onReceivePingResponse(RemoteMessage<PingResponse> message) {
+        processPiggyback(message.get().getPiggyback());
+        lastPing.onResponse(message);
     }
 
     // subscriber
     private void onReceivePingRequestRpc(RemoteMessage<PingRequestRpc> message) {
         PingRequestRpc rpc = message.get();
-        context.getTransporter().send(rpc.getEndpoint(), new ProxyPingRpc(rpc.getPingAt(), message.getSender()));
+        context.getTransporter().send(rpc.getEndpoint(), new ProxyPingRpc(rpc.getPingAt(), message.getSender(), piggybacker.take()));
     }
 
     // subscriber
     private void onReceiveProxyPingRpc(RemoteMessage<ProxyPingRpc> message) {
         ProxyPingRpc rpc = message.get();
-        context.getTransporter().reply(message, new ProxyPingResponse(rpc.getPingAt(), rpc.getSourceEndpoint()));
+        processPiggyback(rpc.getPiggyback());
+        context.getTransporter().reply(message, new ProxyPingResponse(rpc.getPingAt(), rpc.getSourceEndpoint(), piggybacker.take()));
     }
 
     // subscriber
     private void onReceiveProxyPingResponse(RemoteMessage<ProxyPingResponse> message) {
         ProxyPingResponse response = message.get();
+        processPiggyback(response.getPiggyback());
         context.getTransporter().send(
                 response.getSourceEndpoint(),
                 new ProxyPingDoneResponse(response.getPingAt(), message.getSender())
@@ -110,6 +124,14 @@ class FailureDetector {
         return true;
     }
 
+    private void processPiggyback(Piggyback piggyback) {
+        if (piggyback.isEmpty()) {
+            return;
+        }
+        processNotifications(piggyback.getNotifications());
+        piggybacker.processUpdates(piggyback.getUpdates());
+    }
+
     void processNotifications(Collection<MemberNotification> notifications) {
         for (MemberNotification notification : notifications) {
             processNotification(notification);
@@ -118,6 +140,10 @@ class FailureDetector {
 
     private void processNotification(MemberNotification notification) {
         MemberEndpoint endpoint = notification.getEndpoint();
+        if (!latencyRecorder.isRecordable(endpoint)) {
+            // not merged yet, or collected
+            return;
+        }
         boolean lastPingFailed = latencyRecorder.isLastPingFailed(endpoint);
         if (notification.isSuspected()) {
             if (lastPingFailed) {
@@ -134,10 +160,6 @@ class FailureDetector {
         }
     }
 
-    Set<MemberEndpoint> listSuspectedMembers() {
-        return latencyRecorder.listEndpointWithFailedPing();
-    }
-
     List<LatencyRecorder.RankingItem> getLatencyRanking() {
         return latencyRecorder.getRanking();
     }
@@ -151,11 +173,18 @@ class FailureDetector {
 
     private void pingFailed(MemberEndpoint endpoint, long pingAt) {
         logger.debug("ping {} timeout", endpoint);
+        if (!latencyRecorder.isRecordable(endpoint)) {
+            // collected during ping, failure would be reported on every ping
+            logger.debug("member {} not in member list, ignore", endpoint);
+            resetLastPing();
+            return;
+        }
         Long previousLatency = latencyRecorder.add(endpoint, pingAt, -1);
         if (previousLatency == null || previousLatency >= 0) {
             logger.info("member {} suspected", endpoint);
             context.notifyChangeToListeners(new MemberEvent(endpoint, MemberEvent.Kind.SUSPECTED));
         }
+        context.getMemberList().suspect(endpoint);
         context.getNotificationList().suspectMember(endpoint, pingAt, context.getSelfEndpoint());
         resetLastPing();
     }
@@ -166,6 +195,7 @@ class FailureDetector {
             logger.info("member {} backed", endpoint);
             context.notifyChangeToListeners(new MemberEvent(endpoint, MemberEvent.Kind.BACKED));
         }
+        context.getMemberList().trust(endpoint);
         context.getNotificationList().trustMember(endpoint, pingAt, context.getSelfEndpoint());
         resetLastPing();
     }
@@ -226,7 +256,7 @@ class FailureDetector {
 
             // ping done
             future.cancel(false);
-            long latency = System.currentTimeMillis() - pingAt;
+            long latency = context.getScheduler().currentTimeMillis() - pingAt;
             logger.debug("{}, latency {}ms", endpoint, latency);
             pingSuccess(endpoint, pingAt, latency);
         }
@@ -234,10 +264,9 @@ class FailureDetector {
         @Override
         void onTimeout() {
             // try to ping by other endpoints
-            Set<MemberEndpoint> proxyEndpoints = context.getMemberList().getRandomEndpointsExcept(3, Sets.union(
-                    ImmutableSet.of(context.getSelfEndpoint(), endpoint),
-                    latencyRecorder.listEndpointWithFailedPing()
-            ));
+            Set<MemberEndpoint> proxyEndpoints = context.getMemberList().getRandomTrustedEndpointsExcept(
+                    3, ImmutableSet.of(context.getSelfEndpoint(), endpoint)
+            );
             if (proxyEndpoints.isEmpty()) {
                 logger.debug("no proxy endpoint");
                 pingFailed(endpoint, pingAt);
@@ -279,7 +308,7 @@ class FailureDetector {
 
             // proxy ping done
             future.cancel(false);
-            long latency = System.currentTimeMillis() - pingAt;
+            long latency = context.getScheduler().currentTimeMillis() - pingAt;
             logger.debug("{}, latency {}ms through proxy {}", this.endpoint, latency, message.getSender());
             pingSuccess(this.endpoint, pingAt, latency);
         }
@@ -1,96 +1,120 @@
 package in.xnnyygn.xgossip;
 
-import javax.annotation.Nonnull;
-import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
-@ThreadSafe
+/**
+ * Recorder of last ping of members.
+ * <p>
+ * Thread safe. Results of pings are kept in {@link MemberTable} by id of member. With the table of member list, ids
+ * are assigned and released by member list, results of endpoints without id, like a member collected during ping,
+ * are dropped, see {@link #isRecordable(MemberEndpoint)}.
+ * </p>
+ */
 public class LatencyRecorder {
 
-    private final ConcurrentMap<MemberEndpoint, Record> records = new ConcurrentHashMap<>();
+    private final MemberTable memberTable;
+    // true if table is owned by this recorder
+    private final boolean assignIds;
 
-    public Long add(MemberEndpoint endpoint, long pingAt, long latency) {
-        Record previousRecord = records.put(endpoint, new Record(endpoint, pingAt, latency));
-        return previousRecord != null ? previousRecord.getLatency() : null;
+    public LatencyRecorder() {
+        this(new MemberTable(), true);
     }
 
-    public boolean isLastPingFailed(MemberEndpoint endpoint) {
-        Record lastRecord = records.get(endpoint);
-        return lastRecord != null && lastRecord.isFailed();
+    LatencyRecorder(MemberTable memberTable) {
+        this(memberTable, false);
     }
 
-    public Set<MemberEndpoint> listEndpointWithFailedPing() {
-        return records.values().stream()
-                .filter(Record::isFailed)
-                .map(Record::getEndpoint)
-                .collect(Collectors.toSet());
+    private LatencyRecorder(MemberTable memberTable, boolean assignIds) {
+        this.memberTable = memberTable;
+        this.assignIds = assignIds;
     }
 
-    public List<RankingItem> getRanking() {
-        return records.values().stream()
-                .filter(r -> !r.isFailed())
-                .sorted()
-                .map(r -> new RankingItem(r.getEndpoint(), r.getLatency()))
-                .collect(Collectors.toList());
+    public Long add(MemberEndpoint endpoint, long pingAt, long latency) {
+        if (assignIds) {
+            memberTable.idOf(endpoint);
+        }
+        long previousLatency = memberTable.setLatency(endpoint, pingAt, latency);
+        return previousLatency != MemberTable.NO_LATENCY ? previousLatency : null;
     }
 
-    public static class RankingItem {
+    /**
+     * Check if result of ping to endpoint is kept.
+     *
+     * @param endpoint endpoint
+     * @return true if ids are assigned by this recorder or endpoint has id, otherwise false
+     */
+    public boolean isRecordable(MemberEndpoint endpoint) {
+        return assignIds || memberTable.findId(endpoint) != MemberTable.NO_ID;
+    }
 
-        private final MemberEndpoint endpoint;
-        private final long latency;
+    public boolean isLastPingFailed(MemberEndpoint endpoint) {
+        return isFailed(memberTable.getLatency(endpoint));
+    }
 
-        RankingItem(MemberEndpoint endpoint, long latency) {
-            this.endpoint = endpoint;
-            this.latency = latency;
+    public Set<MemberEndpoint> listEndpointWithFailedPing() {
+        long[] latencies = memberTable.copyLatencies();
+        Set<MemberEndpoint> endpoints = new HashSet<>();
+        for (int id = 0; id < latencies.length; id++) {
+            if (isFailed(latencies[id])) {
+                MemberEndpoint endpoint = memberTable.getEndpoint(id);
+                // null if released after copy
+                if (endpoint != null) {
+                    endpoints.add(endpoint);
+                }
+            }
         }
+        return endpoints;
+    }
 
-        public MemberEndpoint getEndpoint() {
-            return endpoint;
+    public List<RankingItem> getRanking() {
+        long[] latencies = memberTable.copyLatencies();
+        // latency in high bits and id in low bits, sorted by latency
+        int count = 0;
+        long[] keys = new long[latencies.length];
+        for (int id = 0; id < latencies.length; id++) {
+            if (latencies[id] >= 0) {
+                keys[count++] = (Math.min(latencies[id], Integer.MAX_VALUE) << 32) | id;
+            }
         }
-
-        public long getLatency() {
-            return latency;
+        Arrays.sort(keys, 0, count);
+        List<RankingItem> ranking = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = (int) keys[i];
+            MemberEndpoint endpoint = memberTable.getEndpoint(id);
+            // null if released after copy
+            if (endpoint != null) {
+                ranking.add(new RankingItem(endpoint, latencies[id]));
+            }
         }
+        return ranking;
+    }
 
+    private static boolean isFailed(long latency) {
+        return latency < 0 && latency != MemberTable.NO_LATENCY;
     }
 
-    private static class Record implements Comparable<Record> {
+    public static class RankingItem {
 
         private final MemberEndpoint endpoint;
-        private final long pingAt;
         private final long latency;
 
-        Record(MemberEndpoint endpoint, long pingAt, long latency) {
+        RankingItem(MemberEndpoint endpoint, long latency) {
             this.endpoint = endpoint;
-            this.pingAt = pingAt;
             this.latency = latency;
         }
 
-        MemberEndpoint getEndpoint() {
+        public MemberEndpoint getEndpoint() {
             return endpoint;
         }
 
-        long getPingAt() {
-            return pingAt;
-        }
-
-        long getLatency() {
+        public long getLatency() {
             return latency;
         }
 
-        boolean isFailed() {
-            return latency < 0;
-        }
-
-        @Override
-        public int compareTo(@Nonnull Record o) {
-            return Long.compare(latency, o.latency);
-        }
-
     }
 
 }
@@ -19,8 +19,8 @@ public class Launcher {
             }
 
             @Override
-            public void onMerged() {
-                System.out.println("member list merged, available endpoints " + memberManager.listAvailableEndpoints());
+            public void onMerged(List<MemberEvent> events) {
+                System.out.println("member list merged, " + events);
             }
         });
         memberManager.initialize();
@@ -0,0 +1,281 @@
+package in.xnnyygn.xgossip;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.*;
+
+/**
+ * Index of endpoints of existing members for random sampling.
+ * <p>
+ * Endpoints are kept in an array, trusted ones first and suspected ones after, with positions of endpoints in an
+ * array by id of {@link MemberTable}. Adding, removing, suspecting and trusting an endpoint are swaps in the array.
+ * Random endpoints are sampled by position in the array, instead of filtering all members every time. Suspicion is
+ * kept in member table for endpoints with id, members and tombstones, suspicion of unknown endpoints is ignored.
+ * </p>
+ * <p>
+ * Changes are serialized by lock, reads take no lock. The array is split into chunks of {@link #CHUNK_SIZE}
+ * endpoints and published as an immutable {@link View} after every change, a change copies the array of chunks
+ * and the chunks it writes only, so publishing is cheap even with many members.
+ * </p>
+ */
+@ThreadSafe
+class LiveEndpointIndex {
+
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private final MemberTable memberTable;
+    private final Random random;
+    private volatile View view = new View(new MemberEndpoint[0][], 0, 0);
+    // chunks of view in change, chunks already copied in this change
+    @GuardedBy("this")
+    private MemberEndpoint[][] chunks;
+    @GuardedBy("this")
+    private final BitSet copiedChunks = new BitSet();
+    // ids of endpoints, in the same order
+    @GuardedBy("this")
+    private int[] ids = new int[16];
+    // position + 1 by id, 0 if not live
+    @GuardedBy("this")
+    private int[] positions = new int[16];
+    // [0, trustedCount) trusted, [trustedCount, liveCount) suspected
+    @GuardedBy("this")
+    private int liveCount = 0;
+    @GuardedBy("this")
+    private int trustedCount = 0;
+
+    LiveEndpointIndex(MemberTable memberTable, Random random) {
+        this.memberTable = memberTable;
+        this.random = random;
+    }
+
+    synchronized void add(MemberEndpoint endpoint) {
+        int id = memberTable.idOf(endpoint);
+        beginChange();
+        if (liveCount == ids.length) {
+            ids = Arrays.copyOf(ids, liveCount * 2);
+        }
+        if (id >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(id + 1, positions.length * 2));
+        }
+        set(liveCount, endpoint, id);
+        liveCount++;
+        if (!memberTable.isSuspected(id)) {
+            // move to the last trusted
+            swap(liveCount - 1, trustedCount);
+            trustedCount++;
+        }
+        publish();
+    }
+
+    synchronized void remove(MemberEndpoint endpoint) {
+        int id = memberTable.findId(endpoint);
+        int position = positions[id] - 1;
+        beginChange();
+        if (position < trustedCount) {
+            // move to the last trusted, then the last trusted to the last
+            trustedCount--;
+            swap(position, trustedCount);
+            position = trustedCount;
+        }
+        liveCount--;
+        swap(position, liveCount);
+        set(liveCount, null, 0);
+        positions[id] = 0;
+        publish();
+    }
+
+    synchronized void suspect(MemberEndpoint endpoint) {
+        int id = memberTable.findId(endpoint);
+        if (id == MemberTable.NO_ID || !memberTable.setSuspected(id, true)) {
+            return;
+        }
+        if (id < positions.length && positions[id] != 0) {
+            // move to the first suspected
+            beginChange();
+            trustedCount--;
+            swap(positions[id] - 1, trustedCount);
+            publish();
+        }
+    }
+
+    synchronized void trust(MemberEndpoint endpoint) {
+        int id = memberTable.findId(endpoint);
+        if (id == MemberTable.NO_ID || !memberTable.setSuspected(id, false)) {
+            return;
+        }
+        if (id < positions.length && positions[id] != 0) {
+            // move to the last trusted
+            beginChange();
+            swap(positions[id] - 1, trustedCount);
+            trustedCount++;
+            publish();
+        }
+    }
+
+    int size() {
+        return view.liveCount;
+    }
+
+    Set<MemberEndpoint> listTrusted() {
+        View view = this.view;
+        Set<MemberEndpoint> endpoints = new HashSet<>();
+        for (int i = 0; i < view.trustedCount; i++) {
+            endpoints.add(view.get(i));
+        }
+        return endpoints;
+    }
+
+    /**
+     * Sample one endpoint.
+     *
+     * @param trustedOnly        true to sample trusted endpoints only
+     * @param excludingEndpoints excluding endpoints
+     * @return endpoint, null if none
+     */
+    @Nullable
+    MemberEndpoint sample(boolean trustedOnly, Set<MemberEndpoint> excludingEndpoints) {
+        View view = this.view;
+        int bound = (trustedOnly ? view.trustedCount : view.liveCount);
+        if (bound >= 2 * (1 + excludingEndpoints.size())) {
+            // at least half are candidates, expected less than two tries
+            while (true) {
+                MemberEndpoint endpoint = view.get(random.nextInt(bound));
+                if (!excludingEndpoints.contains(endpoint)) {
+                    return endpoint;
+                }
+            }
+        }
+        // few candidates, reservoir sampling
+        MemberEndpoint result = null;
+        int nCandidates = 0;
+        for (int i = 0; i < bound; i++) {
+            MemberEndpoint endpoint = view.get(i);
+            if (!excludingEndpoints.contains(endpoint) && random.nextInt(++nCandidates) == 0) {
+                result = endpoint;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sample at most n endpoints.
+     *
+     * @param n                  max count of endpoints
+     * @param trustedOnly        true to sample trusted endpoints only
+     * @param excludingEndpoints excluding endpoints
+     * @return endpoints, fewer than n if not enough
+     */
+    @Nonnull
+    Set<MemberEndpoint> sample(int n, boolean trustedOnly, Set<MemberEndpoint> excludingEndpoints) {
+        View view = this.view;
+        int bound = (trustedOnly ? view.trustedCount : view.liveCount);
+        Set<MemberEndpoint> result = new HashSet<>();
+        if (bound >= 2 * (n + excludingEndpoints.size())) {
+            // at least half are new candidates in every try
+            while (result.size() < n) {
+                MemberEndpoint endpoint = view.get(random.nextInt(bound));
+                if (!excludingEndpoints.contains(endpoint)) {
+                    result.add(endpoint);
+                }
+            }
+            return result;
+        }
+        // few candidates, reservoir sampling
+        MemberEndpoint[] reservoir = new MemberEndpoint[n];
+        int nCandidates = 0;
+        for (int i = 0; i < bound; i++) {
+            MemberEndpoint endpoint = view.get(i);
+            if (excludingEndpoints.contains(endpoint)) {
+                continue;
+            }
+            if (nCandidates < n) {
+                reservoir[nCandidates] = endpoint;
+            } else {
+                int j = random.nextInt(nCandidates + 1);
+                if (j < n) {
+                    reservoir[j] = endpoint;
+                }
+            }
+            nCandidates++;
+        }
+        for (int i = 0; i < Math.min(n, nCandidates); i++) {
+            result.add(reservoir[i]);
+        }
+        return result;
+    }
+
+    @GuardedBy("this")
+    private void beginChange() {
+        MemberEndpoint[][] viewChunks = view.chunks;
+        int chunkCount = (liveCount >> CHUNK_BITS) + 1;
+        chunks = Arrays.copyOf(viewChunks, Math.max(viewChunks.length, chunkCount));
+        copiedChunks.clear();
+    }
+
+    @GuardedBy("this")
+    private void publish() {
+        view = new View(chunks, liveCount, trustedCount);
+        chunks = null;
+    }
+
+    @GuardedBy("this")
+    private MemberEndpoint get(int position) {
+        return chunks[position >> CHUNK_BITS][position & CHUNK_MASK];
+    }
+
+    /**
+     * Set endpoint at position, copy chunk if not copied in this change.
+     */
+    @GuardedBy("this")
+    private void set(int position, @Nullable MemberEndpoint endpoint, int id) {
+        int chunkIndex = position >> CHUNK_BITS;
+        if (!copiedChunks.get(chunkIndex)) {
+            MemberEndpoint[] chunk = chunks[chunkIndex];
+            chunks[chunkIndex] = (chunk == null ? new MemberEndpoint[CHUNK_SIZE] : chunk.clone());
+            copiedChunks.set(chunkIndex);
+        }
+        chunks[chunkIndex][position & CHUNK_MASK] = endpoint;
+        ids[position] = id;
+        if (endpoint != null) {
+            positions[id] = position + 1;
+        }
+    }
+
+    @GuardedBy("this")
+    private void swap(int i, int j) {
+        if (i == j) {
+            return;
+        }
+        MemberEndpoint endpoint = get(i);
+        int id = ids[i];
+        set(i, get(j), ids[j]);
+        set(j, endpoint, id);
+    }
+
+    /**
+     * Published endpoints, chunks must not be modified.
+     */
+    @Immutable
+    private static class View {
+
+        final MemberEndpoint[][] chunks;
+        final int liveCount;
+        final int trustedCount;
+
+        View(MemberEndpoint[][] chunks, int liveCount, int trustedCount) {
+            this.chunks = chunks;
+            this.liveCount = liveCount;
+            this.trustedCount = trustedCount;
+        }
+
+        MemberEndpoint get(int position) {
+            return chunks[position >> CHUNK_BITS][position & CHUNK_MASK];
+        }
+
+    }
+
+}
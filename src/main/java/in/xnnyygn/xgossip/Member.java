@@ -5,11 +5,22 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+/**
+ * Member.
+ * <p>
+ * Member is immutable, hash in digest is computed once when first used, and shared by all member lists and
+ * messages containing the member.
+ * </p>
+ */
 public class Member implements Comparable<Member> {
 
     private final MemberEndpoint endpoint;
     private final long timeAdded;
     private final long timeRemoved;
+    // written before digestHashed, computed again if read concurrently before that
+    private long digestHashHigh;
+    private long digestHashLow;
+    private volatile boolean digestHashed = false;
 
     public Member(@Nonnull MemberEndpoint endpoint) {
         this(endpoint, System.currentTimeMillis());
@@ -61,6 +72,38 @@ public class Member implements Comparable<Member> {
         return byteOutput.toByteArray();
     }
 
+    /**
+     * Get high half of hash in digest, cached.
+     *
+     * @return high half of hash
+     * @see MemberDigest
+     */
+    long getDigestHashHigh() {
+        if (!digestHashed) {
+            computeDigestHash();
+        }
+        return digestHashHigh;
+    }
+
+    /**
+     * Get low half of hash in digest, cached.
+     *
+     * @return low half of hash
+     * @see MemberDigest
+     */
+    long getDigestHashLow() {
+        if (!digestHashed) {
+            computeDigestHash();
+        }
+        return digestHashLow;
+    }
+
+    private void computeDigestHash() {
+        digestHashHigh = MemberDigest.hash(this, MemberDigest.SEED_HIGH);
+        digestHashLow = MemberDigest.hash(this, MemberDigest.SEED_LOW);
+        digestHashed = true;
+    }
+
     @Override
     public String toString() {
         return "Member{" +
@@ -0,0 +1,99 @@
+package in.xnnyygn.xgossip;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * Incremental digest of member list.
+ * <p>
+ * Digest is the sum of 128-bit hashes of members, two 64-bit halves added separately. Sum is commutative and
+ * invertible, so order of members does not matter, and updating a member is to subtract hash of old one and
+ * add hash of new one, O(1) instead of hashing the whole list again. Hashes are not cryptographic, the digest is
+ * only used to find out whether two member lists differ, not to protect against forged members.
+ * </p>
+ */
+@NotThreadSafe
+class MemberDigest {
+
+    static final int LENGTH = 16;
+    static final long SEED_HIGH = 0x9e3779b97f4a7c15L;
+    static final long SEED_LOW = 0xc2b2ae3d27d4eb4fL;
+    private long high = 0;
+    private long low = 0;
+
+    static MemberDigest of(Collection<Member> members) {
+        MemberDigest digest = new MemberDigest();
+        for (Member member : members) {
+            digest.add(member);
+        }
+        return digest;
+    }
+
+    void add(Member member) {
+        add(hashHigh(member), hashLow(member));
+    }
+
+    void add(long hashHigh, long hashLow) {
+        high += hashHigh;
+        low += hashLow;
+    }
+
+    void add(MemberDigest digest) {
+        add(digest.high, digest.low);
+    }
+
+    void subtract(long hashHigh, long hashLow) {
+        high -= hashHigh;
+        low -= hashLow;
+    }
+
+    long getHigh() {
+        return high;
+    }
+
+    long getLow() {
+        return low;
+    }
+
+    byte[] toBytes() {
+        return ByteBuffer.allocate(LENGTH).putLong(high).putLong(low).array();
+    }
+
+    /**
+     * Get high half of hash of member, cached by member.
+     */
+    static long hashHigh(Member member) {
+        return member.getDigestHashHigh();
+    }
+
+    /**
+     * Get low half of hash of member, cached by member.
+     */
+    static long hashLow(Member member) {
+        return member.getDigestHashLow();
+    }
+
+    static long hash(Member member, long seed) {
+        MemberEndpoint endpoint = member.getEndpoint();
+        String host = endpoint.getHost();
+        long h = seed;
+        // FNV-1a over chars of host, no encoding to bytes
+        for (int i = 0; i < host.length(); i++) {
+            h = (h ^ host.charAt(i)) * 0x100000001b3L;
+        }
+        h = mix(h ^ endpoint.getPort());
+        h = mix(h ^ member.getTimeAdded());
+        return mix(h ^ member.getTimeRemoved());
+    }
+
+    /**
+     * Finalizer of MurmurHash3, every bit of input affects every bit of output.
+     */
+    static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+}
@@ -0,0 +1,164 @@
+package in.xnnyygn.xgossip;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merkle tree of member digests.
+ * <p>
+ * Members are partitioned into {@link #BUCKET_COUNT} buckets by endpoint, buckets are leaves of the tree, and every
+ * node has {@link #FANOUT} children. Since digest is sum of hashes of members, see {@link MemberDigest}, digest of a
+ * node is sum of digests of its children, and digest of root is digest of whole member list. Updating a member
+ * updates one node of each level. Nodes are created when first updated, so a tree of a few buckets, like a stripe
+ * of member list, holds digests of those buckets only.
+ * </p>
+ * <p>
+ * Two member lists with different digests compare digests of nodes level by level, only children of different
+ * nodes are compared in next level, and members in different buckets are exchanged at last. If there are fewer members
+ * than nodes in next level, members under different nodes are exchanged directly, since digests of children cost more
+ * than members.
+ * </p>
+ */
+@NotThreadSafe
+class MemberDigestTree {
+
+    private static final int FANOUT_BITS = 4;
+    static final int FANOUT = 1 << FANOUT_BITS;
+    /**
+     * Level of buckets, root is level 0.
+     */
+    static final int DEPTH = 2;
+    static final int BUCKET_COUNT = 1 << (FANOUT_BITS * DEPTH);
+    // digests of nodes by level, null if never updated
+    private final MemberDigest[][] levels = new MemberDigest[DEPTH + 1][];
+
+    MemberDigestTree() {
+        for (int level = 0; level <= DEPTH; level++) {
+            levels[level] = new MemberDigest[nodeCount(level)];
+        }
+        levels[0][0] = new MemberDigest();
+    }
+
+    /**
+     * Get bucket of endpoint, same in all processes.
+     *
+     * @param endpoint endpoint
+     * @return bucket
+     */
+    static int bucketOf(MemberEndpoint endpoint) {
+        // hash code of endpoint depends on hash code of string only, which is specified
+        return (int) (MemberDigest.mix(endpoint.hashCode()) >>> (64 - FANOUT_BITS * DEPTH));
+    }
+
+    static int nodeCount(int level) {
+        return 1 << (FANOUT_BITS * level);
+    }
+
+    /**
+     * List indices of children of nodes.
+     *
+     * @param indices indices of nodes
+     * @return indices of children in next level
+     */
+    static List<Integer> listChildren(List<Integer> indices) {
+        List<Integer> children = new ArrayList<>(indices.size() * FANOUT);
+        for (int index : indices) {
+            for (int i = 0; i < FANOUT; i++) {
+                children.add((index << FANOUT_BITS) + i);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * List buckets under nodes.
+     *
+     * @param level   level of nodes
+     * @param indices indices of nodes
+     * @return buckets
+     */
+    static Set<Integer> listBuckets(int level, List<Integer> indices) {
+        int shift = FANOUT_BITS * (DEPTH - level);
+        Set<Integer> buckets = new HashSet<>(indices.size() << shift);
+        for (int index : indices) {
+            for (int i = 0; i < (1 << shift); i++) {
+                buckets.add((index << shift) + i);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Replace old member with new one, endpoints of members must be same.
+     *
+     * @param oldMember old member, null if not present
+     * @param newMember new member
+     */
+    void replace(@Nullable Member oldMember, Member newMember) {
+        long hashHigh = MemberDigest.hashHigh(newMember);
+        long hashLow = MemberDigest.hashLow(newMember);
+        long oldHashHigh = (oldMember != null ? MemberDigest.hashHigh(oldMember) : 0);
+        long oldHashLow = (oldMember != null ? MemberDigest.hashLow(oldMember) : 0);
+        int bucket = bucketOf(newMember.getEndpoint());
+        for (int level = 0; level <= DEPTH; level++) {
+            MemberDigest node = getOrCreateNode(level, bucket >>> (FANOUT_BITS * (DEPTH - level)));
+            node.subtract(oldHashHigh, oldHashLow);
+            node.add(hashHigh, hashLow);
+        }
+    }
+
+    /**
+     * Remove member.
+     *
+     * @param member member
+     */
+    void remove(Member member) {
+        long hashHigh = MemberDigest.hashHigh(member);
+        long hashLow = MemberDigest.hashLow(member);
+        int bucket = bucketOf(member.getEndpoint());
+        for (int level = 0; level <= DEPTH; level++) {
+            getOrCreateNode(level, bucket >>> (FANOUT_BITS * (DEPTH - level))).subtract(hashHigh, hashLow);
+        }
+    }
+
+    /**
+     * Get digest of root, the same as digest of all members.
+     *
+     * @return digest of root, must not be modified
+     */
+    MemberDigest getRoot() {
+        return levels[0][0];
+    }
+
+    /**
+     * Add digests of nodes to sums, so digests of trees of disjoint members are added up to digests of a tree of all
+     * members.
+     *
+     * @param level   level, 0 to {@link #DEPTH}
+     * @param indices valid indices of nodes
+     * @param sums    sums of digests, one for each index
+     */
+    void addDigests(int level, List<Integer> indices, MemberDigest[] sums) {
+        MemberDigest[] nodes = levels[level];
+        for (int i = 0; i < sums.length; i++) {
+            MemberDigest node = nodes[indices.get(i)];
+            if (node != null) {
+                sums[i].add(node);
+            }
+        }
+    }
+
+    private MemberDigest getOrCreateNode(int level, int index) {
+        MemberDigest node = levels[level][index];
+        if (node == null) {
+            node = new MemberDigest();
+            levels[level][index] = node;
+        }
+        return node;
+    }
+
+}
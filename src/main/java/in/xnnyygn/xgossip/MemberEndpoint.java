@@ -1,16 +1,18 @@
 package in.xnnyygn.xgossip;
 
 import javax.annotation.Nonnull;
-import java.util.Objects;
 
 public class MemberEndpoint implements Comparable<MemberEndpoint> {
 
     private final String host;
     private final int port;
+    private final int hash;
 
-    public MemberEndpoint(String host, int port) {
+    public MemberEndpoint(@Nonnull String host, int port) {
         this.host = host;
         this.port = port;
+        // same as Objects.hash(host, port) without boxing
+        this.hash = 31 * (31 + host.hashCode()) + port;
     }
 
     public String getHost() {
@@ -26,13 +28,14 @@ public class MemberEndpoint implements Comparable<MemberEndpoint> {
         if (this == o) return true;
         if (!(o instanceof MemberEndpoint)) return false;
         MemberEndpoint memberEndpoint = (MemberEndpoint) o;
-        return port == memberEndpoint.port &&
-                Objects.equals(host, memberEndpoint.host);
+        return hash == memberEndpoint.hash &&
+                port == memberEndpoint.port &&
+                host.equals(memberEndpoint.host);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, port);
+        return hash;
     }
 
     @Override
@@ -6,7 +6,11 @@ public class MemberEvent {
         JOINED,
         SUSPECTED,
         BACKED,
-        LEAVED
+        LEAVED,
+        /**
+         * Member exists before and after merge, but with newer time, like rejoined after restart.
+         */
+        UPDATED
     }
 
     private final MemberEndpoint endpoint;
@@ -1,9 +1,17 @@
 package in.xnnyygn.xgossip;
 
+import java.util.List;
+
 public interface MemberEventListener {
 
     void onChanged(MemberEvent event);
 
-    void onMerged();
+    /**
+     * Called when member list is merged with members from remote, and some members are changed.
+     *
+     * @param events events of changed members, {@link MemberEvent.Kind#JOINED}, {@link MemberEvent.Kind#LEAVED}
+     *               or {@link MemberEvent.Kind#UPDATED}
+     */
+    void onMerged(List<MemberEvent> events);
 
 }
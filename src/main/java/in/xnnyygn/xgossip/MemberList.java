@@ -1,158 +1,425 @@
 package in.xnnyygn.xgossip;
 
+import in.xnnyygn.xgossip.support.PersistentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Member list.
+ * <p>
+ * Members are partitioned into stripes by bucket of digest tree, each stripe has its own lock, so changes of members
+ * in different stripes don't block each other. A stripe keeps members in a {@link PersistentHashMap} and digests of
+ * its members in a {@link MemberDigestTree}, both updated incrementally on every change. Since digest is sum of hashes
+ * of members, see {@link MemberDigest}, digests of all members are sums of digests of stripes. Use one stripe if the
+ * list is only changed by one thread, like event loop.
+ * </p>
+ * <p>
+ * After every change, a stripe publishes its map and digest, and increases the count of changes. Snapshot is rebuilt
+ * from published stripes when it is read and older than the count, so a burst of changes is published once, and
+ * reading snapshot or digest takes no lock.
+ * </p>
+ * <p>
+ * Endpoints of existing members are also indexed for random sampling, see {@link LiveEndpointIndex}. Endpoints are
+ * given dense ids in {@link MemberTable}, shared with other per member state like latency of pings, and released
+ * when their tombstones are collected.
+ * </p>
+ * <p>
+ * Removed members are kept as tombstones, so the removal is spread to other members and not undone by stale
+ * members from remote. Tombstones are collected after retention, or earlier when there are too many, see
+ * {@link #collectTombstones(long)}. Collected tombstones are still remembered in a bounded map to ignore stale
+ * members, but not included in digest or snapshot. Both bounds are global, the earliest tombstones across stripes
+ * are collected or forgotten first, never the one just added.
+ * </p>
+ */
 @ThreadSafe
 public class MemberList {
 
     private static final Logger logger = LoggerFactory.getLogger(MemberList.class);
-    @GuardedBy("this")
-    private final Map<MemberEndpoint, Member> memberMap = new HashMap<>();
-    private final Random memberRandom = new Random();
+    static final long DEFAULT_TOMBSTONE_RETENTION = 24 * 3600 * 1000L;
+    static final int DEFAULT_MAX_TOMBSTONES = 8192;
+    static final int DEFAULT_STRIPE_COUNT = 16;
     private final MemberEndpoint selfEndpoint;
-    private volatile Snapshot snapshot;
+    private final Set<MemberEndpoint> selfEndpointSet;
+    private final MemberTable memberTable = new MemberTable();
+    private final LiveEndpointIndex liveIndex;
+    private final long tombstoneRetention;
+    private final int maxTombstones;
+    private final AtomicInteger tombstoneCount = new AtomicInteger(0);
+    private final AtomicInteger collectedTombstoneCount = new AtomicInteger(0);
+    private final AtomicLong totalCollectedCount = new AtomicLong(0);
+    // order of tombstones across stripes
+    private final AtomicLong tombstoneSequence = new AtomicLong(0);
+    private final Object evictionLock = new Object();
+    private final Stripe[] stripes;
+    // stripe of bucket is bucket >>> stripeShift
+    private final int stripeShift;
+    private final AtomicLong changeCount = new AtomicLong(0);
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
 
     public MemberList(MemberEndpoint selfEndpoint, long timestamp) {
+        this(selfEndpoint, timestamp, new Random());
+    }
+
+    public MemberList(MemberEndpoint selfEndpoint, long timestamp, Random memberRandom) {
+        this(selfEndpoint, timestamp, memberRandom, DEFAULT_TOMBSTONE_RETENTION, DEFAULT_MAX_TOMBSTONES);
+    }
+
+    public MemberList(MemberEndpoint selfEndpoint, long timestamp, Random memberRandom, long tombstoneRetention, int maxTombstones) {
+        this(selfEndpoint, timestamp, memberRandom, tombstoneRetention, maxTombstones, DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Create.
+     *
+     * @param selfEndpoint       self endpoint
+     * @param timestamp          time self added
+     * @param memberRandom       random to select members, seeded in simulation
+     * @param tombstoneRetention time to keep removed members in milliseconds
+     * @param maxTombstones      max count of removed members kept, also max count of collected ones remembered
+     * @param stripeCount        count of stripes, power of 2, up to {@link MemberDigestTree#BUCKET_COUNT}
+     */
+    public MemberList(MemberEndpoint selfEndpoint, long timestamp, Random memberRandom, long tombstoneRetention,
+                      int maxTombstones, int stripeCount) {
+        if (stripeCount <= 0 || stripeCount > MemberDigestTree.BUCKET_COUNT || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("illegal stripe count " + stripeCount);
+        }
         this.selfEndpoint = selfEndpoint;
-        Member self = new Member(selfEndpoint, timestamp, 0);
-        memberMap.put(selfEndpoint, self);
-        updateSnapshot();
+        this.selfEndpointSet = Collections.singleton(selfEndpoint);
+        this.liveIndex = new LiveEndpointIndex(memberTable, memberRandom);
+        this.tombstoneRetention = tombstoneRetention;
+        this.maxTombstones = maxTombstones;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeShift = Integer.numberOfTrailingZeros(MemberDigestTree.BUCKET_COUNT / stripeCount);
+        this.snapshot.set(buildSnapshot(0));
+        add(selfEndpoint, timestamp);
     }
 
+    /**
+     * Generate digest of members from scratch, same as digest of a member list with these members.
+     *
+     * @param members members
+     * @return digest
+     */
     public static byte[] generateDigest(Collection<Member> members) {
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            members.stream().sorted().forEach(m -> messageDigest.update(m.toBytes()));
-            return messageDigest.digest();
-        } catch (NoSuchAlgorithmException e) {
-            throw new DigestException(e);
-        }
+        return MemberDigest.of(members).toBytes();
+    }
+
+    /**
+     * Get table of members, shared by state of members by id.
+     *
+     * @return member table
+     */
+    MemberTable getMemberTable() {
+        return memberTable;
+    }
+
+    private Stripe stripeOf(MemberEndpoint endpoint) {
+        return stripes[MemberDigestTree.bucketOf(endpoint) >>> stripeShift];
     }
 
-    public synchronized UpdateResult mergeAll(Collection<Member> members) {
+    /**
+     * Merge members from remote.
+     *
+     * @param members members
+     * @return result, with events of members joined, leaved or updated
+     */
+    public UpdateResult mergeAll(Collection<Member> members) {
+        List<MemberEvent> events = new ArrayList<>();
         boolean anyUpdated = false;
         for (Member member : members) {
-            MemberEndpoint endpoint = member.getEndpoint();
-            Member oldMember = memberMap.get(endpoint);
-            if (oldMember != null &&
-                    oldMember.getTimeAdded() >= member.getTimeAdded() &&
-                    oldMember.getTimeRemoved() >= member.getTimeRemoved()) {
-                continue;
+            if (stripeOf(member.getEndpoint()).merge(member, events)) {
+                anyUpdated = true;
+                evictTombstones();
             }
-            Member newMember = new Member(
-                    endpoint,
-                    Math.max((oldMember != null ? oldMember.getTimeAdded() : 0), member.getTimeAdded()),
-                    Math.max((oldMember != null ? oldMember.getTimeRemoved() : 0), member.getTimeRemoved())
-            );
-            logger.debug("update member {}", newMember);
-            memberMap.put(endpoint, newMember);
-            anyUpdated = true;
-        }
-        if (anyUpdated) {
-            updateSnapshot();
         }
-        return new UpdateResult(anyUpdated, snapshot.getDigest());
+        return new UpdateResult(anyUpdated, getDigest(), events);
     }
 
-    public synchronized UpdateResult add(MemberEndpoint endpoint, long timeAdded) {
-        Member member = memberMap.get(endpoint);
-        if (member != null && member.getTimeAdded() >= timeAdded) {
-            return new UpdateResult(false, snapshot.getDigest());
+    /**
+     * Get kind of event when member is changed.
+     *
+     * @return kind, null if member does not exist before and after, like a leaved member not known before
+     */
+    @Nullable
+    private static MemberEvent.Kind toEventKind(@Nullable Member oldMember, Member newMember) {
+        boolean oldExist = (oldMember != null && oldMember.doesExist());
+        if (newMember.doesExist()) {
+            return oldExist ? MemberEvent.Kind.UPDATED : MemberEvent.Kind.JOINED;
         }
-        Member newMember = new Member(endpoint, timeAdded, (member != null ? member.getTimeRemoved() : 0));
-        logger.debug("update member {}", newMember);
-        memberMap.put(endpoint, newMember);
-        updateSnapshot();
-        return new UpdateResult(true, snapshot.getDigest());
+        return oldExist ? MemberEvent.Kind.LEAVED : null;
     }
 
-    public synchronized UpdateResult addAll(Collection<MemberEndpoint> endpoints, long timeAdded) {
+    public UpdateResult add(MemberEndpoint endpoint, long timeAdded) {
+        boolean updated = stripeOf(endpoint).add(endpoint, timeAdded);
+        return new UpdateResult(updated, getDigest());
+    }
+
+    public UpdateResult addAll(Collection<MemberEndpoint> endpoints, long timeAdded) {
         boolean anyAdded = false;
         for (MemberEndpoint endpoint : endpoints) {
-            Member member = memberMap.get(endpoint);
-            if (member != null && member.getTimeAdded() >= timeAdded) {
-                continue;
+            if (stripeOf(endpoint).add(endpoint, timeAdded)) {
+                anyAdded = true;
             }
-            Member newMember = new Member(endpoint, timeAdded, (member != null ? member.getTimeRemoved() : 0));
-            logger.debug("update member {}", newMember);
-            memberMap.put(endpoint, newMember);
-            anyAdded = true;
         }
-        if (anyAdded) {
-            updateSnapshot();
-        }
-        return new UpdateResult(anyAdded, snapshot.getDigest());
+        return new UpdateResult(anyAdded, getDigest());
     }
 
-    public synchronized UpdateResult remove(MemberEndpoint endpoint, long timeRemoved) {
-        Member member = memberMap.get(endpoint);
-        if (member != null && member.getTimeRemoved() >= timeRemoved) {
-            return new UpdateResult(false, snapshot.getDigest());
+    public UpdateResult remove(MemberEndpoint endpoint, long timeRemoved) {
+        boolean updated = stripeOf(endpoint).remove(endpoint, timeRemoved);
+        if (updated) {
+            evictTombstones();
         }
-        Member newMember = new Member(endpoint, (member != null ? member.getTimeAdded() : 0), timeRemoved);
-        logger.debug("update member {}", newMember);
-        memberMap.put(endpoint, newMember);
-        updateSnapshot();
-        return new UpdateResult(true, snapshot.getDigest());
+        return new UpdateResult(updated, getDigest());
     }
 
+    /**
+     * Get random endpoint of existing members except self, suspected members included.
+     *
+     * @return endpoint, null if no other member
+     */
     @Nullable
     public MemberEndpoint getRandomEndpointExceptSelf() {
-        return getFirstOrNull(getRandomEndpointsExcept(1, Collections.singleton(selfEndpoint)));
+        return liveIndex.sample(false, selfEndpointSet);
     }
 
     @Nullable
     public MemberEndpoint getRandomEndpointExcept(Set<MemberEndpoint> excludingEndpoints) {
-        return getFirstOrNull(getRandomEndpointsExcept(1, excludingEndpoints));
+        return liveIndex.sample(false, excludingEndpoints);
     }
 
-    private <T> T getFirstOrNull(Collection<T> c) {
-        Iterator<T> it = c.iterator();
-        return it.hasNext() ? it.next() : null;
+    @Nonnull
+    public Set<MemberEndpoint> getRandomEndpointsExcept(int n, Set<MemberEndpoint> excludingEndpoints) {
+        return liveIndex.sample(n, false, excludingEndpoints);
+    }
+
+    /**
+     * Get random endpoint of existing members which are not suspected.
+     *
+     * @param excludingEndpoints excluding endpoints
+     * @return endpoint, null if none
+     */
+    @Nullable
+    public MemberEndpoint getRandomTrustedEndpointExcept(Set<MemberEndpoint> excludingEndpoints) {
+        return liveIndex.sample(true, excludingEndpoints);
     }
 
+    /**
+     * Get random endpoints of existing members which are not suspected.
+     *
+     * @param n                  max count of endpoints
+     * @param excludingEndpoints excluding endpoints
+     * @return endpoints, fewer than n if not enough
+     */
     @Nonnull
-    public Set<MemberEndpoint> getRandomEndpointsExcept(int n, Set<MemberEndpoint> excludingEndpoints) {
-        List<MemberEndpoint> availableMembers = snapshot.getMembers().stream()
-                .filter(m -> m.doesExist() && !excludingEndpoints.contains(m.getEndpoint()))
-                .map(Member::getEndpoint)
-                .collect(Collectors.toList());
-        int nAvailable = availableMembers.size();
-        if (nAvailable <= n) {
-            return new HashSet<>(availableMembers);
+    public Set<MemberEndpoint> getRandomTrustedEndpointsExcept(int n, Set<MemberEndpoint> excludingEndpoints) {
+        return liveIndex.sample(n, true, excludingEndpoints);
+    }
+
+    /**
+     * List endpoints of existing members which are not suspected.
+     *
+     * @return endpoints
+     */
+    public Set<MemberEndpoint> listTrustedEndpoints() {
+        return liveIndex.listTrusted();
+    }
+
+    /**
+     * Mark member as suspected, suspected members are excluded from trusted endpoints. Endpoints not in member list
+     * are ignored.
+     *
+     * @param endpoint endpoint
+     */
+    public void suspect(MemberEndpoint endpoint) {
+        liveIndex.suspect(endpoint);
+    }
+
+    /**
+     * Mark member as trusted again.
+     *
+     * @param endpoint endpoint
+     */
+    public void trust(MemberEndpoint endpoint) {
+        liveIndex.trust(endpoint);
+    }
+
+    /**
+     * Get snapshot, rebuilt if members are changed since last snapshot.
+     *
+     * @return snapshot
+     */
+    public Snapshot getSnapshot() {
+        Snapshot s = snapshot.get();
+        long count = changeCount.get();
+        if (s.changeCount >= count) {
+            return s;
         }
-        Set<MemberEndpoint> result = new HashSet<>();
-        while (result.size() < n) {
-            result.add(availableMembers.get(memberRandom.nextInt(nAvailable)));
+        Snapshot newSnapshot = buildSnapshot(count);
+        while (!snapshot.compareAndSet(s, newSnapshot)) {
+            s = snapshot.get();
+            if (s.changeCount >= count) {
+                // newer one published by other thread
+                return s;
+            }
         }
-        return result;
+        return newSnapshot;
     }
 
-    public Snapshot getSnapshot() {
-        return snapshot;
+    /**
+     * Build snapshot from published stripes.
+     *
+     * @param count count of changes read before stripes, snapshot contains these changes at least
+     * @return snapshot
+     */
+    private Snapshot buildSnapshot(long count) {
+        StripeState[] states = new StripeState[stripes.length];
+        MemberDigest digest = new MemberDigest();
+        for (int i = 0; i < stripes.length; i++) {
+            StripeState state = stripes[i].state;
+            states[i] = state;
+            digest.add(state.digestHigh, state.digestLow);
+        }
+        return new Snapshot(count, states, stripeShift, digest.toBytes());
     }
 
     public byte[] getDigest() {
-        return snapshot.getDigest();
+        return getSnapshot().getDigest();
     }
 
     public Collection<Member> getAll() {
-        return snapshot.getMembers();
+        return getSnapshot().getMembers();
     }
 
-    private void updateSnapshot() {
-        Collection<Member> members = memberMap.values();
-        snapshot = new Snapshot(new ArrayList<>(members), generateDigest(members));
+    /**
+     * Collect tombstones removed before retention.
+     *
+     * @param now current time in milliseconds
+     * @return count of collected tombstones
+     */
+    public int collectTombstones(long now) {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.collectTombstones(now);
+        }
+        if (count > 0) {
+            logger.debug("collect {} tombstones", count);
+            evictTombstones();
+        }
+        return count;
+    }
+
+    /**
+     * Collect the earliest tombstones when there are too many, then forget the earliest collected ones.
+     */
+    private void evictTombstones() {
+        if (tombstoneCount.get() <= maxTombstones && collectedTombstoneCount.get() <= maxTombstones) {
+            return;
+        }
+        synchronized (evictionLock) {
+            evictEldest(tombstoneCount, false);
+            evictEldest(collectedTombstoneCount, true);
+        }
+    }
+
+    /**
+     * Evict the earliest tombstones across stripes until count is within max.
+     *
+     * @param count     count of tombstones
+     * @param collected true to forget collected tombstones, false to collect tombstones
+     */
+    @GuardedBy("evictionLock")
+    private void evictEldest(AtomicInteger count, boolean collected) {
+        while (count.get() > maxTombstones) {
+            Stripe eldestStripe = null;
+            long eldestSequence = Long.MAX_VALUE;
+            for (Stripe stripe : stripes) {
+                long sequence = stripe.getEldestSequence(collected);
+                if (sequence < eldestSequence) {
+                    eldestStripe = stripe;
+                    eldestSequence = sequence;
+                }
+            }
+            if (eldestStripe == null) {
+                return;
+            }
+            // not evicted if changed after found, find again
+            eldestStripe.evictEldest(collected, eldestSequence);
+        }
+    }
+
+    public MemberListStats getStats() {
+        return new MemberListStats(liveIndex.size(), tombstoneCount.get(), collectedTombstoneCount.get(), totalCollectedCount.get());
+    }
+
+    /**
+     * Get digests of nodes in digest tree, sums of digests of stripes.
+     *
+     * @param level   level
+     * @param indices indices of nodes
+     * @return digests
+     * @see MemberDigestTree
+     */
+    List<byte[]> getDigests(int level, List<Integer> indices) {
+        MemberDigest[] sums = new MemberDigest[indices.size()];
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = new MemberDigest();
+        }
+        for (Stripe stripe : stripes) {
+            stripe.addDigests(level, indices, sums);
+        }
+        List<byte[]> digests = new ArrayList<>(sums.length);
+        for (MemberDigest sum : sums) {
+            digests.add(sum.toBytes());
+        }
+        return digests;
+    }
+
+    /**
+     * Find nodes in digest tree with digest different from remote ones. Invalid level or indices from remote are
+     * ignored.
+     *
+     * @param level   level
+     * @param indices indices of remote nodes
+     * @param digests digests of remote nodes
+     * @return indices of different nodes
+     * @see MemberDigestTree
+     */
+    List<Integer> findDifferentNodes(int level, List<Integer> indices, List<byte[]> digests) {
+        if (level < 0 || level > MemberDigestTree.DEPTH) {
+            return new ArrayList<>();
+        }
+        int nodeCount = MemberDigestTree.nodeCount(level);
+        List<Integer> validIndices = new ArrayList<>();
+        List<byte[]> remoteDigests = new ArrayList<>();
+        int n = Math.min(indices.size(), digests.size());
+        for (int i = 0; i < n; i++) {
+            int index = indices.get(i);
+            if (index >= 0 && index < nodeCount) {
+                validIndices.add(index);
+                remoteDigests.add(digests.get(i));
+            }
+        }
+        List<byte[]> localDigests = getDigests(level, validIndices);
+        List<Integer> differentIndices = new ArrayList<>();
+        for (int i = 0; i < validIndices.size(); i++) {
+            if (!Arrays.equals(localDigests.get(i), remoteDigests.get(i))) {
+                differentIndices.add(validIndices.get(i));
+            }
+        }
+        return differentIndices;
     }
 
     @Override
@@ -165,27 +432,334 @@ public class MemberList {
                 '}';
     }
 
+    /**
+     * Stripe of members.
+     */
+    @ThreadSafe
+    private class Stripe {
+
+        @GuardedBy("this")
+        private PersistentHashMap<MemberEndpoint, Member> memberMap = PersistentHashMap.empty();
+        @GuardedBy("this")
+        private final MemberDigestTree digestTree = new MemberDigestTree();
+        // tombstones in member map, in order of removal
+        @GuardedBy("this")
+        private final LinkedHashMap<MemberEndpoint, Tombstone> tombstones = new LinkedHashMap<>();
+        // collected tombstones, in order of collection
+        @GuardedBy("this")
+        private final LinkedHashMap<MemberEndpoint, Tombstone> collectedTombstones = new LinkedHashMap<>();
+        private volatile StripeState state = new StripeState(memberMap, 0, 0);
+
+        synchronized boolean merge(Member member, List<MemberEvent> events) {
+            MemberEndpoint endpoint = member.getEndpoint();
+            Member oldMember = findMember(endpoint);
+            if (oldMember != null &&
+                    oldMember.getTimeAdded() >= member.getTimeAdded() &&
+                    oldMember.getTimeRemoved() >= member.getTimeRemoved()) {
+                return false;
+            }
+            Member newMember = new Member(
+                    endpoint,
+                    Math.max((oldMember != null ? oldMember.getTimeAdded() : 0), member.getTimeAdded()),
+                    Math.max((oldMember != null ? oldMember.getTimeRemoved() : 0), member.getTimeRemoved())
+            );
+            logger.debug("update member {}", newMember);
+            put(oldMember, newMember);
+            publish();
+            MemberEvent.Kind kind = toEventKind(oldMember, newMember);
+            if (kind != null) {
+                events.add(new MemberEvent(endpoint, kind));
+            }
+            return true;
+        }
+
+        synchronized boolean add(MemberEndpoint endpoint, long timeAdded) {
+            Member member = findMember(endpoint);
+            if (member != null && member.getTimeAdded() >= timeAdded) {
+                return false;
+            }
+            Member newMember = new Member(endpoint, timeAdded, (member != null ? member.getTimeRemoved() : 0));
+            logger.debug("update member {}", newMember);
+            put(member, newMember);
+            publish();
+            return true;
+        }
+
+        synchronized boolean remove(MemberEndpoint endpoint, long timeRemoved) {
+            Member member = findMember(endpoint);
+            if (member != null && member.getTimeRemoved() >= timeRemoved) {
+                return false;
+            }
+            Member newMember = new Member(endpoint, (member != null ? member.getTimeAdded() : 0), timeRemoved);
+            logger.debug("update member {}", newMember);
+            put(member, newMember);
+            publish();
+            return true;
+        }
+
+        synchronized int collectTombstones(long now) {
+            int count = 0;
+            Iterator<Tombstone> it = tombstones.values().iterator();
+            while (it.hasNext()) {
+                Member member = it.next().member;
+                // time removed is from remote clock, not always in order
+                if (now - member.getTimeRemoved() >= tombstoneRetention) {
+                    it.remove();
+                    collectTombstone(member);
+                    count++;
+                }
+            }
+            if (count > 0) {
+                publish();
+            }
+            return count;
+        }
+
+        /**
+         * Get sequence of the earliest tombstone.
+         *
+         * @param collected true for collected tombstones
+         * @return sequence, {@link Long#MAX_VALUE} if none
+         */
+        synchronized long getEldestSequence(boolean collected) {
+            LinkedHashMap<MemberEndpoint, Tombstone> map = (collected ? collectedTombstones : tombstones);
+            return map.isEmpty() ? Long.MAX_VALUE : map.values().iterator().next().sequence;
+        }
+
+        /**
+         * Collect or forget the earliest tombstone if it is still the one of sequence.
+         *
+         * @param collected true to forget collected tombstone, false to collect tombstone
+         * @param sequence  sequence of the earliest tombstone
+         * @return true if evicted
+         */
+        synchronized boolean evictEldest(boolean collected, long sequence) {
+            Iterator<Tombstone> it = (collected ? collectedTombstones : tombstones).values().iterator();
+            if (!it.hasNext()) {
+                return false;
+            }
+            Tombstone eldest = it.next();
+            if (eldest.sequence != sequence) {
+                return false;
+            }
+            it.remove();
+            if (collected) {
+                collectedTombstoneCount.decrementAndGet();
+            } else {
+                collectTombstone(eldest.member);
+                publish();
+            }
+            return true;
+        }
+
+        synchronized void addDigests(int level, List<Integer> indices, MemberDigest[] sums) {
+            digestTree.addDigests(level, indices, sums);
+        }
+
+        /**
+         * Find member, or collected tombstone of endpoint.
+         *
+         * @param endpoint endpoint
+         * @return member, null if not found
+         */
+        @GuardedBy("this")
+        @Nullable
+        private Member findMember(MemberEndpoint endpoint) {
+            Member member = memberMap.get(endpoint);
+            if (member != null) {
+                return member;
+            }
+            Tombstone collected = collectedTombstones.get(endpoint);
+            return collected != null ? collected.member : null;
+        }
+
+        /**
+         * Put member.
+         *
+         * @param oldMember old member from {@link #findMember(MemberEndpoint)}
+         * @param newMember new member
+         */
+        @GuardedBy("this")
+        private void put(@Nullable Member oldMember, Member newMember) {
+            MemberEndpoint endpoint = newMember.getEndpoint();
+            if (oldMember != null && collectedTombstones.remove(endpoint) != null) {
+                // collected tombstone is not in member map
+                collectedTombstoneCount.decrementAndGet();
+                oldMember = null;
+            }
+            memberMap = memberMap.put(endpoint, newMember);
+            digestTree.replace(oldMember, newMember);
+            // before collecting tombstones, which may release the endpoint
+            boolean oldExist = (oldMember != null && oldMember.doesExist());
+            if (!oldExist && newMember.doesExist()) {
+                liveIndex.add(endpoint);
+            } else if (oldExist && !newMember.doesExist()) {
+                liveIndex.remove(endpoint);
+            }
+            // move to the last tombstone
+            if (tombstones.remove(endpoint) != null) {
+                tombstoneCount.decrementAndGet();
+            }
+            if (!newMember.doesExist()) {
+                // collected later by list if too many
+                tombstones.put(endpoint, new Tombstone(newMember, tombstoneSequence.incrementAndGet()));
+                tombstoneCount.incrementAndGet();
+            }
+        }
+
+        /**
+         * Collect tombstone removed from tombstones.
+         */
+        @GuardedBy("this")
+        private void collectTombstone(Member member) {
+            tombstoneCount.decrementAndGet();
+            MemberEndpoint endpoint = member.getEndpoint();
+            memberMap = memberMap.remove(endpoint);
+            digestTree.remove(member);
+            collectedTombstones.put(endpoint, new Tombstone(member, tombstoneSequence.incrementAndGet()));
+            collectedTombstoneCount.incrementAndGet();
+            // row of collected member is reused by new members
+            memberTable.release(endpoint);
+            totalCollectedCount.incrementAndGet();
+        }
+
+        @GuardedBy("this")
+        private void publish() {
+            MemberDigest root = digestTree.getRoot();
+            state = new StripeState(memberMap, root.getHigh(), root.getLow());
+            changeCount.incrementAndGet();
+        }
+
+    }
+
+    /**
+     * Tombstone with sequence, in order of removal or collection across stripes.
+     */
+    @Immutable
+    private static class Tombstone {
+
+        final Member member;
+        final long sequence;
+
+        Tombstone(Member member, long sequence) {
+            this.member = member;
+            this.sequence = sequence;
+        }
+
+    }
+
+    /**
+     * Members and digest of stripe published after change.
+     */
+    @Immutable
+    private static class StripeState {
+
+        final PersistentHashMap<MemberEndpoint, Member> memberMap;
+        final long digestHigh;
+        final long digestLow;
+
+        StripeState(PersistentHashMap<MemberEndpoint, Member> memberMap, long digestHigh, long digestLow) {
+            this.memberMap = memberMap;
+            this.digestHigh = digestHigh;
+            this.digestLow = digestLow;
+        }
+
+    }
+
     /**
      * Snapshot of current member list.
      */
+    @Immutable
     public static class Snapshot {
 
-        private final Collection<Member> members;
+        private final long changeCount;
+        private final StripeState[] states;
+        private final int stripeShift;
+        private final int size;
         private final byte[] digest;
 
-        Snapshot(Collection<Member> members, byte[] digest) {
-            this.members = members;
+        private Snapshot(long changeCount, StripeState[] states, int stripeShift, byte[] digest) {
+            this.changeCount = changeCount;
+            this.states = states;
+            this.stripeShift = stripeShift;
             this.digest = digest;
+            int size = 0;
+            for (StripeState state : states) {
+                size += state.memberMap.size();
+            }
+            this.size = size;
         }
 
+        /**
+         * Get members.
+         *
+         * @return unmodifiable view of members
+         */
         public Collection<Member> getMembers() {
-            return members;
+            if (states.length == 1) {
+                return states[0].memberMap.values();
+            }
+            return new AbstractCollection<Member>() {
+
+                @Override
+                @Nonnull
+                public Iterator<Member> iterator() {
+                    return Arrays.stream(states).flatMap(s -> s.memberMap.values().stream()).iterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+            };
+        }
+
+        /**
+         * Get member by endpoint.
+         *
+         * @param endpoint endpoint
+         * @return member, null if not present
+         */
+        @Nullable
+        public Member get(MemberEndpoint endpoint) {
+            return states[MemberDigestTree.bucketOf(endpoint) >>> stripeShift].memberMap.get(endpoint);
+        }
+
+        public int size() {
+            return size;
         }
 
         public byte[] getDigest() {
             return digest;
         }
 
+        /**
+         * Get members in buckets of digest tree.
+         *
+         * @param buckets buckets
+         * @return members
+         * @see MemberDigestTree#bucketOf(MemberEndpoint)
+         */
+        Collection<Member> getMembersInBuckets(Set<Integer> buckets) {
+            BitSet bucketSet = new BitSet(MemberDigestTree.BUCKET_COUNT);
+            // stripes of buckets only
+            BitSet stripeSet = new BitSet(states.length);
+            for (int bucket : buckets) {
+                bucketSet.set(bucket);
+                stripeSet.set(bucket >>> stripeShift);
+            }
+            List<Member> members = new ArrayList<>();
+            for (int i = stripeSet.nextSetBit(0); i >= 0; i = stripeSet.nextSetBit(i + 1)) {
+                for (Member member : states[i].memberMap.values()) {
+                    if (bucketSet.get(MemberDigestTree.bucketOf(member.getEndpoint()))) {
+                        members.add(member);
+                    }
+                }
+            }
+            return members;
+        }
+
     }
 
     /**
@@ -195,10 +769,16 @@ public class MemberList {
 
         private final boolean updated;
         private final byte[] digest;
+        private final List<MemberEvent> events;
 
         UpdateResult(boolean updated, byte[] digest) {
+            this(updated, digest, Collections.emptyList());
+        }
+
+        UpdateResult(boolean updated, byte[] digest, List<MemberEvent> events) {
             this.updated = updated;
             this.digest = digest;
+            this.events = events;
         }
 
         public boolean isUpdated() {
@@ -209,10 +789,20 @@ public class MemberList {
             return digest;
         }
 
+        /**
+         * Get events of changed members, only reported by merge.
+         *
+         * @return events
+         */
+        public List<MemberEvent> getEvents() {
+            return events;
+        }
+
         @Override
         public String toString() {
             return "UpdateResult{" +
                     "updated=" + updated +
+                    ", events=" + events +
                     ", digest=" + Base64.getEncoder().encodeToString(digest) +
                     '}';
         }
@@ -1,15 +1,18 @@
 package in.xnnyygn.xgossip;
 
 import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.schedule.EventLoop;
 import in.xnnyygn.xgossip.schedule.Scheduler;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
 class MemberListContext {
 
-    private final UpdateList updateList = new UpdateList(5);
+    private final EventLoop eventLoop;
+    private final UpdateList updateList;
     private final NotificationList notificationList = new NotificationList(5);
     private final List<MemberEventListener> memberEventListeners = new ArrayList<>();
     private MemberList memberList;
@@ -19,6 +22,25 @@ class MemberListContext {
     private MemberEndpoint selfEndpoint;
     private long timeStarted;
 
+    MemberListContext() {
+        this(null);
+    }
+
+    /**
+     * Create.
+     *
+     * @param eventLoop event loop running all changes of state, null if changed by multiple threads
+     */
+    MemberListContext(@Nullable EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+        this.updateList = new UpdateList(5, eventLoop == null);
+    }
+
+    @Nullable
+    EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
     MemberList getMemberList() {
         return memberList;
     }
@@ -85,9 +107,12 @@ class MemberListContext {
         }
     }
 
-    void notifyMergeToListeners() {
+    void notifyMergeToListeners(List<MemberEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
         for (MemberEventListener listener : memberEventListeners) {
-            listener.onMerged();
+            listener.onMerged(events);
         }
     }
 
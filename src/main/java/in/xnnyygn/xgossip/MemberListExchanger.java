@@ -15,6 +15,8 @@ class MemberListExchanger {
 
     private static final int MAX_UPDATES = 1;
     private static final int MAX_MEMBER_UPDATES_RESPONSE_TURN = 10;
+    // below it, sending all members costs less than comparing digests of buckets
+    private static final int MIN_MEMBERS_TO_COMPARE_DIGESTS = 64;
     private static final Logger logger = LoggerFactory.getLogger(MemberListExchanger.class);
     private final MemberListContext context;
 
@@ -28,6 +30,7 @@ class MemberListExchanger {
         dispatcher.register(MemberUpdatesResponse.class, this::onReceiveMemberUpdatesResponse);
         dispatcher.register(MembersMergeResponse.class, this::onReceiveMembersMergeResponse);
         dispatcher.register(MembersMergedResponse.class, this::onReceiveMembersMergedResponse);
+        dispatcher.register(MemberDigestsResponse.class, this::onReceiveMemberDigestsResponse);
     }
 
     // invoked by manager
@@ -53,8 +56,7 @@ class MemberListExchanger {
             if (updates.isEmpty()) {
 
                 // 3. try to merge members
-                MemberList.Snapshot snapshot = context.getMemberList().getSnapshot();
-                return new MembersMergeResponse(rpc.getExchangeAt(), result.getUpdatedMap(), snapshot.getMembers(), snapshot.getDigest());
+                return startMerge(rpc.getExchangeAt(), result.getUpdatedMap());
             }
 
             // 4. send updates and retry by remote
@@ -63,16 +65,35 @@ class MemberListExchanger {
 
         // no update
         List<AbstractUpdate> updates = context.getUpdateList().take(MAX_UPDATES);
-        MemberList.Snapshot snapshot = context.getMemberList().getSnapshot();
         if (updates.isEmpty()) {
 
             // maybe both local and remote members deleted recent updates
             // 5. try to merge members
-            return new MembersMergeResponse(rpc.getExchangeAt(), snapshot.getMembers(), snapshot.getDigest());
+            return startMerge(rpc.getExchangeAt(), Collections.emptyMap());
         }
 
         // 6. send updates and retry by remote
-        return new MemberUpdatesResponse(rpc.getExchangeAt(), Collections.emptyMap(), updates, snapshot.getDigest());
+        return new MemberUpdatesResponse(rpc.getExchangeAt(), Collections.emptyMap(), updates, context.getMemberList().getDigest());
+    }
+
+    /**
+     * Start to merge members, by sending all members if member list is small, or digests of first level of
+     * digest tree to find out different buckets.
+     */
+    private AbstractMessage startMerge(long exchangeAt, Map<Long, Boolean> updatedMap) {
+        MemberList.Snapshot snapshot = context.getMemberList().getSnapshot();
+        if (snapshot.size() < MIN_MEMBERS_TO_COMPARE_DIGESTS) {
+            return new MembersMergeResponse(exchangeAt, updatedMap, snapshot.getMembers(), snapshot.getDigest());
+        }
+        List<Integer> indices = MemberDigestTree.listChildren(Collections.singletonList(0));
+        return new MemberDigestsResponse(exchangeAt, updatedMap, 1, indices, context.getMemberList().getDigests(1, indices));
+    }
+
+    // invoked by failure detector with piggybacked updates
+    void applyUpdates(List<AbstractUpdate> updates) {
+        if (!updates.isEmpty()) {
+            processUpdates(updates);
+        }
     }
 
     private MultiUpdateResult processUpdates(List<AbstractUpdate> updates) {
@@ -134,12 +155,7 @@ class MemberListExchanger {
     // subscriber
     void onReceiveMemberUpdatesResponse(RemoteMessage<MemberUpdatesResponse> message) {
         MemberUpdatesResponse response = message.get();
-        try {
-            context.getTransporter().reply(message, processMemberUpdatesResponse(response));
-        } catch (ExchangeTurnExceedException e) {
-            logger.warn("exchange with {} at {}, member list cannot agree within max turns, wait for next period",
-                    message.getSender(), response.getExchangeAt());
-        }
+        context.getTransporter().reply(message, processMemberUpdatesResponse(response));
     }
 
     // case 4, 6
@@ -156,23 +172,25 @@ class MemberListExchanger {
                 MAX_UPDATES,
                 Sets.union(response.getUpdateIds(), result.getLocalUpdateIds())
         );
-        MemberList.Snapshot snapshot = context.getMemberList().getSnapshot();
         if (updates.isEmpty()) {
 
             // 2. try to merge members
-            return new MembersMergeResponse(response.getExchangeAt(), snapshot.getMembers(), snapshot.getDigest());
+            return startMerge(response.getExchangeAt(), Collections.emptyMap());
         }
 
         if (response.getHopCount() > MAX_MEMBER_UPDATES_RESPONSE_TURN) {
-            throw new ExchangeTurnExceedException();
+
+            // 3. updates are not useful, try to merge members instead of waiting for next period
+            logger.debug("member list cannot agree within max turns, try to merge members");
+            return startMerge(response.getExchangeAt(), result.getUpdatedMap());
         }
 
-        // 3. send updates and retry by remote
+        // 4. send updates and retry by remote
         return new MemberUpdatesResponse(
                 response.getExchangeAt(),
                 result.getUpdatedMap(),
                 updates,
-                snapshot.getDigest(),
+                context.getMemberList().getDigest(),
                 response.getHopCount() + 1
         );
     }
@@ -184,7 +202,7 @@ class MemberListExchanger {
         logger.debug("exchanging with {}, {}", message.getSender(), response);
         feedback(response.getUpdatedMap());
         MemberList.UpdateResult result = context.getMemberList().mergeAll(response.getMembers());
-        context.notifyMergeToListeners();
+        context.notifyMergeToListeners(result.getEvents());
         if (Arrays.equals(result.getDigest(), response.getMembersDigest())) {
 
             // 1. merged and agree
@@ -200,18 +218,64 @@ class MemberListExchanger {
                 ));
             } else {
 
-                // 3. try to merge members
+                // 3. try to merge members, in same buckets if remote sent members in buckets
                 MemberList.Snapshot snapshot = context.getMemberList().getSnapshot();
+                Set<Integer> buckets = response.getBuckets();
                 context.getTransporter().reply(message, new MembersMergeResponse(
                         response.getExchangeAt(),
-                        snapshot.getMembers(),
+                        Collections.emptyMap(),
+                        buckets.isEmpty() ? snapshot.getMembers() : snapshot.getMembersInBuckets(buckets),
                         snapshot.getDigest(),
-                        response.getHopCount() + 1
+                        response.getHopCount() + 1,
+                        buckets
                 ));
             }
         }
     }
 
+    // subscriber
+    void onReceiveMemberDigestsResponse(RemoteMessage<MemberDigestsResponse> message) {
+        MemberDigestsResponse response = message.get();
+        logger.debug("exchanging with {}, {}", message.getSender(), response);
+        feedback(response.getUpdatedMap());
+        MemberList memberList = context.getMemberList();
+        int level = response.getLevel();
+        List<Integer> differentIndices = memberList.findDifferentNodes(level, response.getIndices(), response.getDigests());
+        MemberList.Snapshot snapshot = memberList.getSnapshot();
+        if (differentIndices.isEmpty()) {
+
+            // 1. agree, or members changed when comparing digests, wait for next period
+            context.getTransporter().reply(message, new MembersMergedResponse(response.getExchangeAt()));
+        } else if (level < MemberDigestTree.DEPTH &&
+                snapshot.size() >= MemberDigestTree.nodeCount(level + 1)) {
+
+            // 2. compare children of different nodes
+            List<Integer> children = MemberDigestTree.listChildren(differentIndices);
+            context.getTransporter().reply(message, new MemberDigestsResponse(
+                    response.getExchangeAt(),
+                    Collections.emptyMap(),
+                    level + 1,
+                    children,
+                    memberList.getDigests(level + 1, children)
+            ));
+        } else {
+
+            // 3. merge members in buckets under different nodes
+            Set<Integer> buckets = MemberDigestTree.listBuckets(level, differentIndices);
+            if (buckets.size() == MemberDigestTree.BUCKET_COUNT) {
+                buckets = Collections.emptySet();
+            }
+            context.getTransporter().reply(message, new MembersMergeResponse(
+                    response.getExchangeAt(),
+                    Collections.emptyMap(),
+                    buckets.isEmpty() ? snapshot.getMembers() : snapshot.getMembersInBuckets(buckets),
+                    snapshot.getDigest(),
+                    1,
+                    buckets
+            ));
+        }
+    }
+
     // subscriber
     private void onReceiveMembersMergedResponse(RemoteMessage<MembersMergedResponse> message) {
         logger.debug("exchange done with {}", message.getSender());
@@ -0,0 +1,69 @@
+package in.xnnyygn.xgossip;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Snapshot of counts of members in member list.
+ */
+@Immutable
+public class MemberListStats {
+
+    private final int liveCount;
+    private final int tombstoneCount;
+    private final int collectedTombstoneCount;
+    private final long totalCollectedCount;
+
+    MemberListStats(int liveCount, int tombstoneCount, int collectedTombstoneCount, long totalCollectedCount) {
+        this.liveCount = liveCount;
+        this.tombstoneCount = tombstoneCount;
+        this.collectedTombstoneCount = collectedTombstoneCount;
+        this.totalCollectedCount = totalCollectedCount;
+    }
+
+    /**
+     * Get count of existing members, including suspected ones.
+     *
+     * @return live count
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Get count of removed members kept in member list, included in digest and merges.
+     *
+     * @return tombstone count
+     */
+    public int getTombstoneCount() {
+        return tombstoneCount;
+    }
+
+    /**
+     * Get count of collected tombstones still remembered to ignore stale members.
+     *
+     * @return collected tombstone count
+     */
+    public int getCollectedTombstoneCount() {
+        return collectedTombstoneCount;
+    }
+
+    /**
+     * Get count of tombstones collected since member list is created.
+     *
+     * @return total collected count
+     */
+    public long getTotalCollectedCount() {
+        return totalCollectedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberListStats{" +
+                "liveCount=" + liveCount +
+                ", tombstoneCount=" + tombstoneCount +
+                ", collectedTombstoneCount=" + collectedTombstoneCount +
+                ", totalCollectedCount=" + totalCollectedCount +
+                '}';
+    }
+
+}
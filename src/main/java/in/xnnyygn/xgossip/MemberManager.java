@@ -1,6 +1,10 @@
 package in.xnnyygn.xgossip;
 
+import in.xnnyygn.xgossip.rpc.TransporterStats;
+import in.xnnyygn.xgossip.support.MessageLaneStats;
+
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface MemberManager {
@@ -20,6 +24,27 @@ public interface MemberManager {
 
     void addListener(MemberEventListener listener);
 
+    /**
+     * Get snapshot of metrics of transporter, like packets and bytes sent and received by message type.
+     *
+     * @return stats
+     */
+    TransporterStats getTransporterStats();
+
+    /**
+     * Get snapshot of counters of lanes processing received messages, like queue size and time waiting in queue.
+     *
+     * @return stats of lanes
+     */
+    List<MessageLaneStats> getLaneStats();
+
+    /**
+     * Get snapshot of counts of members, like live members and tombstones of removed members.
+     *
+     * @return stats of member list
+     */
+    MemberListStats getMemberListStats();
+
     void shutdown();
 
 }
@@ -1,28 +1,226 @@
 package in.xnnyygn.xgossip;
 
 import in.xnnyygn.xgossip.rpc.DefaultTransporter;
+import in.xnnyygn.xgossip.rpc.NettyTransporter;
+import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.rpc.TransporterConfig;
+import in.xnnyygn.xgossip.rpc.messages.*;
 import in.xnnyygn.xgossip.schedule.DefaultScheduler;
+import in.xnnyygn.xgossip.schedule.EventLoop;
+import in.xnnyygn.xgossip.schedule.HashedWheelScheduler;
+import in.xnnyygn.xgossip.schedule.Scheduler;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
+import in.xnnyygn.xgossip.support.MessageLane;
+import io.netty.channel.EventLoopGroup;
+
+import javax.annotation.Nullable;
+import java.util.Random;
 
 public class MemberManagerBuilder {
 
     private final MemberEndpoint selfEndpoint;
     private final MessageDispatcher messageDispatcher = new MessageDispatcher();
     private final long timeStarted = System.currentTimeMillis();
+    private boolean nettyTransporter = false;
+    private final TransporterConfig transporterConfig = new TransporterConfig();
+    private int laneQueueCapacity = 1024;
+    private boolean eventLoop = false;
+    private long wheelTickDuration = 0;
+    private long tombstoneRetention = MemberList.DEFAULT_TOMBSTONE_RETENTION;
+    private int maxTombstones = MemberList.DEFAULT_MAX_TOMBSTONES;
 
     public MemberManagerBuilder(MemberEndpoint selfEndpoint) {
         this.selfEndpoint = selfEndpoint;
     }
 
+    /**
+     * Use {@link NettyTransporter} instead of {@link DefaultTransporter}.
+     *
+     * @return this
+     */
+    public MemberManagerBuilder withNettyTransporter() {
+        this.nettyTransporter = true;
+        return this;
+    }
+
+    /**
+     * Set max packet size, larger messages like member list are sent in fragments.
+     * If not set, detected from MTU of network interfaces.
+     *
+     * @param maxPacketSize max packet size
+     * @return this
+     */
+    public MemberManagerBuilder withMaxPacketSize(int maxPacketSize) {
+        transporterConfig.setMaxPacketSize(maxPacketSize);
+        return this;
+    }
+
+    /**
+     * Coalesce messages to same member within delay into one packet, up to max packet size.
+     * All members in the cluster must support compound packets.
+     *
+     * @param delay delay in milliseconds
+     * @return this
+     */
+    public MemberManagerBuilder withCoalescing(long delay) {
+        transporterConfig.setCoalescingDelay(delay);
+        return this;
+    }
+
+    /**
+     * Set min size of member list or member ids in v2 packet to compress with deflate, 0 to disable compression.
+     * 512 by default.
+     *
+     * @param compressionThreshold compression threshold in bytes
+     * @return this
+     */
+    public MemberManagerBuilder withCompressionThreshold(int compressionThreshold) {
+        transporterConfig.setCompressionThreshold(compressionThreshold);
+        return this;
+    }
+
+    /**
+     * Set capacity of queue of messages waiting to be sent, 4096 by default.
+     * Messages of exchange are dropped when the queue is 3/4 full, all messages are dropped when full.
+     *
+     * @param capacity capacity
+     * @return this
+     */
+    public MemberManagerBuilder withSendQueueCapacity(int capacity) {
+        transporterConfig.setSendQueueCapacity(capacity);
+        return this;
+    }
+
+    /**
+     * Set capacity of queue of each lane processing received messages, 1024 by default.
+     * Messages are dropped when the queue is full. Not used with event loop.
+     *
+     * @param capacity capacity
+     * @return this
+     */
+    public MemberManagerBuilder withLaneQueueCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("lane queue capacity <= 0");
+        }
+        this.laneQueueCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Process received messages, timers and calls of {@link MemberManager} in one event loop thread, instead of
+     * lanes and scheduler thread, so state of members is changed in order without locks. The event loop is the
+     * event loop of {@link NettyTransporter}, received messages are processed right after parsed without handoff,
+     * so {@link NettyTransporter} is always used and lanes are not.
+     *
+     * @return this
+     */
+    public MemberManagerBuilder withEventLoop() {
+        this.eventLoop = true;
+        return this;
+    }
+
+    /**
+     * Run timers like ping timeouts in {@link HashedWheelScheduler}, where scheduling and cancelling are O(1),
+     * instead of a scheduled thread pool. Timeouts expire up to one tick late. Not used with event loop.
+     *
+     * @param tickDuration duration of tick in milliseconds
+     * @return this
+     */
+    public MemberManagerBuilder withHashedWheelScheduler(long tickDuration) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration <= 0");
+        }
+        this.wheelTickDuration = tickDuration;
+        return this;
+    }
+
+    /**
+     * Set time to keep removed members, 24 hours by default. Removed members are collected after retention, which
+     * should be long enough for the removal to reach all members, otherwise a member not knowing the removal may
+     * add the member back.
+     *
+     * @param retention retention in milliseconds
+     * @return this
+     */
+    public MemberManagerBuilder withTombstoneRetention(long retention) {
+        if (retention <= 0) {
+            throw new IllegalArgumentException("tombstone retention <= 0");
+        }
+        this.tombstoneRetention = retention;
+        return this;
+    }
+
+    /**
+     * Set max count of removed members kept, 8192 by default. The earliest removed ones are collected before
+     * retention when exceeded. Same count of collected ones are remembered to ignore them from stale members.
+     *
+     * @param maxTombstones max count of tombstones
+     * @return this
+     */
+    public MemberManagerBuilder withMaxTombstones(int maxTombstones) {
+        if (maxTombstones <= 0) {
+            throw new IllegalArgumentException("max tombstones <= 0");
+        }
+        this.maxTombstones = maxTombstones;
+        return this;
+    }
+
     public MemberManager build() {
-        MemberListContext context = new MemberListContext();
+        // receive packets, process messages and run timers in the same thread
+        EventLoopGroup eventLoopGroup = (this.eventLoop ? NettyTransporter.newEventLoopGroup() : null);
+        EventLoop eventLoop = (eventLoopGroup != null ? new EventLoop(eventLoopGroup.next()) : null);
+        if (eventLoop == null) {
+            assignLanes();
+        }
+        MemberListContext context = new MemberListContext(eventLoop);
         context.setSelfEndpoint(selfEndpoint);
         context.setTimeStarted(timeStarted);
         context.setMessageDispatcher(messageDispatcher);
-        context.setMemberList(new MemberList(selfEndpoint, timeStarted));
-        context.setScheduler(new DefaultScheduler());
-        context.setTransporter(new DefaultTransporter(selfEndpoint, messageDispatcher));
+        // member list is only changed in event loop, no need to stripe
+        context.setMemberList(new MemberList(selfEndpoint, timeStarted, new Random(), tombstoneRetention, maxTombstones,
+                eventLoop != null ? 1 : MemberList.DEFAULT_STRIPE_COUNT));
+        context.setScheduler(eventLoop != null ? eventLoop : buildScheduler());
+        context.setTransporter(buildTransporter(eventLoopGroup));
         return new MemberManagerImpl(context);
     }
 
+    /**
+     * Process messages of failure detector and messages of membership in separate lanes, so pings are not delayed
+     * by merging of member list.
+     */
+    private void assignLanes() {
+        MessageLane failureDetectorLane = new MessageLane("failure-detector", laneQueueCapacity);
+        messageDispatcher.assignLane(PingRpc.class, failureDetectorLane);
+        messageDispatcher.assignLane(PingResponse.class, failureDetectorLane);
+        messageDispatcher.assignLane(PingRequestRpc.class, failureDetectorLane);
+        messageDispatcher.assignLane(ProxyPingRpc.class, failureDetectorLane);
+        messageDispatcher.assignLane(ProxyPingResponse.class, failureDetectorLane);
+        messageDispatcher.assignLane(ProxyPingDoneResponse.class, failureDetectorLane);
+
+        MessageLane membershipLane = new MessageLane("membership", laneQueueCapacity);
+        messageDispatcher.assignLane(MemberJoinRpc.class, membershipLane);
+        messageDispatcher.assignLane(MemberJoinResponse.class, membershipLane);
+        messageDispatcher.assignLane(MemberLeavedRpc.class, membershipLane);
+        messageDispatcher.assignLane(MemberUpdatesRpc.class, membershipLane);
+        messageDispatcher.assignLane(MemberUpdatesAgreedResponse.class, membershipLane);
+        messageDispatcher.assignLane(MemberUpdatesResponse.class, membershipLane);
+        messageDispatcher.assignLane(MembersMergeResponse.class, membershipLane);
+        messageDispatcher.assignLane(MembersMergedResponse.class, membershipLane);
+        messageDispatcher.assignLane(MemberDigestsResponse.class, membershipLane);
+    }
+
+    private Scheduler buildScheduler() {
+        if (wheelTickDuration > 0) {
+            return new HashedWheelScheduler(wheelTickDuration, HashedWheelScheduler.DEFAULT_WHEEL_SIZE);
+        }
+        return new DefaultScheduler();
+    }
+
+    private Transporter buildTransporter(@Nullable EventLoopGroup eventLoopGroup) {
+        if (nettyTransporter || eventLoopGroup != null) {
+            return new NettyTransporter(selfEndpoint, messageDispatcher, transporterConfig, eventLoopGroup);
+        }
+        return new DefaultTransporter(selfEndpoint, messageDispatcher, transporterConfig);
+    }
+
 }
@@ -1,18 +1,24 @@
 package in.xnnyygn.xgossip;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
+import in.xnnyygn.xgossip.rpc.TransporterStats;
 import in.xnnyygn.xgossip.rpc.messages.*;
+import in.xnnyygn.xgossip.schedule.EventLoop;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
+import in.xnnyygn.xgossip.support.MessageLane;
+import in.xnnyygn.xgossip.support.MessageLaneStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 class MemberManagerImpl implements MemberManager {
 
-    private static final long INTERVAL = 1000;
+    // most updates and notifications are piggybacked on ping messages, exchange is to repair the rest
+    private static final long INTERVAL = 3000;
+    private static final long TOMBSTONE_COLLECTION_INTERVAL = 10000;
     private static final Logger logger = LoggerFactory.getLogger(MemberManagerImpl.class);
     private final MemberListContext context;
     private final MemberListExchanger memberListExchanger;
@@ -21,7 +27,7 @@ class MemberManagerImpl implements MemberManager {
     MemberManagerImpl(MemberListContext context) {
         this.context = context;
         this.memberListExchanger = new MemberListExchanger(context);
-        this.failureDetector = new FailureDetector(context);
+        this.failureDetector = new FailureDetector(context, new Piggybacker(context, memberListExchanger::applyUpdates));
     }
 
     @Override
@@ -36,20 +42,23 @@ class MemberManagerImpl implements MemberManager {
         failureDetector.initialize();
         context.getTransporter().initialize();
         context.getScheduler().scheduleWithFixedDelay(this::spreadUpdates, INTERVAL, INTERVAL);
+        context.getScheduler().scheduleWithFixedDelay(this::collectTombstones, TOMBSTONE_COLLECTION_INTERVAL, TOMBSTONE_COLLECTION_INTERVAL);
+    }
+
+    private void collectTombstones() {
+        context.getMemberList().collectTombstones(context.getScheduler().currentTimeMillis());
     }
 
     private void spreadUpdates() {
-        spreadUpdatesTo(context.getMemberList().getRandomEndpointExcept(Sets.union(
-                Collections.singleton(context.getSelfEndpoint()),
-                failureDetector.listSuspectedMembers()
-        )));
+        spreadUpdatesTo(context.getMemberList().getRandomTrustedEndpointExcept(
+                Collections.singleton(context.getSelfEndpoint())
+        ));
     }
 
     private void spreadUpdatesExcept(MemberEndpoint excluding) {
-        spreadUpdatesTo(context.getMemberList().getRandomEndpointExcept(Sets.union(
-                ImmutableSet.of(context.getSelfEndpoint(), excluding),
-                failureDetector.listSuspectedMembers()
-        )));
+        spreadUpdatesTo(context.getMemberList().getRandomTrustedEndpointExcept(
+                ImmutableSet.of(context.getSelfEndpoint(), excluding)
+        ));
     }
 
     private void spreadUpdatesTo(MemberEndpoint endpoint) {
@@ -61,6 +70,7 @@ class MemberManagerImpl implements MemberManager {
             return;
         }
         MemberUpdatesRpc rpc = new MemberUpdatesRpc(
+                context.getScheduler().currentTimeMillis(),
                 context.getUpdateList().take(1),
                 context.getNotificationList().take(1),
                 context.getMemberList().getDigest()
@@ -76,8 +86,29 @@ class MemberManagerImpl implements MemberManager {
         memberListExchanger.onReceiveMemberUpdatesRpc(message);
     }
 
+    /**
+     * Run task in event loop if any, otherwise in current thread.
+     */
+    private void runInEventLoop(Runnable task) {
+        EventLoop eventLoop = context.getEventLoop();
+        if (eventLoop == null) {
+            task.run();
+        } else {
+            eventLoop.run(task);
+        }
+    }
+
+    private <T> T callInEventLoop(Supplier<T> task) {
+        EventLoop eventLoop = context.getEventLoop();
+        return eventLoop == null ? task.get() : eventLoop.call(task);
+    }
+
     @Override
     public void join(Collection<MemberEndpoint> seedEndpoints) {
+        runInEventLoop(() -> doJoin(seedEndpoints));
+    }
+
+    private void doJoin(Collection<MemberEndpoint> seedEndpoints) {
         context.notifyChangeToListeners(new MemberEvent(context.getSelfEndpoint(), MemberEvent.Kind.JOINED));
 
         // maybe the first member in cluster
@@ -111,29 +142,33 @@ class MemberManagerImpl implements MemberManager {
     // subscriber
     void onReceiveMemberJoinResponse(RemoteMessage<MemberJoinResponse> message) {
         MemberJoinResponse response = message.get();
-        context.getMemberList().mergeAll(response.getMembers());
+        MemberList.UpdateResult result = context.getMemberList().mergeAll(response.getMembers());
+        context.notifyMergeToListeners(result.getEvents());
     }
 
     @Override
     public Set<MemberEndpoint> listAvailableEndpoints() {
-        Set<MemberEndpoint> suspected = failureDetector.listSuspectedMembers();
-        return context.getMemberList().getAll().stream()
-                .filter(m -> m.doesExist() && !suspected.contains(m.getEndpoint()))
-                .map(Member::getEndpoint)
-                .collect(Collectors.toSet());
+        return callInEventLoop(this::doListAvailableEndpoints);
+    }
+
+    private Set<MemberEndpoint> doListAvailableEndpoints() {
+        return context.getMemberList().listTrustedEndpoints();
     }
 
     @Override
     public void leave() {
-        Set<MemberEndpoint> endpoints = context.getMemberList().getRandomEndpointsExcept(1, Sets.union(
-                Collections.singleton(context.getSelfEndpoint()),
-                failureDetector.listSuspectedMembers()
-        ));
+        runInEventLoop(this::doLeave);
+    }
+
+    private void doLeave() {
+        Set<MemberEndpoint> endpoints = context.getMemberList().getRandomTrustedEndpointsExcept(
+                1, Collections.singleton(context.getSelfEndpoint())
+        );
         if (endpoints.isEmpty()) {
             logger.info("leave without telling anyone");
             return;
         }
-        MemberLeavedRpc rpc = new MemberLeavedRpc(context.getSelfEndpoint(), System.currentTimeMillis());
+        MemberLeavedRpc rpc = new MemberLeavedRpc(context.getSelfEndpoint(), context.getScheduler().currentTimeMillis());
         for (MemberEndpoint endpoint : endpoints) {
             context.getTransporter().send(endpoint, rpc);
         }
@@ -153,13 +188,31 @@ class MemberManagerImpl implements MemberManager {
 
     @Override
     public void addListener(MemberEventListener listener) {
-        context.addListener(listener);
+        runInEventLoop(() -> context.addListener(listener));
+    }
+
+    @Override
+    public TransporterStats getTransporterStats() {
+        return context.getTransporter().getStats();
+    }
+
+    @Override
+    public List<MessageLaneStats> getLaneStats() {
+        return context.getMessageDispatcher().getLanes().stream()
+                .map(MessageLane::getStats)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public MemberListStats getMemberListStats() {
+        return context.getMemberList().getStats();
     }
 
     @Override
     public void shutdown() {
         context.getScheduler().shutdown();
         context.getTransporter().close();
+        context.getMessageDispatcher().shutdown();
     }
 
 }
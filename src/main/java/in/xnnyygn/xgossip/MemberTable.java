@@ -0,0 +1,260 @@
+package in.xnnyygn.xgossip;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Table of members by dense id.
+ * <p>
+ * Each endpoint is given an id when first seen, ids are dense and stable until the endpoint is released. State of
+ * members is kept in arrays indexed by id, like last ping and suspicion, instead of an object and a map entry per
+ * member, so iterating all members reads a few contiguous arrays. Ids of endpoints are found by open addressing in an
+ * array of ids, without entry objects either.
+ * </p>
+ * <p>
+ * Member list releases the endpoint when its tombstone is collected, the row is cleared and the id is reused by
+ * the next new endpoint, so the table is bounded by members and tombstones, not by all endpoints ever seen.
+ * </p>
+ */
+@ThreadSafe
+class MemberTable {
+
+    static final int NO_ID = -1;
+    static final long NO_LATENCY = Long.MIN_VALUE;
+    // endpoints by id
+    @GuardedBy("this")
+    private MemberEndpoint[] endpoints;
+    // id + 1 of endpoint in slot, 0 if empty, at most half full
+    @GuardedBy("this")
+    private int[] slots;
+    @GuardedBy("this")
+    private long[] pingAts;
+    // latency of last ping, -1 if failed, NO_LATENCY if no ping
+    @GuardedBy("this")
+    private long[] latencies;
+    @GuardedBy("this")
+    private final BitSet suspectedIds = new BitSet();
+    // released ids to reuse, last released first
+    @GuardedBy("this")
+    private int[] freeIds = new int[16];
+    @GuardedBy("this")
+    private int freeCount = 0;
+    // ids in [0, nextId) are assigned or released
+    @GuardedBy("this")
+    private int nextId = 0;
+
+    MemberTable() {
+        this(16);
+    }
+
+    MemberTable(int initialCapacity) {
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        endpoints = new MemberEndpoint[capacity];
+        slots = new int[capacity * 2];
+        pingAts = new long[capacity];
+        latencies = new long[capacity];
+        Arrays.fill(latencies, NO_LATENCY);
+    }
+
+    /**
+     * Get id of endpoint, assign a new one if not found.
+     *
+     * @param endpoint endpoint
+     * @return id
+     */
+    synchronized int idOf(MemberEndpoint endpoint) {
+        int slot = findSlot(endpoint);
+        if (slots[slot] != 0) {
+            return slots[slot] - 1;
+        }
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (nextId == endpoints.length) {
+                grow();
+                slot = findSlot(endpoint);
+            }
+            id = nextId++;
+        }
+        endpoints[id] = endpoint;
+        slots[slot] = id + 1;
+        return id;
+    }
+
+    /**
+     * Find id of endpoint.
+     *
+     * @param endpoint endpoint
+     * @return id, {@link #NO_ID} if not found
+     */
+    synchronized int findId(MemberEndpoint endpoint) {
+        return slots[findSlot(endpoint)] - 1;
+    }
+
+    /**
+     * Release id of endpoint, clear its row and reuse the id later.
+     *
+     * @param endpoint endpoint
+     * @return true if released, false if endpoint has no id
+     */
+    synchronized boolean release(MemberEndpoint endpoint) {
+        int slot = findSlot(endpoint);
+        if (slots[slot] == 0) {
+            return false;
+        }
+        int id = slots[slot] - 1;
+        removeSlot(slot);
+        endpoints[id] = null;
+        pingAts[id] = 0;
+        latencies[id] = NO_LATENCY;
+        suspectedIds.clear(id);
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        return true;
+    }
+
+    @Nullable
+    synchronized MemberEndpoint getEndpoint(int id) {
+        return id >= 0 && id < nextId ? endpoints[id] : null;
+    }
+
+    /**
+     * Get count of endpoints with id.
+     *
+     * @return count
+     */
+    synchronized int size() {
+        return nextId - freeCount;
+    }
+
+    /**
+     * Get count of rows, including released ones.
+     *
+     * @return count
+     */
+    synchronized int getRowCount() {
+        return nextId;
+    }
+
+    /**
+     * Set result of last ping of endpoint, nothing if endpoint has no id.
+     *
+     * @param endpoint endpoint
+     * @param pingAt   time of ping
+     * @param latency  latency, -1 if failed
+     * @return latency of previous ping, {@link #NO_LATENCY} if no ping or no id
+     */
+    synchronized long setLatency(MemberEndpoint endpoint, long pingAt, long latency) {
+        int id = slots[findSlot(endpoint)] - 1;
+        if (id == NO_ID) {
+            return NO_LATENCY;
+        }
+        long previousLatency = latencies[id];
+        pingAts[id] = pingAt;
+        latencies[id] = latency;
+        return previousLatency;
+    }
+
+    /**
+     * Get latency of last ping of endpoint.
+     *
+     * @param endpoint endpoint
+     * @return latency, -1 if failed, {@link #NO_LATENCY} if no ping or no id
+     */
+    synchronized long getLatency(MemberEndpoint endpoint) {
+        int id = slots[findSlot(endpoint)] - 1;
+        return id != NO_ID ? latencies[id] : NO_LATENCY;
+    }
+
+    synchronized long getPingAt(int id) {
+        return pingAts[id];
+    }
+
+    /**
+     * Copy latencies of last pings, indexed by id, {@link #NO_LATENCY} for released ids.
+     *
+     * @return latencies
+     */
+    synchronized long[] copyLatencies() {
+        return Arrays.copyOf(latencies, nextId);
+    }
+
+    /**
+     * Set whether member is suspected.
+     *
+     * @param id        id
+     * @param suspected true if suspected
+     * @return true if changed
+     */
+    synchronized boolean setSuspected(int id, boolean suspected) {
+        if (suspectedIds.get(id) == suspected) {
+            return false;
+        }
+        suspectedIds.set(id, suspected);
+        return true;
+    }
+
+    synchronized boolean isSuspected(int id) {
+        return suspectedIds.get(id);
+    }
+
+    @GuardedBy("this")
+    private int findSlot(MemberEndpoint endpoint) {
+        int mask = slots.length - 1;
+        int slot = spread(endpoint.hashCode()) & mask;
+        while (slots[slot] != 0 && !endpoints[slots[slot] - 1].equals(endpoint)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Remove id in slot, shift following ids of the same run back so lookups never stop at the hole.
+     */
+    @GuardedBy("this")
+    private void removeSlot(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slots[next] != 0) {
+            int home = spread(endpoints[slots[next] - 1].hashCode()) & mask;
+            // move back unless home is between hole and next
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = 0;
+    }
+
+    @GuardedBy("this")
+    private void grow() {
+        int capacity = endpoints.length * 2;
+        endpoints = Arrays.copyOf(endpoints, capacity);
+        pingAts = Arrays.copyOf(pingAts, capacity);
+        latencies = Arrays.copyOf(latencies, capacity);
+        Arrays.fill(latencies, nextId, capacity, NO_LATENCY);
+        slots = new int[capacity * 2];
+        int mask = slots.length - 1;
+        for (int id = 0; id < nextId; id++) {
+            int slot = spread(endpoints[id].hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static int spread(int h) {
+        h *= 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+}
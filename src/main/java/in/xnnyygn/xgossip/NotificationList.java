@@ -1,5 +1,6 @@
 package in.xnnyygn.xgossip;
 
+import in.xnnyygn.xgossip.rpc.messages.Piggyback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,15 +43,42 @@ public class NotificationList {
         List<MemberState> states = memberStateMap.values().stream().limit(n).collect(Collectors.toList());
         List<MemberNotification> result = new ArrayList<>();
         for (MemberState state : states) {
-            result.add(state.toNotification());
-            if (state.increaseAndGetCount() >= countThreshold) {
-                logger.debug("remove notification for {}", state.getEndpoint());
-                memberStateMap.remove(state.getEndpoint());
+            result.add(takeNotification(state));
+        }
+        return result;
+    }
+
+    /**
+     * Take notifications to piggyback on ping messages.
+     *
+     * @param budget max size of notifications in bytes
+     * @return notifications
+     * @see Piggyback#estimateSize(MemberNotification)
+     */
+    public synchronized List<MemberNotification> takeForPiggyback(int budget) {
+        List<MemberState> states = new ArrayList<>(memberStateMap.values());
+        List<MemberNotification> result = new ArrayList<>();
+        int size = 0;
+        for (MemberState state : states) {
+            MemberNotification notification = state.toNotification();
+            size += Piggyback.estimateSize(notification);
+            if (size > budget) {
+                break;
             }
+            result.add(takeNotification(state));
         }
         return result;
     }
 
+    private MemberNotification takeNotification(MemberState state) {
+        MemberNotification notification = state.toNotification();
+        if (state.increaseAndGetCount() >= countThreshold) {
+            logger.debug("remove notification for {}", state.getEndpoint());
+            memberStateMap.remove(state.getEndpoint());
+        }
+        return notification;
+    }
+
     private static class MemberState {
 
         private final MemberEndpoint endpoint;
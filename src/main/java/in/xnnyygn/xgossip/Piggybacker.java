@@ -0,0 +1,70 @@
+package in.xnnyygn.xgossip;
+
+import in.xnnyygn.xgossip.rpc.messages.Piggyback;
+import in.xnnyygn.xgossip.updates.AbstractUpdate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Piggyback updates and notifications on ping messages.
+ * <p>
+ * Pending notifications are taken first, then updates, until the byte budget is used up. Each update is
+ * piggybacked at most {@code 3 * ceil(log2(n + 1))} times, which is enough to spread it to n members with high
+ * probability, the periodic exchange is left to repair the rest.
+ * </p>
+ */
+class Piggybacker {
+
+    static final int DEFAULT_BUDGET = 512;
+    private static final int RETRANSMIT_MULTIPLIER = 3;
+    private final MemberListContext context;
+    private final Consumer<List<AbstractUpdate>> updatesProcessor;
+    private final int budget;
+
+    Piggybacker(MemberListContext context, Consumer<List<AbstractUpdate>> updatesProcessor) {
+        this(context, updatesProcessor, DEFAULT_BUDGET);
+    }
+
+    Piggybacker(MemberListContext context, Consumer<List<AbstractUpdate>> updatesProcessor, int budget) {
+        this.context = context;
+        this.updatesProcessor = updatesProcessor;
+        this.budget = budget;
+    }
+
+    /**
+     * Take piggyback for next ping message.
+     *
+     * @return piggyback, maybe empty
+     */
+    Piggyback take() {
+        List<MemberNotification> notifications = context.getNotificationList().takeForPiggyback(budget);
+        int remaining = budget;
+        for (MemberNotification notification : notifications) {
+            remaining -= Piggyback.estimateSize(notification);
+        }
+        List<AbstractUpdate> updates = context.getUpdateList().takeForPiggyback(remaining, getMaxTimes());
+        if (notifications.isEmpty() && updates.isEmpty()) {
+            return Piggyback.EMPTY;
+        }
+        return new Piggyback(updates, notifications);
+    }
+
+    private int getMaxTimes() {
+        int n = context.getMemberList().getAll().size();
+        // ceil(log2(n + 1))
+        return RETRANSMIT_MULTIPLIER * (32 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Apply piggybacked updates.
+     *
+     * @param updates updates
+     */
+    void processUpdates(List<AbstractUpdate> updates) {
+        if (!updates.isEmpty()) {
+            updatesProcessor.accept(updates);
+        }
+    }
+
+}
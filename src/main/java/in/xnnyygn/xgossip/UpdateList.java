@@ -1,32 +1,58 @@
 package in.xnnyygn.xgossip;
 
+import in.xnnyygn.xgossip.rpc.messages.Piggyback;
 import in.xnnyygn.xgossip.updates.AbstractUpdate;
 import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
 import in.xnnyygn.xgossip.updates.MemberLeavedUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.Nonnull;
-import javax.annotation.concurrent.ThreadSafe;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
-
-@ThreadSafe
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * List of recent updates to spread.
+ * <p>
+ * Entries are indexed by times not applied by remote and by times piggybacked, both small counts, in order of
+ * adding. Taking the least used updates visits the first entries of the lowest counts only, instead of sorting all
+ * updates every time, which are as many as members when a large cluster starts.
+ * </p>
+ * <p>
+ * Thread safe if created concurrent, otherwise must be accessed by one thread, like event loop, and takes no lock.
+ * </p>
+ */
 public class UpdateList {
 
     private static final Logger logger = LoggerFactory.getLogger(UpdateList.class);
-    private final ConcurrentMap<Long, UpdateEntry> entryMap = new ConcurrentHashMap<>();
-    private final AtomicLong entryId = new AtomicLong();
     private final int threshold;
+    // null if accessed by one thread
+    @Nullable
+    private final Lock lock;
+    private long entryId = 0;
+    private final Map<Long, UpdateEntry> entryMap = new HashMap<>();
+    // entries by count, from 0 to threshold - 1
+    private final List<Set<UpdateEntry>> entriesByCount = new ArrayList<>();
+    // entries by piggyback count, grown when piggybacked more
+    private final List<Set<UpdateEntry>> entriesByPiggybackCount = new ArrayList<>();
 
     public UpdateList(int threshold) {
+        this(threshold, true);
+    }
+
+    /**
+     * Create.
+     *
+     * @param threshold  times an update is not applied by remote before deleted
+     * @param concurrent true if accessed by multiple threads
+     */
+    public UpdateList(int threshold, boolean concurrent) {
         this.threshold = threshold;
+        this.lock = (concurrent ? new ReentrantLock() : null);
+        for (int i = 0; i < threshold; i++) {
+            entriesByCount.add(new LinkedHashSet<>());
+        }
     }
 
     public long add(AbstractUpdate update) {
@@ -42,17 +68,27 @@ public class UpdateList {
     }
 
     public long memberJoined(MemberEndpoint endpoint, long timeJoined) {
-        long updateId = entryId.incrementAndGet();
-        MemberJoinedUpdate update = new MemberJoinedUpdate(updateId, endpoint, timeJoined);
-        entryMap.put(updateId, new UpdateEntry(update));
+        long updateId;
+        lock();
+        try {
+            updateId = ++entryId;
+            addEntry(new UpdateEntry(new MemberJoinedUpdate(updateId, endpoint, timeJoined)));
+        } finally {
+            unlock();
+        }
         logger.debug("add member joined update, id {}", updateId);
         return updateId;
     }
 
     public long memberLeaved(MemberEndpoint endpoint, long timeLeaved) {
-        long updateId = entryId.incrementAndGet();
-        MemberLeavedUpdate update = new MemberLeavedUpdate(updateId, endpoint, timeLeaved);
-        entryMap.put(updateId, new UpdateEntry(update));
+        long updateId;
+        lock();
+        try {
+            updateId = ++entryId;
+            addEntry(new UpdateEntry(new MemberLeavedUpdate(updateId, endpoint, timeLeaved)));
+        } finally {
+            unlock();
+        }
         logger.debug("add member leaved update, id {}", updateId);
         return updateId;
     }
@@ -61,53 +97,134 @@ public class UpdateList {
         return takeExcept(n, Collections.emptySet());
     }
 
+    /**
+     * Take updates least not applied by remote first.
+     *
+     * @param n         max count of updates
+     * @param excluding ids of updates to exclude
+     * @return updates
+     */
     public List<AbstractUpdate> takeExcept(int n, Set<Long> excluding) {
-        return entryMap.values().stream()
-                .filter(e -> !excluding.contains(e.getId()))
-                .sorted()
-                .limit(n)
-                .map(UpdateEntry::getUpdate)
-                .collect(Collectors.toList());
+        List<AbstractUpdate> updates = new ArrayList<>();
+        lock();
+        try {
+            for (Set<UpdateEntry> entries : entriesByCount) {
+                for (UpdateEntry entry : entries) {
+                    if (updates.size() >= n) {
+                        return updates;
+                    }
+                    if (!excluding.contains(entry.getId())) {
+                        updates.add(entry.update);
+                    }
+                }
+            }
+        } finally {
+            unlock();
+        }
+        return updates;
+    }
+
+    /**
+     * Take updates to piggyback on ping messages, least piggybacked first.
+     * Update piggybacked {@code maxTimes} times is not taken again, but still available to {@link #take(int)}.
+     *
+     * @param budget   max size of updates in bytes
+     * @param maxTimes max times to piggyback an update
+     * @return updates
+     * @see Piggyback#estimateSize(AbstractUpdate)
+     */
+    public List<AbstractUpdate> takeForPiggyback(int budget, int maxTimes) {
+        List<UpdateEntry> entries = new ArrayList<>();
+        List<AbstractUpdate> updates;
+        lock();
+        try {
+            int size = 0;
+            int maxCount = Math.min(maxTimes, entriesByPiggybackCount.size());
+            collect:
+            for (int piggybackCount = 0; piggybackCount < maxCount; piggybackCount++) {
+                for (UpdateEntry entry : entriesByPiggybackCount.get(piggybackCount)) {
+                    size += Piggyback.estimateSize(entry.update);
+                    if (size > budget) {
+                        break collect;
+                    }
+                    entries.add(entry);
+                }
+            }
+            updates = new ArrayList<>(entries.size());
+            for (UpdateEntry entry : entries) {
+                entriesByPiggybackCount.get(entry.piggybackCount).remove(entry);
+                entry.piggybackCount++;
+                getEntriesByPiggybackCount(entry.piggybackCount).add(entry);
+                updates.add(entry.update);
+            }
+        } finally {
+            unlock();
+        }
+        return updates;
     }
 
     public void decreaseUsefulness(long id) {
-        UpdateEntry entry = entryMap.get(id);
-        if (entry == null) {
-            return;
+        lock();
+        try {
+            UpdateEntry entry = entryMap.get(id);
+            if (entry == null) {
+                return;
+            }
+            logger.debug("decrease usefulness of update {}", id);
+            entriesByCount.get(entry.count).remove(entry);
+            entry.count++;
+            if (entry.count >= threshold) {
+                logger.debug("delete update {}", id);
+                entryMap.remove(id);
+                entriesByPiggybackCount.get(entry.piggybackCount).remove(entry);
+                return;
+            }
+            entriesByCount.get(entry.count).add(entry);
+        } finally {
+            unlock();
         }
-        logger.debug("decrease usefulness of update {}", id);
-        if (entry.increaseCountAndGet() >= threshold) {
-            logger.debug("delete update {}", id);
-            entryMap.remove(id);
+    }
+
+    private void lock() {
+        if (lock != null) {
+            lock.lock();
         }
     }
 
-    private static class UpdateEntry implements Comparable<UpdateEntry> {
+    private void unlock() {
+        if (lock != null) {
+            lock.unlock();
+        }
+    }
+
+    private void addEntry(UpdateEntry entry) {
+        entryMap.put(entry.getId(), entry);
+        entriesByCount.get(0).add(entry);
+        getEntriesByPiggybackCount(0).add(entry);
+    }
+
+    private Set<UpdateEntry> getEntriesByPiggybackCount(int piggybackCount) {
+        while (entriesByPiggybackCount.size() <= piggybackCount) {
+            entriesByPiggybackCount.add(new LinkedHashSet<>());
+        }
+        return entriesByPiggybackCount.get(piggybackCount);
+    }
+
+    private static class UpdateEntry {
 
         private final AbstractUpdate update;
-        private final AtomicInteger count = new AtomicInteger();
+        // times not applied by remote, guarded by lock of list
+        private int count = 0;
+        private int piggybackCount = 0;
 
         UpdateEntry(AbstractUpdate update) {
             this.update = update;
         }
 
-        AbstractUpdate getUpdate() {
-            return update;
-        }
-
         long getId() {
             return update.getId();
         }
 
-        int increaseCountAndGet() {
-            return count.incrementAndGet();
-        }
-
-        @Override
-        public int compareTo(@Nonnull UpdateEntry o) {
-            return Integer.compare(count.get(), o.count.get());
-        }
-
     }
 
 }
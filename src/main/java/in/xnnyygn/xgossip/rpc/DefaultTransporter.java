@@ -8,77 +8,220 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.SocketException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 
+/**
+ * Transporter based on blocking datagram channel.
+ * <p>
+ * Packets are received by thread {@code udp-server}. Messages to send are put into a bounded {@link SendQueue}
+ * and encoded and sent by thread {@code udp-sender}, so a slow send never delays the scheduler or the receiving
+ * thread replying to messages. When the queue is filling up, messages of exchange are dropped before pings.
+ * </p>
+ */
 public class DefaultTransporter implements Transporter {
 
     private static Logger logger = LoggerFactory.getLogger(DefaultTransporter.class);
-    private static final PacketProtocol packetProtocol = new PacketProtocol();
+    // large enough for any datagram, peers may have larger MTU
+    private static final int RECEIVE_BUFFER_SIZE = 65536;
+    private static final int INITIAL_SEND_BUFFER_SIZE = 4096;
+    private static final int SENDER_SPIN_COUNT = 100;
+    // direct buffer per sending thread, packet is written into it without copying
+    private static final ThreadLocal<ByteBuffer> sendBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_SEND_BUFFER_SIZE));
+    // codec with session and state of peers of this transporter
+    private final PacketProtocol packetProtocol = new PacketProtocol();
     private final MessageDispatcher messageDispatcher;
     private final MemberEndpoint selfEndpoint;
+    private final TransporterConfig config;
+    private final Consumer<RemoteMessage<? extends AbstractMessage>> messageConsumer = this::dispatch;
+    private final SendQueue<OutboundMessage> sendQueue;
+    private final TransporterMetrics metrics = new TransporterMetrics();
 
     private Thread udpServerThread;
-    private DatagramSocket datagramSocket;
+    private Thread udpSenderThread;
+    private volatile boolean senderParked = false;
+    private DatagramChannel datagramChannel;
+    private ScheduledExecutorService flushExecutor;
+    private PacketCoalescer packetCoalescer;
     private volatile boolean running = false;
 
 
     public DefaultTransporter(MemberEndpoint selfEndpoint, MessageDispatcher messageDispatcher) {
+        this(selfEndpoint, messageDispatcher, new TransporterConfig());
+    }
+
+    public DefaultTransporter(MemberEndpoint selfEndpoint, MessageDispatcher messageDispatcher, TransporterConfig config) {
         this.messageDispatcher = messageDispatcher;
         this.selfEndpoint = selfEndpoint;
+        this.config = config;
+        this.sendQueue = new SendQueue<>(config.getSendQueueCapacity());
     }
 
     @Override
     public void initialize() {
-        logger.info("start udp server at port {}", selfEndpoint.getPort());
+        logger.info("start udp server at port {}, max packet size {}", selfEndpoint.getPort(), config.getMaxPacketSize());
         try {
-            datagramSocket = new DatagramSocket(selfEndpoint.getPort());
-        } catch (SocketException e) {
+            datagramChannel = DatagramChannel.open();
+            datagramChannel.bind(new InetSocketAddress(selfEndpoint.getPort()));
+        } catch (IOException e) {
             throw new TransporterException(e);
         }
+        if (config.getCoalescingDelay() > 0) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "udp-flusher"));
+            packetCoalescer = new PacketCoalescer(config.getMaxPacketSize(), config.getCoalescingDelay(), flushExecutor, this::sendPacket);
+        }
+        running = true;
         udpServerThread = new Thread(this::udpServer, "udp-server");
         udpServerThread.start();
+        udpSenderThread = new Thread(this::udpSender, "udp-sender");
+        udpSenderThread.start();
     }
 
     private void udpServer() {
-        running = true;
-        byte[] buffer = new byte[4096];
-        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
-        RemoteMessage<? extends AbstractMessage> message;
+        ByteBuffer buffer = ByteBuffer.allocate(RECEIVE_BUFFER_SIZE);
         while (running) {
             try {
-                datagramSocket.receive(packet);
-                message = packetProtocol.fromPacket(packet);
-            } catch (SocketException ignored) {
-                // socket is closed
+                buffer.clear();
+                datagramChannel.receive(buffer);
+            } catch (ClosedChannelException ignored) {
+                // channel is closed
                 break;
-            } catch (IOException | ParserException e) {
-                logger.warn("failed to receive to parse packet", e);
+            } catch (IOException e) {
+                logger.warn("failed to receive packet", e);
                 continue;
             }
-            logger.debug("<= {}, {}", message.getSender(), message.get());
-            messageDispatcher.post(message);
+            long startTime = metrics.onReceiveStarted();
+            int size = buffer.position();
+            metrics.onPacketReceived(size);
+            try {
+                packetProtocol.fromBytes(buffer.array(), 0, size, messageConsumer, metrics);
+            } catch (ParserException e) {
+                metrics.onParseFailure();
+                logger.warn("failed to parse packet", e);
+            }
+            metrics.onReceiveProcessed(startTime);
         }
     }
 
+    private void dispatch(RemoteMessage<? extends AbstractMessage> message) {
+        logger.debug("<= {}, {}", message.getSender(), message.get());
+        messageDispatcher.post(message);
+    }
+
     @Override
     public <T extends AbstractMessage> void send(MemberEndpoint endpoint, T message) {
         logger.debug("=> {}, {}", endpoint, message);
+        if (!sendQueue.offer(new OutboundMessage(endpoint, message), SendQueue.isBulk(message))) {
+            logger.debug("send queue is full, drop message to {}", endpoint);
+            return;
+        }
+        if (senderParked) {
+            LockSupport.unpark(udpSenderThread);
+        }
+    }
+
+    private void udpSender() {
+        int idleCount = 0;
+        while (running || !sendQueue.isEmpty()) {
+            OutboundMessage message = sendQueue.poll();
+            if (message != null) {
+                doSend(message.endpoint, message.message);
+                idleCount = 0;
+                continue;
+            }
+            // spin a little before parking, unpark costs a syscall for every message under load
+            if (idleCount++ < SENDER_SPIN_COUNT) {
+                Thread.yield();
+                continue;
+            }
+            senderParked = true;
+            // check again after flag is set, producer may have missed the flag
+            if (running && sendQueue.isEmpty()) {
+                LockSupport.park(this);
+            }
+            senderParked = false;
+        }
+    }
+
+    private void doSend(MemberEndpoint endpoint, AbstractMessage message) {
         try {
-            datagramSocket.send(packetProtocol.toPacket(selfEndpoint, message, endpoint));
-        } catch (SocketException e) {
-            // socket is closed
+            InetSocketAddress address = packetProtocol.resolve(endpoint);
+            if (address.isUnresolved()) {
+                throw new ProtocolException("unresolved endpoint " + endpoint);
+            }
+            PacketProtocol.PacketWriter writer = packetProtocol.getPacketWriter();
+            int size = writer.prepare(selfEndpoint, message, endpoint, config.getCompressionThreshold());
+            metrics.onMessageSent(writer.getMessageType(), writer.getMessageSize());
+            if (packetCoalescer != null && packetCoalescer.offer(endpoint, address, writer)) {
+                return;
+            }
+            int maxPacketSize = config.getMaxPacketSize();
+            if (size <= maxPacketSize) {
+                ByteBuffer buffer = getSendBuffer(size);
+                writer.writeTo(buffer);
+                buffer.flip();
+                datagramChannel.send(buffer, address);
+                metrics.onPacketSent(size);
+                return;
+            }
+            int fragmentCount = writer.prepareFragments(maxPacketSize);
+            for (int i = 0; i < fragmentCount; i++) {
+                int fragmentSize = writer.getFragmentSize(i);
+                ByteBuffer buffer = getSendBuffer(fragmentSize);
+                writer.writeFragmentTo(buffer, i);
+                buffer.flip();
+                datagramChannel.send(buffer, address);
+                metrics.onPacketSent(fragmentSize);
+            }
+        } catch (ClosedChannelException e) {
+            // channel is closed
         } catch (IOException | ProtocolException e) {
+            metrics.onSendFailure();
             logger.warn("failed to send", e);
         }
     }
 
+    // send coalesced packet
+    private void sendPacket(ByteBuffer packet, InetSocketAddress address) {
+        try {
+            metrics.onPacketSent(datagramChannel.send(packet, address));
+        } catch (ClosedChannelException e) {
+            // channel is closed
+        } catch (IOException e) {
+            metrics.onSendFailure();
+            logger.warn("failed to send", e);
+        }
+    }
+
+    private ByteBuffer getSendBuffer(int size) {
+        if (size > PacketProtocol.MAX_DATAGRAM_SIZE) {
+            throw new ProtocolException("packet too large, size " + size);
+        }
+        ByteBuffer buffer = sendBuffers.get();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(Math.min(Integer.highestOneBit(size - 1) << 1, PacketProtocol.MAX_DATAGRAM_SIZE));
+            sendBuffers.set(buffer);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
     @Override
     public <M extends AbstractMessage, R extends AbstractMessage> void reply(RemoteMessage<M> remoteMessage, R response) {
         send(remoteMessage.getSender(), response);
     }
 
+    @Override
+    public TransporterStats getStats() {
+        return metrics.snapshot(sendQueue);
+    }
+
     @Override
     public void close() {
         logger.info("stop transporter");
@@ -86,11 +229,37 @@ public class DefaultTransporter implements Transporter {
             return;
         }
         running = false;
-        datagramSocket.close();
+        // send messages in queue
+        LockSupport.unpark(udpSenderThread);
+        try {
+            udpSenderThread.join();
+        } catch (InterruptedException ignored) {
+        }
+        if (packetCoalescer != null) {
+            flushExecutor.shutdownNow();
+            packetCoalescer.flushAll();
+        }
+        try {
+            datagramChannel.close();
+        } catch (IOException e) {
+            logger.warn("failed to close channel", e);
+        }
         try {
             udpServerThread.join();
         } catch (InterruptedException ignored) {
         }
     }
 
+    private static class OutboundMessage {
+
+        final MemberEndpoint endpoint;
+        final AbstractMessage message;
+
+        OutboundMessage(MemberEndpoint endpoint, AbstractMessage message) {
+            this.endpoint = endpoint;
+            this.message = message;
+        }
+
+    }
+
 }
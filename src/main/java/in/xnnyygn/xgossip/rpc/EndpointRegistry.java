@@ -0,0 +1,349 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of endpoints seen by transporter.
+ * <p>
+ * Endpoints are interned, so endpoints decoded from packets are the same instances and comparing them in maps
+ * keyed by endpoint is mostly a reference check. Resolved socket address is cached per endpoint and resolved
+ * again after {@code ttl}, or {@code negativeTtl} if host cannot be resolved.
+ * </p>
+ * <p>
+ * Each registered endpoint is given a member id, ids are dense and stable in the lifetime of registry, so
+ * v2 packets can refer to endpoints by id. State of endpoint as peer, like protocol version, is kept here too.
+ * </p>
+ * <p>
+ * Entries are bounded by {@code maxEntries}, entries not used recently are evicted when exceeded, approximately
+ * least recently used by second chance, so an endpoint seen again after a while is resolved and negotiated again.
+ * Ids are kept after eviction, since peers acknowledge ids from 1 without gap. Up to {@link #MAX_IDS} endpoints
+ * are given ids, others are written by host and port.
+ * </p>
+ */
+@ThreadSafe
+class EndpointRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointRegistry.class);
+    static final long DEFAULT_TTL = 60000;
+    static final long DEFAULT_NEGATIVE_TTL = 5000;
+    static final int DEFAULT_MAX_ENTRIES = 65536;
+    static final int MAX_IDS = 65536;
+    private final ConcurrentMap<MemberEndpoint, Entry> entryMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, MemberEndpoint> endpointByIdMap = new ConcurrentHashMap<>();
+    @GuardedBy("this")
+    private final Map<MemberEndpoint, Integer> idMap = new HashMap<>();
+    // written in createEntry only
+    private volatile int nextId = 1;
+    private final long ttl;
+    private final long negativeTtl;
+    private final int maxEntries;
+
+    EndpointRegistry() {
+        this(DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_ENTRIES);
+    }
+
+    EndpointRegistry(long ttl, long negativeTtl, int maxEntries) {
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.maxEntries = maxEntries;
+    }
+
+    @Nonnull
+    MemberEndpoint intern(@Nonnull String host, int port) {
+        return getOrCreateEntry(new MemberEndpoint(host, port)).endpoint;
+    }
+
+    @Nonnull
+    MemberEndpoint intern(@Nonnull MemberEndpoint endpoint) {
+        return getOrCreateEntry(endpoint).endpoint;
+    }
+
+    /**
+     * Get socket address of endpoint, resolve host if not resolved or expired.
+     *
+     * @param endpoint endpoint
+     * @return socket address, maybe unresolved
+     */
+    @Nonnull
+    InetSocketAddress resolve(@Nonnull MemberEndpoint endpoint) {
+        Entry entry = getOrCreateEntry(endpoint);
+        InetSocketAddress address = entry.address;
+        if (address != null && System.currentTimeMillis() < entry.expiredAt) {
+            return address;
+        }
+        address = doResolve(endpoint);
+        entry.address = address;
+        entry.expiredAt = System.currentTimeMillis() + (address.isUnresolved() ? negativeTtl : ttl);
+        return address;
+    }
+
+    /**
+     * Get host of endpoint in UTF-8, cached per endpoint.
+     *
+     * @param endpoint endpoint
+     * @return host bytes
+     */
+    @Nonnull
+    byte[] getHostBytes(@Nonnull MemberEndpoint endpoint) {
+        return getOrCreateEntry(endpoint).hostBytes;
+    }
+
+    /**
+     * Get endpoint in protobuf, cached per endpoint. Message is immutable and memoizes its size, so it is shared by
+     * all messages containing the endpoint.
+     *
+     * @param endpoint endpoint
+     * @param byId     true to get endpoint as member id in v2, host and port are used if endpoint has no id
+     * @return endpoint in protobuf
+     */
+    @Nonnull
+    Protos.MemberEndpoint getProtoEndpoint(@Nonnull MemberEndpoint endpoint, boolean byId) {
+        Entry entry = getOrCreateEntry(endpoint);
+        if (byId && entry.id > 0) {
+            Protos.MemberEndpoint protoEndpoint = entry.protoEndpointById;
+            if (protoEndpoint == null) {
+                protoEndpoint = Protos.MemberEndpoint.newBuilder().setId(entry.id).build();
+                entry.protoEndpointById = protoEndpoint;
+            }
+            return protoEndpoint;
+        }
+        Protos.MemberEndpoint protoEndpoint = entry.protoEndpoint;
+        if (protoEndpoint == null) {
+            protoEndpoint = Protos.MemberEndpoint.newBuilder()
+                    .setHost(endpoint.getHost())
+                    .setPort(endpoint.getPort())
+                    .build();
+            entry.protoEndpoint = protoEndpoint;
+        }
+        return protoEndpoint;
+    }
+
+    /**
+     * Get member id of endpoint.
+     *
+     * @param endpoint endpoint
+     * @return member id, 0 if no id since too many endpoints
+     */
+    int getId(@Nonnull MemberEndpoint endpoint) {
+        return getOrCreateEntry(endpoint).id;
+    }
+
+    /**
+     * Get endpoint by member id.
+     *
+     * @param id member id
+     * @return endpoint, null if not found
+     */
+    @Nullable
+    MemberEndpoint getEndpoint(int id) {
+        return endpointByIdMap.get(id);
+    }
+
+    /**
+     * Get max member id.
+     *
+     * @return max member id, 0 if no endpoint
+     */
+    int getMaxId() {
+        return nextId - 1;
+    }
+
+    /**
+     * Get state of endpoint as peer.
+     *
+     * @param endpoint endpoint
+     * @return peer state
+     */
+    @Nonnull
+    PeerState getPeerState(@Nonnull MemberEndpoint endpoint) {
+        return getOrCreateEntry(endpoint).peerState;
+    }
+
+    private InetSocketAddress doResolve(MemberEndpoint endpoint) {
+        try {
+            return new InetSocketAddress(InetAddress.getByName(endpoint.getHost()), endpoint.getPort());
+        } catch (UnknownHostException e) {
+            logger.warn("failed to resolve host of endpoint {}", endpoint);
+            return InetSocketAddress.createUnresolved(endpoint.getHost(), endpoint.getPort());
+        }
+    }
+
+    private Entry getOrCreateEntry(MemberEndpoint endpoint) {
+        Entry entry = entryMap.get(endpoint);
+        if (entry != null) {
+            if (!entry.used) {
+                entry.used = true;
+            }
+            return entry;
+        }
+        return createEntry(endpoint);
+    }
+
+    /**
+     * Create entry with id, id is assigned and mapped to endpoint before entry is published, so ids have no gap and
+     * entry read by other threads always has its id.
+     */
+    private synchronized Entry createEntry(MemberEndpoint endpoint) {
+        Entry entry = entryMap.get(endpoint);
+        if (entry != null) {
+            return entry;
+        }
+        if (entryMap.size() >= maxEntries) {
+            evict();
+        }
+        Integer id = idMap.get(endpoint);
+        if (id == null && nextId <= MAX_IDS) {
+            id = nextId;
+            idMap.put(endpoint, id);
+            endpointByIdMap.put(id, endpoint);
+            // max id is visible after endpoint of id
+            nextId = id + 1;
+        }
+        entry = new Entry(endpoint, id != null ? id : 0);
+        entryMap.put(endpoint, entry);
+        return entry;
+    }
+
+    /**
+     * Evict about 1/16 of entries, entries used since last eviction are given a second chance.
+     */
+    @GuardedBy("this")
+    private void evict() {
+        int count = Math.max(1, maxEntries / 16);
+        int evicted = 0;
+        // entries are all unused in second round, unless used concurrently
+        for (int round = 0; round < 2 && evicted < count; round++) {
+            Iterator<Entry> iterator = entryMap.values().iterator();
+            while (iterator.hasNext() && evicted < count) {
+                Entry entry = iterator.next();
+                if (entry.used) {
+                    entry.used = false;
+                } else {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        logger.debug("evict {} endpoints", evicted);
+    }
+
+    int size() {
+        return entryMap.size();
+    }
+
+    private static class Entry {
+
+        final MemberEndpoint endpoint;
+        final byte[] hostBytes;
+        final PeerState peerState = new PeerState();
+        final int id;
+        // used since last eviction
+        volatile boolean used = true;
+        volatile InetSocketAddress address;
+        volatile long expiredAt;
+        // created lazily, same message if created concurrently
+        volatile Protos.MemberEndpoint protoEndpoint;
+        volatile Protos.MemberEndpoint protoEndpointById;
+
+        Entry(MemberEndpoint endpoint, int id) {
+            this.endpoint = endpoint;
+            this.id = id;
+            this.hostBytes = endpoint.getHost().getBytes(StandardCharsets.UTF_8);
+        }
+
+    }
+
+    /**
+     * State of endpoint as peer, updated when packet from the peer is received.
+     */
+    static class PeerState {
+
+        private volatile int version = 0;
+        private volatile int ackedCount = 0;
+        private volatile RemoteMemberIds remoteMemberIds;
+
+        /**
+         * Get highest protocol version supported by peer.
+         *
+         * @return version, 0 if unknown
+         */
+        int getVersion() {
+            return version;
+        }
+
+        void setVersion(int version) {
+            if (this.version != version) {
+                this.version = version;
+            }
+        }
+
+        /**
+         * Get count of local member ids known by peer, that is, ids from 1 to count.
+         *
+         * @return count
+         */
+        int getAckedCount() {
+            return ackedCount;
+        }
+
+        /**
+         * Get member ids of current session of peer.
+         *
+         * @return member ids, null if no v2 packet received
+         */
+        @Nullable
+        RemoteMemberIds getRemoteMemberIds() {
+            return remoteMemberIds;
+        }
+
+        /**
+         * Update state when v1 packet is received. Peer doesn't send v1 packet after v2 is negotiated unless it is
+         * restarted, so local ids acknowledged and ids defined by peer before are reset.
+         *
+         * @param version highest protocol version supported by peer
+         */
+        void updateV1(int version) {
+            setVersion(version);
+            if (ackedCount != 0) {
+                ackedCount = 0;
+            }
+            if (remoteMemberIds != null) {
+                remoteMemberIds = null;
+            }
+        }
+
+        /**
+         * Update state when v2 packet is received.
+         *
+         * @param ackedCount      count of local member ids known by peer, 0 if peer acknowledges other session
+         * @param remoteMemberIds member ids of session of peer
+         */
+        void update(int ackedCount, RemoteMemberIds remoteMemberIds) {
+            setVersion(PacketProtocol.VERSION_2);
+            if (this.ackedCount != ackedCount) {
+                this.ackedCount = ackedCount;
+            }
+            if (this.remoteMemberIds != remoteMemberIds) {
+                this.remoteMemberIds = remoteMemberIds;
+            }
+        }
+
+    }
+
+}
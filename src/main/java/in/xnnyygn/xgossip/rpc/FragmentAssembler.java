@@ -0,0 +1,152 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Assembler of fragments of large messages.
+ * <p>
+ * Fragments are kept until all fragments of the message are received. Since packets may be lost, incomplete
+ * messages are dropped after {@code timeout}, and at most {@code maxPendingMessages} messages are kept, the
+ * oldest one is dropped when too many.
+ * </p>
+ */
+@ThreadSafe
+class FragmentAssembler {
+
+    static final long DEFAULT_TIMEOUT = 5000;
+    static final int DEFAULT_MAX_PENDING_MESSAGES = 64;
+    private final Map<MessageKey, PendingMessage> pendingMessageMap = new HashMap<>();
+    private final long timeout;
+    private final int maxPendingMessages;
+
+    FragmentAssembler() {
+        this(DEFAULT_TIMEOUT, DEFAULT_MAX_PENDING_MESSAGES);
+    }
+
+    FragmentAssembler(long timeout, int maxPendingMessages) {
+        this.timeout = timeout;
+        this.maxPendingMessages = maxPendingMessages;
+    }
+
+    /**
+     * Add fragment.
+     *
+     * @param sender    sender
+     * @param messageId message id
+     * @param index     index of fragment
+     * @param count     count of fragments
+     * @param buffer    buffer
+     * @param offset    offset of fragment in buffer
+     * @param length    length of fragment
+     * @return assembled message if all fragments are received, otherwise null
+     * @throws ParserException if index or count is illegal
+     */
+    @Nullable
+    synchronized byte[] add(MemberEndpoint sender, int messageId, int index, int count, byte[] buffer, int offset, int length) {
+        if (count <= 0 || count > PacketProtocol.MAX_FRAGMENT_COUNT || index < 0 || index >= count) {
+            throw new ParserException("illegal fragment " + index + "/" + count);
+        }
+        long now = System.currentTimeMillis();
+        MessageKey key = new MessageKey(sender, messageId);
+        PendingMessage message = pendingMessageMap.get(key);
+        if (message == null) {
+            removeExpiredMessages(now);
+            message = new PendingMessage(count, now);
+            pendingMessageMap.put(key, message);
+        } else if (message.fragments.length != count) {
+            throw new ParserException("fragment count mismatch, expected " + message.fragments.length + ", but was " + count);
+        }
+        if (message.fragments[index] != null) {
+            // duplicated
+            return null;
+        }
+        byte[] fragment = new byte[length];
+        System.arraycopy(buffer, offset, fragment, 0, length);
+        message.fragments[index] = fragment;
+        message.size += length;
+        if (++message.received < count) {
+            return null;
+        }
+        pendingMessageMap.remove(key);
+        return message.assemble();
+    }
+
+    private void removeExpiredMessages(long now) {
+        MessageKey oldestKey = null;
+        long oldestCreatedAt = Long.MAX_VALUE;
+        Iterator<Map.Entry<MessageKey, PendingMessage>> iterator = pendingMessageMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<MessageKey, PendingMessage> entry = iterator.next();
+            long createdAt = entry.getValue().createdAt;
+            if (now - createdAt > timeout) {
+                iterator.remove();
+            } else if (createdAt < oldestCreatedAt) {
+                oldestKey = entry.getKey();
+                oldestCreatedAt = createdAt;
+            }
+        }
+        if (pendingMessageMap.size() >= maxPendingMessages && oldestKey != null) {
+            pendingMessageMap.remove(oldestKey);
+        }
+    }
+
+    synchronized int getPendingMessageCount() {
+        return pendingMessageMap.size();
+    }
+
+    private static class MessageKey {
+
+        private final MemberEndpoint sender;
+        private final int messageId;
+
+        MessageKey(MemberEndpoint sender, int messageId) {
+            this.sender = sender;
+            this.messageId = messageId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MessageKey)) return false;
+            MessageKey that = (MessageKey) o;
+            return messageId == that.messageId && sender.equals(that.sender);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sender.hashCode() + messageId;
+        }
+
+    }
+
+    private static class PendingMessage {
+
+        final byte[][] fragments;
+        final long createdAt;
+        int received = 0;
+        int size = 0;
+
+        PendingMessage(int count, long createdAt) {
+            this.fragments = new byte[count][];
+            this.createdAt = createdAt;
+        }
+
+        byte[] assemble() {
+            byte[] bytes = new byte[size];
+            int position = 0;
+            for (byte[] fragment : fragments) {
+                System.arraycopy(fragment, 0, bytes, position, fragment.length);
+                position += fragment.length;
+            }
+            return bytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+import in.xnnyygn.xgossip.support.MessageDispatcher;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.*;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Transporter based on netty.
+ * <p>
+ * Packets are received and sent on a single event loop, native epoll is used when available, otherwise NIO.
+ * Callers of {@link #send(MemberEndpoint, AbstractMessage)} only encode the message and put the packet into
+ * a bounded {@link SendQueue}, the event loop drains the queue and flushes once per wakeup, so they never wait
+ * for the kernel. When the queue is filling up, packets of exchange are dropped before pings, and any packet is
+ * dropped when the queue is full, like a full socket buffer.
+ * </p>
+ * <p>
+ * The event loop group may be created before the transporter by {@link #newEventLoopGroup()}, to run timers and
+ * processing of received messages on the same thread as event loop of member list.
+ * </p>
+ */
+public class NettyTransporter implements Transporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NettyTransporter.class);
+    // large enough for any datagram, peers may have larger MTU
+    private static final int RECEIVE_BUFFER_SIZE = 65536;
+    private static final int RECEIVE_BATCH_SIZE = 16;
+    // codec with session and state of peers of this transporter
+    private final PacketProtocol packetProtocol = new PacketProtocol();
+    private final SendQueue<DatagramPacket> pendingPackets;
+    private final TransporterMetrics metrics = new TransporterMetrics();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final MessageDispatcher messageDispatcher;
+    private final MemberEndpoint selfEndpoint;
+    private final TransporterConfig config;
+    private final Consumer<RemoteMessage<? extends AbstractMessage>> messageConsumer = this::dispatch;
+
+    private EventLoopGroup eventLoopGroup;
+    private Channel channel;
+    private PacketCoalescer packetCoalescer;
+    private volatile boolean closed = false;
+
+    public NettyTransporter(MemberEndpoint selfEndpoint, MessageDispatcher messageDispatcher) {
+        this(selfEndpoint, messageDispatcher, new TransporterConfig());
+    }
+
+    public NettyTransporter(MemberEndpoint selfEndpoint, MessageDispatcher messageDispatcher, TransporterConfig config) {
+        this(selfEndpoint, messageDispatcher, config, null);
+    }
+
+    /**
+     * Create.
+     *
+     * @param selfEndpoint      self endpoint
+     * @param messageDispatcher message dispatcher
+     * @param config            config
+     * @param eventLoopGroup    group from {@link #newEventLoopGroup()}, shut down when closed, null to create one
+     */
+    public NettyTransporter(MemberEndpoint selfEndpoint, MessageDispatcher messageDispatcher, TransporterConfig config,
+                            @Nullable EventLoopGroup eventLoopGroup) {
+        this.messageDispatcher = messageDispatcher;
+        this.selfEndpoint = selfEndpoint;
+        this.config = config;
+        this.pendingPackets = new SendQueue<>(config.getSendQueueCapacity());
+        this.eventLoopGroup = eventLoopGroup;
+    }
+
+    /**
+     * Create event loop group of one thread for transporter, native epoll if available, otherwise NIO.
+     *
+     * @return event loop group
+     */
+    public static EventLoopGroup newEventLoopGroup() {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory("udp-server");
+        return Epoll.isAvailable() ? new EpollEventLoopGroup(1, threadFactory) : new NioEventLoopGroup(1, threadFactory);
+    }
+
+    @Override
+    public void initialize() {
+        if (eventLoopGroup == null) {
+            eventLoopGroup = newEventLoopGroup();
+        }
+        boolean epoll = (eventLoopGroup instanceof EpollEventLoopGroup);
+        logger.info("start udp server at port {}, {}, max packet size {}", selfEndpoint.getPort(), epoll ? "epoll" : "nio", config.getMaxPacketSize());
+        Bootstrap bootstrap = new Bootstrap()
+                .group(eventLoopGroup)
+                .handler(new PacketHandler());
+        if (epoll) {
+            // receive up to RECEIVE_BATCH_SIZE datagrams per syscall by recvmmsg
+            bootstrap.channel(EpollDatagramChannel.class)
+                    .option(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, RECEIVE_BUFFER_SIZE)
+                    .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(RECEIVE_BUFFER_SIZE * RECEIVE_BATCH_SIZE));
+        } else {
+            bootstrap.channel(NioDatagramChannel.class)
+                    .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(RECEIVE_BUFFER_SIZE));
+        }
+        try {
+            channel = bootstrap.bind(selfEndpoint.getPort()).sync().channel();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransporterException("interrupted when bind", e);
+        } catch (Exception e) {
+            eventLoopGroup.shutdownGracefully();
+            throw new TransporterException(e);
+        }
+        if (config.getCoalescingDelay() > 0) {
+            packetCoalescer = new PacketCoalescer(config.getMaxPacketSize(), config.getCoalescingDelay(), channel.eventLoop(), this::sendPacket);
+        }
+    }
+
+    @Override
+    public <T extends AbstractMessage> void send(MemberEndpoint endpoint, T message) {
+        logger.debug("=> {}, {}", endpoint, message);
+        if (closed) {
+            return;
+        }
+        InetSocketAddress recipient = packetProtocol.resolve(endpoint);
+        if (recipient.isUnresolved()) {
+            logger.warn("failed to send, unresolved endpoint {}", endpoint);
+            return;
+        }
+        boolean enqueued;
+        try {
+            enqueued = encodeAndEnqueue(endpoint, message, recipient);
+        } catch (ProtocolException e) {
+            metrics.onSendFailure();
+            logger.warn("failed to send", e);
+            return;
+        }
+        if (!enqueued) {
+            logger.debug("too many pending packets, drop message to {}", endpoint);
+        }
+        scheduleFlush();
+    }
+
+    private boolean encodeAndEnqueue(MemberEndpoint endpoint, AbstractMessage message, InetSocketAddress recipient) {
+        PacketProtocol.PacketWriter writer = packetProtocol.getPacketWriter();
+        int size = writer.prepare(selfEndpoint, message, endpoint, config.getCompressionThreshold());
+        metrics.onMessageSent(writer.getMessageType(), writer.getMessageSize());
+        if (packetCoalescer != null && packetCoalescer.offer(endpoint, recipient, writer)) {
+            return true;
+        }
+        int maxPacketSize = config.getMaxPacketSize();
+        if (size <= maxPacketSize) {
+            ByteBuf content = channel.alloc().ioBuffer(size);
+            try {
+                writer.writeTo(content.internalNioBuffer(0, size));
+            } catch (ProtocolException e) {
+                content.release();
+                throw e;
+            }
+            return enqueue(content.writerIndex(size), recipient, SendQueue.isBulk(message));
+        }
+        int fragmentCount = writer.prepareFragments(maxPacketSize);
+        for (int i = 0; i < fragmentCount; i++) {
+            int fragmentSize = writer.getFragmentSize(i);
+            ByteBuf content = channel.alloc().ioBuffer(fragmentSize);
+            try {
+                writer.writeFragmentTo(content.internalNioBuffer(0, fragmentSize), i);
+            } catch (ProtocolException e) {
+                content.release();
+                throw e;
+            }
+            if (!enqueue(content.writerIndex(fragmentSize), recipient, SendQueue.isBulk(message))) {
+                // rest of fragments are useless
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // send coalesced packet
+    private void sendPacket(ByteBuffer packet, InetSocketAddress recipient) {
+        if (closed) {
+            return;
+        }
+        ByteBuf content = channel.alloc().ioBuffer(packet.remaining());
+        content.writeBytes(packet);
+        if (!enqueue(content, recipient, false)) {
+            logger.debug("too many pending packets, drop packet to {}", recipient);
+        }
+        scheduleFlush();
+    }
+
+    private boolean enqueue(ByteBuf content, InetSocketAddress recipient, boolean bulk) {
+        if (pendingPackets.offer(new DatagramPacket(content, recipient), bulk)) {
+            return true;
+        }
+        content.release();
+        return false;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            channel.eventLoop().execute(this::flushPendingPackets);
+        } catch (RejectedExecutionException e) {
+            // closed, packets left are released by close
+        }
+    }
+
+    // run in event loop
+    private void flushPendingPackets() {
+        flushScheduled.set(false);
+        DatagramPacket packet;
+        while (channel.isWritable() && (packet = pendingPackets.poll()) != null) {
+            metrics.onPacketSent(packet.content().readableBytes());
+            channel.write(packet, channel.voidPromise());
+        }
+        // packets left will be flushed when channel is writable again
+        channel.flush();
+    }
+
+    @Override
+    public <M extends AbstractMessage, R extends AbstractMessage> void reply(RemoteMessage<M> remoteMessage, R response) {
+        send(remoteMessage.getSender(), response);
+    }
+
+    @Override
+    public TransporterStats getStats() {
+        return metrics.snapshot(pendingPackets);
+    }
+
+    @Override
+    public void close() {
+        logger.info("stop transporter");
+        if (channel == null || closed) {
+            return;
+        }
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            // closed by listener in event loop, which cannot wait for tasks of itself
+            if (packetCoalescer != null) {
+                packetCoalescer.flushAll();
+            }
+            closed = true;
+            flushPendingPackets();
+            channel.close();
+            eventLoopGroup.shutdownGracefully();
+        } else {
+            if (packetCoalescer != null) {
+                eventLoop.submit(packetCoalescer::flushAll).syncUninterruptibly();
+            }
+            closed = true;
+            channel.close().syncUninterruptibly();
+            eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+        }
+        DatagramPacket packet;
+        while ((packet = pendingPackets.poll()) != null) {
+            packet.release();
+        }
+    }
+
+    private void dispatch(RemoteMessage<? extends AbstractMessage> message) {
+        logger.debug("<= {}, {}", message.getSender(), message.get());
+        messageDispatcher.post(message);
+    }
+
+    private class PacketHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
+            long startTime = metrics.onReceiveStarted();
+            ByteBuf content = packet.content();
+            int size = content.readableBytes();
+            metrics.onPacketReceived(size);
+            try {
+                if (content.hasArray()) {
+                    packetProtocol.fromBytes(content.array(), content.arrayOffset() + content.readerIndex(), size, messageConsumer, metrics);
+                } else {
+                    byte[] bytes = ByteBufUtil.getBytes(content);
+                    packetProtocol.fromBytes(bytes, 0, bytes.length, messageConsumer, metrics);
+                }
+            } catch (ParserException e) {
+                metrics.onParseFailure();
+                logger.warn("failed to parse packet", e);
+            }
+            metrics.onReceiveProcessed(startTime);
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+            if (ctx.channel().isWritable()) {
+                flushPendingPackets();
+            }
+            ctx.fireChannelWritabilityChanged();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            metrics.onSendFailure();
+            logger.warn("failed to send", cause);
+        }
+
+    }
+
+}
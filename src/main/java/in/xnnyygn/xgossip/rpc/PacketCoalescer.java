@@ -0,0 +1,171 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.*;
+
+/**
+ * Coalescer of messages to same endpoint.
+ * <p>
+ * The first message to an endpoint starts a batch, messages to the endpoint within {@code delay} are appended
+ * to the batch as parts of a compound packet, and the batch is sent when the delay is over or the next message
+ * does not fit into max packet size. Only v2 packets are coalesced, since compound packet of one message is
+ * just a normal v2 packet, nothing is rewritten.
+ * </p>
+ */
+@ThreadSafe
+class PacketCoalescer {
+
+    private static final int MAX_FREE_BUFFERS = 64;
+    private final ConcurrentMap<MemberEndpoint, Batch> batchMap = new ConcurrentHashMap<>();
+    private final BlockingQueue<ByteBuffer> freeBuffers = new ArrayBlockingQueue<>(MAX_FREE_BUFFERS);
+    private final int maxPacketSize;
+    private final long delay;
+    private final ScheduledExecutorService flushExecutor;
+    private final PacketSender packetSender;
+
+    /**
+     * Create.
+     *
+     * @param maxPacketSize max packet size
+     * @param delay         delay in milliseconds
+     * @param flushExecutor executor to send batch after delay
+     * @param packetSender  packet sender
+     */
+    PacketCoalescer(int maxPacketSize, long delay, ScheduledExecutorService flushExecutor, PacketSender packetSender) {
+        this.maxPacketSize = maxPacketSize;
+        this.delay = delay;
+        this.flushExecutor = flushExecutor;
+        this.packetSender = packetSender;
+    }
+
+    /**
+     * Append prepared message in writer to batch of endpoint.
+     *
+     * @param endpoint endpoint
+     * @param address  address of endpoint
+     * @param writer   prepared writer
+     * @return true if appended, false if message is not v2 or too large to coalesce, caller should send it directly
+     */
+    boolean offer(MemberEndpoint endpoint, InetSocketAddress address, PacketProtocol.PacketWriter writer) {
+        if (writer.getVersion() < PacketProtocol.VERSION_2) {
+            return false;
+        }
+        int partSize = writer.getPartSize();
+        if (writer.getCompoundHeaderSize() + partSize > maxPacketSize) {
+            return false;
+        }
+        while (true) {
+            Batch batch = getOrCreateBatch(endpoint, address);
+            synchronized (batch) {
+                if (batch.closed) {
+                    // flushed and removed, retry
+                    continue;
+                }
+                if (batch.count > 0 && batch.buffer.remaining() < partSize) {
+                    sendBatch(batch);
+                }
+                if (batch.buffer == null) {
+                    batch.buffer = allocateBuffer();
+                }
+                if (batch.count == 0) {
+                    writer.writeCompoundHeaderTo(batch.buffer);
+                }
+                writer.writePartTo(batch.buffer);
+                batch.count++;
+                return true;
+            }
+        }
+    }
+
+    private Batch getOrCreateBatch(MemberEndpoint endpoint, InetSocketAddress address) {
+        Batch batch = batchMap.get(endpoint);
+        if (batch != null) {
+            return batch;
+        }
+        Batch newBatch = new Batch(endpoint, address);
+        batch = batchMap.putIfAbsent(endpoint, newBatch);
+        if (batch != null) {
+            return batch;
+        }
+        try {
+            flushExecutor.schedule(() -> flush(newBatch), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // executor is shutdown
+        }
+        return newBatch;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batch) {
+            batch.closed = true;
+            batchMap.remove(batch.endpoint, batch);
+            if (batch.count > 0) {
+                sendBatch(batch);
+            }
+            if (batch.buffer != null) {
+                freeBuffers.offer(batch.buffer);
+                batch.buffer = null;
+            }
+        }
+    }
+
+    private void sendBatch(Batch batch) {
+        ByteBuffer buffer = batch.buffer;
+        buffer.flip();
+        try {
+            packetSender.send(buffer, batch.address);
+        } finally {
+            buffer.clear();
+            batch.count = 0;
+        }
+    }
+
+    private ByteBuffer allocateBuffer() {
+        ByteBuffer buffer = freeBuffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(maxPacketSize);
+    }
+
+    /**
+     * Send all batches.
+     */
+    void flushAll() {
+        for (Batch batch : batchMap.values()) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Sender of coalesced packet.
+     */
+    interface PacketSender {
+
+        /**
+         * Send packet, the buffer is reused after this method returns.
+         *
+         * @param packet  packet from position to limit
+         * @param address address
+         */
+        void send(ByteBuffer packet, InetSocketAddress address);
+
+    }
+
+    private static class Batch {
+
+        final MemberEndpoint endpoint;
+        final InetSocketAddress address;
+        ByteBuffer buffer;
+        int count = 0;
+        boolean closed = false;
+
+        Batch(MemberEndpoint endpoint, InetSocketAddress address) {
+            this.endpoint = endpoint;
+            this.address = address;
+        }
+
+    }
+
+}
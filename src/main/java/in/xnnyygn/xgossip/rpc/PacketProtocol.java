@@ -2,6 +2,13 @@ package in.xnnyygn.xgossip.rpc;
 
 import com.google.common.collect.Iterables;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnknownFieldSet;
 import in.xnnyygn.xgossip.Member;
 import in.xnnyygn.xgossip.MemberEndpoint;
 import in.xnnyygn.xgossip.MemberNotification;
@@ -9,18 +16,56 @@ import in.xnnyygn.xgossip.rpc.messages.*;
 import in.xnnyygn.xgossip.updates.AbstractUpdate;
 import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
 import in.xnnyygn.xgossip.updates.MemberLeavedUpdate;
+import in.xnnyygn.xgossip.updates.UpdateTypes;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
+/**
+ * Protocol of packet.
+ * <p>
+ * Packet in v1 is sender host and port, message type as int, then message in protobuf. Packet in v2 starts with
+ * byte {@link #VERSION_2}, which is never the first byte of v1 packet, the high byte of host length. It is
+ * followed by session id, session id of recipient being acknowledged, acknowledged count of member ids of that
+ * session and member id of sender, then records, each record is one byte type, varint size and content. Records are definitions of member ids, messages, or
+ * a fragment, so compound packet is just more than one message record.
+ * </p>
+ * <p>
+ * Member ids are assigned by {@link EndpointRegistry} and are valid in the session, that is, the lifetime of
+ * protocol. Endpoints in v2 messages are written as ids, ids not acknowledged by recipient are defined in
+ * the same packet. Acknowledgement of other session, like the one before restart, is ignored. Nodes send v1
+ * packets with a version field unknown to old nodes, and switch to v2 for peers seen with the field or v2 packets,
+ * so old and new nodes work together. A v1 packet from peer resets ids acknowledged by peer, since peer may be
+ * restarted and not know them any more.
+ * </p>
+ * <p>
+ * Content of v2 record not smaller than compression threshold is deflated if it gets smaller, the type of
+ * record is marked with {@link #FLAG_COMPRESSED} and the content is varint size before compression followed by
+ * deflated bytes. Member lists in join and merge responses and definitions of ids shrink a lot since hosts share
+ * prefixes and timestamps are close.
+ * </p>
+ */
 class PacketProtocol {
 
+    static final int VERSION_1 = 1;
+    static final int VERSION_2 = 2;
+
     private static final int MSG_TYPE_MEMBER_JOIN_RPC = 1;
     private static final int MSG_TYPE_MEMBER_JOIN_RESPONSE = 2;
     private static final int MSG_TYPE_MEMBER_LEAVED_RPC = 3;
@@ -29,247 +74,1393 @@ class PacketProtocol {
     private static final int MSG_TYPE_MEMBER_UPDATES_RESPONSE = 12;
     private static final int MSG_TYPE_MEMBERS_MERGE_RESPONSE = 13;
     private static final int MSG_TYPE_MEMBERS_MERGED_RESPONSE = 14;
+    private static final int MSG_TYPE_MEMBER_DIGESTS_RESPONSE = 15;
     private static final int MSG_TYPE_PING_RPC = 20;
     private static final int MSG_TYPE_PING_RESPONSE = 21;
     private static final int MSG_TYPE_PING_REQUEST_RPC = 22;
     private static final int MSG_TYPE_PROXY_PING_RPC = 23;
     private static final int MSG_TYPE_PROXY_PING_RESPONSE = 24;
     private static final int MSG_TYPE_PROXY_PING_DONE_RESPONSE = 25;
+    private static final int MSG_TYPE_FRAGMENT = 30;
+    private static final int MSG_TYPE_COMPOUND = 31;
+    private static final int MSG_TYPE_DEFINITIONS = 32;
+    // field unknown to messages in proto, appended to v1 message to tell v2 is supported
+    private static final int FIELD_VERSION = 2047;
+    // tag 0xF8 0x7F, varint
+    private static final byte[] VERSION_FIELD = {(byte) 0xF8, 0x7F, VERSION_2};
+    private static final int VERSION_FIELD_SIZE = VERSION_FIELD.length;
+    // names of message types, to count packets and bytes by message type in metrics
+    private static final Map<Integer, String> MESSAGE_TYPE_NAMES = createMessageTypeNames();
 
-    DatagramPacket toPacket(MemberEndpoint sender, AbstractMessage message, MemberEndpoint recipient) {
-        byte[] bytes;
+    // type of record with deflated content
+    static final int FLAG_COMPRESSED = 0x80;
+    static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+    // limit of size after inflated, content is never larger than this
+    private static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+    // definitions of ids which are not used in message, per packet
+    private static final int MAX_GAP_DEFINITIONS = 4;
+    private static final int MAX_REMOTE_SESSIONS = 1024;
+    // message type, message id, index and count of fragment
+    private static final int FRAGMENT_HEADER_SIZE = 4 + 4 + 2 + 2;
+    static final int MAX_FRAGMENT_COUNT = 1024;
+    // max payload of UDP datagram
+    static final int MAX_DATAGRAM_SIZE = 65507;
+    private static final int DEFAULT_MTU = 1500;
+    // IPv6 and UDP header
+    private static final int IP_UDP_HEADER_SIZE = 48;
+    private final EndpointRegistry endpointRegistry;
+    private final FragmentAssembler fragmentAssembler = new FragmentAssembler();
+    private final long sessionId = ThreadLocalRandom.current().nextLong();
+    private final ConcurrentMap<Long, RemoteMemberIds> remoteMemberIdsMap = new ConcurrentHashMap<>();
+    // random start, so ids are not reused soon after restart
+    private final AtomicInteger nextFragmentedMessageId = new AtomicInteger(ThreadLocalRandom.current().nextInt());
+    // writer per sending thread, reused for every packet
+    private final ThreadLocal<PacketWriter> packetWriters = ThreadLocal.withInitial(PacketWriter::new);
+    // parser per receiving thread, reused for every packet
+    private final ThreadLocal<PacketParser> packetParsers;
+    private volatile SenderHeader senderHeader;
+
+    PacketProtocol() {
+        this(new EndpointRegistry());
+    }
+
+    PacketProtocol(EndpointRegistry endpointRegistry) {
+        this.endpointRegistry = endpointRegistry;
+        this.packetParsers = ThreadLocal.withInitial(PacketParser::new);
+    }
+
+    private static Map<Integer, String> createMessageTypeNames() {
+        Map<Integer, String> names = new HashMap<>();
+        names.put(MSG_TYPE_MEMBER_JOIN_RPC, MemberJoinRpc.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_JOIN_RESPONSE, MemberJoinResponse.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_LEAVED_RPC, MemberLeavedRpc.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_UPDATES_RPC, MemberUpdatesRpc.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_UPDATES_AGREED_RESPONSE, MemberUpdatesAgreedResponse.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_UPDATES_RESPONSE, MemberUpdatesResponse.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBERS_MERGE_RESPONSE, MembersMergeResponse.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBERS_MERGED_RESPONSE, MembersMergedResponse.class.getSimpleName());
+        names.put(MSG_TYPE_MEMBER_DIGESTS_RESPONSE, MemberDigestsResponse.class.getSimpleName());
+        names.put(MSG_TYPE_PING_RPC, PingRpc.class.getSimpleName());
+        names.put(MSG_TYPE_PING_RESPONSE, PingResponse.class.getSimpleName());
+        names.put(MSG_TYPE_PING_REQUEST_RPC, PingRequestRpc.class.getSimpleName());
+        names.put(MSG_TYPE_PROXY_PING_RPC, ProxyPingRpc.class.getSimpleName());
+        names.put(MSG_TYPE_PROXY_PING_RESPONSE, ProxyPingResponse.class.getSimpleName());
+        names.put(MSG_TYPE_PROXY_PING_DONE_RESPONSE, ProxyPingDoneResponse.class.getSimpleName());
+        return names;
+    }
+
+    /**
+     * Get name of message type, the simple name of message class.
+     *
+     * @param messageType message type
+     * @return name
+     */
+    static String getMessageTypeName(int messageType) {
+        return MESSAGE_TYPE_NAMES.getOrDefault(messageType, "Unknown" + messageType);
+    }
+
+    /**
+     * Detect max size of packet which will not be fragmented by IP, that is minimum MTU of network interfaces
+     * up except loopback, minus size of IP and UDP header. Larger messages are sent in fragments.
+     *
+     * @return max packet size
+     */
+    static int detectMaxPacketSize() {
+        int mtu = Integer.MAX_VALUE;
         try {
-            bytes = toBytes(sender, message);
-        } catch (IOException e) {
-            throw new ProtocolException(e);
+            Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
+            while (networkInterfaces != null && networkInterfaces.hasMoreElements()) {
+                NetworkInterface networkInterface = networkInterfaces.nextElement();
+                if (networkInterface.isUp() && !networkInterface.isLoopback() && networkInterface.getMTU() > 0) {
+                    mtu = Math.min(mtu, networkInterface.getMTU());
+                }
+            }
+        } catch (SocketException ignored) {
+        }
+        if (mtu == Integer.MAX_VALUE) {
+            mtu = DEFAULT_MTU;
         }
-        return new DatagramPacket(bytes, bytes.length, new InetSocketAddress(recipient.getHost(), recipient.getPort()));
+        return Math.min(mtu - IP_UDP_HEADER_SIZE, MAX_DATAGRAM_SIZE);
     }
 
-    private byte[] toBytes(MemberEndpoint sender, AbstractMessage message) throws IOException {
-        ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
-        DataOutputStream dataOutput = new DataOutputStream(byteOutput);
-        writeSender(sender, dataOutput);
-        writeMessage(message, dataOutput);
-        return byteOutput.toByteArray();
+    InetSocketAddress resolve(MemberEndpoint endpoint) {
+        return endpointRegistry.resolve(endpoint);
     }
 
-    private void writeSender(MemberEndpoint sender, DataOutputStream dataOutput) throws IOException {
-        byte[] hostBytes = sender.getHost().getBytes();
-        dataOutput.writeInt(hostBytes.length);
-        dataOutput.write(hostBytes);
-        dataOutput.writeInt(sender.getPort());
+    DatagramPacket toPacket(MemberEndpoint sender, AbstractMessage message, MemberEndpoint recipient) {
+        byte[] bytes = toBytes(sender, message);
+        InetSocketAddress address = endpointRegistry.resolve(recipient);
+        if (address.isUnresolved()) {
+            throw new ProtocolException("unresolved endpoint " + recipient);
+        }
+        return new DatagramPacket(bytes, bytes.length, address);
     }
 
-    private Protos.MemberEndpoint toProtoMemberEndpoint(MemberEndpoint endpoint) {
-        return Protos.MemberEndpoint.newBuilder()
-                .setHost(endpoint.getHost())
-                .setPort(endpoint.getPort())
-                .build();
+    byte[] toBytes(MemberEndpoint sender, AbstractMessage message) {
+        return toBytes(sender, message, null);
     }
 
-    private Protos.Member toProtoMember(Member member) {
-        return Protos.Member.newBuilder()
-                .setEndpoint(toProtoMemberEndpoint(member.getEndpoint()))
-                .setTimeAdded(member.getTimeAdded())
-                .setTimeRemoved(member.getTimeRemoved())
-                .build();
+    byte[] toBytes(MemberEndpoint sender, AbstractMessage message, @Nullable MemberEndpoint recipient) {
+        PacketWriter writer = getPacketWriter();
+        byte[] bytes = new byte[writer.prepare(sender, message, recipient)];
+        writer.writeTo(ByteBuffer.wrap(bytes));
+        return bytes;
     }
 
-    private List<Protos.Member> toProtoMembers(Collection<Member> members) {
-        return members.stream().map(this::toProtoMember).collect(Collectors.toList());
+    /**
+     * Get packet writer of current thread.
+     *
+     * @return packet writer
+     */
+    PacketWriter getPacketWriter() {
+        return packetWriters.get();
     }
 
-    private Protos.MemberNotification toProtoMemberNotification(MemberNotification notification) {
-        return Protos.MemberNotification.newBuilder()
-                .setEndpoint(toProtoMemberEndpoint(notification.getEndpoint()))
-                .setSuspected(notification.isSuspected())
-                .setTimestamp(notification.getTimestamp())
-                .setBy(toProtoMemberEndpoint(notification.getBy()))
-                .build();
+    /**
+     * Get member ids of remote session, the least recently seen session is removed if too many sessions.
+     */
+    private RemoteMemberIds getRemoteMemberIds(long sessionId) {
+        RemoteMemberIds remoteMemberIds = remoteMemberIdsMap.get(sessionId);
+        long now = System.currentTimeMillis();
+        if (remoteMemberIds != null) {
+            remoteMemberIds.setLastSeenAt(now);
+            return remoteMemberIds;
+        }
+        if (remoteMemberIdsMap.size() >= MAX_REMOTE_SESSIONS) {
+            remoteMemberIdsMap.values().stream()
+                    .min(Comparator.comparingLong(RemoteMemberIds::getLastSeenAt))
+                    .ifPresent(ids -> remoteMemberIdsMap.remove(ids.getSessionId(), ids));
+        }
+        return remoteMemberIdsMap.computeIfAbsent(sessionId, RemoteMemberIds::new);
     }
 
-    private void writeMessage(AbstractMessage message, DataOutputStream dataOutput) throws IOException {
-        if (message instanceof MemberJoinRpc) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_JOIN_RPC);
-            MemberJoinRpc memberJoinRpc = (MemberJoinRpc) message;
-            Protos.MemberJoinRpc.newBuilder()
-                    .setEndpoint(toProtoMemberEndpoint(memberJoinRpc.getEndpoint()))
-                    .setTimeJoined(memberJoinRpc.getTimeJoined())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MemberJoinResponse) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_JOIN_RESPONSE);
-            MemberJoinResponse memberJoinResponse = (MemberJoinResponse) message;
-            Protos.MemberJoinResponse.newBuilder()
-                    .addAllMembers(toProtoMembers(memberJoinResponse.getMembers()))
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MemberLeavedRpc) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_LEAVED_RPC);
-            MemberLeavedRpc memberLeavedRpc = (MemberLeavedRpc) message;
-            Protos.MemberLeavedRpc.newBuilder()
-                    .setEndpoint(toProtoMemberEndpoint(memberLeavedRpc.getEndpoint()))
-                    .setTimeLeaved(memberLeavedRpc.getTimeLeaved())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MemberUpdatesRpc) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_UPDATES_RPC);
-            MemberUpdatesRpc memberUpdatesRpc = (MemberUpdatesRpc) message;
-            Map<Class<? extends AbstractUpdate>, Collection<AbstractUpdate>> updateMap = groupUpdates(memberUpdatesRpc.getUpdates());
-            Protos.MemberUpdatesRpc.newBuilder()
-                    .setExchangeAt(memberUpdatesRpc.getExchangeAt())
-                    .addAllMemberJoinedUpdates(toProtoUpdates(updateMap, MemberJoinedUpdate.class))
-                    .addAllMemberLeavedUpdate(toProtoUpdates(updateMap, MemberLeavedUpdate.class))
-                    .addAllNotifications(memberUpdatesRpc.getNotifications().stream().map(this::toProtoMemberNotification).collect(Collectors.toList()))
-                    .setMemberDigest(ByteString.copyFrom(memberUpdatesRpc.getMembersDigest()))
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MemberUpdatesAgreedResponse) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_UPDATES_AGREED_RESPONSE);
-            MemberUpdatesAgreedResponse memberUpdatesAgreedResponse = (MemberUpdatesAgreedResponse) message;
-            Protos.MemberUpdatesAgreedResponse.newBuilder()
-                    .setExchangeAt(memberUpdatesAgreedResponse.getExchangeAt())
-                    .putAllUpdatedMap(memberUpdatesAgreedResponse.getUpdatedMap())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MemberUpdatesResponse) {
-            dataOutput.writeInt(MSG_TYPE_MEMBER_UPDATES_RESPONSE);
-            MemberUpdatesResponse memberUpdatesResponse = (MemberUpdatesResponse) message;
-            Map<Class<? extends AbstractUpdate>, Collection<AbstractUpdate>> updateMap = groupUpdates(memberUpdatesResponse.getUpdates());
-            Protos.MemberUpdatesResponse.newBuilder()
-                    .setExchangeAt(memberUpdatesResponse.getExchangeAt())
-                    .putAllUpdatedMap(memberUpdatesResponse.getUpdatedMap())
-                    .addAllMemberJoinedUpdates(toProtoUpdates(updateMap, MemberJoinedUpdate.class))
-                    .addAllMemberLeavedUpdates(toProtoUpdates(updateMap, MemberLeavedUpdate.class))
-                    .setMemberDigest(ByteString.copyFrom(memberUpdatesResponse.getMembersDigest()))
-                    .setHopCount(memberUpdatesResponse.getHopCount())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MembersMergeResponse) {
-            dataOutput.writeInt(MSG_TYPE_MEMBERS_MERGE_RESPONSE);
-            MembersMergeResponse membersMergeResponse = (MembersMergeResponse) message;
-            Protos.MembersMergeResponse.newBuilder()
-                    .setExchangeAt(membersMergeResponse.getExchangeAt())
-                    .putAllUpdatedMap(membersMergeResponse.getUpdatedMap())
-                    .addAllMembers(toProtoMembers(membersMergeResponse.getMembers()))
-                    .setMembersDigest(ByteString.copyFrom(membersMergeResponse.getMembersDigest()))
-                    .setHopCount(membersMergeResponse.getHopCount())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof MembersMergedResponse) {
-            dataOutput.writeInt(MSG_TYPE_MEMBERS_MERGED_RESPONSE);
-            MembersMergedResponse membersMergedResponse = (MembersMergedResponse) message;
-            Protos.MembersMergedResponse.newBuilder()
-                    .setExchangeAt(membersMergedResponse.getExchangeAt())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof PingRpc) {
-            dataOutput.writeInt(MSG_TYPE_PING_RPC);
-            PingRpc pingRpc = (PingRpc) message;
-            Protos.PingRpc.newBuilder()
-                    .setPingAt(pingRpc.getPingAt())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof PingResponse) {
-            dataOutput.writeInt(MSG_TYPE_PING_RESPONSE);
-            PingResponse pingResponse = (PingResponse) message;
-            Protos.PingResponse.newBuilder()
-                    .setPingAt(pingResponse.getPingAt())
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof PingRequestRpc) {
-            dataOutput.writeInt(MSG_TYPE_PING_REQUEST_RPC);
-            PingRequestRpc pingRequestRpc = (PingRequestRpc) message;
-            Protos.PingRequestRpc.newBuilder()
-                    .setPingAt(pingRequestRpc.getPingAt())
-                    .setEndpoint(toProtoMemberEndpoint(pingRequestRpc.getEndpoint()))
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof ProxyPingRpc) {
-            dataOutput.writeInt(MSG_TYPE_PROXY_PING_RPC);
-            ProxyPingRpc proxyPingRpc = (ProxyPingRpc) message;
-            Protos.ProxyPingRpc.newBuilder()
-                    .setPingAt(proxyPingRpc.getPingAt())
-                    .setSourceEndpoint(toProtoMemberEndpoint(proxyPingRpc.getSourceEndpoint()))
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof ProxyPingResponse) {
-            dataOutput.writeInt(MSG_TYPE_PROXY_PING_RESPONSE);
-            ProxyPingResponse proxyPingResponse = (ProxyPingResponse) message;
-            Protos.ProxyPingResponse.newBuilder()
-                    .setPingAt(proxyPingResponse.getPingAt())
-                    .setSourceEndpoint(toProtoMemberEndpoint(proxyPingResponse.getSourceEndpoint()))
-                    .build().writeTo(dataOutput);
-        } else if (message instanceof ProxyPingDoneResponse) {
-            dataOutput.writeInt(MSG_TYPE_PROXY_PING_DONE_RESPONSE);
-            ProxyPingDoneResponse proxyPingDoneResponse = (ProxyPingDoneResponse) message;
-            Protos.ProxyPingDoneResponse.newBuilder()
-                    .setPingAt(proxyPingDoneResponse.getPingAt())
-                    .setEndpoint(toProtoMemberEndpoint(proxyPingDoneResponse.getEndpoint()))
-                    .build().writeTo(dataOutput);
-        } else {
-            throw new ProtocolException("unsupported message " + message.getClass());
+    private byte[] getSenderHeader(MemberEndpoint sender) {
+        SenderHeader header = senderHeader;
+        if (header != null && header.sender.equals(sender)) {
+            return header.bytes;
         }
+        byte[] hostBytes = sender.getHost().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + hostBytes.length + 4);
+        buffer.putInt(hostBytes.length);
+        buffer.put(hostBytes);
+        buffer.putInt(sender.getPort());
+        senderHeader = new SenderHeader(sender, buffer.array());
+        return buffer.array();
+    }
+
+    @Nullable
+    RemoteMessage<? extends AbstractMessage> fromPacket(DatagramPacket packet) {
+        return fromBytes(packet.getData(), packet.getOffset(), packet.getLength());
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends AbstractUpdate, R> List<R> toProtoUpdates(
-            Map<Class<? extends AbstractUpdate>, Collection<AbstractUpdate>> updateMap, Class<T> clazz) {
-        List<R> result = new ArrayList<>();
-        for (AbstractUpdate update : updateMap.getOrDefault(clazz, Collections.emptyList())) {
-            result.add((R) toProtoUpdate(update));
+    /**
+     * Parse packet of at most one message.
+     *
+     * @param buffer buffer
+     * @param offset offset
+     * @param length length
+     * @return message, or null if packet is a fragment and message is not complete
+     * @throws ParserException if failed to parse or more than one message in packet
+     */
+    @Nullable
+    RemoteMessage<? extends AbstractMessage> fromBytes(byte[] buffer, int offset, int length) {
+        List<RemoteMessage<? extends AbstractMessage>> messages = new ArrayList<>(1);
+        fromBytes(buffer, offset, length, messages::add);
+        if (messages.size() > 1) {
+            throw new ParserException("more than one message in packet");
         }
-        return result;
+        return messages.isEmpty() ? null : messages.get(0);
+    }
+
+    /**
+     * Parse packet.
+     * <p>
+     * Consumer is called for each message in packet, compound packet contains more than one message, and
+     * nothing is consumed if packet is a fragment and message is not complete.
+     * </p>
+     *
+     * @param buffer   buffer
+     * @param offset   offset
+     * @param length   length
+     * @param consumer consumer of messages
+     * @throws ParserException if failed to parse
+     */
+    void fromBytes(byte[] buffer, int offset, int length, Consumer<RemoteMessage<? extends AbstractMessage>> consumer) {
+        fromBytes(buffer, offset, length, consumer, null);
     }
 
-    private Object toProtoUpdate(AbstractUpdate update) {
-        if (update instanceof MemberJoinedUpdate) {
-            MemberJoinedUpdate memberJoinedUpdate = (MemberJoinedUpdate) update;
-            return Protos.MemberJoinedUpdate.newBuilder()
-                    .setId(memberJoinedUpdate.getId())
-                    .setEndpoint(toProtoMemberEndpoint(memberJoinedUpdate.getEndpoint()))
-                    .setTimeJoined(memberJoinedUpdate.getTimeJoined())
+    /**
+     * Parse packet, and count messages by type.
+     *
+     * @param buffer   buffer
+     * @param offset   offset
+     * @param length   length
+     * @param consumer consumer of messages
+     * @param metrics  metrics, null if not counted
+     * @throws ParserException if failed to parse
+     */
+    void fromBytes(byte[] buffer, int offset, int length, Consumer<RemoteMessage<? extends AbstractMessage>> consumer,
+                   @Nullable TransporterMetrics metrics) {
+        packetParsers.get().parse(buffer, offset, length, consumer, metrics);
+    }
+
+    /**
+     * Writer of packet, size is known before writing, so packet can be written into a pooled buffer directly.
+     * <p>
+     * Ping messages, sent most often, are written field by field without building protobuf messages. Writer is
+     * not thread safe, get it by {@link #getPacketWriter()} and call {@link #writeTo(ByteBuffer)} right after
+     * {@link #prepare(MemberEndpoint, AbstractMessage, MemberEndpoint)}.
+     * </p>
+     * <p>
+     * Packet to peer known to support v2 is written in v2, endpoints are written as member ids, with definitions
+     * of ids which peer may not know. Otherwise packet is written in v1 with version field appended to message,
+     * which tells peer that v2 is supported. Large definitions and message in v2 are compressed when prepared.
+     * </p>
+     */
+    class PacketWriter {
+
+        private int version;
+        // v1
+        private byte[] senderHeader;
+        // v2
+        private int senderId;
+        private long ackSessionId;
+        private int ack;
+        private int ackedCount;
+        private final BitSet definedIds = new BitSet();
+        private int definitionsSize;
+        // compression in v2, deflater and buffers are reused
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private byte[] uncompressed = new byte[0];
+        private final CompressedContent compressedDefinitions = new CompressedContent();
+        private final CompressedContent compressedBody = new CompressedContent();
+        private int messageType;
+        // protobuf message, null if message is ping message
+        private MessageLite body;
+        private int bodySize;
+        // fields of ping message
+        private long pingAt;
+        private boolean hasEndpoint;
+        private int endpointId;
+        private byte[] hostBytes;
+        private int port;
+        private int endpointSize;
+        // updates split by type and notifications, reused
+        private final List<Protos.MemberJoinedUpdate> memberJoinedUpdates = new ArrayList<>();
+        private final List<Protos.MemberLeavedUpdate> memberLeavedUpdates = new ArrayList<>();
+        private final List<Protos.MemberNotification> notifications = new ArrayList<>();
+        // fragments, payload is message type and body
+        private byte[] payload = new byte[0];
+        private int payloadSize;
+        private int fragmentedMessageId;
+        private int fragmentCount;
+        private int fragmentSize;
+        private int fragmentHeaderSize;
+
+        /**
+         * Prepare to write message in v1.
+         *
+         * @param sender  sender
+         * @param message message
+         * @return size of packet
+         * @throws ProtocolException if message is not supported
+         */
+        int prepare(MemberEndpoint sender, AbstractMessage message) {
+            return prepare(sender, message, null);
+        }
+
+        /**
+         * Prepare to write message to recipient, in the highest version supported by recipient.
+         *
+         * @param sender    sender
+         * @param message   message
+         * @param recipient recipient, null if unknown
+         * @return size of packet
+         * @throws ProtocolException if message is not supported
+         */
+        int prepare(MemberEndpoint sender, AbstractMessage message, @Nullable MemberEndpoint recipient) {
+            return prepare(sender, message, recipient, DEFAULT_COMPRESSION_THRESHOLD);
+        }
+
+        /**
+         * Prepare to write message to recipient, in the highest version supported by recipient.
+         *
+         * @param sender               sender
+         * @param message              message
+         * @param recipient            recipient, null if unknown
+         * @param compressionThreshold min size of record in v2 to compress, 0 means no compression
+         * @return size of packet
+         * @throws ProtocolException if message is not supported
+         */
+        int prepare(MemberEndpoint sender, AbstractMessage message, @Nullable MemberEndpoint recipient, int compressionThreshold) {
+            version = VERSION_1;
+            body = null;
+            hasEndpoint = false;
+            definedIds.clear();
+            definitionsSize = 0;
+            compressedDefinitions.clear();
+            compressedBody.clear();
+            if (recipient != null) {
+                EndpointRegistry.PeerState peerState = endpointRegistry.getPeerState(recipient);
+                senderId = endpointRegistry.getId(sender);
+                if (peerState.getVersion() >= VERSION_2 && senderId > 0) {
+                    version = VERSION_2;
+                    ackedCount = peerState.getAckedCount();
+                    RemoteMemberIds remoteMemberIds = peerState.getRemoteMemberIds();
+                    ackSessionId = remoteMemberIds != null ? remoteMemberIds.getSessionId() : 0;
+                    ack = remoteMemberIds != null ? remoteMemberIds.getKnownCount() : 0;
+                    toMemberId(sender);
+                }
+            }
+            if (version == VERSION_1) {
+                senderHeader = getSenderHeader(sender);
+            }
+            if (!preparePingMessage(message)) {
+                prepareProtoMessage(message);
+                bodySize = body.getSerializedSize();
+            }
+            if (version == VERSION_1) {
+                bodySize += VERSION_FIELD_SIZE;
+            } else {
+                prepareGapDefinitions();
+                if (compressionThreshold > 0) {
+                    compress(compressionThreshold);
+                }
+            }
+            return getSize();
+        }
+
+        /**
+         * Compress definitions and body not smaller than threshold, keep the uncompressed one if not smaller.
+         */
+        private void compress(int threshold) {
+            if (definitionsSize >= threshold && definitionsSize <= MAX_INFLATED_SIZE) {
+                ByteBuffer buffer = getUncompressedBuffer(definitionsSize);
+                for (int id = definedIds.nextSetBit(0); id >= 0; id = definedIds.nextSetBit(id + 1)) {
+                    writeDefinition(buffer, id);
+                }
+                compressedDefinitions.compress(deflater, uncompressed, definitionsSize);
+            }
+            if (body != null && bodySize >= threshold && bodySize <= MAX_INFLATED_SIZE) {
+                CodedOutputStream output = CodedOutputStream.newInstance(getUncompressedBuffer(bodySize));
+                try {
+                    body.writeTo(output);
+                    output.flush();
+                } catch (IOException e) {
+                    throw new ProtocolException(e);
+                }
+                if (compressedBody.compress(deflater, uncompressed, bodySize)) {
+                    messageType |= FLAG_COMPRESSED;
+                    bodySize = compressedBody.getContentSize();
+                    body = null;
+                }
+            }
+        }
+
+        private ByteBuffer getUncompressedBuffer(int size) {
+            if (uncompressed.length < size) {
+                uncompressed = new byte[size];
+            }
+            return ByteBuffer.wrap(uncompressed, 0, size);
+        }
+
+        /**
+         * Get type of prepared message.
+         *
+         * @return message type
+         */
+        int getMessageType() {
+            return messageType & ~FLAG_COMPRESSED;
+        }
+
+        /**
+         * Get size of prepared message in packet, compressed size if compressed.
+         *
+         * @return size of message
+         */
+        int getMessageSize() {
+            return bodySize;
+        }
+
+        /**
+         * Get version of prepared packet.
+         *
+         * @return version
+         */
+        int getVersion() {
+            return version;
+        }
+
+        /**
+         * Get member id of endpoint in v2, and define it if recipient may not know it.
+         *
+         * @return member id, 0 if endpoint has no id
+         */
+        private int toMemberId(MemberEndpoint endpoint) {
+            int id = endpointRegistry.getId(endpoint);
+            if (id > ackedCount && !definedIds.get(id)) {
+                addDefinition(id, endpoint);
+            }
+            return id;
+        }
+
+        private void addDefinition(int id, MemberEndpoint endpoint) {
+            definedIds.set(id);
+            int hostLength = endpointRegistry.getHostBytes(endpoint).length;
+            definitionsSize += CodedOutputStream.computeUInt32SizeNoTag(id) +
+                    CodedOutputStream.computeUInt32SizeNoTag(hostLength) + hostLength +
+                    CodedOutputStream.computeUInt32SizeNoTag(endpoint.getPort());
+        }
+
+        /**
+         * Define some ids not known by recipient but not used in message either, so known ids of recipient grow
+         * without gap and definitions are not needed after acknowledged.
+         */
+        private void prepareGapDefinitions() {
+            int maxId = endpointRegistry.getMaxId();
+            if (ackedCount >= maxId) {
+                return;
+            }
+            int count = 0;
+            for (int id = ackedCount + 1; id <= maxId && count < MAX_GAP_DEFINITIONS; id++) {
+                if (definedIds.get(id)) {
+                    continue;
+                }
+                MemberEndpoint endpoint = endpointRegistry.getEndpoint(id);
+                if (endpoint != null) {
+                    addDefinition(id, endpoint);
+                    count++;
+                }
+            }
+        }
+
+        private Protos.MemberEndpoint toProtoMemberEndpoint(MemberEndpoint endpoint) {
+            if (version == VERSION_2) {
+                // define id if needed
+                toMemberId(endpoint);
+                return endpointRegistry.getProtoEndpoint(endpoint, true);
+            }
+            return endpointRegistry.getProtoEndpoint(endpoint, false);
+        }
+
+        /**
+         * Prepare ping message without piggyback.
+         *
+         * @return true if prepared, false if message is not ping message or has piggyback
+         */
+        private boolean preparePingMessage(AbstractMessage message) {
+            switch (message.getTypeId()) {
+                case MessageTypes.PING_RPC: {
+                    PingRpc pingRpc = (PingRpc) message;
+                    if (!pingRpc.getPiggyback().isEmpty()) {
+                        return false;
+                    }
+                    preparePingFields(MSG_TYPE_PING_RPC, pingRpc.getPingAt(), null);
+                    break;
+                }
+                case MessageTypes.PING_RESPONSE: {
+                    PingResponse pingResponse = (PingResponse) message;
+                    if (!pingResponse.getPiggyback().isEmpty()) {
+                        return false;
+                    }
+                    preparePingFields(MSG_TYPE_PING_RESPONSE, pingResponse.getPingAt(), null);
+                    break;
+                }
+                case MessageTypes.PING_REQUEST_RPC: {
+                    PingRequestRpc pingRequestRpc = (PingRequestRpc) message;
+                    preparePingFields(MSG_TYPE_PING_REQUEST_RPC, pingRequestRpc.getPingAt(), pingRequestRpc.getEndpoint());
+                    break;
+                }
+                case MessageTypes.PROXY_PING_RPC: {
+                    ProxyPingRpc proxyPingRpc = (ProxyPingRpc) message;
+                    if (!proxyPingRpc.getPiggyback().isEmpty()) {
+                        return false;
+                    }
+                    preparePingFields(MSG_TYPE_PROXY_PING_RPC, proxyPingRpc.getPingAt(), proxyPingRpc.getSourceEndpoint());
+                    break;
+                }
+                case MessageTypes.PROXY_PING_RESPONSE: {
+                    ProxyPingResponse proxyPingResponse = (ProxyPingResponse) message;
+                    if (!proxyPingResponse.getPiggyback().isEmpty()) {
+                        return false;
+                    }
+                    preparePingFields(MSG_TYPE_PROXY_PING_RESPONSE, proxyPingResponse.getPingAt(), proxyPingResponse.getSourceEndpoint());
+                    break;
+                }
+                case MessageTypes.PROXY_PING_DONE_RESPONSE: {
+                    ProxyPingDoneResponse proxyPingDoneResponse = (ProxyPingDoneResponse) message;
+                    preparePingFields(MSG_TYPE_PROXY_PING_DONE_RESPONSE, proxyPingDoneResponse.getPingAt(), proxyPingDoneResponse.getEndpoint());
+                    break;
+                }
+                default:
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Prepare fields of ping message, which is {@code int64 ping_at = 1; MemberEndpoint endpoint = 2;} in proto.
+         */
+        private void preparePingFields(int messageType, long pingAt, MemberEndpoint endpoint) {
+            this.messageType = messageType;
+            this.pingAt = pingAt;
+            bodySize = (pingAt != 0 ? CodedOutputStream.computeInt64Size(1, pingAt) : 0);
+            if (endpoint == null) {
+                return;
+            }
+            hasEndpoint = true;
+            endpointId = (version == VERSION_2 ? toMemberId(endpoint) : 0);
+            if (endpointId > 0) {
+                endpointSize = CodedOutputStream.computeUInt32Size(3, endpointId);
+            } else {
+                hostBytes = endpointRegistry.getHostBytes(endpoint);
+                port = endpoint.getPort();
+                endpointSize = (hostBytes.length > 0 ? 1 + CodedOutputStream.computeUInt32SizeNoTag(hostBytes.length) + hostBytes.length : 0) +
+                        (port != 0 ? CodedOutputStream.computeInt32Size(2, port) : 0);
+            }
+            bodySize += 1 + CodedOutputStream.computeUInt32SizeNoTag(endpointSize) + endpointSize;
+        }
+
+        private void prepareProtoMessage(AbstractMessage message) {
+            switch (message.getTypeId()) {
+                case MessageTypes.MEMBER_JOIN_RPC: {
+                    messageType = MSG_TYPE_MEMBER_JOIN_RPC;
+                    MemberJoinRpc memberJoinRpc = (MemberJoinRpc) message;
+                    body = Protos.MemberJoinRpc.newBuilder()
+                            .setEndpoint(toProtoMemberEndpoint(memberJoinRpc.getEndpoint()))
+                            .setTimeJoined(memberJoinRpc.getTimeJoined())
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_JOIN_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBER_JOIN_RESPONSE;
+                    MemberJoinResponse memberJoinResponse = (MemberJoinResponse) message;
+                    body = Protos.MemberJoinResponse.newBuilder()
+                            .addAllMembers(toProtoMembers(memberJoinResponse.getMembers()))
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_LEAVED_RPC: {
+                    messageType = MSG_TYPE_MEMBER_LEAVED_RPC;
+                    MemberLeavedRpc memberLeavedRpc = (MemberLeavedRpc) message;
+                    body = Protos.MemberLeavedRpc.newBuilder()
+                            .setEndpoint(toProtoMemberEndpoint(memberLeavedRpc.getEndpoint()))
+                            .setTimeLeaved(memberLeavedRpc.getTimeLeaved())
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_UPDATES_RPC: {
+                    messageType = MSG_TYPE_MEMBER_UPDATES_RPC;
+                    MemberUpdatesRpc memberUpdatesRpc = (MemberUpdatesRpc) message;
+                    prepareUpdates(memberUpdatesRpc.getUpdates());
+                    body = Protos.MemberUpdatesRpc.newBuilder()
+                            .setExchangeAt(memberUpdatesRpc.getExchangeAt())
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .addAllMemberLeavedUpdate(memberLeavedUpdates)
+                            .addAllNotifications(toProtoMemberNotifications(memberUpdatesRpc.getNotifications()))
+                            .setMemberDigest(ByteString.copyFrom(memberUpdatesRpc.getMembersDigest()))
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_UPDATES_AGREED_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBER_UPDATES_AGREED_RESPONSE;
+                    MemberUpdatesAgreedResponse memberUpdatesAgreedResponse = (MemberUpdatesAgreedResponse) message;
+                    body = Protos.MemberUpdatesAgreedResponse.newBuilder()
+                            .setExchangeAt(memberUpdatesAgreedResponse.getExchangeAt())
+                            .putAllUpdatedMap(memberUpdatesAgreedResponse.getUpdatedMap())
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_UPDATES_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBER_UPDATES_RESPONSE;
+                    MemberUpdatesResponse memberUpdatesResponse = (MemberUpdatesResponse) message;
+                    prepareUpdates(memberUpdatesResponse.getUpdates());
+                    Protos.MemberUpdatesResponse.Builder builder = Protos.MemberUpdatesResponse.newBuilder()
+                            .setExchangeAt(memberUpdatesResponse.getExchangeAt())
+                            .putAllUpdatedMap(memberUpdatesResponse.getUpdatedMap())
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .setMemberDigest(ByteString.copyFrom(memberUpdatesResponse.getMembersDigest()))
+                            .setHopCount(memberUpdatesResponse.getHopCount());
+                    // member_leaved_updates is declared as MemberJoinedUpdate in proto, same fields on wire
+                    for (Protos.MemberLeavedUpdate memberLeavedUpdate : memberLeavedUpdates) {
+                        builder.addMemberLeavedUpdates(Protos.MemberJoinedUpdate.newBuilder()
+                                .setId(memberLeavedUpdate.getId())
+                                .setEndpoint(memberLeavedUpdate.getEndpoint())
+                                .setTimeJoined(memberLeavedUpdate.getTimeLeaved()));
+                    }
+                    body = builder.build();
+                    break;
+                }
+                case MessageTypes.MEMBERS_MERGE_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBERS_MERGE_RESPONSE;
+                    MembersMergeResponse membersMergeResponse = (MembersMergeResponse) message;
+                    body = Protos.MembersMergeResponse.newBuilder()
+                            .setExchangeAt(membersMergeResponse.getExchangeAt())
+                            .putAllUpdatedMap(membersMergeResponse.getUpdatedMap())
+                            .addAllMembers(toProtoMembers(membersMergeResponse.getMembers()))
+                            .setMembersDigest(ByteString.copyFrom(membersMergeResponse.getMembersDigest()))
+                            .setHopCount(membersMergeResponse.getHopCount())
+                            .addAllBuckets(membersMergeResponse.getBuckets())
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBERS_MERGED_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBERS_MERGED_RESPONSE;
+                    MembersMergedResponse membersMergedResponse = (MembersMergedResponse) message;
+                    body = Protos.MembersMergedResponse.newBuilder()
+                            .setExchangeAt(membersMergedResponse.getExchangeAt())
+                            .build();
+                    break;
+                }
+                case MessageTypes.MEMBER_DIGESTS_RESPONSE: {
+                    messageType = MSG_TYPE_MEMBER_DIGESTS_RESPONSE;
+                    MemberDigestsResponse memberDigestsResponse = (MemberDigestsResponse) message;
+                    body = Protos.MemberDigestsResponse.newBuilder()
+                            .setExchangeAt(memberDigestsResponse.getExchangeAt())
+                            .putAllUpdatedMap(memberDigestsResponse.getUpdatedMap())
+                            .setLevel(memberDigestsResponse.getLevel())
+                            .addAllIndices(memberDigestsResponse.getIndices())
+                            .addAllDigests(memberDigestsResponse.getDigests().stream().map(ByteString::copyFrom).collect(Collectors.toList()))
+                            .build();
+                    break;
+                }
+                case MessageTypes.PING_RPC: {
+                    messageType = MSG_TYPE_PING_RPC;
+                    PingRpc pingRpc = (PingRpc) message;
+                    preparePiggyback(pingRpc.getPiggyback());
+                    body = Protos.PingRpc.newBuilder()
+                            .setPingAt(pingRpc.getPingAt())
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .addAllMemberLeavedUpdates(memberLeavedUpdates)
+                            .addAllNotifications(notifications)
+                            .build();
+                    break;
+                }
+                case MessageTypes.PING_RESPONSE: {
+                    messageType = MSG_TYPE_PING_RESPONSE;
+                    PingResponse pingResponse = (PingResponse) message;
+                    preparePiggyback(pingResponse.getPiggyback());
+                    body = Protos.PingResponse.newBuilder()
+                            .setPingAt(pingResponse.getPingAt())
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .addAllMemberLeavedUpdates(memberLeavedUpdates)
+                            .addAllNotifications(notifications)
+                            .build();
+                    break;
+                }
+                case MessageTypes.PROXY_PING_RPC: {
+                    messageType = MSG_TYPE_PROXY_PING_RPC;
+                    ProxyPingRpc proxyPingRpc = (ProxyPingRpc) message;
+                    preparePiggyback(proxyPingRpc.getPiggyback());
+                    body = Protos.ProxyPingRpc.newBuilder()
+                            .setPingAt(proxyPingRpc.getPingAt())
+                            .setSourceEndpoint(toProtoMemberEndpoint(proxyPingRpc.getSourceEndpoint()))
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .addAllMemberLeavedUpdates(memberLeavedUpdates)
+                            .addAllNotifications(notifications)
+                            .build();
+                    break;
+                }
+                case MessageTypes.PROXY_PING_RESPONSE: {
+                    messageType = MSG_TYPE_PROXY_PING_RESPONSE;
+                    ProxyPingResponse proxyPingResponse = (ProxyPingResponse) message;
+                    preparePiggyback(proxyPingResponse.getPiggyback());
+                    body = Protos.ProxyPingResponse.newBuilder()
+                            .setPingAt(proxyPingResponse.getPingAt())
+                            .setSourceEndpoint(toProtoMemberEndpoint(proxyPingResponse.getSourceEndpoint()))
+                            .addAllMemberJoinedUpdates(memberJoinedUpdates)
+                            .addAllMemberLeavedUpdates(memberLeavedUpdates)
+                            .addAllNotifications(notifications)
+                            .build();
+                    break;
+                }
+                default:
+                    throw new ProtocolException("unsupported message " + message.getClass());
+            }
+        }
+
+        private Protos.Member toProtoMember(Member member) {
+            return Protos.Member.newBuilder()
+                    .setEndpoint(toProtoMemberEndpoint(member.getEndpoint()))
+                    .setTimeAdded(member.getTimeAdded())
+                    .setTimeRemoved(member.getTimeRemoved())
                     .build();
         }
-        if (update instanceof MemberLeavedUpdate) {
-            MemberLeavedUpdate memberLeavedUpdate = (MemberLeavedUpdate) update;
-            return Protos.MemberLeavedUpdate.newBuilder()
-                    .setId(memberLeavedUpdate.getId())
-                    .setEndpoint(toProtoMemberEndpoint(memberLeavedUpdate.getEndpoint()))
-                    .setTimeLeaved(memberLeavedUpdate.getTimeLeaved())
+
+        private List<Protos.Member> toProtoMembers(Collection<Member> members) {
+            return members.stream().map(this::toProtoMember).collect(Collectors.toList());
+        }
+
+        private Protos.MemberNotification toProtoMemberNotification(MemberNotification notification) {
+            return Protos.MemberNotification.newBuilder()
+                    .setEndpoint(toProtoMemberEndpoint(notification.getEndpoint()))
+                    .setSuspected(notification.isSuspected())
+                    .setTimestamp(notification.getTimestamp())
+                    .setBy(toProtoMemberEndpoint(notification.getBy()))
                     .build();
         }
-        throw new ProtocolException("unsupported update " + update.getClass());
+
+        /**
+         * Convert piggyback of ping messages to updates split by type and {@link #notifications}.
+         */
+        private void preparePiggyback(Piggyback piggyback) {
+            prepareUpdates(piggyback.getUpdates());
+            notifications.clear();
+            for (MemberNotification notification : piggyback.getNotifications()) {
+                notifications.add(toProtoMemberNotification(notification));
+            }
+        }
+
+        /**
+         * Convert updates to {@link #memberJoinedUpdates} and {@link #memberLeavedUpdates} in one pass.
+         */
+        private void prepareUpdates(Collection<AbstractUpdate> updates) {
+            memberJoinedUpdates.clear();
+            memberLeavedUpdates.clear();
+            for (AbstractUpdate update : updates) {
+                switch (update.getTypeId()) {
+                    case UpdateTypes.MEMBER_JOINED: {
+                        MemberJoinedUpdate memberJoinedUpdate = (MemberJoinedUpdate) update;
+                        memberJoinedUpdates.add(Protos.MemberJoinedUpdate.newBuilder()
+                                .setId(memberJoinedUpdate.getId())
+                                .setEndpoint(toProtoMemberEndpoint(memberJoinedUpdate.getEndpoint()))
+                                .setTimeJoined(memberJoinedUpdate.getTimeJoined())
+                                .build());
+                        break;
+                    }
+                    case UpdateTypes.MEMBER_LEAVED: {
+                        MemberLeavedUpdate memberLeavedUpdate = (MemberLeavedUpdate) update;
+                        memberLeavedUpdates.add(Protos.MemberLeavedUpdate.newBuilder()
+                                .setId(memberLeavedUpdate.getId())
+                                .setEndpoint(toProtoMemberEndpoint(memberLeavedUpdate.getEndpoint()))
+                                .setTimeLeaved(memberLeavedUpdate.getTimeLeaved())
+                                .build());
+                        break;
+                    }
+                    default:
+                        throw new ProtocolException("unsupported update " + update.getClass());
+                }
+            }
+        }
+
+        private List<Protos.MemberNotification> toProtoMemberNotifications(Collection<MemberNotification> notifications) {
+            return notifications.stream().map(this::toProtoMemberNotification).collect(Collectors.toList());
+        }
+
+        int getSize() {
+            if (version == VERSION_1) {
+                return senderHeader.length + 4 + bodySize;
+            }
+            return getCompoundHeaderSize() + getPartSize();
+        }
+
+        /**
+         * Write prepared packet to buffer from current position of buffer.
+         *
+         * @param buffer buffer
+         * @throws ProtocolException if no enough space in buffer
+         */
+        void writeTo(ByteBuffer buffer) {
+            if (buffer.remaining() < getSize()) {
+                throw new ProtocolException("no enough space in buffer, packet size " + getSize());
+            }
+            if (version == VERSION_1) {
+                buffer.put(senderHeader);
+                buffer.putInt(messageType);
+                writeBody(buffer);
+            } else {
+                writeCompoundHeaderTo(buffer);
+                writeDefinitions(buffer);
+                writeRecordHeader(buffer, messageType, bodySize);
+                writeBody(buffer);
+            }
+        }
+
+        /**
+         * Get size of v2 header, the header of compound packet.
+         *
+         * @return size of header
+         */
+        int getCompoundHeaderSize() {
+            return 1 + 8 + 8 + CodedOutputStream.computeUInt32SizeNoTag(ack) + CodedOutputStream.computeUInt32SizeNoTag(senderId);
+        }
+
+        /**
+         * Get size of prepared message as part of compound packet, that is definitions and message in v2.
+         *
+         * @return size of part
+         */
+        int getPartSize() {
+            return getDefinitionsRecordSize() + getRecordSize(bodySize);
+        }
+
+        /**
+         * Write header of compound packet, then call {@link #writePartTo(ByteBuffer)} for each message.
+         * Only v2 packet can be compound.
+         *
+         * @param buffer buffer
+         */
+        void writeCompoundHeaderTo(ByteBuffer buffer) {
+            if (version != VERSION_2) {
+                throw new ProtocolException("compound packet requires v2");
+            }
+            buffer.put((byte) VERSION_2);
+            buffer.putLong(sessionId);
+            buffer.putLong(ackSessionId);
+            writeVarint(buffer, ack);
+            writeVarint(buffer, senderId);
+        }
+
+        /**
+         * Write prepared message as part of compound packet.
+         *
+         * @param buffer buffer
+         * @throws ProtocolException if no enough space in buffer
+         */
+        void writePartTo(ByteBuffer buffer) {
+            if (buffer.remaining() < getPartSize()) {
+                throw new ProtocolException("no enough space in buffer, part size " + getPartSize());
+            }
+            writeDefinitions(buffer);
+            writeRecordHeader(buffer, messageType, bodySize);
+            writeBody(buffer);
+        }
+
+        /**
+         * Split prepared packet into fragments, each fragment is not larger than max packet size.
+         * <p>
+         * In v2, definitions are assembled with message, except definition of sender, which is needed to
+         * assemble and written in every fragment.
+         * </p>
+         *
+         * @param maxPacketSize max packet size
+         * @return count of fragments
+         * @throws ProtocolException if message is too large
+         */
+        int prepareFragments(int maxPacketSize) {
+            if (version == VERSION_1) {
+                fragmentHeaderSize = senderHeader.length + FRAGMENT_HEADER_SIZE;
+                payloadSize = 4 + bodySize;
+            } else {
+                // fragment id, index and count in record
+                fragmentHeaderSize = getCompoundHeaderSize() + getSenderDefinitionRecordSize() +
+                        getRecordSize(FRAGMENT_HEADER_SIZE - 4 + maxPacketSize) - maxPacketSize;
+                payloadSize = getPartSize();
+            }
+            fragmentSize = maxPacketSize - fragmentHeaderSize;
+            fragmentCount = fragmentSize > 0 ? (payloadSize + fragmentSize - 1) / fragmentSize : Integer.MAX_VALUE;
+            if (fragmentCount > MAX_FRAGMENT_COUNT) {
+                body = null;
+                throw new ProtocolException("message too large, size " + payloadSize);
+            }
+            if (payload.length < payloadSize) {
+                payload = new byte[payloadSize];
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            if (version == VERSION_1) {
+                buffer.putInt(messageType);
+                writeBody(buffer);
+            } else {
+                writePartTo(buffer);
+            }
+            fragmentedMessageId = nextFragmentedMessageId.getAndIncrement();
+            return fragmentCount;
+        }
+
+        /**
+         * Get size of fragment.
+         *
+         * @param index index of fragment
+         * @return size
+         */
+        int getFragmentSize(int index) {
+            int chunkSize = getChunkSize(index);
+            if (version == VERSION_1) {
+                return fragmentHeaderSize + chunkSize;
+            }
+            return getCompoundHeaderSize() + getSenderDefinitionRecordSize() + getRecordSize(FRAGMENT_HEADER_SIZE - 4 + chunkSize);
+        }
+
+        private int getChunkSize(int index) {
+            return Math.min(fragmentSize, payloadSize - index * fragmentSize);
+        }
+
+        /**
+         * Write fragment to buffer from current position of buffer.
+         *
+         * @param buffer buffer
+         * @param index  index of fragment
+         * @throws ProtocolException if no enough space in buffer
+         */
+        void writeFragmentTo(ByteBuffer buffer, int index) {
+            int size = getFragmentSize(index);
+            if (buffer.remaining() < size) {
+                throw new ProtocolException("no enough space in buffer, fragment size " + size);
+            }
+            int chunkSize = getChunkSize(index);
+            if (version == VERSION_1) {
+                buffer.put(senderHeader);
+                buffer.putInt(MSG_TYPE_FRAGMENT);
+            } else {
+                writeCompoundHeaderTo(buffer);
+                if (senderId > ackedCount) {
+                    writeRecordHeader(buffer, MSG_TYPE_DEFINITIONS, getSenderDefinitionSize());
+                    writeDefinition(buffer, senderId);
+                }
+                writeRecordHeader(buffer, MSG_TYPE_FRAGMENT, FRAGMENT_HEADER_SIZE - 4 + chunkSize);
+            }
+            buffer.putInt(fragmentedMessageId);
+            buffer.putShort((short) index);
+            buffer.putShort((short) fragmentCount);
+            buffer.put(payload, index * fragmentSize, chunkSize);
+        }
+
+        private int getRecordSize(int contentSize) {
+            return 1 + CodedOutputStream.computeUInt32SizeNoTag(contentSize) + contentSize;
+        }
+
+        private int getDefinitionsRecordSize() {
+            if (compressedDefinitions.isCompressed()) {
+                return getRecordSize(compressedDefinitions.getContentSize());
+            }
+            return definitionsSize > 0 ? getRecordSize(definitionsSize) : 0;
+        }
+
+        private int getSenderDefinitionSize() {
+            MemberEndpoint sender = endpointRegistry.getEndpoint(senderId);
+            int hostLength = endpointRegistry.getHostBytes(sender).length;
+            return CodedOutputStream.computeUInt32SizeNoTag(senderId) +
+                    CodedOutputStream.computeUInt32SizeNoTag(hostLength) + hostLength +
+                    CodedOutputStream.computeUInt32SizeNoTag(sender.getPort());
+        }
+
+        private int getSenderDefinitionRecordSize() {
+            return senderId > ackedCount ? getRecordSize(getSenderDefinitionSize()) : 0;
+        }
+
+        private void writeRecordHeader(ByteBuffer buffer, int type, int size) {
+            buffer.put((byte) type);
+            writeVarint(buffer, size);
+        }
+
+        private void writeDefinitions(ByteBuffer buffer) {
+            if (definitionsSize == 0) {
+                return;
+            }
+            if (compressedDefinitions.isCompressed()) {
+                writeRecordHeader(buffer, MSG_TYPE_DEFINITIONS | FLAG_COMPRESSED, compressedDefinitions.getContentSize());
+                compressedDefinitions.writeTo(buffer);
+                return;
+            }
+            writeRecordHeader(buffer, MSG_TYPE_DEFINITIONS, definitionsSize);
+            for (int id = definedIds.nextSetBit(0); id >= 0; id = definedIds.nextSetBit(id + 1)) {
+                writeDefinition(buffer, id);
+            }
+        }
+
+        private void writeDefinition(ByteBuffer buffer, int id) {
+            MemberEndpoint endpoint = endpointRegistry.getEndpoint(id);
+            byte[] hostBytes = endpointRegistry.getHostBytes(endpoint);
+            writeVarint(buffer, id);
+            writeVarint(buffer, hostBytes.length);
+            buffer.put(hostBytes);
+            writeVarint(buffer, endpoint.getPort());
+        }
+
+        private void writeBody(ByteBuffer buffer) {
+            if (compressedBody.isCompressed()) {
+                compressedBody.writeTo(buffer);
+            } else if (body == null) {
+                writePingFields(buffer);
+            } else {
+                CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+                try {
+                    body.writeTo(output);
+                    output.flush();
+                } catch (IOException e) {
+                    throw new ProtocolException(e);
+                } finally {
+                    body = null;
+                }
+            }
+            if (version == VERSION_1) {
+                buffer.put(VERSION_FIELD);
+            }
+        }
+
+        private void writePingFields(ByteBuffer buffer) {
+            if (pingAt != 0) {
+                buffer.put((byte) 0x08); // field 1, varint
+                writeVarint(buffer, pingAt);
+            }
+            if (!hasEndpoint) {
+                return;
+            }
+            buffer.put((byte) 0x12); // field 2, length delimited
+            writeVarint(buffer, endpointSize);
+            if (endpointId > 0) {
+                buffer.put((byte) 0x18); // field 3 of endpoint, varint
+                writeVarint(buffer, endpointId);
+                return;
+            }
+            if (hostBytes.length > 0) {
+                buffer.put((byte) 0x0A); // field 1 of endpoint, length delimited
+                writeVarint(buffer, hostBytes.length);
+                buffer.put(hostBytes);
+            }
+            if (port != 0) {
+                buffer.put((byte) 0x10); // field 2 of endpoint, varint
+                writeVarint(buffer, port);
+            }
+        }
+
+    }
+
+    private static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
     }
 
+    /**
+     * Content of record compressed by deflater, varint size before compression and deflated bytes.
+     */
+    private static class CompressedContent {
 
-    private Map<Class<? extends AbstractUpdate>, Collection<AbstractUpdate>> groupUpdates(Iterable<AbstractUpdate> iterable) {
-        Map<Class<? extends AbstractUpdate>, Collection<AbstractUpdate>> result = new HashMap<>();
-        for (AbstractUpdate update : iterable) {
-            Collection<AbstractUpdate> sub = result.computeIfAbsent(update.getClass(), k -> new ArrayList<>());
-            sub.add(update);
+        private byte[] bytes = new byte[0];
+        private int size;
+        private int uncompressedSize;
+
+        /**
+         * Compress content.
+         *
+         * @return true if compressed content is smaller, otherwise false and nothing is kept
+         */
+        boolean compress(Deflater deflater, byte[] content, int contentSize) {
+            int maxSize = contentSize - CodedOutputStream.computeUInt32SizeNoTag(contentSize) - 1;
+            if (maxSize <= 0) {
+                return false;
+            }
+            if (bytes.length < maxSize) {
+                bytes = new byte[maxSize];
+            }
+            deflater.reset();
+            deflater.setInput(content, 0, contentSize);
+            deflater.finish();
+            int n = 0;
+            while (!deflater.finished() && n < maxSize) {
+                n += deflater.deflate(bytes, n, maxSize - n);
+            }
+            if (!deflater.finished()) {
+                return false;
+            }
+            size = n;
+            uncompressedSize = contentSize;
+            return true;
+        }
+
+        boolean isCompressed() {
+            return size > 0;
+        }
+
+        int getContentSize() {
+            return CodedOutputStream.computeUInt32SizeNoTag(uncompressedSize) + size;
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            writeVarint(buffer, uncompressedSize);
+            buffer.put(bytes, 0, size);
         }
-        return result;
+
+        void clear() {
+            size = 0;
+        }
+
     }
 
-    RemoteMessage<? extends AbstractMessage> fromPacket(DatagramPacket packet) {
-        return new PacketParser(packet).parse();
+    private static class SenderHeader {
+
+        final MemberEndpoint sender;
+        final byte[] bytes;
+
+        SenderHeader(MemberEndpoint sender, byte[] bytes) {
+            this.sender = sender;
+            this.bytes = bytes;
+        }
+
     }
 
-    private static class PacketParser {
+    /**
+     * Parser of packet, parses message from receive buffer directly.
+     * <p>
+     * Parser is reused by receiving thread. Endpoints in packet are looked up by raw host bytes in a small cache
+     * before decoding host, so sender and endpoints in ping messages are resolved without allocating.
+     * </p>
+     */
+    private class PacketParser {
 
-        private final byte[] buffer;
-        private final int length;
+        private static final int ENDPOINT_CACHE_SIZE = 256;
+        private final MemberEndpoint[] cachedEndpoints = new MemberEndpoint[ENDPOINT_CACHE_SIZE];
+        private final byte[][] cachedHostBytes = new byte[ENDPOINT_CACHE_SIZE][];
+        private byte[] buffer;
+        private int limit;
         private int position;
+        // version in v1 message, set when version field is found
+        private int peerVersion;
+        // v2
+        private RemoteMemberIds remoteMemberIds;
+        private long ackSessionId;
+        private int ack;
+        private int senderId;
+        private MemberEndpoint sender;
+        private final Inflater inflater = new Inflater();
+        private byte[] inflated = new byte[0];
+        private TransporterMetrics metrics;
 
-        PacketParser(DatagramPacket packet) {
-            buffer = packet.getData();
-            length = packet.getLength();
-            position = packet.getOffset();
+        void parse(byte[] buffer, int offset, int length, Consumer<RemoteMessage<? extends AbstractMessage>> consumer,
+                   @Nullable TransporterMetrics metrics) {
+            this.buffer = buffer;
+            this.metrics = metrics;
+            this.limit = offset + length;
+            this.position = offset;
+            try {
+                if (length > 0 && buffer[offset] == VERSION_2) {
+                    parseCompact(consumer);
+                    return;
+                }
+                MemberEndpoint sender = readSender();
+                int messageType = readInt();
+                if (messageType == MSG_TYPE_FRAGMENT) {
+                    if (!readFragment(sender)) {
+                        return;
+                    }
+                    messageType = readInt();
+                }
+                if (messageType == MSG_TYPE_COMPOUND) {
+                    readCompound(sender, consumer);
+                } else {
+                    consumer.accept(readV1Message(messageType, sender));
+                }
+            } finally {
+                this.buffer = null;
+                this.remoteMemberIds = null;
+                this.sender = null;
+                this.metrics = null;
+            }
         }
 
-        RemoteMessage<? extends AbstractMessage> parse() {
-            MemberEndpoint sender = readSender();
-            AbstractMessage message = readMessage(readInt());
+        private RemoteMessage<AbstractMessage> readV1Message(int messageType, MemberEndpoint sender) {
+            if (metrics != null) {
+                metrics.onMessageReceived(messageType, limit - position);
+            }
+            peerVersion = VERSION_1;
+            AbstractMessage message = readMessage(messageType);
+            endpointRegistry.getPeerState(sender).updateV1(peerVersion);
             return new RemoteMessage<>(message, sender);
         }
 
+        private void parseCompact(Consumer<RemoteMessage<? extends AbstractMessage>> consumer) {
+            position++;
+            long sessionId = readLong();
+            ackSessionId = readLong();
+            ack = readVarint32();
+            senderId = readVarint32();
+            remoteMemberIds = getRemoteMemberIds(sessionId);
+            readRecords(consumer, true);
+        }
+
+        /**
+         * Read records in v2 packet, fragment record must be the last one.
+         */
+        private void readRecords(Consumer<RemoteMessage<? extends AbstractMessage>> consumer, boolean fragmentAllowed) {
+            byte[] packetBuffer = buffer;
+            int packetLimit = limit;
+            while (position < packetLimit) {
+                int type = buffer[position++] & 0xFF;
+                int size = readVarint32();
+                if (size < 0 || position + size > packetLimit) {
+                    throw new ParserException("eof");
+                }
+                int recordLimit = position + size;
+                limit = recordLimit;
+                if ((type & FLAG_COMPRESSED) != 0) {
+                    type &= ~FLAG_COMPRESSED;
+                    if (type == MSG_TYPE_FRAGMENT) {
+                        throw new ParserException("unexpected compressed fragment");
+                    }
+                    inflate();
+                }
+                if (type == MSG_TYPE_DEFINITIONS) {
+                    readDefinitions();
+                } else if (type == MSG_TYPE_FRAGMENT) {
+                    if (!fragmentAllowed) {
+                        throw new ParserException("unexpected fragment");
+                    }
+                    if (readFragment(getCompactSender())) {
+                        readRecords(consumer, false);
+                    }
+                    return;
+                } else {
+                    if (metrics != null) {
+                        metrics.onMessageReceived(type, size);
+                    }
+                    AbstractMessage message = readMessage(type);
+                    consumer.accept(new RemoteMessage<>(message, getCompactSender()));
+                }
+                buffer = packetBuffer;
+                position = recordLimit;
+                limit = packetLimit;
+            }
+        }
+
+        /**
+         * Inflate content of record, and continue with inflated content.
+         */
+        private void inflate() {
+            int size = readVarint32();
+            if (size < 0 || size > MAX_INFLATED_SIZE) {
+                throw new ParserException("illegal size of compressed record " + size);
+            }
+            if (inflated.length < size) {
+                inflated = new byte[size];
+            }
+            inflater.reset();
+            inflater.setInput(buffer, position, limit - position);
+            int n = 0;
+            try {
+                while (n < size) {
+                    int count = inflater.inflate(inflated, n, size - n);
+                    if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    n += count;
+                }
+            } catch (DataFormatException e) {
+                throw new ParserException("malformed compressed record", e);
+            }
+            if (n != size) {
+                throw new ParserException("size of compressed record mismatch");
+            }
+            buffer = inflated;
+            position = 0;
+            limit = size;
+        }
+
+        private void readDefinitions() {
+            while (position < limit) {
+                int id = readVarint32();
+                int hostLength = readVarint32();
+                if (hostLength < 0 || position + hostLength > limit) {
+                    throw new ParserException("eof");
+                }
+                int hostOffset = position;
+                position += hostLength;
+                remoteMemberIds.define(id, lookupEndpoint(hostOffset, hostLength, readVarint32()));
+            }
+        }
+
+        /**
+         * Get sender of v2 packet, and update state of sender as peer.
+         */
+        private MemberEndpoint getCompactSender() {
+            if (sender == null) {
+                sender = remoteMemberIds.get(senderId);
+                // ids of other session are not known by recipient
+                endpointRegistry.getPeerState(sender).update(ackSessionId == sessionId ? ack : 0, remoteMemberIds);
+            }
+            return sender;
+        }
+
+        private MemberEndpoint toMemberEndpoint(int memberId) {
+            if (remoteMemberIds == null) {
+                throw new ParserException("member id in v1 packet");
+            }
+            return remoteMemberIds.get(memberId);
+        }
+
+        /**
+         * Read fragment, and continue with assembled payload if all fragments of message are received.
+         *
+         * @return true if assembled, otherwise false
+         */
+        private boolean readFragment(MemberEndpoint sender) {
+            int messageId = readInt();
+            int index = readUnsignedShort();
+            int count = readUnsignedShort();
+            byte[] payload = fragmentAssembler.add(sender, messageId, index, count, buffer, position, limit - position);
+            if (payload == null) {
+                return false;
+            }
+            buffer = payload;
+            position = 0;
+            limit = payload.length;
+            return true;
+        }
+
+        private void readCompound(MemberEndpoint sender, Consumer<RemoteMessage<? extends AbstractMessage>> consumer) {
+            int packetLimit = limit;
+            while (position < packetLimit) {
+                int messageType = readInt();
+                int size = readInt();
+                if (size < 0 || position + size > packetLimit) {
+                    throw new ParserException("eof");
+                }
+                limit = position + size;
+                RemoteMessage<AbstractMessage> message = readV1Message(messageType, sender);
+                position = limit;
+                limit = packetLimit;
+                consumer.accept(message);
+            }
+        }
+
         private MemberEndpoint readSender() {
-            String host = readString();
-            int port = readInt();
-            return new MemberEndpoint(host, port);
+            int hostLength = readInt();
+            if (hostLength < 0 || position + hostLength > limit) {
+                throw new ParserException("eof");
+            }
+            int hostOffset = position;
+            position += hostLength;
+            return lookupEndpoint(hostOffset, hostLength, readInt());
+        }
+
+        /**
+         * Get endpoint by host bytes in buffer and port, decode host only if endpoint is not cached.
+         */
+        private MemberEndpoint lookupEndpoint(int hostOffset, int hostLength, int port) {
+            int hash = port;
+            for (int i = hostOffset; i < hostOffset + hostLength; i++) {
+                hash = 31 * hash + buffer[i];
+            }
+            int index = (hash ^ (hash >>> 16)) & (ENDPOINT_CACHE_SIZE - 1);
+            MemberEndpoint endpoint = cachedEndpoints[index];
+            if (endpoint != null && endpoint.getPort() == port && hostEquals(cachedHostBytes[index], hostOffset, hostLength)) {
+                return endpoint;
+            }
+            endpoint = endpointRegistry.intern(new String(buffer, hostOffset, hostLength, StandardCharsets.UTF_8), port);
+            cachedEndpoints[index] = endpoint;
+            cachedHostBytes[index] = endpointRegistry.getHostBytes(endpoint);
+            return endpoint;
+        }
+
+        private boolean hostEquals(byte[] hostBytes, int hostOffset, int hostLength) {
+            if (hostBytes.length != hostLength) {
+                return false;
+            }
+            for (int i = 0; i < hostLength; i++) {
+                if (hostBytes[i] != buffer[hostOffset + i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         private AbstractMessage readMessage(int messageType) {
+            if (messageType == MSG_TYPE_FRAGMENT || messageType == MSG_TYPE_COMPOUND || messageType == MSG_TYPE_DEFINITIONS) {
+                throw new ParserException("unexpected message type " + messageType);
+            }
             try {
                 return doReadMessage(messageType);
             } catch (IOException e) {
@@ -278,19 +1469,19 @@ class PacketProtocol {
         }
 
         private AbstractMessage doReadMessage(int messageType) throws IOException {
-            ByteArrayInputStream input = new ByteArrayInputStream(buffer, position, length - position);
+            CodedInputStream input = CodedInputStream.newInstance(buffer, position, limit - position);
             switch (messageType) {
                 case MSG_TYPE_MEMBER_JOIN_RPC:
-                    Protos.MemberJoinRpc protoMemberJoinRpc = Protos.MemberJoinRpc.parseFrom(input);
+                    Protos.MemberJoinRpc protoMemberJoinRpc = parse(Protos.MemberJoinRpc.parser(), input);
                     return new MemberJoinRpc(toMemberEndpoint(protoMemberJoinRpc.getEndpoint()), protoMemberJoinRpc.getTimeJoined());
                 case MSG_TYPE_MEMBER_JOIN_RESPONSE:
-                    Protos.MemberJoinResponse protoMemberJoinResponse = Protos.MemberJoinResponse.parseFrom(input);
+                    Protos.MemberJoinResponse protoMemberJoinResponse = parse(Protos.MemberJoinResponse.parser(), input);
                     return new MemberJoinResponse(toMembers(protoMemberJoinResponse.getMembersList()));
                 case MSG_TYPE_MEMBER_LEAVED_RPC:
-                    Protos.MemberLeavedRpc protoMemberLeavedRpc = Protos.MemberLeavedRpc.parseFrom(input);
+                    Protos.MemberLeavedRpc protoMemberLeavedRpc = parse(Protos.MemberLeavedRpc.parser(), input);
                     return new MemberLeavedRpc(toMemberEndpoint(protoMemberLeavedRpc.getEndpoint()), protoMemberLeavedRpc.getTimeLeaved());
                 case MSG_TYPE_MEMBER_UPDATES_RPC:
-                    Protos.MemberUpdatesRpc protoMemberUpdatesRpc = Protos.MemberUpdatesRpc.parseFrom(input);
+                    Protos.MemberUpdatesRpc protoMemberUpdatesRpc = parse(Protos.MemberUpdatesRpc.parser(), input);
                     return new MemberUpdatesRpc(
                             protoMemberUpdatesRpc.getExchangeAt(),
                             toUpdates(Iterables.concat(
@@ -301,58 +1492,152 @@ class PacketProtocol {
                             protoMemberUpdatesRpc.getMemberDigest().toByteArray()
                     );
                 case MSG_TYPE_MEMBER_UPDATES_AGREED_RESPONSE:
-                    Protos.MemberUpdatesAgreedResponse protoMemberUpdatesAgreedResponse = Protos.MemberUpdatesAgreedResponse.parseFrom(input);
+                    Protos.MemberUpdatesAgreedResponse protoMemberUpdatesAgreedResponse = parse(Protos.MemberUpdatesAgreedResponse.parser(), input);
                     return new MemberUpdatesAgreedResponse(
                             protoMemberUpdatesAgreedResponse.getExchangeAt(),
                             protoMemberUpdatesAgreedResponse.getUpdatedMapMap()
                     );
                 case MSG_TYPE_MEMBER_UPDATES_RESPONSE:
-                    Protos.MemberUpdatesResponse protoMemberUpdatesResponse = Protos.MemberUpdatesResponse.parseFrom(input);
+                    Protos.MemberUpdatesResponse protoMemberUpdatesResponse = parse(Protos.MemberUpdatesResponse.parser(), input);
                     return new MemberUpdatesResponse(
                             protoMemberUpdatesResponse.getExchangeAt(),
                             protoMemberUpdatesResponse.getUpdatedMapMap(),
-                            toUpdates(Iterables.concat(
-                                    protoMemberUpdatesResponse.getMemberJoinedUpdatesList(),
-                                    protoMemberUpdatesResponse.getMemberLeavedUpdatesList()
-                            )),
+                            toUpdates(protoMemberUpdatesResponse),
                             protoMemberUpdatesResponse.getMemberDigest().toByteArray(),
                             protoMemberUpdatesResponse.getHopCount()
                     );
                 case MSG_TYPE_MEMBERS_MERGE_RESPONSE:
-                    Protos.MembersMergeResponse protoMembersMergeResponse = Protos.MembersMergeResponse.parseFrom(input);
+                    Protos.MembersMergeResponse protoMembersMergeResponse = parse(Protos.MembersMergeResponse.parser(), input);
                     return new MembersMergeResponse(
                             protoMembersMergeResponse.getExchangeAt(),
                             protoMembersMergeResponse.getUpdatedMapMap(),
                             toMembers(protoMembersMergeResponse.getMembersList()),
                             protoMembersMergeResponse.getMembersDigest().toByteArray(),
-                            protoMembersMergeResponse.getHopCount()
+                            protoMembersMergeResponse.getHopCount(),
+                            new HashSet<>(protoMembersMergeResponse.getBucketsList())
                     );
                 case MSG_TYPE_MEMBERS_MERGED_RESPONSE:
-                    Protos.MembersMergedResponse protoMembersMergedResponse = Protos.MembersMergedResponse.parseFrom(input);
+                    Protos.MembersMergedResponse protoMembersMergedResponse = parse(Protos.MembersMergedResponse.parser(), input);
                     return new MembersMergedResponse(protoMembersMergedResponse.getExchangeAt());
+                case MSG_TYPE_MEMBER_DIGESTS_RESPONSE:
+                    Protos.MemberDigestsResponse protoMemberDigestsResponse = parse(Protos.MemberDigestsResponse.parser(), input);
+                    return new MemberDigestsResponse(
+                            protoMemberDigestsResponse.getExchangeAt(),
+                            protoMemberDigestsResponse.getUpdatedMapMap(),
+                            protoMemberDigestsResponse.getLevel(),
+                            protoMemberDigestsResponse.getIndicesList(),
+                            protoMemberDigestsResponse.getDigestsList().stream().map(ByteString::toByteArray).collect(Collectors.toList())
+                    );
                 case MSG_TYPE_PING_RPC:
-                    Protos.PingRpc protoPingRpc = Protos.PingRpc.parseFrom(input);
-                    return new PingRpc(protoPingRpc.getPingAt());
                 case MSG_TYPE_PING_RESPONSE:
-                    Protos.PingResponse protoPingResponse = Protos.PingResponse.parseFrom(input);
-                    return new PingResponse(protoPingResponse.getPingAt());
                 case MSG_TYPE_PING_REQUEST_RPC:
-                    Protos.PingRequestRpc protoPingRequestRpc = Protos.PingRequestRpc.parseFrom(input);
-                    return new PingRequestRpc(protoPingRequestRpc.getPingAt(), toMemberEndpoint(protoPingRequestRpc.getEndpoint()));
                 case MSG_TYPE_PROXY_PING_RPC:
-                    Protos.ProxyPingRpc protoProxyPingRpc = Protos.ProxyPingRpc.parseFrom(input);
-                    return new ProxyPingRpc(protoProxyPingRpc.getPingAt(), toMemberEndpoint(protoProxyPingRpc.getSourceEndpoint()));
                 case MSG_TYPE_PROXY_PING_RESPONSE:
-                    Protos.ProxyPingResponse protoProxyPingResponse = Protos.ProxyPingResponse.parseFrom(input);
-                    return new ProxyPingResponse(protoProxyPingResponse.getPingAt(), toMemberEndpoint(protoProxyPingResponse.getSourceEndpoint()));
                 case MSG_TYPE_PROXY_PING_DONE_RESPONSE:
-                    Protos.ProxyPingDoneResponse proxyPingDoneResponse = Protos.ProxyPingDoneResponse.parseFrom(input);
-                    return new ProxyPingDoneResponse(proxyPingDoneResponse.getPingAt(), toMemberEndpoint(proxyPingDoneResponse.getEndpoint()));
+                    return readPingMessage(messageType, input);
                 default:
                     throw new ParserException("unexpected message type " + messageType);
             }
         }
 
+        /**
+         * Parse protobuf message, and find version field.
+         */
+        private <T extends GeneratedMessageV3> T parse(Parser<T> parser, CodedInputStream input) throws IOException {
+            T message = parser.parseFrom(input);
+            UnknownFieldSet unknownFields = message.getUnknownFields();
+            if (unknownFields.hasField(FIELD_VERSION)) {
+                List<Long> values = unknownFields.getField(FIELD_VERSION).getVarintList();
+                if (!values.isEmpty()) {
+                    peerVersion = values.get(values.size() - 1).intValue();
+                }
+            }
+            return message;
+        }
+
+        /**
+         * Read ping message field by field, see {@link PacketWriter#preparePingFields(int, long, MemberEndpoint)}.
+         * Only piggyback is parsed by protobuf, unknown fields are skipped.
+         */
+        private AbstractMessage readPingMessage(int messageType, CodedInputStream input) throws IOException {
+            int offset = position;
+            long pingAt = 0;
+            MemberEndpoint endpoint = null;
+            List<AbstractUpdate> updates = null;
+            List<MemberNotification> notifications = null;
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (tag == 0x08) {
+                    pingAt = input.readInt64();
+                } else if (tag == 0x12) {
+                    endpoint = readPingEndpoint(input, offset);
+                } else if (tag == 0x1A) {
+                    updates = updates != null ? updates : new ArrayList<>();
+                    updates.add(toUpdate(input.readMessage(Protos.MemberJoinedUpdate.parser(), ExtensionRegistryLite.getEmptyRegistry())));
+                } else if (tag == 0x22) {
+                    updates = updates != null ? updates : new ArrayList<>();
+                    updates.add(toUpdate(input.readMessage(Protos.MemberLeavedUpdate.parser(), ExtensionRegistryLite.getEmptyRegistry())));
+                } else if (tag == 0x2A) {
+                    notifications = notifications != null ? notifications : new ArrayList<>();
+                    notifications.add(toMemberNotification(input.readMessage(Protos.MemberNotification.parser(), ExtensionRegistryLite.getEmptyRegistry())));
+                } else if (tag == (FIELD_VERSION << 3)) {
+                    peerVersion = input.readInt32();
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            Piggyback piggyback = (updates == null && notifications == null) ? Piggyback.EMPTY : new Piggyback(
+                    updates != null ? updates : Collections.emptyList(),
+                    notifications != null ? notifications : Collections.emptyList()
+            );
+            if (messageType == MSG_TYPE_PING_RPC) {
+                return new PingRpc(pingAt, piggyback);
+            }
+            if (messageType == MSG_TYPE_PING_RESPONSE) {
+                return new PingResponse(pingAt, piggyback);
+            }
+            if (endpoint == null) {
+                throw new ParserException("endpoint required, message type " + messageType);
+            }
+            switch (messageType) {
+                case MSG_TYPE_PING_REQUEST_RPC:
+                    return new PingRequestRpc(pingAt, endpoint);
+                case MSG_TYPE_PROXY_PING_RPC:
+                    return new ProxyPingRpc(pingAt, endpoint, piggyback);
+                case MSG_TYPE_PROXY_PING_RESPONSE:
+                    return new ProxyPingResponse(pingAt, endpoint, piggyback);
+                default:
+                    return new ProxyPingDoneResponse(pingAt, endpoint);
+            }
+        }
+
+        private MemberEndpoint readPingEndpoint(CodedInputStream input, int offset) throws IOException {
+            int oldLimit = input.pushLimit(input.readRawVarint32());
+            int hostOffset = 0;
+            int hostLength = 0;
+            int port = 0;
+            int memberId = 0;
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (tag == 0x0A) {
+                    hostLength = input.readRawVarint32();
+                    hostOffset = offset + input.getTotalBytesRead();
+                    input.skipRawBytes(hostLength);
+                } else if (tag == 0x10) {
+                    port = input.readInt32();
+                } else if (tag == 0x18) {
+                    memberId = input.readUInt32();
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            input.popLimit(oldLimit);
+            if (memberId != 0) {
+                return toMemberEndpoint(memberId);
+            }
+            return lookupEndpoint(hostOffset, hostLength, port);
+        }
+
         private MemberNotification toMemberNotification(Protos.MemberNotification protoMemberNotification) {
             return new MemberNotification(
                     toMemberEndpoint(protoMemberNotification.getEndpoint()),
@@ -362,6 +1647,19 @@ class PacketProtocol {
             );
         }
 
+        private List<AbstractUpdate> toUpdates(Protos.MemberUpdatesResponse protoMemberUpdatesResponse) {
+            List<AbstractUpdate> updates = toUpdates(protoMemberUpdatesResponse.getMemberJoinedUpdatesList());
+            // declared as MemberJoinedUpdate in proto
+            for (Protos.MemberJoinedUpdate protoMemberLeavedUpdate : protoMemberUpdatesResponse.getMemberLeavedUpdatesList()) {
+                updates.add(new MemberLeavedUpdate(
+                        protoMemberLeavedUpdate.getId(),
+                        toMemberEndpoint(protoMemberLeavedUpdate.getEndpoint()),
+                        protoMemberLeavedUpdate.getTimeJoined()
+                ));
+            }
+            return updates;
+        }
+
         private List<AbstractUpdate> toUpdates(Iterable<?> rawUpdates) {
             List<AbstractUpdate> updates = new ArrayList<>();
             for (Object rawUpdate : rawUpdates) {
@@ -391,7 +1689,10 @@ class PacketProtocol {
         }
 
         private MemberEndpoint toMemberEndpoint(Protos.MemberEndpoint protoMemberEndpoint) {
-            return new MemberEndpoint(protoMemberEndpoint.getHost(), protoMemberEndpoint.getPort());
+            if (protoMemberEndpoint.getId() != 0) {
+                return toMemberEndpoint(protoMemberEndpoint.getId());
+            }
+            return endpointRegistry.intern(protoMemberEndpoint.getHost(), protoMemberEndpoint.getPort());
         }
 
         private List<Member> toMembers(List<Protos.Member> protoMembers) {
@@ -406,22 +1707,36 @@ class PacketProtocol {
             );
         }
 
-        private String readString() {
-            return new String(readBytes(readInt()));
+        private int readVarint32() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position >= limit) {
+                    throw new ParserException("eof");
+                }
+                byte b = buffer[position++];
+                result |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+            throw new ParserException("malformed varint");
         }
 
-        private byte[] readBytes(int n) {
-            if (position + n > length) {
+        private long readLong() {
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        private int readUnsignedShort() {
+            if (position + 2 > limit) {
                 throw new ParserException("eof");
             }
-            byte[] bytes = new byte[n];
-            System.arraycopy(buffer, position, bytes, 0, n);
-            position += n;
-            return bytes;
+            int n = ((buffer[position] & 0xFF) << 8) | (buffer[position + 1] & 0xFF);
+            position += 2;
+            return n;
         }
 
         private int readInt() {
-            if (position + 4 > length) {
+            if (position + 4 > limit) {
                 throw new ParserException("eof");
             }
             int n = ((buffer[position]) << 24) |
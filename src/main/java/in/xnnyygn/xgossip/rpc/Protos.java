@@ -32,6 +32,15 @@ public final class Protos {
      * <code>int32 port = 2;</code>
      */
     int getPort();
+
+    /**
+     * <pre>
+     * member id in v2 packet instead of host and port, 0 if not set
+     * </pre>
+     *
+     * <code>uint32 id = 3;</code>
+     */
+    int getId();
   }
   /**
    * Protobuf type {@code MemberEndpoint}
@@ -48,6 +57,7 @@ public final class Protos {
     private MemberEndpoint() {
       host_ = "";
       port_ = 0;
+      id_ = 0;
     }
 
     @java.lang.Override
@@ -85,6 +95,11 @@ public final class Protos {
               port_ = input.readInt32();
               break;
             }
+            case 24: {
+
+              id_ = input.readUInt32();
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -160,6 +175,19 @@ public final class Protos {
       return port_;
     }
 
+    public static final int ID_FIELD_NUMBER = 3;
+    private int id_;
+    /**
+     * <pre>
+     * member id in v2 packet instead of host and port, 0 if not set
+     * </pre>
+     *
+     * <code>uint32 id = 3;</code>
+     */
+    public int getId() {
+      return id_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -180,6 +208,9 @@ public final class Protos {
       if (port_ != 0) {
         output.writeInt32(2, port_);
       }
+      if (id_ != 0) {
+        output.writeUInt32(3, id_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -196,6 +227,10 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(2, port_);
       }
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, id_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -216,6 +251,8 @@ public final class Protos {
           .equals(other.getHost());
       result = result && (getPort()
           == other.getPort());
+      result = result && (getId()
+          == other.getId());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -231,6 +268,8 @@ public final class Protos {
       hash = (53 * hash) + getHost().hashCode();
       hash = (37 * hash) + PORT_FIELD_NUMBER;
       hash = (53 * hash) + getPort();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -368,6 +407,8 @@ public final class Protos {
 
         port_ = 0;
 
+        id_ = 0;
+
         return this;
       }
 
@@ -396,6 +437,7 @@ public final class Protos {
         in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint result = new in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint(this);
         result.host_ = host_;
         result.port_ = port_;
+        result.id_ = id_;
         onBuilt();
         return result;
       }
@@ -451,6 +493,9 @@ public final class Protos {
         if (other.getPort() != 0) {
           setPort(other.getPort());
         }
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -574,6 +619,44 @@ public final class Protos {
         onChanged();
         return this;
       }
+
+      private int id_ ;
+      /**
+       * <pre>
+       * member id in v2 packet instead of host and port, 0 if not set
+       * </pre>
+       *
+       * <code>uint32 id = 3;</code>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <pre>
+       * member id in v2 packet instead of host and port, 0 if not set
+       * </pre>
+       *
+       * <code>uint32 id = 3;</code>
+       */
+      public Builder setId(int value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * member id in v2 packet instead of host and port, 0 if not set
+       * </pre>
+       *
+       * <code>uint32 id = 3;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -10051,6 +10134,31 @@ public final class Protos {
      * <code>int32 hop_count = 5;</code>
      */
     int getHopCount();
+
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    java.util.List<java.lang.Integer> getBucketsList();
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    int getBucketsCount();
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    int getBuckets(int index);
   }
   /**
    * Protobuf type {@code MembersMergeResponse}
@@ -10069,6 +10177,7 @@ public final class Protos {
       members_ = java.util.Collections.emptyList();
       membersDigest_ = com.google.protobuf.ByteString.EMPTY;
       hopCount_ = 0;
+      buckets_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -10132,6 +10241,27 @@ public final class Protos {
               hopCount_ = input.readInt32();
               break;
             }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                buckets_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              buckets_.add(input.readInt32());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020) && input.getBytesUntilLimit() > 0) {
+                buckets_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                buckets_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -10150,6 +10280,9 @@ public final class Protos {
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
           members_ = java.util.Collections.unmodifiableList(members_);
         }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          buckets_ = java.util.Collections.unmodifiableList(buckets_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -10318,6 +10451,41 @@ public final class Protos {
       return hopCount_;
     }
 
+    public static final int BUCKETS_FIELD_NUMBER = 6;
+    private java.util.List<java.lang.Integer> buckets_;
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getBucketsList() {
+      return buckets_;
+    }
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    public int getBucketsCount() {
+      return buckets_.size();
+    }
+    /**
+     * <pre>
+     * buckets of members, all members if empty
+     * </pre>
+     *
+     * <code>repeated int32 buckets = 6;</code>
+     */
+    public int getBuckets(int index) {
+      return buckets_.get(index);
+    }
+    private int bucketsMemoizedSerializedSize = -1;
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10332,6 +10500,7 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       if (exchangeAt_ != 0L) {
         output.writeInt64(1, exchangeAt_);
       }
@@ -10350,6 +10519,13 @@ public final class Protos {
       if (hopCount_ != 0) {
         output.writeInt32(5, hopCount_);
       }
+      if (getBucketsList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(bucketsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < buckets_.size(); i++) {
+        output.writeInt32NoTag(buckets_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -10385,6 +10561,20 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(5, hopCount_);
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < buckets_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(buckets_.get(i));
+        }
+        size += dataSize;
+        if (!getBucketsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bucketsMemoizedSerializedSize = dataSize;
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10411,6 +10601,8 @@ public final class Protos {
           .equals(other.getMembersDigest());
       result = result && (getHopCount()
           == other.getHopCount());
+      result = result && getBucketsList()
+          .equals(other.getBucketsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -10437,6 +10629,10 @@ public final class Protos {
       hash = (53 * hash) + getMembersDigest().hashCode();
       hash = (37 * hash) + HOP_COUNT_FIELD_NUMBER;
       hash = (53 * hash) + getHopCount();
+      if (getBucketsCount() > 0) {
+        hash = (37 * hash) + BUCKETS_FIELD_NUMBER;
+        hash = (53 * hash) + getBucketsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -10606,6 +10802,8 @@ public final class Protos {
 
         hopCount_ = 0;
 
+        buckets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -10648,6 +10846,11 @@ public final class Protos {
         }
         result.membersDigest_ = membersDigest_;
         result.hopCount_ = hopCount_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          buckets_ = java.util.Collections.unmodifiableList(buckets_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.buckets_ = buckets_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -10734,6 +10937,16 @@ public final class Protos {
         if (other.getHopCount() != 0) {
           setHopCount(other.getHopCount());
         }
+        if (!other.buckets_.isEmpty()) {
+          if (buckets_.isEmpty()) {
+            buckets_ = other.buckets_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureBucketsIsMutable();
+            buckets_.addAll(other.buckets_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -11207,6 +11420,100 @@ public final class Protos {
         onChanged();
         return this;
       }
+
+      private java.util.List<java.lang.Integer> buckets_ = java.util.Collections.emptyList();
+      private void ensureBucketsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          buckets_ = new java.util.ArrayList<java.lang.Integer>(buckets_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getBucketsList() {
+        return java.util.Collections.unmodifiableList(buckets_);
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public int getBucketsCount() {
+        return buckets_.size();
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public int getBuckets(int index) {
+        return buckets_.get(index);
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public Builder setBuckets(
+          int index, int value) {
+        ensureBucketsIsMutable();
+        buckets_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public Builder addBuckets(int value) {
+        ensureBucketsIsMutable();
+        buckets_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public Builder addAllBuckets(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureBucketsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, buckets_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * buckets of members, all members if empty
+       * </pre>
+       *
+       * <code>repeated int32 buckets = 6;</code>
+       */
+      public Builder clearBuckets() {
+        buckets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -11260,29 +11567,101 @@ public final class Protos {
 
   }
 
-  public interface MembersMergedResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:MembersMergedResponse)
+  public interface MemberDigestsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MemberDigestsResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>int64 exchange_at = 1;</code>
      */
     long getExchangeAt();
+
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+    int getUpdatedMapCount();
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+    boolean containsUpdatedMap(
+        long key);
+    /**
+     * Use {@link #getUpdatedMapMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.Long, java.lang.Boolean>
+    getUpdatedMap();
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+    java.util.Map<java.lang.Long, java.lang.Boolean>
+    getUpdatedMapMap();
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    boolean getUpdatedMapOrDefault(
+        long key,
+        boolean defaultValue);
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    boolean getUpdatedMapOrThrow(
+        long key);
+
+    /**
+     * <pre>
+     * level of nodes in digest tree, root is level 0
+     * </pre>
+     *
+     * <code>int32 level = 3;</code>
+     */
+    int getLevel();
+
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    java.util.List<java.lang.Integer> getIndicesList();
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    int getIndicesCount();
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    int getIndices(int index);
+
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getDigestsList();
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    int getDigestsCount();
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    com.google.protobuf.ByteString getDigests(int index);
   }
   /**
-   * Protobuf type {@code MembersMergedResponse}
+   * Protobuf type {@code MemberDigestsResponse}
    */
-  public  static final class MembersMergedResponse extends
+  public  static final class MemberDigestsResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:MembersMergedResponse)
-      MembersMergedResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:MemberDigestsResponse)
+      MemberDigestsResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use MembersMergedResponse.newBuilder() to construct.
-    private MembersMergedResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use MemberDigestsResponse.newBuilder() to construct.
+    private MemberDigestsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private MembersMergedResponse() {
+    private MemberDigestsResponse() {
       exchangeAt_ = 0L;
+      level_ = 0;
+      indices_ = java.util.Collections.emptyList();
+      digests_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -11290,7 +11669,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private MembersMergedResponse(
+    private MemberDigestsResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11314,6 +11693,53 @@ public final class Protos {
               exchangeAt_ = input.readInt64();
               break;
             }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                updatedMap_ = com.google.protobuf.MapField.newMapField(
+                    UpdatedMapDefaultEntryHolder.defaultEntry);
+                mutable_bitField0_ |= 0x00000002;
+              }
+              com.google.protobuf.MapEntry<java.lang.Long, java.lang.Boolean>
+              updatedMap__ = input.readMessage(
+                  UpdatedMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+              updatedMap_.getMutableMap().put(
+                  updatedMap__.getKey(), updatedMap__.getValue());
+              break;
+            }
+            case 24: {
+
+              level_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                indices_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              indices_.add(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                indices_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                indices_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                digests_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              digests_.add(input.readBytes());
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -11329,23 +11755,42 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          indices_ = java.util.Collections.unmodifiableList(indices_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          digests_ = java.util.Collections.unmodifiableList(digests_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_descriptor;
     }
 
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetUpdatedMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_fieldAccessorTable
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.class, in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.Builder.class);
+              in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.class, in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.Builder.class);
     }
 
+    private int bitField0_;
     public static final int EXCHANGE_AT_FIELD_NUMBER = 1;
     private long exchangeAt_;
     /**
@@ -11355,24 +11800,178 @@ public final class Protos {
       return exchangeAt_;
     }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    public static final int UPDATED_MAP_FIELD_NUMBER = 2;
+    private static final class UpdatedMapDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.Long, java.lang.Boolean> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.Long, java.lang.Boolean>newDefaultInstance(
+                  in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_UpdatedMapEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.INT64,
+                  0L,
+                  com.google.protobuf.WireFormat.FieldType.BOOL,
+                  false);
     }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (exchangeAt_ != 0L) {
-        output.writeInt64(1, exchangeAt_);
+    private com.google.protobuf.MapField<
+        java.lang.Long, java.lang.Boolean> updatedMap_;
+    private com.google.protobuf.MapField<java.lang.Long, java.lang.Boolean>
+    internalGetUpdatedMap() {
+      if (updatedMap_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            UpdatedMapDefaultEntryHolder.defaultEntry);
       }
-      unknownFields.writeTo(output);
+      return updatedMap_;
+    }
+
+    public int getUpdatedMapCount() {
+      return internalGetUpdatedMap().getMap().size();
+    }
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    public boolean containsUpdatedMap(
+        long key) {
+      
+      return internalGetUpdatedMap().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getUpdatedMapMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Long, java.lang.Boolean> getUpdatedMap() {
+      return getUpdatedMapMap();
+    }
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    public java.util.Map<java.lang.Long, java.lang.Boolean> getUpdatedMapMap() {
+      return internalGetUpdatedMap().getMap();
+    }
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    public boolean getUpdatedMapOrDefault(
+        long key,
+        boolean defaultValue) {
+      
+      java.util.Map<java.lang.Long, java.lang.Boolean> map =
+          internalGetUpdatedMap().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+     */
+
+    public boolean getUpdatedMapOrThrow(
+        long key) {
+      
+      java.util.Map<java.lang.Long, java.lang.Boolean> map =
+          internalGetUpdatedMap().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int LEVEL_FIELD_NUMBER = 3;
+    private int level_;
+    /**
+     * <pre>
+     * level of nodes in digest tree, root is level 0
+     * </pre>
+     *
+     * <code>int32 level = 3;</code>
+     */
+    public int getLevel() {
+      return level_;
+    }
+
+    public static final int INDICES_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> indices_;
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getIndicesList() {
+      return indices_;
+    }
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    public int getIndicesCount() {
+      return indices_.size();
+    }
+    /**
+     * <code>repeated int32 indices = 4;</code>
+     */
+    public int getIndices(int index) {
+      return indices_.get(index);
+    }
+    private int indicesMemoizedSerializedSize = -1;
+
+    public static final int DIGESTS_FIELD_NUMBER = 5;
+    private java.util.List<com.google.protobuf.ByteString> digests_;
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getDigestsList() {
+      return digests_;
+    }
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    public int getDigestsCount() {
+      return digests_.size();
+    }
+    /**
+     * <code>repeated bytes digests = 5;</code>
+     */
+    public com.google.protobuf.ByteString getDigests(int index) {
+      return digests_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (exchangeAt_ != 0L) {
+        output.writeInt64(1, exchangeAt_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeLongMapTo(
+          output,
+          internalGetUpdatedMap(),
+          UpdatedMapDefaultEntryHolder.defaultEntry,
+          2);
+      if (level_ != 0) {
+        output.writeInt32(3, level_);
+      }
+      if (getIndicesList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(indicesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < indices_.size(); i++) {
+        output.writeInt32NoTag(indices_.get(i));
+      }
+      for (int i = 0; i < digests_.size(); i++) {
+        output.writeBytes(5, digests_.get(i));
+      }
+      unknownFields.writeTo(output);
     }
 
     @java.lang.Override
@@ -11385,6 +11984,43 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(1, exchangeAt_);
       }
+      for (java.util.Map.Entry<java.lang.Long, java.lang.Boolean> entry
+           : internalGetUpdatedMap().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.Long, java.lang.Boolean>
+        updatedMap__ = UpdatedMapDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, updatedMap__);
+      }
+      if (level_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, level_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < indices_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(indices_.get(i));
+        }
+        size += dataSize;
+        if (!getIndicesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        indicesMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < digests_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(digests_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getDigestsList().size();
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -11395,14 +12031,22 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse)) {
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse other = (in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) obj;
+      in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse other = (in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse) obj;
 
       boolean result = true;
       result = result && (getExchangeAt()
           == other.getExchangeAt());
+      result = result && internalGetUpdatedMap().equals(
+          other.internalGetUpdatedMap());
+      result = result && (getLevel()
+          == other.getLevel());
+      result = result && getIndicesList()
+          .equals(other.getIndicesList());
+      result = result && getDigestsList()
+          .equals(other.getDigestsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -11417,74 +12061,88 @@ public final class Protos {
       hash = (37 * hash) + EXCHANGE_AT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
           getExchangeAt());
+      if (!internalGetUpdatedMap().getMap().isEmpty()) {
+        hash = (37 * hash) + UPDATED_MAP_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetUpdatedMap().hashCode();
+      }
+      hash = (37 * hash) + LEVEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLevel();
+      if (getIndicesCount() > 0) {
+        hash = (37 * hash) + INDICES_FIELD_NUMBER;
+        hash = (53 * hash) + getIndicesList().hashCode();
+      }
+      if (getDigestsCount() > 0) {
+        hash = (37 * hash) + DIGESTS_FIELD_NUMBER;
+        hash = (53 * hash) + getDigestsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(byte[] data)
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseDelimitedFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11497,7 +12155,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse prototype) {
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -11513,26 +12171,48 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code MembersMergedResponse}
+     * Protobuf type {@code MemberDigestsResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:MembersMergedResponse)
-        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:MemberDigestsResponse)
+        in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_descriptor;
       }
 
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetUpdatedMap();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetMutableUpdatedMap();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_fieldAccessorTable
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.class, in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.Builder.class);
+                in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.class, in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.newBuilder()
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11552,23 +12232,30 @@ public final class Protos {
         super.clear();
         exchangeAt_ = 0L;
 
+        internalGetMutableUpdatedMap().clear();
+        level_ = 0;
+
+        indices_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        digests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MemberDigestsResponse_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.getDefaultInstance();
+      public in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse build() {
-        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse result = buildPartial();
+      public in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse build() {
+        in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -11576,9 +12263,25 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse result = new in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse(this);
+      public in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse result = new in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         result.exchangeAt_ = exchangeAt_;
+        result.updatedMap_ = internalGetUpdatedMap();
+        result.updatedMap_.makeImmutable();
+        result.level_ = level_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          indices_ = java.util.Collections.unmodifiableList(indices_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.indices_ = indices_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          digests_ = java.util.Collections.unmodifiableList(digests_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.digests_ = digests_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -11617,19 +12320,44 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse)other);
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse.getDefaultInstance()) return this;
         if (other.getExchangeAt() != 0L) {
           setExchangeAt(other.getExchangeAt());
         }
+        internalGetMutableUpdatedMap().mergeFrom(
+            other.internalGetUpdatedMap());
+        if (other.getLevel() != 0) {
+          setLevel(other.getLevel());
+        }
+        if (!other.indices_.isEmpty()) {
+          if (indices_.isEmpty()) {
+            indices_ = other.indices_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureIndicesIsMutable();
+            indices_.addAll(other.indices_);
+          }
+          onChanged();
+        }
+        if (!other.digests_.isEmpty()) {
+          if (digests_.isEmpty()) {
+            digests_ = other.digests_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureDigestsIsMutable();
+            digests_.addAll(other.digests_);
+          }
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -11645,11 +12373,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parsedMessage = null;
+        in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -11658,6 +12386,7 @@ public final class Protos {
         }
         return this;
       }
+      private int bitField0_;
 
       private long exchangeAt_ ;
       /**
@@ -11684,82 +12413,381 @@ public final class Protos {
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private com.google.protobuf.MapField<
+          java.lang.Long, java.lang.Boolean> updatedMap_;
+      private com.google.protobuf.MapField<java.lang.Long, java.lang.Boolean>
+      internalGetUpdatedMap() {
+        if (updatedMap_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              UpdatedMapDefaultEntryHolder.defaultEntry);
+        }
+        return updatedMap_;
+      }
+      private com.google.protobuf.MapField<java.lang.Long, java.lang.Boolean>
+      internalGetMutableUpdatedMap() {
+        onChanged();;
+        if (updatedMap_ == null) {
+          updatedMap_ = com.google.protobuf.MapField.newMapField(
+              UpdatedMapDefaultEntryHolder.defaultEntry);
+        }
+        if (!updatedMap_.isMutable()) {
+          updatedMap_ = updatedMap_.copy();
+        }
+        return updatedMap_;
       }
 
+      public int getUpdatedMapCount() {
+        return internalGetUpdatedMap().getMap().size();
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
 
-      // @@protoc_insertion_point(builder_scope:MembersMergedResponse)
-    }
-
-    // @@protoc_insertion_point(class_scope:MembersMergedResponse)
-    private static final in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse();
-    }
+      public boolean containsUpdatedMap(
+          long key) {
+        
+        return internalGetUpdatedMap().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getUpdatedMapMap()} instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Long, java.lang.Boolean> getUpdatedMap() {
+        return getUpdatedMapMap();
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
 
-    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstance() {
+      public java.util.Map<java.lang.Long, java.lang.Boolean> getUpdatedMapMap() {
+        return internalGetUpdatedMap().getMap();
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
+
+      public boolean getUpdatedMapOrDefault(
+          long key,
+          boolean defaultValue) {
+        
+        java.util.Map<java.lang.Long, java.lang.Boolean> map =
+            internalGetUpdatedMap().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
+
+      public boolean getUpdatedMapOrThrow(
+          long key) {
+        
+        java.util.Map<java.lang.Long, java.lang.Boolean> map =
+            internalGetUpdatedMap().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+
+      public Builder clearUpdatedMap() {
+        internalGetMutableUpdatedMap().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
+
+      public Builder removeUpdatedMap(
+          long key) {
+        
+        internalGetMutableUpdatedMap().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Long, java.lang.Boolean>
+      getMutableUpdatedMap() {
+        return internalGetMutableUpdatedMap().getMutableMap();
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
+      public Builder putUpdatedMap(
+          long key,
+          boolean value) {
+        
+        
+        internalGetMutableUpdatedMap().getMutableMap()
+            .put(key, value);
+        return this;
+      }
+      /**
+       * <code>map&lt;int64, bool&gt; updated_map = 2;</code>
+       */
+
+      public Builder putAllUpdatedMap(
+          java.util.Map<java.lang.Long, java.lang.Boolean> values) {
+        internalGetMutableUpdatedMap().getMutableMap()
+            .putAll(values);
+        return this;
+      }
+
+      private int level_ ;
+      /**
+       * <pre>
+       * level of nodes in digest tree, root is level 0
+       * </pre>
+       *
+       * <code>int32 level = 3;</code>
+       */
+      public int getLevel() {
+        return level_;
+      }
+      /**
+       * <pre>
+       * level of nodes in digest tree, root is level 0
+       * </pre>
+       *
+       * <code>int32 level = 3;</code>
+       */
+      public Builder setLevel(int value) {
+        
+        level_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * level of nodes in digest tree, root is level 0
+       * </pre>
+       *
+       * <code>int32 level = 3;</code>
+       */
+      public Builder clearLevel() {
+        
+        level_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> indices_ = java.util.Collections.emptyList();
+      private void ensureIndicesIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          indices_ = new java.util.ArrayList<java.lang.Integer>(indices_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getIndicesList() {
+        return java.util.Collections.unmodifiableList(indices_);
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public int getIndicesCount() {
+        return indices_.size();
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public int getIndices(int index) {
+        return indices_.get(index);
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public Builder setIndices(
+          int index, int value) {
+        ensureIndicesIsMutable();
+        indices_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public Builder addIndices(int value) {
+        ensureIndicesIsMutable();
+        indices_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public Builder addAllIndices(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIndicesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, indices_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 indices = 4;</code>
+       */
+      public Builder clearIndices() {
+        indices_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> digests_ = java.util.Collections.emptyList();
+      private void ensureDigestsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          digests_ = new java.util.ArrayList<com.google.protobuf.ByteString>(digests_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getDigestsList() {
+        return java.util.Collections.unmodifiableList(digests_);
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public int getDigestsCount() {
+        return digests_.size();
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public com.google.protobuf.ByteString getDigests(int index) {
+        return digests_.get(index);
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public Builder setDigests(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDigestsIsMutable();
+        digests_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public Builder addDigests(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDigestsIsMutable();
+        digests_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public Builder addAllDigests(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureDigestsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, digests_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes digests = 5;</code>
+       */
+      public Builder clearDigests() {
+        digests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:MemberDigestsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:MemberDigestsResponse)
+    private static final in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse();
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<MembersMergedResponse>
-        PARSER = new com.google.protobuf.AbstractParser<MembersMergedResponse>() {
+    private static final com.google.protobuf.Parser<MemberDigestsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<MemberDigestsResponse>() {
       @java.lang.Override
-      public MembersMergedResponse parsePartialFrom(
+      public MemberDigestsResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MembersMergedResponse(input, extensionRegistry);
+        return new MemberDigestsResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<MembersMergedResponse> parser() {
+    public static com.google.protobuf.Parser<MemberDigestsResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MembersMergedResponse> getParserForType() {
+    public com.google.protobuf.Parser<MemberDigestsResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstanceForType() {
+    public in.xnnyygn.xgossip.rpc.Protos.MemberDigestsResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PingRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PingRpc)
+  public interface MembersMergedResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MembersMergedResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int64 ping_at = 1;</code>
+     * <code>int64 exchange_at = 1;</code>
      */
-    long getPingAt();
+    long getExchangeAt();
   }
   /**
-   * Protobuf type {@code PingRpc}
+   * Protobuf type {@code MembersMergedResponse}
    */
-  public  static final class PingRpc extends
+  public  static final class MembersMergedResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:PingRpc)
-      PingRpcOrBuilder {
+      // @@protoc_insertion_point(message_implements:MembersMergedResponse)
+      MembersMergedResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PingRpc.newBuilder() to construct.
-    private PingRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use MembersMergedResponse.newBuilder() to construct.
+    private MembersMergedResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PingRpc() {
-      pingAt_ = 0L;
+    private MembersMergedResponse() {
+      exchangeAt_ = 0L;
     }
 
     @java.lang.Override
@@ -11767,7 +12795,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PingRpc(
+    private MembersMergedResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11788,7 +12816,7 @@ public final class Protos {
               break;
             case 8: {
 
-              pingAt_ = input.readInt64();
+              exchangeAt_ = input.readInt64();
               break;
             }
             default: {
@@ -11812,24 +12840,24 @@ public final class Protos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_fieldAccessorTable
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.PingRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRpc.Builder.class);
+              in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.class, in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.Builder.class);
     }
 
-    public static final int PING_AT_FIELD_NUMBER = 1;
-    private long pingAt_;
+    public static final int EXCHANGE_AT_FIELD_NUMBER = 1;
+    private long exchangeAt_;
     /**
-     * <code>int64 ping_at = 1;</code>
+     * <code>int64 exchange_at = 1;</code>
      */
-    public long getPingAt() {
-      return pingAt_;
+    public long getExchangeAt() {
+      return exchangeAt_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -11846,8 +12874,8 @@ public final class Protos {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (pingAt_ != 0L) {
-        output.writeInt64(1, pingAt_);
+      if (exchangeAt_ != 0L) {
+        output.writeInt64(1, exchangeAt_);
       }
       unknownFields.writeTo(output);
     }
@@ -11858,9 +12886,9 @@ public final class Protos {
       if (size != -1) return size;
 
       size = 0;
-      if (pingAt_ != 0L) {
+      if (exchangeAt_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, pingAt_);
+          .computeInt64Size(1, exchangeAt_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -11872,14 +12900,14 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingRpc)) {
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xgossip.rpc.Protos.PingRpc other = (in.xnnyygn.xgossip.rpc.Protos.PingRpc) obj;
+      in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse other = (in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) obj;
 
       boolean result = true;
-      result = result && (getPingAt()
-          == other.getPingAt());
+      result = result && (getExchangeAt()
+          == other.getExchangeAt());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -11891,77 +12919,77 @@ public final class Protos {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
+      hash = (37 * hash) + EXCHANGE_AT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getPingAt());
+          getExchangeAt());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(byte[] data)
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseDelimitedFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11974,7 +13002,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingRpc prototype) {
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -11990,26 +13018,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code PingRpc}
+     * Protobuf type {@code MembersMergedResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PingRpc)
-        in.xnnyygn.xgossip.rpc.Protos.PingRpcOrBuilder {
+        // @@protoc_insertion_point(builder_implements:MembersMergedResponse)
+        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_fieldAccessorTable
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.PingRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRpc.Builder.class);
+                in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.class, in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingRpc.newBuilder()
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12027,7 +13055,7 @@ public final class Protos {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        pingAt_ = 0L;
+        exchangeAt_ = 0L;
 
         return this;
       }
@@ -12035,17 +13063,17 @@ public final class Protos {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_MembersMergedResponse_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.PingRpc.getDefaultInstance();
+      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRpc build() {
-        in.xnnyygn.xgossip.rpc.Protos.PingRpc result = buildPartial();
+      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse build() {
+        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12053,9 +13081,9 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRpc buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.PingRpc result = new in.xnnyygn.xgossip.rpc.Protos.PingRpc(this);
-        result.pingAt_ = pingAt_;
+      public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse result = new in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse(this);
+        result.exchangeAt_ = exchangeAt_;
         onBuilt();
         return result;
       }
@@ -12094,18 +13122,18 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingRpc) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingRpc)other);
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingRpc other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.PingRpc.getDefaultInstance()) return this;
-        if (other.getPingAt() != 0L) {
-          setPingAt(other.getPingAt());
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse.getDefaultInstance()) return this;
+        if (other.getExchangeAt() != 0L) {
+          setExchangeAt(other.getExchangeAt());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -12122,11 +13150,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.PingRpc parsedMessage = null;
+        in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingRpc) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -12136,28 +13164,28 @@ public final class Protos {
         return this;
       }
 
-      private long pingAt_ ;
+      private long exchangeAt_ ;
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>int64 exchange_at = 1;</code>
        */
-      public long getPingAt() {
-        return pingAt_;
+      public long getExchangeAt() {
+        return exchangeAt_;
       }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>int64 exchange_at = 1;</code>
        */
-      public Builder setPingAt(long value) {
+      public Builder setExchangeAt(long value) {
         
-        pingAt_ = value;
+        exchangeAt_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>int64 exchange_at = 1;</code>
        */
-      public Builder clearPingAt() {
+      public Builder clearExchangeAt() {
         
-        pingAt_ = 0L;
+        exchangeAt_ = 0L;
         onChanged();
         return this;
       }
@@ -12174,69 +13202,164 @@ public final class Protos {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:PingRpc)
+      // @@protoc_insertion_point(builder_scope:MembersMergedResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:PingRpc)
-    private static final in.xnnyygn.xgossip.rpc.Protos.PingRpc DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:MembersMergedResponse)
+    private static final in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse();
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstance() {
+    public static in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PingRpc>
-        PARSER = new com.google.protobuf.AbstractParser<PingRpc>() {
+    private static final com.google.protobuf.Parser<MembersMergedResponse>
+        PARSER = new com.google.protobuf.AbstractParser<MembersMergedResponse>() {
       @java.lang.Override
-      public PingRpc parsePartialFrom(
+      public MembersMergedResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PingRpc(input, extensionRegistry);
+        return new MembersMergedResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PingRpc> parser() {
+    public static com.google.protobuf.Parser<MembersMergedResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PingRpc> getParserForType() {
+    public com.google.protobuf.Parser<MembersMergedResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xgossip.rpc.Protos.MembersMergedResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PingResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PingResponse)
+  public interface PingRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PingRpc)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>int64 ping_at = 1;</code>
      */
     long getPingAt();
+
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> 
+        getMemberJoinedUpdatesList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index);
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    int getMemberJoinedUpdatesCount();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> 
+        getMemberLeavedUpdatesList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index);
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    int getMemberLeavedUpdatesCount();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> 
+        getNotificationsList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index);
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    int getNotificationsCount();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code PingResponse}
+   * Protobuf type {@code PingRpc}
    */
-  public  static final class PingResponse extends
+  public  static final class PingRpc extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:PingResponse)
-      PingResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:PingRpc)
+      PingRpcOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PingResponse.newBuilder() to construct.
-    private PingResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PingRpc.newBuilder() to construct.
+    private PingRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PingResponse() {
+    private PingRpc() {
       pingAt_ = 0L;
+      memberJoinedUpdates_ = java.util.Collections.emptyList();
+      memberLeavedUpdates_ = java.util.Collections.emptyList();
+      notifications_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -12244,7 +13367,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PingResponse(
+    private PingRpc(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12268,6 +13391,33 @@ public final class Protos {
               pingAt_ = input.readInt64();
               break;
             }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              memberJoinedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              memberLeavedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              notifications_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberNotification.parser(), extensionRegistry));
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -12283,23 +13433,33 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          notifications_ = java.util.Collections.unmodifiableList(notifications_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_fieldAccessorTable
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.PingResponse.class, in.xnnyygn.xgossip.rpc.Protos.PingResponse.Builder.class);
+              in.xnnyygn.xgossip.rpc.Protos.PingRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRpc.Builder.class);
     }
 
+    private int bitField0_;
     public static final int PING_AT_FIELD_NUMBER = 1;
     private long pingAt_;
     /**
@@ -12309,6 +13469,131 @@ public final class Protos {
       return pingAt_;
     }
 
+    public static final int MEMBER_JOINED_UPDATES_FIELD_NUMBER = 3;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_;
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public int getMemberJoinedUpdatesCount() {
+      return memberJoinedUpdates_.size();
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+
+    public static final int MEMBER_LEAVED_UPDATES_FIELD_NUMBER = 4;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_;
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public int getMemberLeavedUpdatesCount() {
+      return memberLeavedUpdates_.size();
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+
+    public static final int NOTIFICATIONS_FIELD_NUMBER = 5;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_;
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public int getNotificationsCount() {
+      return notifications_.size();
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+      return notifications_.get(index);
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index) {
+      return notifications_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -12326,6 +13611,15 @@ public final class Protos {
       if (pingAt_ != 0L) {
         output.writeInt64(1, pingAt_);
       }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        output.writeMessage(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        output.writeMessage(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        output.writeMessage(5, notifications_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -12339,6 +13633,18 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(1, pingAt_);
       }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, notifications_.get(i));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -12349,14 +13655,20 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingResponse)) {
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingRpc)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xgossip.rpc.Protos.PingResponse other = (in.xnnyygn.xgossip.rpc.Protos.PingResponse) obj;
+      in.xnnyygn.xgossip.rpc.Protos.PingRpc other = (in.xnnyygn.xgossip.rpc.Protos.PingRpc) obj;
 
       boolean result = true;
       result = result && (getPingAt()
           == other.getPingAt());
+      result = result && getMemberJoinedUpdatesList()
+          .equals(other.getMemberJoinedUpdatesList());
+      result = result && getMemberLeavedUpdatesList()
+          .equals(other.getMemberLeavedUpdatesList());
+      result = result && getNotificationsList()
+          .equals(other.getNotificationsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -12371,74 +13683,86 @@ public final class Protos {
       hash = (37 * hash) + PING_AT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
           getPingAt());
+      if (getMemberJoinedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_JOINED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberJoinedUpdatesList().hashCode();
+      }
+      if (getMemberLeavedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_LEAVED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberLeavedUpdatesList().hashCode();
+      }
+      if (getNotificationsCount() > 0) {
+        hash = (37 * hash) + NOTIFICATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getNotificationsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(byte[] data)
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseDelimitedFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12451,7 +13775,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingResponse prototype) {
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingRpc prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -12467,26 +13791,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code PingResponse}
+     * Protobuf type {@code PingRpc}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PingResponse)
-        in.xnnyygn.xgossip.rpc.Protos.PingResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:PingRpc)
+        in.xnnyygn.xgossip.rpc.Protos.PingRpcOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_fieldAccessorTable
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.PingResponse.class, in.xnnyygn.xgossip.rpc.Protos.PingResponse.Builder.class);
+                in.xnnyygn.xgossip.rpc.Protos.PingRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRpc.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingResponse.newBuilder()
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingRpc.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12499,6 +13823,9 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getMemberJoinedUpdatesFieldBuilder();
+          getMemberLeavedUpdatesFieldBuilder();
+          getNotificationsFieldBuilder();
         }
       }
       @java.lang.Override
@@ -12506,23 +13833,41 @@ public final class Protos {
         super.clear();
         pingAt_ = 0L;
 
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          notificationsBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRpc_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.PingResponse.getDefaultInstance();
+      public in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.PingRpc.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingResponse build() {
-        in.xnnyygn.xgossip.rpc.Protos.PingResponse result = buildPartial();
+      public in.xnnyygn.xgossip.rpc.Protos.PingRpc build() {
+        in.xnnyygn.xgossip.rpc.Protos.PingRpc result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -12530,9 +13875,39 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingResponse buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.PingResponse result = new in.xnnyygn.xgossip.rpc.Protos.PingResponse(this);
+      public in.xnnyygn.xgossip.rpc.Protos.PingRpc buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.PingRpc result = new in.xnnyygn.xgossip.rpc.Protos.PingRpc(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         result.pingAt_ = pingAt_;
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.memberJoinedUpdates_ = memberJoinedUpdates_;
+        } else {
+          result.memberJoinedUpdates_ = memberJoinedUpdatesBuilder_.build();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.memberLeavedUpdates_ = memberLeavedUpdates_;
+        } else {
+          result.memberLeavedUpdates_ = memberLeavedUpdatesBuilder_.build();
+        }
+        if (notificationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            notifications_ = java.util.Collections.unmodifiableList(notifications_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.notifications_ = notifications_;
+        } else {
+          result.notifications_ = notificationsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -12571,39 +13946,117 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingResponse) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingResponse)other);
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingRpc) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingRpc)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingResponse other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.PingResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingRpc other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.PingRpc.getDefaultInstance()) return this;
         if (other.getPingAt() != 0L) {
           setPingAt(other.getPingAt());
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdates_.isEmpty()) {
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureMemberJoinedUpdatesIsMutable();
+              memberJoinedUpdates_.addAll(other.memberJoinedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdatesBuilder_.isEmpty()) {
+              memberJoinedUpdatesBuilder_.dispose();
+              memberJoinedUpdatesBuilder_ = null;
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              memberJoinedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberJoinedUpdatesFieldBuilder() : null;
+            } else {
+              memberJoinedUpdatesBuilder_.addAllMessages(other.memberJoinedUpdates_);
+            }
+          }
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdates_.isEmpty()) {
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMemberLeavedUpdatesIsMutable();
+              memberLeavedUpdates_.addAll(other.memberLeavedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdatesBuilder_.isEmpty()) {
+              memberLeavedUpdatesBuilder_.dispose();
+              memberLeavedUpdatesBuilder_ = null;
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              memberLeavedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberLeavedUpdatesFieldBuilder() : null;
+            } else {
+              memberLeavedUpdatesBuilder_.addAllMessages(other.memberLeavedUpdates_);
+            }
+          }
+        }
+        if (notificationsBuilder_ == null) {
+          if (!other.notifications_.isEmpty()) {
+            if (notifications_.isEmpty()) {
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNotificationsIsMutable();
+              notifications_.addAll(other.notifications_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.notifications_.isEmpty()) {
+            if (notificationsBuilder_.isEmpty()) {
+              notificationsBuilder_.dispose();
+              notificationsBuilder_ = null;
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              notificationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNotificationsFieldBuilder() : null;
+            } else {
+              notificationsBuilder_.addAllMessages(other.notifications_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.PingResponse parsedMessage = null;
+        in.xnnyygn.xgossip.rpc.Protos.PingRpc parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingResponse) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingRpc) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -12612,6 +14065,7 @@ public final class Protos {
         }
         return this;
       }
+      private int bitField0_;
 
       private long pingAt_ ;
       /**
@@ -12638,732 +14092,5108 @@ public final class Protos {
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberJoinedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>(memberJoinedUpdates_);
+          bitField0_ |= 0x00000002;
+         }
       }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> memberJoinedUpdatesBuilder_;
 
-      // @@protoc_insertion_point(builder_scope:PingResponse)
-    }
-
-    // @@protoc_insertion_point(class_scope:PingResponse)
-    private static final in.xnnyygn.xgossip.rpc.Protos.PingResponse DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingResponse();
-    }
-
-    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PingResponse>
-        PARSER = new com.google.protobuf.AbstractParser<PingResponse>() {
-      @java.lang.Override
-      public PingResponse parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PingResponse(input, extensionRegistry);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessageList();
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<PingResponse> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PingResponse> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PingRequestRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PingRequestRpc)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int64 ping_at = 1;</code>
-     */
-    long getPingAt();
-
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    boolean hasEndpoint();
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint();
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder();
-  }
-  /**
-   * Protobuf type {@code PingRequestRpc}
-   */
-  public  static final class PingRequestRpc extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:PingRequestRpc)
-      PingRequestRpcOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use PingRequestRpc.newBuilder() to construct.
-    private PingRequestRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private PingRequestRpc() {
-      pingAt_ = 0L;
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private PingRequestRpc(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public int getMemberJoinedUpdatesCount() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.size();
+        } else {
+          return memberJoinedUpdatesBuilder_.getCount();
+        }
       }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-
-              pingAt_ = input.readInt64();
-              break;
-            }
-            case 18: {
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder subBuilder = null;
-              if (endpoint_ != null) {
-                subBuilder = endpoint_.toBuilder();
-              }
-              endpoint_ = input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(endpoint_);
-                endpoint_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessage(index);
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.Builder.class);
-    }
-
-    public static final int PING_AT_FIELD_NUMBER = 1;
-    private long pingAt_;
-    /**
-     * <code>int64 ping_at = 1;</code>
-     */
-    public long getPingAt() {
-      return pingAt_;
-    }
-
-    public static final int ENDPOINT_FIELD_NUMBER = 2;
-    private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint endpoint_;
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    public boolean hasEndpoint() {
-      return endpoint_ != null;
-    }
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint() {
-      return endpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
-    }
-    /**
-     * <code>.MemberEndpoint endpoint = 2;</code>
-     */
-    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder() {
-      return getEndpoint();
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (pingAt_ != 0L) {
-        output.writeInt64(1, pingAt_);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
       }
-      if (endpoint_ != null) {
-        output.writeMessage(2, getEndpoint());
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-      unknownFields.writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (pingAt_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, pingAt_);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
       }
-      if (endpoint_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getEndpoint());
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc)) {
-        return super.equals(obj);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
-      in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc other = (in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) obj;
-
-      boolean result = true;
-      result = result && (getPingAt()
-          == other.getPingAt());
-      result = result && (hasEndpoint() == other.hasEndpoint());
-      if (hasEndpoint()) {
-        result = result && getEndpoint()
-            .equals(other.getEndpoint());
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addAllMemberJoinedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> values) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberJoinedUpdates_);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder clearMemberJoinedUpdates() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        return this;
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getPingAt());
-      if (hasEndpoint()) {
-        hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
-        hash = (53 * hash) + getEndpoint().hashCode();
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder removeMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.remove(index);
+        }
+        return this;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PingRequestRpc}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PingRequestRpc)
-        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpcOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder getMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilder(index);
       }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.Builder.class);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+          int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);  } else {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+           getMemberJoinedUpdatesOrBuilderList() {
+        if (memberJoinedUpdatesBuilder_ != null) {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder() {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        pingAt_ = 0L;
-
-        if (endpointBuilder_ == null) {
-          endpoint_ = null;
-        } else {
-          endpoint_ = null;
-          endpointBuilder_ = null;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder> 
+           getMemberJoinedUpdatesBuilderList() {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+          getMemberJoinedUpdatesFieldBuilder() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder>(
+                  memberJoinedUpdates_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          memberJoinedUpdates_ = null;
         }
-        return this;
+        return memberJoinedUpdatesBuilder_;
       }
 
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberLeavedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>(memberLeavedUpdates_);
+          bitField0_ |= 0x00000004;
+         }
       }
 
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.getDefaultInstance();
-      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> memberLeavedUpdatesBuilder_;
 
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc build() {
-        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessageList();
         }
-        return result;
       }
-
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc result = new in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc(this);
-        result.pingAt_ = pingAt_;
-        if (endpointBuilder_ == null) {
-          result.endpoint_ = endpoint_;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public int getMemberLeavedUpdatesCount() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.size();
         } else {
-          result.endpoint_ = endpointBuilder_.build();
+          return memberLeavedUpdatesBuilder_.getCount();
         }
-        onBuilt();
-        return result;
-      }
-
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
-      }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessage(index);
+        }
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
-      }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
-      }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
-      }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.getDefaultInstance()) return this;
-        if (other.getPingAt() != 0L) {
-          setPingAt(other.getPingAt());
-        }
-        if (other.hasEndpoint()) {
-          mergeEndpoint(other.getEndpoint());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, value);
         }
         return this;
       }
-
-      private long pingAt_ ;
-      /**
-       * <code>int64 ping_at = 1;</code>
-       */
-      public long getPingAt() {
-        return pingAt_;
-      }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder setPingAt(long value) {
-        
-        pingAt_ = value;
-        onChanged();
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder clearPingAt() {
-        
-        pingAt_ = 0L;
-        onChanged();
+      public Builder addMemberLeavedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint endpoint_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> endpointBuilder_;
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public boolean hasEndpoint() {
-        return endpointBuilder_ != null || endpoint_ != null;
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint() {
-        if (endpointBuilder_ == null) {
-          return endpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
+      public Builder addMemberLeavedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(builderForValue.build());
+          onChanged();
         } else {
-          return endpointBuilder_.getMessage();
+          memberLeavedUpdatesBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder setEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
-        if (endpointBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          endpoint_ = value;
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, builderForValue.build());
           onChanged();
         } else {
-          endpointBuilder_.setMessage(value);
+          memberLeavedUpdatesBuilder_.addMessage(index, builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder setEndpoint(
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder builderForValue) {
-        if (endpointBuilder_ == null) {
-          endpoint_ = builderForValue.build();
+      public Builder addAllMemberLeavedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> values) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberLeavedUpdates_);
           onChanged();
         } else {
-          endpointBuilder_.setMessage(builderForValue.build());
+          memberLeavedUpdatesBuilder_.addAllMessages(values);
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder mergeEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
-        if (endpointBuilder_ == null) {
-          if (endpoint_ != null) {
-            endpoint_ =
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.newBuilder(endpoint_).mergeFrom(value).buildPartial();
-          } else {
-            endpoint_ = value;
-          }
+      public Builder clearMemberLeavedUpdates() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
           onChanged();
         } else {
-          endpointBuilder_.mergeFrom(value);
+          memberLeavedUpdatesBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public Builder clearEndpoint() {
-        if (endpointBuilder_ == null) {
-          endpoint_ = null;
+      public Builder removeMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.remove(index);
           onChanged();
         } else {
-          endpoint_ = null;
-          endpointBuilder_ = null;
+          memberLeavedUpdatesBuilder_.remove(index);
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder getEndpointBuilder() {
-        
-        onChanged();
-        return getEndpointFieldBuilder().getBuilder();
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder getMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder() {
-        if (endpointBuilder_ != null) {
-          return endpointBuilder_.getMessageOrBuilder();
-        } else {
-          return endpoint_ == null ?
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+          int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);  } else {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>.MemberEndpoint endpoint = 2;</code>
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
-          getEndpointFieldBuilder() {
-        if (endpointBuilder_ == null) {
-          endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
-                  getEndpoint(),
-                  getParentForChildren(),
-                  isClean());
-          endpoint_ = null;
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+           getMemberLeavedUpdatesOrBuilderList() {
+        if (memberLeavedUpdatesBuilder_ != null) {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
         }
-        return endpointBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder() {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
       }
-
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
       }
-
-
-      // @@protoc_insertion_point(builder_scope:PingRequestRpc)
-    }
-
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder> 
+           getMemberLeavedUpdatesBuilderList() {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+          getMemberLeavedUpdatesFieldBuilder() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder>(
+                  memberLeavedUpdates_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          memberLeavedUpdates_ = null;
+        }
+        return memberLeavedUpdatesBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_ =
+        java.util.Collections.emptyList();
+      private void ensureNotificationsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>(notifications_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> notificationsBuilder_;
+
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+        if (notificationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(notifications_);
+        } else {
+          return notificationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public int getNotificationsCount() {
+        if (notificationsBuilder_ == null) {
+          return notifications_.size();
+        } else {
+          return notificationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);
+        } else {
+          return notificationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.set(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addAllNotifications(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotification> values) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, notifications_);
+          onChanged();
+        } else {
+          notificationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder clearNotifications() {
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder removeNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.remove(index);
+          onChanged();
+        } else {
+          notificationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder getNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+          int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);  } else {
+          return notificationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+           getNotificationsOrBuilderList() {
+        if (notificationsBuilder_ != null) {
+          return notificationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(notifications_);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder() {
+        return getNotificationsFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder> 
+           getNotificationsBuilderList() {
+        return getNotificationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+          getNotificationsFieldBuilder() {
+        if (notificationsBuilder_ == null) {
+          notificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder>(
+                  notifications_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          notifications_ = null;
+        }
+        return notificationsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PingRpc)
+    }
+
+    // @@protoc_insertion_point(class_scope:PingRpc)
+    private static final in.xnnyygn.xgossip.rpc.Protos.PingRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingRpc();
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PingRpc>
+        PARSER = new com.google.protobuf.AbstractParser<PingRpc>() {
+      @java.lang.Override
+      public PingRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PingRpc(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PingRpc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PingRpc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xgossip.rpc.Protos.PingRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PingResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PingResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    long getPingAt();
+
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> 
+        getMemberJoinedUpdatesList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index);
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    int getMemberJoinedUpdatesCount();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> 
+        getMemberLeavedUpdatesList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index);
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    int getMemberLeavedUpdatesCount();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> 
+        getNotificationsList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index);
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    int getNotificationsCount();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code PingResponse}
+   */
+  public  static final class PingResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PingResponse)
+      PingResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PingResponse.newBuilder() to construct.
+    private PingResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PingResponse() {
+      pingAt_ = 0L;
+      memberJoinedUpdates_ = java.util.Collections.emptyList();
+      memberLeavedUpdates_ = java.util.Collections.emptyList();
+      notifications_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PingResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              pingAt_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              memberJoinedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              memberLeavedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              notifications_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberNotification.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          notifications_ = java.util.Collections.unmodifiableList(notifications_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xgossip.rpc.Protos.PingResponse.class, in.xnnyygn.xgossip.rpc.Protos.PingResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PING_AT_FIELD_NUMBER = 1;
+    private long pingAt_;
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    public long getPingAt() {
+      return pingAt_;
+    }
+
+    public static final int MEMBER_JOINED_UPDATES_FIELD_NUMBER = 3;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_;
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public int getMemberJoinedUpdatesCount() {
+      return memberJoinedUpdates_.size();
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+
+    public static final int MEMBER_LEAVED_UPDATES_FIELD_NUMBER = 4;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_;
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public int getMemberLeavedUpdatesCount() {
+      return memberLeavedUpdates_.size();
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+
+    public static final int NOTIFICATIONS_FIELD_NUMBER = 5;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_;
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public int getNotificationsCount() {
+      return notifications_.size();
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+      return notifications_.get(index);
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index) {
+      return notifications_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (pingAt_ != 0L) {
+        output.writeInt64(1, pingAt_);
+      }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        output.writeMessage(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        output.writeMessage(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        output.writeMessage(5, notifications_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (pingAt_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, pingAt_);
+      }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, notifications_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingResponse)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xgossip.rpc.Protos.PingResponse other = (in.xnnyygn.xgossip.rpc.Protos.PingResponse) obj;
+
+      boolean result = true;
+      result = result && (getPingAt()
+          == other.getPingAt());
+      result = result && getMemberJoinedUpdatesList()
+          .equals(other.getMemberJoinedUpdatesList());
+      result = result && getMemberLeavedUpdatesList()
+          .equals(other.getMemberLeavedUpdatesList());
+      result = result && getNotificationsList()
+          .equals(other.getNotificationsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPingAt());
+      if (getMemberJoinedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_JOINED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberJoinedUpdatesList().hashCode();
+      }
+      if (getMemberLeavedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_LEAVED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberLeavedUpdatesList().hashCode();
+      }
+      if (getNotificationsCount() > 0) {
+        hash = (37 * hash) + NOTIFICATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getNotificationsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PingResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PingResponse)
+        in.xnnyygn.xgossip.rpc.Protos.PingResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xgossip.rpc.Protos.PingResponse.class, in.xnnyygn.xgossip.rpc.Protos.PingResponse.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getMemberJoinedUpdatesFieldBuilder();
+          getMemberLeavedUpdatesFieldBuilder();
+          getNotificationsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        pingAt_ = 0L;
+
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.PingResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingResponse build() {
+        in.xnnyygn.xgossip.rpc.Protos.PingResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingResponse buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.PingResponse result = new in.xnnyygn.xgossip.rpc.Protos.PingResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.pingAt_ = pingAt_;
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.memberJoinedUpdates_ = memberJoinedUpdates_;
+        } else {
+          result.memberJoinedUpdates_ = memberJoinedUpdatesBuilder_.build();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.memberLeavedUpdates_ = memberLeavedUpdates_;
+        } else {
+          result.memberLeavedUpdates_ = memberLeavedUpdatesBuilder_.build();
+        }
+        if (notificationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            notifications_ = java.util.Collections.unmodifiableList(notifications_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.notifications_ = notifications_;
+        } else {
+          result.notifications_ = notificationsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingResponse) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingResponse other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.PingResponse.getDefaultInstance()) return this;
+        if (other.getPingAt() != 0L) {
+          setPingAt(other.getPingAt());
+        }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdates_.isEmpty()) {
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureMemberJoinedUpdatesIsMutable();
+              memberJoinedUpdates_.addAll(other.memberJoinedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdatesBuilder_.isEmpty()) {
+              memberJoinedUpdatesBuilder_.dispose();
+              memberJoinedUpdatesBuilder_ = null;
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              memberJoinedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberJoinedUpdatesFieldBuilder() : null;
+            } else {
+              memberJoinedUpdatesBuilder_.addAllMessages(other.memberJoinedUpdates_);
+            }
+          }
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdates_.isEmpty()) {
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMemberLeavedUpdatesIsMutable();
+              memberLeavedUpdates_.addAll(other.memberLeavedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdatesBuilder_.isEmpty()) {
+              memberLeavedUpdatesBuilder_.dispose();
+              memberLeavedUpdatesBuilder_ = null;
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              memberLeavedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberLeavedUpdatesFieldBuilder() : null;
+            } else {
+              memberLeavedUpdatesBuilder_.addAllMessages(other.memberLeavedUpdates_);
+            }
+          }
+        }
+        if (notificationsBuilder_ == null) {
+          if (!other.notifications_.isEmpty()) {
+            if (notifications_.isEmpty()) {
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNotificationsIsMutable();
+              notifications_.addAll(other.notifications_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.notifications_.isEmpty()) {
+            if (notificationsBuilder_.isEmpty()) {
+              notificationsBuilder_.dispose();
+              notificationsBuilder_ = null;
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              notificationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNotificationsFieldBuilder() : null;
+            } else {
+              notificationsBuilder_.addAllMessages(other.notifications_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xgossip.rpc.Protos.PingResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long pingAt_ ;
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public long getPingAt() {
+        return pingAt_;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder setPingAt(long value) {
+        
+        pingAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder clearPingAt() {
+        
+        pingAt_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberJoinedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>(memberJoinedUpdates_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> memberJoinedUpdatesBuilder_;
+
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public int getMemberJoinedUpdatesCount() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.size();
+        } else {
+          return memberJoinedUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addAllMemberJoinedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> values) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberJoinedUpdates_);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder clearMemberJoinedUpdates() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder removeMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder getMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+          int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);  } else {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+           getMemberJoinedUpdatesOrBuilderList() {
+        if (memberJoinedUpdatesBuilder_ != null) {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder() {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder> 
+           getMemberJoinedUpdatesBuilderList() {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+          getMemberJoinedUpdatesFieldBuilder() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder>(
+                  memberJoinedUpdates_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          memberJoinedUpdates_ = null;
+        }
+        return memberJoinedUpdatesBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberLeavedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>(memberLeavedUpdates_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> memberLeavedUpdatesBuilder_;
+
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public int getMemberLeavedUpdatesCount() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.size();
+        } else {
+          return memberLeavedUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addAllMemberLeavedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> values) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberLeavedUpdates_);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder clearMemberLeavedUpdates() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder removeMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder getMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+          int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);  } else {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+           getMemberLeavedUpdatesOrBuilderList() {
+        if (memberLeavedUpdatesBuilder_ != null) {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder() {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder> 
+           getMemberLeavedUpdatesBuilderList() {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+          getMemberLeavedUpdatesFieldBuilder() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder>(
+                  memberLeavedUpdates_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          memberLeavedUpdates_ = null;
+        }
+        return memberLeavedUpdatesBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_ =
+        java.util.Collections.emptyList();
+      private void ensureNotificationsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>(notifications_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> notificationsBuilder_;
+
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+        if (notificationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(notifications_);
+        } else {
+          return notificationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public int getNotificationsCount() {
+        if (notificationsBuilder_ == null) {
+          return notifications_.size();
+        } else {
+          return notificationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);
+        } else {
+          return notificationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.set(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addAllNotifications(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotification> values) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, notifications_);
+          onChanged();
+        } else {
+          notificationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder clearNotifications() {
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder removeNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.remove(index);
+          onChanged();
+        } else {
+          notificationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder getNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+          int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);  } else {
+          return notificationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+           getNotificationsOrBuilderList() {
+        if (notificationsBuilder_ != null) {
+          return notificationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(notifications_);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder() {
+        return getNotificationsFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder> 
+           getNotificationsBuilderList() {
+        return getNotificationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+          getNotificationsFieldBuilder() {
+        if (notificationsBuilder_ == null) {
+          notificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder>(
+                  notifications_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          notifications_ = null;
+        }
+        return notificationsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PingResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:PingResponse)
+    private static final in.xnnyygn.xgossip.rpc.Protos.PingResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingResponse();
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PingResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PingResponse>() {
+      @java.lang.Override
+      public PingResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PingResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PingResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PingResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xgossip.rpc.Protos.PingResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PingRequestRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PingRequestRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    long getPingAt();
+
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    boolean hasEndpoint();
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint();
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder();
+  }
+  /**
+   * Protobuf type {@code PingRequestRpc}
+   */
+  public  static final class PingRequestRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PingRequestRpc)
+      PingRequestRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PingRequestRpc.newBuilder() to construct.
+    private PingRequestRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PingRequestRpc() {
+      pingAt_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PingRequestRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              pingAt_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder subBuilder = null;
+              if (endpoint_ != null) {
+                subBuilder = endpoint_.toBuilder();
+              }
+              endpoint_ = input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(endpoint_);
+                endpoint_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.Builder.class);
+    }
+
+    public static final int PING_AT_FIELD_NUMBER = 1;
+    private long pingAt_;
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    public long getPingAt() {
+      return pingAt_;
+    }
+
+    public static final int ENDPOINT_FIELD_NUMBER = 2;
+    private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint endpoint_;
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    public boolean hasEndpoint() {
+      return endpoint_ != null;
+    }
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint() {
+      return endpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
+    }
+    /**
+     * <code>.MemberEndpoint endpoint = 2;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder() {
+      return getEndpoint();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (pingAt_ != 0L) {
+        output.writeInt64(1, pingAt_);
+      }
+      if (endpoint_ != null) {
+        output.writeMessage(2, getEndpoint());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (pingAt_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, pingAt_);
+      }
+      if (endpoint_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getEndpoint());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc other = (in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) obj;
+
+      boolean result = true;
+      result = result && (getPingAt()
+          == other.getPingAt());
+      result = result && (hasEndpoint() == other.hasEndpoint());
+      if (hasEndpoint()) {
+        result = result && getEndpoint()
+            .equals(other.getEndpoint());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPingAt());
+      if (hasEndpoint()) {
+        hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
+        hash = (53 * hash) + getEndpoint().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PingRequestRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PingRequestRpc)
+        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.class, in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        pingAt_ = 0L;
+
+        if (endpointBuilder_ == null) {
+          endpoint_ = null;
+        } else {
+          endpoint_ = null;
+          endpointBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_PingRequestRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc build() {
+        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc result = new in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc(this);
+        result.pingAt_ = pingAt_;
+        if (endpointBuilder_ == null) {
+          result.endpoint_ = endpoint_;
+        } else {
+          result.endpoint_ = endpointBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc.getDefaultInstance()) return this;
+        if (other.getPingAt() != 0L) {
+          setPingAt(other.getPingAt());
+        }
+        if (other.hasEndpoint()) {
+          mergeEndpoint(other.getEndpoint());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long pingAt_ ;
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public long getPingAt() {
+        return pingAt_;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder setPingAt(long value) {
+        
+        pingAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder clearPingAt() {
+        
+        pingAt_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint endpoint_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> endpointBuilder_;
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public boolean hasEndpoint() {
+        return endpointBuilder_ != null || endpoint_ != null;
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getEndpoint() {
+        if (endpointBuilder_ == null) {
+          return endpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
+        } else {
+          return endpointBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public Builder setEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          endpoint_ = value;
+          onChanged();
+        } else {
+          endpointBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public Builder setEndpoint(
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder builderForValue) {
+        if (endpointBuilder_ == null) {
+          endpoint_ = builderForValue.build();
+          onChanged();
+        } else {
+          endpointBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public Builder mergeEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (endpoint_ != null) {
+            endpoint_ =
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.newBuilder(endpoint_).mergeFrom(value).buildPartial();
+          } else {
+            endpoint_ = value;
+          }
+          onChanged();
+        } else {
+          endpointBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public Builder clearEndpoint() {
+        if (endpointBuilder_ == null) {
+          endpoint_ = null;
+          onChanged();
+        } else {
+          endpoint_ = null;
+          endpointBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder getEndpointBuilder() {
+        
+        onChanged();
+        return getEndpointFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getEndpointOrBuilder() {
+        if (endpointBuilder_ != null) {
+          return endpointBuilder_.getMessageOrBuilder();
+        } else {
+          return endpoint_ == null ?
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : endpoint_;
+        }
+      }
+      /**
+       * <code>.MemberEndpoint endpoint = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
+          getEndpointFieldBuilder() {
+        if (endpointBuilder_ == null) {
+          endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
+                  getEndpoint(),
+                  getParentForChildren(),
+                  isClean());
+          endpoint_ = null;
+        }
+        return endpointBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PingRequestRpc)
+    }
+
     // @@protoc_insertion_point(class_scope:PingRequestRpc)
     private static final in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc();
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc();
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PingRequestRpc>
+        PARSER = new com.google.protobuf.AbstractParser<PingRequestRpc>() {
+      @java.lang.Override
+      public PingRequestRpc parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PingRequestRpc(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PingRequestRpc> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PingRequestRpc> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ProxyPingRpcOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProxyPingRpc)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    long getPingAt();
+
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    boolean hasSourceEndpoint();
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint();
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder();
+
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> 
+        getMemberJoinedUpdatesList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index);
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    int getMemberJoinedUpdatesCount();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> 
+        getMemberLeavedUpdatesList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index);
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    int getMemberLeavedUpdatesCount();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> 
+        getNotificationsList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index);
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    int getNotificationsCount();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code ProxyPingRpc}
+   */
+  public  static final class ProxyPingRpc extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ProxyPingRpc)
+      ProxyPingRpcOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ProxyPingRpc.newBuilder() to construct.
+    private ProxyPingRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ProxyPingRpc() {
+      pingAt_ = 0L;
+      memberJoinedUpdates_ = java.util.Collections.emptyList();
+      memberLeavedUpdates_ = java.util.Collections.emptyList();
+      notifications_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProxyPingRpc(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              pingAt_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder subBuilder = null;
+              if (sourceEndpoint_ != null) {
+                subBuilder = sourceEndpoint_.toBuilder();
+              }
+              sourceEndpoint_ = input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(sourceEndpoint_);
+                sourceEndpoint_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              memberJoinedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              memberLeavedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              notifications_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberNotification.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          notifications_ = java.util.Collections.unmodifiableList(notifications_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PING_AT_FIELD_NUMBER = 1;
+    private long pingAt_;
+    /**
+     * <code>int64 ping_at = 1;</code>
+     */
+    public long getPingAt() {
+      return pingAt_;
+    }
+
+    public static final int SOURCE_ENDPOINT_FIELD_NUMBER = 2;
+    private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint sourceEndpoint_;
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    public boolean hasSourceEndpoint() {
+      return sourceEndpoint_ != null;
+    }
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint() {
+      return sourceEndpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+    }
+    /**
+     * <code>.MemberEndpoint source_endpoint = 2;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
+      return getSourceEndpoint();
+    }
+
+    public static final int MEMBER_JOINED_UPDATES_FIELD_NUMBER = 3;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_;
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public int getMemberJoinedUpdatesCount() {
+      return memberJoinedUpdates_.size();
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+
+    public static final int MEMBER_LEAVED_UPDATES_FIELD_NUMBER = 4;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_;
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public int getMemberLeavedUpdatesCount() {
+      return memberLeavedUpdates_.size();
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+
+    public static final int NOTIFICATIONS_FIELD_NUMBER = 5;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_;
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public int getNotificationsCount() {
+      return notifications_.size();
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+      return notifications_.get(index);
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index) {
+      return notifications_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (pingAt_ != 0L) {
+        output.writeInt64(1, pingAt_);
+      }
+      if (sourceEndpoint_ != null) {
+        output.writeMessage(2, getSourceEndpoint());
+      }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        output.writeMessage(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        output.writeMessage(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        output.writeMessage(5, notifications_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (pingAt_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, pingAt_);
+      }
+      if (sourceEndpoint_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getSourceEndpoint());
+      }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, notifications_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc)) {
+        return super.equals(obj);
+      }
+      in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc other = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) obj;
+
+      boolean result = true;
+      result = result && (getPingAt()
+          == other.getPingAt());
+      result = result && (hasSourceEndpoint() == other.hasSourceEndpoint());
+      if (hasSourceEndpoint()) {
+        result = result && getSourceEndpoint()
+            .equals(other.getSourceEndpoint());
+      }
+      result = result && getMemberJoinedUpdatesList()
+          .equals(other.getMemberJoinedUpdatesList());
+      result = result && getMemberLeavedUpdatesList()
+          .equals(other.getMemberLeavedUpdatesList());
+      result = result && getNotificationsList()
+          .equals(other.getNotificationsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPingAt());
+      if (hasSourceEndpoint()) {
+        hash = (37 * hash) + SOURCE_ENDPOINT_FIELD_NUMBER;
+        hash = (53 * hash) + getSourceEndpoint().hashCode();
+      }
+      if (getMemberJoinedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_JOINED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberJoinedUpdatesList().hashCode();
+      }
+      if (getMemberLeavedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_LEAVED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberLeavedUpdatesList().hashCode();
+      }
+      if (getNotificationsCount() > 0) {
+        hash = (37 * hash) + NOTIFICATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getNotificationsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ProxyPingRpc}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProxyPingRpc)
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpcOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.Builder.class);
+      }
+
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getMemberJoinedUpdatesFieldBuilder();
+          getMemberLeavedUpdatesFieldBuilder();
+          getNotificationsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        pingAt_ = 0L;
+
+        if (sourceEndpointBuilder_ == null) {
+          sourceEndpoint_ = null;
+        } else {
+          sourceEndpoint_ = null;
+          sourceEndpointBuilder_ = null;
+        }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc build() {
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc result = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.pingAt_ = pingAt_;
+        if (sourceEndpointBuilder_ == null) {
+          result.sourceEndpoint_ = sourceEndpoint_;
+        } else {
+          result.sourceEndpoint_ = sourceEndpointBuilder_.build();
+        }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.memberJoinedUpdates_ = memberJoinedUpdates_;
+        } else {
+          result.memberJoinedUpdates_ = memberJoinedUpdatesBuilder_.build();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.memberLeavedUpdates_ = memberLeavedUpdates_;
+        } else {
+          result.memberLeavedUpdates_ = memberLeavedUpdatesBuilder_.build();
+        }
+        if (notificationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            notifications_ = java.util.Collections.unmodifiableList(notifications_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.notifications_ = notifications_;
+        } else {
+          result.notifications_ = notificationsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.getDefaultInstance()) return this;
+        if (other.getPingAt() != 0L) {
+          setPingAt(other.getPingAt());
+        }
+        if (other.hasSourceEndpoint()) {
+          mergeSourceEndpoint(other.getSourceEndpoint());
+        }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdates_.isEmpty()) {
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMemberJoinedUpdatesIsMutable();
+              memberJoinedUpdates_.addAll(other.memberJoinedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdatesBuilder_.isEmpty()) {
+              memberJoinedUpdatesBuilder_.dispose();
+              memberJoinedUpdatesBuilder_ = null;
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              memberJoinedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberJoinedUpdatesFieldBuilder() : null;
+            } else {
+              memberJoinedUpdatesBuilder_.addAllMessages(other.memberJoinedUpdates_);
+            }
+          }
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdates_.isEmpty()) {
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureMemberLeavedUpdatesIsMutable();
+              memberLeavedUpdates_.addAll(other.memberLeavedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdatesBuilder_.isEmpty()) {
+              memberLeavedUpdatesBuilder_.dispose();
+              memberLeavedUpdatesBuilder_ = null;
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              memberLeavedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberLeavedUpdatesFieldBuilder() : null;
+            } else {
+              memberLeavedUpdatesBuilder_.addAllMessages(other.memberLeavedUpdates_);
+            }
+          }
+        }
+        if (notificationsBuilder_ == null) {
+          if (!other.notifications_.isEmpty()) {
+            if (notifications_.isEmpty()) {
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureNotificationsIsMutable();
+              notifications_.addAll(other.notifications_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.notifications_.isEmpty()) {
+            if (notificationsBuilder_.isEmpty()) {
+              notificationsBuilder_.dispose();
+              notificationsBuilder_ = null;
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              notificationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNotificationsFieldBuilder() : null;
+            } else {
+              notificationsBuilder_.addAllMessages(other.notifications_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long pingAt_ ;
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public long getPingAt() {
+        return pingAt_;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder setPingAt(long value) {
+        
+        pingAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 ping_at = 1;</code>
+       */
+      public Builder clearPingAt() {
+        
+        pingAt_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint sourceEndpoint_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> sourceEndpointBuilder_;
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public boolean hasSourceEndpoint() {
+        return sourceEndpointBuilder_ != null || sourceEndpoint_ != null;
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint() {
+        if (sourceEndpointBuilder_ == null) {
+          return sourceEndpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+        } else {
+          return sourceEndpointBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public Builder setSourceEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
+        if (sourceEndpointBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          sourceEndpoint_ = value;
+          onChanged();
+        } else {
+          sourceEndpointBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public Builder setSourceEndpoint(
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder builderForValue) {
+        if (sourceEndpointBuilder_ == null) {
+          sourceEndpoint_ = builderForValue.build();
+          onChanged();
+        } else {
+          sourceEndpointBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public Builder mergeSourceEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
+        if (sourceEndpointBuilder_ == null) {
+          if (sourceEndpoint_ != null) {
+            sourceEndpoint_ =
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.newBuilder(sourceEndpoint_).mergeFrom(value).buildPartial();
+          } else {
+            sourceEndpoint_ = value;
+          }
+          onChanged();
+        } else {
+          sourceEndpointBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public Builder clearSourceEndpoint() {
+        if (sourceEndpointBuilder_ == null) {
+          sourceEndpoint_ = null;
+          onChanged();
+        } else {
+          sourceEndpoint_ = null;
+          sourceEndpointBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder getSourceEndpointBuilder() {
+        
+        onChanged();
+        return getSourceEndpointFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
+        if (sourceEndpointBuilder_ != null) {
+          return sourceEndpointBuilder_.getMessageOrBuilder();
+        } else {
+          return sourceEndpoint_ == null ?
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+        }
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
+          getSourceEndpointFieldBuilder() {
+        if (sourceEndpointBuilder_ == null) {
+          sourceEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
+                  getSourceEndpoint(),
+                  getParentForChildren(),
+                  isClean());
+          sourceEndpoint_ = null;
+        }
+        return sourceEndpointBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberJoinedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>(memberJoinedUpdates_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> memberJoinedUpdatesBuilder_;
+
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public int getMemberJoinedUpdatesCount() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.size();
+        } else {
+          return memberJoinedUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addAllMemberJoinedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> values) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberJoinedUpdates_);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder clearMemberJoinedUpdates() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder removeMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder getMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+          int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);  } else {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+           getMemberJoinedUpdatesOrBuilderList() {
+        if (memberJoinedUpdatesBuilder_ != null) {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder() {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder> 
+           getMemberJoinedUpdatesBuilderList() {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+          getMemberJoinedUpdatesFieldBuilder() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder>(
+                  memberJoinedUpdates_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          memberJoinedUpdates_ = null;
+        }
+        return memberJoinedUpdatesBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberLeavedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>(memberLeavedUpdates_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> memberLeavedUpdatesBuilder_;
+
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public int getMemberLeavedUpdatesCount() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.size();
+        } else {
+          return memberLeavedUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addAllMemberLeavedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> values) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberLeavedUpdates_);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder clearMemberLeavedUpdates() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder removeMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder getMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+          int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);  } else {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+           getMemberLeavedUpdatesOrBuilderList() {
+        if (memberLeavedUpdatesBuilder_ != null) {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder() {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder> 
+           getMemberLeavedUpdatesBuilderList() {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+          getMemberLeavedUpdatesFieldBuilder() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder>(
+                  memberLeavedUpdates_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          memberLeavedUpdates_ = null;
+        }
+        return memberLeavedUpdatesBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_ =
+        java.util.Collections.emptyList();
+      private void ensureNotificationsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>(notifications_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> notificationsBuilder_;
+
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+        if (notificationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(notifications_);
+        } else {
+          return notificationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public int getNotificationsCount() {
+        if (notificationsBuilder_ == null) {
+          return notifications_.size();
+        } else {
+          return notificationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);
+        } else {
+          return notificationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.set(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder addAllNotifications(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotification> values) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, notifications_);
+          onChanged();
+        } else {
+          notificationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder clearNotifications() {
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder removeNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.remove(index);
+          onChanged();
+        } else {
+          notificationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder getNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+          int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);  } else {
+          return notificationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+           getNotificationsOrBuilderList() {
+        if (notificationsBuilder_ != null) {
+          return notificationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(notifications_);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder() {
+        return getNotificationsFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder> 
+           getNotificationsBuilderList() {
+        return getNotificationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+          getNotificationsFieldBuilder() {
+        if (notificationsBuilder_ == null) {
+          notificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder>(
+                  notifications_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          notifications_ = null;
+        }
+        return notificationsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ProxyPingRpc)
+    }
+
+    // @@protoc_insertion_point(class_scope:ProxyPingRpc)
+    private static final in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc();
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstance() {
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PingRequestRpc>
-        PARSER = new com.google.protobuf.AbstractParser<PingRequestRpc>() {
+    private static final com.google.protobuf.Parser<ProxyPingRpc>
+        PARSER = new com.google.protobuf.AbstractParser<ProxyPingRpc>() {
       @java.lang.Override
-      public PingRequestRpc parsePartialFrom(
+      public ProxyPingRpc parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PingRequestRpc(input, extensionRegistry);
+        return new ProxyPingRpc(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PingRequestRpc> parser() {
+    public static com.google.protobuf.Parser<ProxyPingRpc> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PingRequestRpc> getParserForType() {
+    public com.google.protobuf.Parser<ProxyPingRpc> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public in.xnnyygn.xgossip.rpc.Protos.PingRequestRpc getDefaultInstanceForType() {
+    public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ProxyPingRpcOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ProxyPingRpc)
+  public interface ProxyPingResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProxyPingResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -13383,21 +19213,116 @@ public final class Protos {
      * <code>.MemberEndpoint source_endpoint = 2;</code>
      */
     in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder();
+
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> 
+        getMemberJoinedUpdatesList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index);
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    int getMemberJoinedUpdatesCount();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList();
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> 
+        getMemberLeavedUpdatesList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index);
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    int getMemberLeavedUpdatesCount();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList();
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> 
+        getNotificationsList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index);
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    int getNotificationsCount();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList();
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code ProxyPingRpc}
+   * Protobuf type {@code ProxyPingResponse}
    */
-  public  static final class ProxyPingRpc extends
+  public  static final class ProxyPingResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ProxyPingRpc)
-      ProxyPingRpcOrBuilder {
+      // @@protoc_insertion_point(message_implements:ProxyPingResponse)
+      ProxyPingResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ProxyPingRpc.newBuilder() to construct.
-    private ProxyPingRpc(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ProxyPingResponse.newBuilder() to construct.
+    private ProxyPingResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ProxyPingRpc() {
+    private ProxyPingResponse() {
       pingAt_ = 0L;
+      memberJoinedUpdates_ = java.util.Collections.emptyList();
+      memberLeavedUpdates_ = java.util.Collections.emptyList();
+      notifications_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -13405,7 +19330,7 @@ public final class Protos {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private ProxyPingRpc(
+    private ProxyPingResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -13439,7 +19364,34 @@ public final class Protos {
                 subBuilder.mergeFrom(sourceEndpoint_);
                 sourceEndpoint_ = subBuilder.buildPartial();
               }
-
+
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              memberJoinedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              memberLeavedUpdates_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              notifications_.add(
+                  input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberNotification.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -13457,23 +19409,33 @@ public final class Protos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          notifications_ = java.util.Collections.unmodifiableList(notifications_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_fieldAccessorTable
+      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.Builder.class);
+              in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.Builder.class);
     }
 
+    private int bitField0_;
     public static final int PING_AT_FIELD_NUMBER = 1;
     private long pingAt_;
     /**
@@ -13504,6 +19466,131 @@ public final class Protos {
       return getSourceEndpoint();
     }
 
+    public static final int MEMBER_JOINED_UPDATES_FIELD_NUMBER = 3;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_;
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+        getMemberJoinedUpdatesOrBuilderList() {
+      return memberJoinedUpdates_;
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public int getMemberJoinedUpdatesCount() {
+      return memberJoinedUpdates_.size();
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+    /**
+     * <pre>
+     * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+     * </pre>
+     *
+     * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+        int index) {
+      return memberJoinedUpdates_.get(index);
+    }
+
+    public static final int MEMBER_LEAVED_UPDATES_FIELD_NUMBER = 4;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_;
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+        getMemberLeavedUpdatesOrBuilderList() {
+      return memberLeavedUpdates_;
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public int getMemberLeavedUpdatesCount() {
+      return memberLeavedUpdates_.size();
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+    /**
+     * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+        int index) {
+      return memberLeavedUpdates_.get(index);
+    }
+
+    public static final int NOTIFICATIONS_FIELD_NUMBER = 5;
+    private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_;
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+        getNotificationsOrBuilderList() {
+      return notifications_;
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public int getNotificationsCount() {
+      return notifications_.size();
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+      return notifications_.get(index);
+    }
+    /**
+     * <code>repeated .MemberNotification notifications = 5;</code>
+     */
+    public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+        int index) {
+      return notifications_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -13524,6 +19611,15 @@ public final class Protos {
       if (sourceEndpoint_ != null) {
         output.writeMessage(2, getSourceEndpoint());
       }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        output.writeMessage(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        output.writeMessage(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        output.writeMessage(5, notifications_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -13541,6 +19637,18 @@ public final class Protos {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getSourceEndpoint());
       }
+      for (int i = 0; i < memberJoinedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, memberJoinedUpdates_.get(i));
+      }
+      for (int i = 0; i < memberLeavedUpdates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, memberLeavedUpdates_.get(i));
+      }
+      for (int i = 0; i < notifications_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, notifications_.get(i));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -13551,10 +19659,10 @@ public final class Protos {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc)) {
+      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse)) {
         return super.equals(obj);
       }
-      in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc other = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) obj;
+      in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse other = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) obj;
 
       boolean result = true;
       result = result && (getPingAt()
@@ -13564,6 +19672,12 @@ public final class Protos {
         result = result && getSourceEndpoint()
             .equals(other.getSourceEndpoint());
       }
+      result = result && getMemberJoinedUpdatesList()
+          .equals(other.getMemberJoinedUpdatesList());
+      result = result && getMemberLeavedUpdatesList()
+          .equals(other.getMemberLeavedUpdatesList());
+      result = result && getNotificationsList()
+          .equals(other.getNotificationsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -13582,74 +19696,86 @@ public final class Protos {
         hash = (37 * hash) + SOURCE_ENDPOINT_FIELD_NUMBER;
         hash = (53 * hash) + getSourceEndpoint().hashCode();
       }
+      if (getMemberJoinedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_JOINED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberJoinedUpdatesList().hashCode();
+      }
+      if (getMemberLeavedUpdatesCount() > 0) {
+        hash = (37 * hash) + MEMBER_LEAVED_UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getMemberLeavedUpdatesList().hashCode();
+      }
+      if (getNotificationsCount() > 0) {
+        hash = (37 * hash) + NOTIFICATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getNotificationsList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(byte[] data)
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseDelimitedFrom(java.io.InputStream input)
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseDelimitedFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parseFrom(
+    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -13662,7 +19788,7 @@ public final class Protos {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc prototype) {
+    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -13678,26 +19804,26 @@ public final class Protos {
       return builder;
     }
     /**
-     * Protobuf type {@code ProxyPingRpc}
+     * Protobuf type {@code ProxyPingResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ProxyPingRpc)
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpcOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ProxyPingResponse)
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_fieldAccessorTable
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.Builder.class);
+                in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.Builder.class);
       }
 
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.newBuilder()
+      // Construct using in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -13710,6 +19836,9 @@ public final class Protos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getMemberJoinedUpdatesFieldBuilder();
+          getMemberLeavedUpdatesFieldBuilder();
+          getNotificationsFieldBuilder();
         }
       }
       @java.lang.Override
@@ -13723,23 +19852,41 @@ public final class Protos {
           sourceEndpoint_ = null;
           sourceEndpointBuilder_ = null;
         }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          memberJoinedUpdatesBuilder_.clear();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          notificationsBuilder_.clear();
+        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingRpc_descriptor;
+        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.getDefaultInstance();
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse getDefaultInstanceForType() {
+        return in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc build() {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc result = buildPartial();
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse build() {
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -13747,14 +19894,44 @@ public final class Protos {
       }
 
       @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc result = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc(this);
+      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse buildPartial() {
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse result = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         result.pingAt_ = pingAt_;
         if (sourceEndpointBuilder_ == null) {
           result.sourceEndpoint_ = sourceEndpoint_;
         } else {
           result.sourceEndpoint_ = sourceEndpointBuilder_.build();
         }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            memberJoinedUpdates_ = java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.memberJoinedUpdates_ = memberJoinedUpdates_;
+        } else {
+          result.memberJoinedUpdates_ = memberJoinedUpdatesBuilder_.build();
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            memberLeavedUpdates_ = java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.memberLeavedUpdates_ = memberLeavedUpdates_;
+        } else {
+          result.memberLeavedUpdates_ = memberLeavedUpdatesBuilder_.build();
+        }
+        if (notificationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            notifications_ = java.util.Collections.unmodifiableList(notifications_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.notifications_ = notifications_;
+        } else {
+          result.notifications_ = notificationsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -13793,22 +19970,100 @@ public final class Protos {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc)other);
+        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) {
+          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc.getDefaultInstance()) return this;
+      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse other) {
+        if (other == in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.getDefaultInstance()) return this;
         if (other.getPingAt() != 0L) {
           setPingAt(other.getPingAt());
         }
         if (other.hasSourceEndpoint()) {
           mergeSourceEndpoint(other.getSourceEndpoint());
         }
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdates_.isEmpty()) {
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMemberJoinedUpdatesIsMutable();
+              memberJoinedUpdates_.addAll(other.memberJoinedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberJoinedUpdates_.isEmpty()) {
+            if (memberJoinedUpdatesBuilder_.isEmpty()) {
+              memberJoinedUpdatesBuilder_.dispose();
+              memberJoinedUpdatesBuilder_ = null;
+              memberJoinedUpdates_ = other.memberJoinedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              memberJoinedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberJoinedUpdatesFieldBuilder() : null;
+            } else {
+              memberJoinedUpdatesBuilder_.addAllMessages(other.memberJoinedUpdates_);
+            }
+          }
+        }
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdates_.isEmpty()) {
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureMemberLeavedUpdatesIsMutable();
+              memberLeavedUpdates_.addAll(other.memberLeavedUpdates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.memberLeavedUpdates_.isEmpty()) {
+            if (memberLeavedUpdatesBuilder_.isEmpty()) {
+              memberLeavedUpdatesBuilder_.dispose();
+              memberLeavedUpdatesBuilder_ = null;
+              memberLeavedUpdates_ = other.memberLeavedUpdates_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              memberLeavedUpdatesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMemberLeavedUpdatesFieldBuilder() : null;
+            } else {
+              memberLeavedUpdatesBuilder_.addAllMessages(other.memberLeavedUpdates_);
+            }
+          }
+        }
+        if (notificationsBuilder_ == null) {
+          if (!other.notifications_.isEmpty()) {
+            if (notifications_.isEmpty()) {
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureNotificationsIsMutable();
+              notifications_.addAll(other.notifications_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.notifications_.isEmpty()) {
+            if (notificationsBuilder_.isEmpty()) {
+              notificationsBuilder_.dispose();
+              notificationsBuilder_ = null;
+              notifications_ = other.notifications_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              notificationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNotificationsFieldBuilder() : null;
+            } else {
+              notificationsBuilder_.addAllMessages(other.notifications_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -13824,11 +20079,11 @@ public final class Protos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc parsedMessage = null;
+        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc) e.getUnfinishedMessage();
+          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -13837,6 +20092,7 @@ public final class Protos {
         }
         return this;
       }
+      private int bitField0_;
 
       private long pingAt_ ;
       /**
@@ -13954,702 +20210,823 @@ public final class Protos {
         return getSourceEndpointFieldBuilder().getBuilder();
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
+        if (sourceEndpointBuilder_ != null) {
+          return sourceEndpointBuilder_.getMessageOrBuilder();
+        } else {
+          return sourceEndpoint_ == null ?
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+        }
+      }
+      /**
+       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
+          getSourceEndpointFieldBuilder() {
+        if (sourceEndpointBuilder_ == null) {
+          sourceEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
+                  getSourceEndpoint(),
+                  getParentForChildren(),
+                  isClean());
+          sourceEndpoint_ = null;
+        }
+        return sourceEndpointBuilder_;
+      }
+
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> memberJoinedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberJoinedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          memberJoinedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate>(memberJoinedUpdates_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> memberJoinedUpdatesBuilder_;
+
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> getMemberJoinedUpdatesList() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public int getMemberJoinedUpdatesCount() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.size();
+        } else {
+          return memberJoinedUpdatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate getMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);
+        } else {
+          return memberJoinedUpdatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder setMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate value) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addMemberJoinedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder builderForValue) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public Builder addAllMemberJoinedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate> values) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberJoinedUpdates_);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
-        if (sourceEndpointBuilder_ != null) {
-          return sourceEndpointBuilder_.getMessageOrBuilder();
+      public Builder clearMemberJoinedUpdates() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
         } else {
-          return sourceEndpoint_ == null ?
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+          memberJoinedUpdatesBuilder_.clear();
         }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
-          getSourceEndpointFieldBuilder() {
-        if (sourceEndpointBuilder_ == null) {
-          sourceEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
-                  getSourceEndpoint(),
-                  getParentForChildren(),
-                  isClean());
-          sourceEndpoint_ = null;
-        }
-        return sourceEndpointBuilder_;
-      }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
-
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:ProxyPingRpc)
-    }
-
-    // @@protoc_insertion_point(class_scope:ProxyPingRpc)
-    private static final in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc();
-    }
-
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<ProxyPingRpc>
-        PARSER = new com.google.protobuf.AbstractParser<ProxyPingRpc>() {
-      @java.lang.Override
-      public ProxyPingRpc parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ProxyPingRpc(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<ProxyPingRpc> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<ProxyPingRpc> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public in.xnnyygn.xgossip.rpc.Protos.ProxyPingRpc getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface ProxyPingResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ProxyPingResponse)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int64 ping_at = 1;</code>
-     */
-    long getPingAt();
-
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    boolean hasSourceEndpoint();
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint();
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder();
-  }
-  /**
-   * Protobuf type {@code ProxyPingResponse}
-   */
-  public  static final class ProxyPingResponse extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ProxyPingResponse)
-      ProxyPingResponseOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use ProxyPingResponse.newBuilder() to construct.
-    private ProxyPingResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private ProxyPingResponse() {
-      pingAt_ = 0L;
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private ProxyPingResponse(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
-      }
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-
-              pingAt_ = input.readInt64();
-              break;
-            }
-            case 18: {
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder subBuilder = null;
-              if (sourceEndpoint_ != null) {
-                subBuilder = sourceEndpoint_.toBuilder();
-              }
-              sourceEndpoint_ = input.readMessage(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(sourceEndpoint_);
-                sourceEndpoint_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            default: {
-              if (!parseUnknownFieldProto3(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
+      public Builder removeMemberJoinedUpdates(int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          ensureMemberJoinedUpdatesIsMutable();
+          memberJoinedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberJoinedUpdatesBuilder_.remove(index);
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.Builder.class);
-    }
-
-    public static final int PING_AT_FIELD_NUMBER = 1;
-    private long pingAt_;
-    /**
-     * <code>int64 ping_at = 1;</code>
-     */
-    public long getPingAt() {
-      return pingAt_;
-    }
-
-    public static final int SOURCE_ENDPOINT_FIELD_NUMBER = 2;
-    private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint sourceEndpoint_;
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    public boolean hasSourceEndpoint() {
-      return sourceEndpoint_ != null;
-    }
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint() {
-      return sourceEndpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
-    }
-    /**
-     * <code>.MemberEndpoint source_endpoint = 2;</code>
-     */
-    public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
-      return getSourceEndpoint();
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (pingAt_ != 0L) {
-        output.writeInt64(1, pingAt_);
-      }
-      if (sourceEndpoint_ != null) {
-        output.writeMessage(2, getSourceEndpoint());
+        return this;
       }
-      unknownFields.writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (pingAt_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, pingAt_);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder getMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilder(index);
       }
-      if (sourceEndpoint_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getSourceEndpoint());
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder getMemberJoinedUpdatesOrBuilder(
+          int index) {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          return memberJoinedUpdates_.get(index);  } else {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+           getMemberJoinedUpdatesOrBuilderList() {
+        if (memberJoinedUpdatesBuilder_ != null) {
+          return memberJoinedUpdatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(memberJoinedUpdates_);
+        }
       }
-      if (!(obj instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse)) {
-        return super.equals(obj);
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder() {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
       }
-      in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse other = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) obj;
-
-      boolean result = true;
-      result = result && (getPingAt()
-          == other.getPingAt());
-      result = result && (hasSourceEndpoint() == other.hasSourceEndpoint());
-      if (hasSourceEndpoint()) {
-        result = result && getSourceEndpoint()
-            .equals(other.getSourceEndpoint());
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder addMemberJoinedUpdatesBuilder(
+          int index) {
+        return getMemberJoinedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.getDefaultInstance());
       }
-      result = result && unknownFields.equals(other.unknownFields);
-      return result;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      /**
+       * <pre>
+       * piggybacked updates and notifications, field 2 is endpoint in some ping messages
+       * </pre>
+       *
+       * <code>repeated .MemberJoinedUpdate member_joined_updates = 3;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder> 
+           getMemberJoinedUpdatesBuilderList() {
+        return getMemberJoinedUpdatesFieldBuilder().getBuilderList();
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + PING_AT_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getPingAt());
-      if (hasSourceEndpoint()) {
-        hash = (37 * hash) + SOURCE_ENDPOINT_FIELD_NUMBER;
-        hash = (53 * hash) + getSourceEndpoint().hashCode();
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder> 
+          getMemberJoinedUpdatesFieldBuilder() {
+        if (memberJoinedUpdatesBuilder_ == null) {
+          memberJoinedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberJoinedUpdateOrBuilder>(
+                  memberJoinedUpdates_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          memberJoinedUpdates_ = null;
+        }
+        return memberJoinedUpdatesBuilder_;
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code ProxyPingResponse}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ProxyPingResponse)
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> memberLeavedUpdates_ =
+        java.util.Collections.emptyList();
+      private void ensureMemberLeavedUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          memberLeavedUpdates_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate>(memberLeavedUpdates_);
+          bitField0_ |= 0x00000008;
+         }
       }
 
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.class, in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.Builder.class);
-      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> memberLeavedUpdatesBuilder_;
 
-      // Construct using in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> getMemberLeavedUpdatesList() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessageList();
+        }
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public int getMemberLeavedUpdatesCount() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.size();
+        } else {
+          return memberLeavedUpdatesBuilder_.getCount();
+        }
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate getMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);
+        } else {
+          return memberLeavedUpdatesBuilder_.getMessage(index);
         }
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        pingAt_ = 0L;
-
-        if (sourceEndpointBuilder_ == null) {
-          sourceEndpoint_ = null;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, value);
+          onChanged();
         } else {
-          sourceEndpoint_ = null;
-          sourceEndpointBuilder_ = null;
+          memberLeavedUpdatesBuilder_.setMessage(index, value);
         }
         return this;
       }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.internal_static_ProxyPingResponse_descriptor;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder setMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse getDefaultInstanceForType() {
-        return in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.getDefaultInstance();
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(value);
+        }
+        return this;
       }
-
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse build() {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate value) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, value);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, value);
         }
-        return result;
+        return this;
       }
-
-      @java.lang.Override
-      public in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse buildPartial() {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse result = new in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse(this);
-        result.pingAt_ = pingAt_;
-        if (sourceEndpointBuilder_ == null) {
-          result.sourceEndpoint_ = sourceEndpoint_;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(builderForValue.build());
+          onChanged();
         } else {
-          result.sourceEndpoint_ = sourceEndpointBuilder_.build();
+          memberLeavedUpdatesBuilder_.addMessage(builderForValue.build());
         }
-        onBuilt();
-        return result;
+        return this;
       }
-
-      @java.lang.Override
-      public Builder clone() {
-        return (Builder) super.clone();
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addMemberLeavedUpdates(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder builderForValue) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.setField(field, value);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder addAllMemberLeavedUpdates(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate> values) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, memberLeavedUpdates_);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.addAllMessages(values);
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return (Builder) super.clearField(field);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder clearMemberLeavedUpdates() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.clear();
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return (Builder) super.clearOneof(oneof);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public Builder removeMemberLeavedUpdates(int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          ensureMemberLeavedUpdatesIsMutable();
+          memberLeavedUpdates_.remove(index);
+          onChanged();
+        } else {
+          memberLeavedUpdatesBuilder_.remove(index);
+        }
+        return this;
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return (Builder) super.setRepeatedField(field, index, value);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder getMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilder(index);
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return (Builder) super.addRepeatedField(field, value);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder getMemberLeavedUpdatesOrBuilder(
+          int index) {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          return memberLeavedUpdates_.get(index);  } else {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilder(index);
+        }
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) {
-          return mergeFrom((in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse)other);
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+           getMemberLeavedUpdatesOrBuilderList() {
+        if (memberLeavedUpdatesBuilder_ != null) {
+          return memberLeavedUpdatesBuilder_.getMessageOrBuilderList();
         } else {
-          super.mergeFrom(other);
-          return this;
+          return java.util.Collections.unmodifiableList(memberLeavedUpdates_);
         }
       }
-
-      public Builder mergeFrom(in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse other) {
-        if (other == in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse.getDefaultInstance()) return this;
-        if (other.getPingAt() != 0L) {
-          setPingAt(other.getPingAt());
-        }
-        if (other.hasSourceEndpoint()) {
-          mergeSourceEndpoint(other.getSourceEndpoint());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder() {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder addMemberLeavedUpdatesBuilder(
+          int index) {
+        return getMemberLeavedUpdatesFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.getDefaultInstance());
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (in.xnnyygn.xgossip.rpc.Protos.ProxyPingResponse) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .MemberLeavedUpdate member_leaved_updates = 4;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder> 
+           getMemberLeavedUpdatesBuilderList() {
+        return getMemberLeavedUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder> 
+          getMemberLeavedUpdatesFieldBuilder() {
+        if (memberLeavedUpdatesBuilder_ == null) {
+          memberLeavedUpdatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdate.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberLeavedUpdateOrBuilder>(
+                  memberLeavedUpdates_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          memberLeavedUpdates_ = null;
         }
-        return this;
+        return memberLeavedUpdatesBuilder_;
       }
 
-      private long pingAt_ ;
+      private java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> notifications_ =
+        java.util.Collections.emptyList();
+      private void ensureNotificationsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          notifications_ = new java.util.ArrayList<in.xnnyygn.xgossip.rpc.Protos.MemberNotification>(notifications_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> notificationsBuilder_;
+
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public long getPingAt() {
-        return pingAt_;
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification> getNotificationsList() {
+        if (notificationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(notifications_);
+        } else {
+          return notificationsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder setPingAt(long value) {
-        
-        pingAt_ = value;
-        onChanged();
-        return this;
+      public int getNotificationsCount() {
+        if (notificationsBuilder_ == null) {
+          return notifications_.size();
+        } else {
+          return notificationsBuilder_.getCount();
+        }
       }
       /**
-       * <code>int64 ping_at = 1;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder clearPingAt() {
-        
-        pingAt_ = 0L;
-        onChanged();
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification getNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);
+        } else {
+          return notificationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.set(index, value);
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      private in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint sourceEndpoint_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> sourceEndpointBuilder_;
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public boolean hasSourceEndpoint() {
-        return sourceEndpointBuilder_ != null || sourceEndpoint_ != null;
+      public Builder setNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          notificationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint getSourceEndpoint() {
-        if (sourceEndpointBuilder_ == null) {
-          return sourceEndpoint_ == null ? in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+      public Builder addNotifications(in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNotificationsIsMutable();
+          notifications_.add(value);
+          onChanged();
         } else {
-          return sourceEndpointBuilder_.getMessage();
+          notificationsBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder setSourceEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
-        if (sourceEndpointBuilder_ == null) {
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification value) {
+        if (notificationsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          sourceEndpoint_ = value;
+          ensureNotificationsIsMutable();
+          notifications_.add(index, value);
           onChanged();
         } else {
-          sourceEndpointBuilder_.setMessage(value);
+          notificationsBuilder_.addMessage(index, value);
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder setSourceEndpoint(
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder builderForValue) {
-        if (sourceEndpointBuilder_ == null) {
-          sourceEndpoint_ = builderForValue.build();
+      public Builder addNotifications(
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(builderForValue.build());
           onChanged();
         } else {
-          sourceEndpointBuilder_.setMessage(builderForValue.build());
+          notificationsBuilder_.addMessage(builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder mergeSourceEndpoint(in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint value) {
-        if (sourceEndpointBuilder_ == null) {
-          if (sourceEndpoint_ != null) {
-            sourceEndpoint_ =
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.newBuilder(sourceEndpoint_).mergeFrom(value).buildPartial();
-          } else {
-            sourceEndpoint_ = value;
-          }
+      public Builder addNotifications(
+          int index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder builderForValue) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.add(index, builderForValue.build());
           onChanged();
         } else {
-          sourceEndpointBuilder_.mergeFrom(value);
+          notificationsBuilder_.addMessage(index, builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public Builder clearSourceEndpoint() {
-        if (sourceEndpointBuilder_ == null) {
-          sourceEndpoint_ = null;
+      public Builder addAllNotifications(
+          java.lang.Iterable<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotification> values) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, notifications_);
           onChanged();
         } else {
-          sourceEndpoint_ = null;
-          sourceEndpointBuilder_ = null;
+          notificationsBuilder_.addAllMessages(values);
         }
-
         return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder getSourceEndpointBuilder() {
-        
-        onChanged();
-        return getSourceEndpointFieldBuilder().getBuilder();
+      public Builder clearNotifications() {
+        if (notificationsBuilder_ == null) {
+          notifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          notificationsBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      public in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder getSourceEndpointOrBuilder() {
-        if (sourceEndpointBuilder_ != null) {
-          return sourceEndpointBuilder_.getMessageOrBuilder();
+      public Builder removeNotifications(int index) {
+        if (notificationsBuilder_ == null) {
+          ensureNotificationsIsMutable();
+          notifications_.remove(index);
+          onChanged();
         } else {
-          return sourceEndpoint_ == null ?
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.getDefaultInstance() : sourceEndpoint_;
+          notificationsBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>.MemberEndpoint source_endpoint = 2;</code>
+       * <code>repeated .MemberNotification notifications = 5;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder> 
-          getSourceEndpointFieldBuilder() {
-        if (sourceEndpointBuilder_ == null) {
-          sourceEndpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint, in.xnnyygn.xgossip.rpc.Protos.MemberEndpoint.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberEndpointOrBuilder>(
-                  getSourceEndpoint(),
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder getNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder getNotificationsOrBuilder(
+          int index) {
+        if (notificationsBuilder_ == null) {
+          return notifications_.get(index);  } else {
+          return notificationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<? extends in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+           getNotificationsOrBuilderList() {
+        if (notificationsBuilder_ != null) {
+          return notificationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(notifications_);
+        }
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder() {
+        return getNotificationsFieldBuilder().addBuilder(
+            in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder addNotificationsBuilder(
+          int index) {
+        return getNotificationsFieldBuilder().addBuilder(
+            index, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .MemberNotification notifications = 5;</code>
+       */
+      public java.util.List<in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder> 
+           getNotificationsBuilderList() {
+        return getNotificationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder> 
+          getNotificationsFieldBuilder() {
+        if (notificationsBuilder_ == null) {
+          notificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              in.xnnyygn.xgossip.rpc.Protos.MemberNotification, in.xnnyygn.xgossip.rpc.Protos.MemberNotification.Builder, in.xnnyygn.xgossip.rpc.Protos.MemberNotificationOrBuilder>(
+                  notifications_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
                   getParentForChildren(),
                   isClean());
-          sourceEndpoint_ = null;
+          notifications_ = null;
         }
-        return sourceEndpointBuilder_;
+        return notificationsBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -15450,6 +21827,16 @@ public final class Protos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_MembersMergeResponse_UpdatedMapEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MemberDigestsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MemberDigestsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MemberDigestsResponse_UpdatedMapEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_MemberDigestsResponse_UpdatedMapEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_MembersMergedResponse_descriptor;
   private static final 
@@ -15494,57 +21881,78 @@ public final class Protos {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\034src/main/resources/rpc.proto\",\n\016Member" +
-      "Endpoint\022\014\n\004host\030\001 \001(\t\022\014\n\004port\030\002 \001(\005\"U\n\006" +
-      "Member\022!\n\010endpoint\030\001 \001(\0132\017.MemberEndpoin" +
-      "t\022\022\n\ntime_added\030\002 \001(\003\022\024\n\014time_removed\030\003 " +
-      "\001(\003\"G\n\rMemberJoinRpc\022!\n\010endpoint\030\001 \001(\0132\017" +
-      ".MemberEndpoint\022\023\n\013time_joined\030\002 \001(\003\".\n\022" +
-      "MemberJoinResponse\022\030\n\007members\030\001 \003(\0132\007.Me" +
-      "mber\"I\n\017MemberLeavedRpc\022!\n\010endpoint\030\001 \001(" +
-      "\0132\017.MemberEndpoint\022\023\n\013time_leaved\030\002 \001(\003\"" +
-      "X\n\022MemberJoinedUpdate\022\n\n\002id\030\001 \001(\003\022!\n\010end" +
-      "point\030\002 \001(\0132\017.MemberEndpoint\022\023\n\013time_joi" +
-      "ned\030\003 \001(\003\"X\n\022MemberLeavedUpdate\022\n\n\002id\030\001 " +
-      "\001(\003\022!\n\010endpoint\030\002 \001(\0132\017.MemberEndpoint\022\023" +
-      "\n\013time_leaved\030\003 \001(\003\"z\n\022MemberNotificatio" +
-      "n\022!\n\010endpoint\030\001 \001(\0132\017.MemberEndpoint\022\021\n\t" +
-      "suspected\030\002 \001(\010\022\021\n\ttimestamp\030\003 \001(\003\022\033\n\002by" +
-      "\030\004 \001(\0132\017.MemberEndpoint\"\321\001\n\020MemberUpdate" +
-      "sRpc\022\023\n\013exchange_at\030\001 \001(\003\0222\n\025member_join" +
-      "ed_updates\030\002 \003(\0132\023.MemberJoinedUpdate\0221\n" +
-      "\024member_leaved_update\030\003 \003(\0132\023.MemberLeav" +
-      "edUpdate\022*\n\rnotifications\030\004 \003(\0132\023.Member" +
-      "Notification\022\025\n\rmember_digest\030\005 \001(\014\"\250\001\n\033" +
-      "MemberUpdatesAgreedResponse\022\023\n\013exchange_" +
-      "at\030\001 \001(\003\022A\n\013updated_map\030\002 \003(\0132,.MemberUp" +
-      "datesAgreedResponse.UpdatedMapEntry\0321\n\017U" +
+      "\n\034src/main/resources/rpc.proto\"8\n\016Member" +
+      "Endpoint\022\014\n\004host\030\001 \001(\t\022\014\n\004port\030\002 \001(\005\022\n\n\002" +
+      "id\030\003 \001(\r\"U\n\006Member\022!\n\010endpoint\030\001 \001(\0132\017.M" +
+      "emberEndpoint\022\022\n\ntime_added\030\002 \001(\003\022\024\n\014tim" +
+      "e_removed\030\003 \001(\003\"G\n\rMemberJoinRpc\022!\n\010endp" +
+      "oint\030\001 \001(\0132\017.MemberEndpoint\022\023\n\013time_join" +
+      "ed\030\002 \001(\003\".\n\022MemberJoinResponse\022\030\n\007member" +
+      "s\030\001 \003(\0132\007.Member\"I\n\017MemberLeavedRpc\022!\n\010e" +
+      "ndpoint\030\001 \001(\0132\017.MemberEndpoint\022\023\n\013time_l" +
+      "eaved\030\002 \001(\003\"X\n\022MemberJoinedUpdate\022\n\n\002id\030" +
+      "\001 \001(\003\022!\n\010endpoint\030\002 \001(\0132\017.MemberEndpoint" +
+      "\022\023\n\013time_joined\030\003 \001(\003\"X\n\022MemberLeavedUpd" +
+      "ate\022\n\n\002id\030\001 \001(\003\022!\n\010endpoint\030\002 \001(\0132\017.Memb" +
+      "erEndpoint\022\023\n\013time_leaved\030\003 \001(\003\"z\n\022Membe" +
+      "rNotification\022!\n\010endpoint\030\001 \001(\0132\017.Member" +
+      "Endpoint\022\021\n\tsuspected\030\002 \001(\010\022\021\n\ttimestamp" +
+      "\030\003 \001(\003\022\033\n\002by\030\004 \001(\0132\017.MemberEndpoint\"\321\001\n\020" +
+      "MemberUpdatesRpc\022\023\n\013exchange_at\030\001 \001(\003\0222\n" +
+      "\025member_joined_updates\030\002 \003(\0132\023.MemberJoi" +
+      "nedUpdate\0221\n\024member_leaved_update\030\003 \003(\0132" +
+      "\023.MemberLeavedUpdate\022*\n\rnotifications\030\004 " +
+      "\003(\0132\023.MemberNotification\022\025\n\rmember_diges" +
+      "t\030\005 \001(\014\"\250\001\n\033MemberUpdatesAgreedResponse\022" +
+      "\023\n\013exchange_at\030\001 \001(\003\022A\n\013updated_map\030\002 \003(" +
+      "\0132,.MemberUpdatesAgreedResponse.UpdatedM" +
+      "apEntry\0321\n\017UpdatedMapEntry\022\013\n\003key\030\001 \001(\003\022" +
+      "\r\n\005value\030\002 \001(\010:\0028\001\"\256\002\n\025MemberUpdatesResp" +
+      "onse\022\023\n\013exchange_at\030\001 \001(\003\022;\n\013updated_map" +
+      "\030\002 \003(\0132&.MemberUpdatesResponse.UpdatedMa" +
+      "pEntry\0222\n\025member_joined_updates\030\003 \003(\0132\023." +
+      "MemberJoinedUpdate\0222\n\025member_leaved_upda" +
+      "tes\030\004 \003(\0132\023.MemberJoinedUpdate\022\025\n\rmember" +
+      "_digest\030\005 \001(\014\022\021\n\thop_count\030\006 \001(\005\0321\n\017Upda" +
+      "tedMapEntry\022\013\n\003key\030\001 \001(\003\022\r\n\005value\030\002 \001(\010:" +
+      "\0028\001\"\360\001\n\024MembersMergeResponse\022\023\n\013exchange" +
+      "_at\030\001 \001(\003\022:\n\013updated_map\030\002 \003(\0132%.Members" +
+      "MergeResponse.UpdatedMapEntry\022\030\n\007members" +
+      "\030\003 \003(\0132\007.Member\022\026\n\016members_digest\030\004 \001(\014\022" +
+      "\021\n\thop_count\030\005 \001(\005\022\017\n\007buckets\030\006 \003(\005\0321\n\017U" +
       "pdatedMapEntry\022\013\n\003key\030\001 \001(\003\022\r\n\005value\030\002 \001" +
-      "(\010:\0028\001\"\256\002\n\025MemberUpdatesResponse\022\023\n\013exch" +
+      "(\010:\0028\001\"\315\001\n\025MemberDigestsResponse\022\023\n\013exch" +
       "ange_at\030\001 \001(\003\022;\n\013updated_map\030\002 \003(\0132&.Mem" +
-      "berUpdatesResponse.UpdatedMapEntry\0222\n\025me" +
+      "berDigestsResponse.UpdatedMapEntry\022\r\n\005le" +
+      "vel\030\003 \001(\005\022\017\n\007indices\030\004 \003(\005\022\017\n\007digests\030\005 " +
+      "\003(\014\0321\n\017UpdatedMapEntry\022\013\n\003key\030\001 \001(\003\022\r\n\005v" +
+      "alue\030\002 \001(\010:\0028\001\",\n\025MembersMergedResponse\022" +
+      "\023\n\013exchange_at\030\001 \001(\003\"\256\001\n\007PingRpc\022\017\n\007ping" +
+      "_at\030\001 \001(\003\0222\n\025member_joined_updates\030\003 \003(\013" +
+      "2\023.MemberJoinedUpdate\0222\n\025member_leaved_u" +
+      "pdates\030\004 \003(\0132\023.MemberLeavedUpdate\022*\n\rnot" +
+      "ifications\030\005 \003(\0132\023.MemberNotification\"\263\001" +
+      "\n\014PingResponse\022\017\n\007ping_at\030\001 \001(\003\0222\n\025membe" +
+      "r_joined_updates\030\003 \003(\0132\023.MemberJoinedUpd" +
+      "ate\0222\n\025member_leaved_updates\030\004 \003(\0132\023.Mem" +
+      "berLeavedUpdate\022*\n\rnotifications\030\005 \003(\0132\023" +
+      ".MemberNotification\"D\n\016PingRequestRpc\022\017\n" +
+      "\007ping_at\030\001 \001(\003\022!\n\010endpoint\030\002 \001(\0132\017.Membe" +
+      "rEndpoint\"\335\001\n\014ProxyPingRpc\022\017\n\007ping_at\030\001 " +
+      "\001(\003\022(\n\017source_endpoint\030\002 \001(\0132\017.MemberEnd" +
+      "point\0222\n\025member_joined_updates\030\003 \003(\0132\023.M" +
+      "emberJoinedUpdate\0222\n\025member_leaved_updat" +
+      "es\030\004 \003(\0132\023.MemberLeavedUpdate\022*\n\rnotific" +
+      "ations\030\005 \003(\0132\023.MemberNotification\"\342\001\n\021Pr" +
+      "oxyPingResponse\022\017\n\007ping_at\030\001 \001(\003\022(\n\017sour" +
+      "ce_endpoint\030\002 \001(\0132\017.MemberEndpoint\0222\n\025me" +
       "mber_joined_updates\030\003 \003(\0132\023.MemberJoined" +
       "Update\0222\n\025member_leaved_updates\030\004 \003(\0132\023." +
-      "MemberJoinedUpdate\022\025\n\rmember_digest\030\005 \001(" +
-      "\014\022\021\n\thop_count\030\006 \001(\005\0321\n\017UpdatedMapEntry\022" +
-      "\013\n\003key\030\001 \001(\003\022\r\n\005value\030\002 \001(\010:\0028\001\"\337\001\n\024Memb" +
-      "ersMergeResponse\022\023\n\013exchange_at\030\001 \001(\003\022:\n" +
-      "\013updated_map\030\002 \003(\0132%.MembersMergeRespons" +
-      "e.UpdatedMapEntry\022\030\n\007members\030\003 \003(\0132\007.Mem" +
-      "ber\022\026\n\016members_digest\030\004 \001(\014\022\021\n\thop_count" +
-      "\030\005 \001(\005\0321\n\017UpdatedMapEntry\022\013\n\003key\030\001 \001(\003\022\r" +
-      "\n\005value\030\002 \001(\010:\0028\001\",\n\025MembersMergedRespon" +
-      "se\022\023\n\013exchange_at\030\001 \001(\003\"\032\n\007PingRpc\022\017\n\007pi" +
-      "ng_at\030\001 \001(\003\"\037\n\014PingResponse\022\017\n\007ping_at\030\001" +
-      " \001(\003\"D\n\016PingRequestRpc\022\017\n\007ping_at\030\001 \001(\003\022" +
-      "!\n\010endpoint\030\002 \001(\0132\017.MemberEndpoint\"I\n\014Pr" +
-      "oxyPingRpc\022\017\n\007ping_at\030\001 \001(\003\022(\n\017source_en" +
-      "dpoint\030\002 \001(\0132\017.MemberEndpoint\"N\n\021ProxyPi" +
-      "ngResponse\022\017\n\007ping_at\030\001 \001(\003\022(\n\017source_en" +
-      "dpoint\030\002 \001(\0132\017.MemberEndpoint\"K\n\025ProxyPi" +
-      "ngDoneResponse\022\017\n\007ping_at\030\001 \001(\003\022!\n\010endpo" +
-      "int\030\002 \001(\0132\017.MemberEndpointB \n\026in.xnnyygn" +
-      ".xgossip.rpcB\006Protosb\006proto3"
+      "MemberLeavedUpdate\022*\n\rnotifications\030\005 \003(" +
+      "\0132\023.MemberNotification\"K\n\025ProxyPingDoneR" +
+      "esponse\022\017\n\007ping_at\030\001 \001(\003\022!\n\010endpoint\030\002 \001" +
+      "(\0132\017.MemberEndpointB \n\026in.xnnyygn.xgossi" +
+      "p.rpcB\006Protosb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -15563,7 +21971,7 @@ public final class Protos {
     internal_static_MemberEndpoint_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_MemberEndpoint_descriptor,
-        new java.lang.String[] { "Host", "Port", });
+        new java.lang.String[] { "Host", "Port", "Id", });
     internal_static_Member_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Member_fieldAccessorTable = new
@@ -15641,51 +22049,63 @@ public final class Protos {
     internal_static_MembersMergeResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_MembersMergeResponse_descriptor,
-        new java.lang.String[] { "ExchangeAt", "UpdatedMap", "Members", "MembersDigest", "HopCount", });
+        new java.lang.String[] { "ExchangeAt", "UpdatedMap", "Members", "MembersDigest", "HopCount", "Buckets", });
     internal_static_MembersMergeResponse_UpdatedMapEntry_descriptor =
       internal_static_MembersMergeResponse_descriptor.getNestedTypes().get(0);
     internal_static_MembersMergeResponse_UpdatedMapEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_MembersMergeResponse_UpdatedMapEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
-    internal_static_MembersMergedResponse_descriptor =
+    internal_static_MemberDigestsResponse_descriptor =
       getDescriptor().getMessageTypes().get(12);
+    internal_static_MemberDigestsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MemberDigestsResponse_descriptor,
+        new java.lang.String[] { "ExchangeAt", "UpdatedMap", "Level", "Indices", "Digests", });
+    internal_static_MemberDigestsResponse_UpdatedMapEntry_descriptor =
+      internal_static_MemberDigestsResponse_descriptor.getNestedTypes().get(0);
+    internal_static_MemberDigestsResponse_UpdatedMapEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_MemberDigestsResponse_UpdatedMapEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_MembersMergedResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
     internal_static_MembersMergedResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_MembersMergedResponse_descriptor,
         new java.lang.String[] { "ExchangeAt", });
     internal_static_PingRpc_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_PingRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_PingRpc_descriptor,
-        new java.lang.String[] { "PingAt", });
+        new java.lang.String[] { "PingAt", "MemberJoinedUpdates", "MemberLeavedUpdates", "Notifications", });
     internal_static_PingResponse_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_PingResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_PingResponse_descriptor,
-        new java.lang.String[] { "PingAt", });
+        new java.lang.String[] { "PingAt", "MemberJoinedUpdates", "MemberLeavedUpdates", "Notifications", });
     internal_static_PingRequestRpc_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_PingRequestRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_PingRequestRpc_descriptor,
         new java.lang.String[] { "PingAt", "Endpoint", });
     internal_static_ProxyPingRpc_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_ProxyPingRpc_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ProxyPingRpc_descriptor,
-        new java.lang.String[] { "PingAt", "SourceEndpoint", });
+        new java.lang.String[] { "PingAt", "SourceEndpoint", "MemberJoinedUpdates", "MemberLeavedUpdates", "Notifications", });
     internal_static_ProxyPingResponse_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_ProxyPingResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ProxyPingResponse_descriptor,
-        new java.lang.String[] { "PingAt", "SourceEndpoint", });
+        new java.lang.String[] { "PingAt", "SourceEndpoint", "MemberJoinedUpdates", "MemberLeavedUpdates", "Notifications", });
     internal_static_ProxyPingDoneResponse_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_ProxyPingDoneResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ProxyPingDoneResponse_descriptor,
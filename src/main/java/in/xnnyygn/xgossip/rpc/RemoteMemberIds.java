@@ -0,0 +1,86 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+
+/**
+ * Member ids defined by a remote session.
+ * <p>
+ * Session is the lifetime of packet protocol of remote node, member ids are assigned by remote node and
+ * definitions are sent in v2 packets. Count of known ids, from 1 without gap, is acknowledged to remote node,
+ * so remote node can stop sending definitions of these ids.
+ * </p>
+ */
+@ThreadSafe
+class RemoteMemberIds {
+
+    static final int MAX_ID = EndpointRegistry.MAX_IDS;
+    private final long sessionId;
+    private MemberEndpoint[] endpoints = new MemberEndpoint[16];
+    private int knownCount = 0;
+    private volatile long lastSeenAt;
+
+    RemoteMemberIds(long sessionId) {
+        this.sessionId = sessionId;
+        this.lastSeenAt = System.currentTimeMillis();
+    }
+
+    long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Define member id.
+     *
+     * @param id       member id
+     * @param endpoint endpoint
+     * @throws ParserException if id is illegal
+     */
+    synchronized void define(int id, MemberEndpoint endpoint) {
+        if (id <= 0 || id > MAX_ID) {
+            throw new ParserException("illegal member id " + id);
+        }
+        if (id >= endpoints.length) {
+            endpoints = Arrays.copyOf(endpoints, Math.min(Math.max(endpoints.length * 2, id + 1), MAX_ID + 1));
+        }
+        endpoints[id] = endpoint;
+        while (knownCount + 1 < endpoints.length && endpoints[knownCount + 1] != null) {
+            knownCount++;
+        }
+    }
+
+    /**
+     * Get endpoint by member id.
+     *
+     * @param id member id
+     * @return endpoint
+     * @throws ParserException if id is not defined
+     */
+    synchronized MemberEndpoint get(int id) {
+        MemberEndpoint endpoint = (id > 0 && id < endpoints.length) ? endpoints[id] : null;
+        if (endpoint == null) {
+            throw new ParserException("unknown member id " + id + " of session " + sessionId);
+        }
+        return endpoint;
+    }
+
+    /**
+     * Get count of known ids from 1 without gap.
+     *
+     * @return count
+     */
+    synchronized int getKnownCount() {
+        return knownCount;
+    }
+
+    long getLastSeenAt() {
+        return lastSeenAt;
+    }
+
+    void setLastSeenAt(long lastSeenAt) {
+        this.lastSeenAt = lastSeenAt;
+    }
+
+}
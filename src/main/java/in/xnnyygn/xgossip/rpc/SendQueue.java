@@ -0,0 +1,170 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.MessageTypes;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded queue of outbound items, many producers and one consumer.
+ * <p>
+ * Lock-free ring buffer, each slot has a sequence telling whether it is free for producer at a position or filled
+ * for consumer. Bulk items, like member lists of exchange, are dropped once the queue is 3/4 full, the last
+ * quarter is kept for pings and acks, whose loss makes members suspected. Any item is dropped when the queue
+ * is full, like a full socket buffer.
+ * </p>
+ *
+ * @param <E> item
+ */
+@ThreadSafe
+class SendQueue<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final int bulkCapacity;
+    private final AtomicReferenceArray<E> items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong droppedBulkCount = new AtomicLong();
+
+    /**
+     * Create.
+     *
+     * @param capacity capacity, rounded up to power of 2
+     */
+    SendQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("illegal capacity " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.bulkCapacity = this.capacity - this.capacity / 4;
+        this.items = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Check if message is bulk, which is dropped first when queue is filling up. Messages of periodic exchange are
+     * bulk, since exchange is repaired in next round.
+     *
+     * @param message message
+     * @return true if bulk, otherwise false
+     */
+    static boolean isBulk(AbstractMessage message) {
+        switch (message.getTypeId()) {
+            case MessageTypes.MEMBERS_MERGE_RESPONSE:
+            case MessageTypes.MEMBER_UPDATES_RPC:
+            case MessageTypes.MEMBER_UPDATES_RESPONSE:
+            case MessageTypes.MEMBER_UPDATES_AGREED_RESPONSE:
+            case MessageTypes.MEMBERS_MERGED_RESPONSE:
+            case MessageTypes.MEMBER_DIGESTS_RESPONSE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Add item.
+     *
+     * @param item item
+     * @param bulk if item is bulk
+     * @return true if added, false if dropped
+     */
+    boolean offer(E item, boolean bulk) {
+        while (true) {
+            long position = tail.get();
+            if (bulk && position - head.get() >= bulkCapacity) {
+                droppedBulkCount.incrementAndGet();
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    items.lazySet(index, item);
+                    // publish to consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // slot not consumed yet, full
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            // slot taken by another producer, retry
+        }
+    }
+
+    /**
+     * Remove item, called by consumer only.
+     *
+     * @return item, null if empty
+     */
+    @Nullable
+    E poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E item = items.get(index);
+        items.lazySet(index, null);
+        // free slot for producer in next round
+        sequences.set(index, position + capacity);
+        head.lazySet(position + 1);
+        return item;
+    }
+
+    /**
+     * Check if empty, called by consumer only.
+     *
+     * @return true if empty, otherwise false
+     */
+    boolean isEmpty() {
+        long position = head.get();
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    /**
+     * Get count of items in queue, maybe not exact under concurrency.
+     *
+     * @return size
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get count of dropped items, including bulk items.
+     *
+     * @return dropped count
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Get count of bulk items dropped to keep space for other items.
+     *
+     * @return dropped bulk count
+     */
+    long getDroppedBulkCount() {
+        return droppedBulkCount.get();
+    }
+
+}
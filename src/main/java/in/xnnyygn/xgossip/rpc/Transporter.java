@@ -12,6 +12,13 @@ public interface Transporter {
 
     <M extends AbstractMessage, R extends AbstractMessage> void reply(RemoteMessage<M> remoteMessage, R response);
 
+    /**
+     * Get snapshot of metrics.
+     *
+     * @return stats
+     */
+    TransporterStats getStats();
+
     void close();
 
 }
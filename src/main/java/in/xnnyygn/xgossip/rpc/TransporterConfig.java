@@ -0,0 +1,80 @@
+package in.xnnyygn.xgossip.rpc;
+
+/**
+ * Config of transporter.
+ */
+public class TransporterConfig {
+
+    private int maxPacketSize = PacketProtocol.detectMaxPacketSize();
+    private long coalescingDelay = 0;
+    private int compressionThreshold = PacketProtocol.DEFAULT_COMPRESSION_THRESHOLD;
+    private int sendQueueCapacity = 4096;
+
+    /**
+     * Get max packet size, larger messages are sent in fragments.
+     * Detected from MTU of network interfaces by default.
+     *
+     * @return max packet size
+     */
+    public int getMaxPacketSize() {
+        return maxPacketSize;
+    }
+
+    public void setMaxPacketSize(int maxPacketSize) {
+        if (maxPacketSize <= 0 || maxPacketSize > PacketProtocol.MAX_DATAGRAM_SIZE) {
+            throw new IllegalArgumentException("illegal max packet size " + maxPacketSize);
+        }
+        this.maxPacketSize = maxPacketSize;
+    }
+
+    /**
+     * Get delay in milliseconds to coalesce messages to same endpoint into one packet, 0 means disabled.
+     *
+     * @return coalescing delay
+     */
+    public long getCoalescingDelay() {
+        return coalescingDelay;
+    }
+
+    public void setCoalescingDelay(long coalescingDelay) {
+        if (coalescingDelay < 0) {
+            throw new IllegalArgumentException("coalescing delay < 0");
+        }
+        this.coalescingDelay = coalescingDelay;
+    }
+
+    /**
+     * Get min size of member list or definitions in v2 packet to compress, 0 means disabled.
+     * Compressed only if it gets smaller.
+     *
+     * @return compression threshold
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("compression threshold < 0");
+        }
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Get capacity of queue of messages or packets waiting to be sent, rounded up to power of 2.
+     * Messages of exchange are dropped when the queue is 3/4 full, all messages are dropped when full.
+     *
+     * @return send queue capacity
+     */
+    public int getSendQueueCapacity() {
+        return sendQueueCapacity;
+    }
+
+    public void setSendQueueCapacity(int sendQueueCapacity) {
+        if (sendQueueCapacity <= 0 || sendQueueCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("illegal send queue capacity " + sendQueueCapacity);
+        }
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
+
+}
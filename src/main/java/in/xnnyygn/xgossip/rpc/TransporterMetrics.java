@@ -0,0 +1,143 @@
+package in.xnnyygn.xgossip.rpc;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of transporter.
+ * <p>
+ * Counters are striped longs, so threads sending and receiving do not contend on the same cache line, and
+ * only {@link #snapshot()} sums them up. Counters of message types are indexed by message type in packet.
+ * Time to process received packets is sampled, one of {@link #RECEIVE_SAMPLE_RATE} packets, since reading
+ * clock twice costs more than all the counters.
+ * </p>
+ */
+@ThreadSafe
+public class TransporterMetrics {
+
+    private static final int MESSAGE_TYPE_COUNT = 32;
+    static final int RECEIVE_SAMPLE_RATE = 16;
+    private final LongAdder packetsReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder packetsSent = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder receiveCount = new LongAdder();
+    private final LongAdder receiveNanos = new LongAdder();
+    private final LongAccumulator maxReceiveNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] messagesReceived = newAdders();
+    private final LongAdder[] messageBytesReceived = newAdders();
+    private final LongAdder[] messagesSent = newAdders();
+    private final LongAdder[] messageBytesSent = newAdders();
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[MESSAGE_TYPE_COUNT];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    void onPacketReceived(int size) {
+        packetsReceived.increment();
+        bytesReceived.add(size);
+    }
+
+    void onPacketSent(int size) {
+        packetsSent.increment();
+        bytesSent.add(size);
+    }
+
+    void onMessageReceived(int messageType, int size) {
+        if (messageType >= 0 && messageType < MESSAGE_TYPE_COUNT) {
+            messagesReceived[messageType].increment();
+            messageBytesReceived[messageType].add(size);
+        }
+    }
+
+    void onMessageSent(int messageType, int size) {
+        if (messageType >= 0 && messageType < MESSAGE_TYPE_COUNT) {
+            messagesSent[messageType].increment();
+            messageBytesSent[messageType].add(size);
+        }
+    }
+
+    void onParseFailure() {
+        parseFailures.increment();
+    }
+
+    void onSendFailure() {
+        sendFailures.increment();
+    }
+
+    /**
+     * Start processing received packet.
+     *
+     * @return start time in nanoseconds if sampled, otherwise 0
+     */
+    long onReceiveStarted() {
+        if (ThreadLocalRandom.current().nextInt(RECEIVE_SAMPLE_RATE) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Record time to parse and dispatch a received packet if sampled.
+     *
+     * @param startTime start time returned by {@link #onReceiveStarted()}
+     */
+    void onReceiveProcessed(long startTime) {
+        if (startTime == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - startTime;
+        receiveCount.increment();
+        receiveNanos.add(nanos);
+        maxReceiveNanos.accumulate(nanos);
+    }
+
+    /**
+     * Take snapshot.
+     *
+     * @return snapshot
+     */
+    public TransporterStats snapshot() {
+        return snapshot(null);
+    }
+
+    /**
+     * Take snapshot with counters of send queue.
+     *
+     * @param sendQueue send queue, null if not available
+     * @return snapshot
+     */
+    TransporterStats snapshot(SendQueue<?> sendQueue) {
+        Map<String, TransporterStats.MessageStats> messageStatsMap = new LinkedHashMap<>();
+        for (int i = 0; i < MESSAGE_TYPE_COUNT; i++) {
+            long received = messagesReceived[i].sum();
+            long sent = messagesSent[i].sum();
+            if (received > 0 || sent > 0) {
+                messageStatsMap.put(PacketProtocol.getMessageTypeName(i), new TransporterStats.MessageStats(
+                        received, messageBytesReceived[i].sum(), sent, messageBytesSent[i].sum()
+                ));
+            }
+        }
+        return new TransporterStats(
+                packetsReceived.sum(), bytesReceived.sum(), packetsSent.sum(), bytesSent.sum(),
+                parseFailures.sum(), sendFailures.sum(),
+                receiveCount.sum(), receiveNanos.sum(), maxReceiveNanos.get(),
+                sendQueue != null ? sendQueue.size() : 0,
+                sendQueue != null ? sendQueue.getDroppedCount() : 0,
+                sendQueue != null ? sendQueue.getDroppedBulkCount() : 0,
+                Collections.unmodifiableMap(messageStatsMap)
+        );
+    }
+
+}
@@ -0,0 +1,210 @@
+package in.xnnyygn.xgossip.rpc;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Map;
+
+/**
+ * Snapshot of metrics of transporter, counted since transporter is created.
+ */
+@Immutable
+public class TransporterStats {
+
+    private final long packetsReceived;
+    private final long bytesReceived;
+    private final long packetsSent;
+    private final long bytesSent;
+    private final long parseFailures;
+    private final long sendFailures;
+    private final long receiveCount;
+    private final long receiveNanos;
+    private final long maxReceiveNanos;
+    private final int sendQueueSize;
+    private final long droppedCount;
+    private final long droppedBulkCount;
+    private final Map<String, MessageStats> messageStatsMap;
+
+    TransporterStats(long packetsReceived, long bytesReceived, long packetsSent, long bytesSent,
+                     long parseFailures, long sendFailures,
+                     long receiveCount, long receiveNanos, long maxReceiveNanos,
+                     int sendQueueSize, long droppedCount, long droppedBulkCount,
+                     Map<String, MessageStats> messageStatsMap) {
+        this.packetsReceived = packetsReceived;
+        this.bytesReceived = bytesReceived;
+        this.packetsSent = packetsSent;
+        this.bytesSent = bytesSent;
+        this.parseFailures = parseFailures;
+        this.sendFailures = sendFailures;
+        this.receiveCount = receiveCount;
+        this.receiveNanos = receiveNanos;
+        this.maxReceiveNanos = maxReceiveNanos;
+        this.sendQueueSize = sendQueueSize;
+        this.droppedCount = droppedCount;
+        this.droppedBulkCount = droppedBulkCount;
+        this.messageStatsMap = messageStatsMap;
+    }
+
+    public long getPacketsReceived() {
+        return packetsReceived;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get count of packets failed to parse.
+     *
+     * @return parse failures
+     */
+    public long getParseFailures() {
+        return parseFailures;
+    }
+
+    /**
+     * Get count of messages or packets failed to encode or send.
+     *
+     * @return send failures
+     */
+    public long getSendFailures() {
+        return sendFailures;
+    }
+
+    /**
+     * Get count of received packets sampled to measure time to process.
+     *
+     * @return receive count
+     */
+    public long getReceiveCount() {
+        return receiveCount;
+    }
+
+    /**
+     * Get total time to parse and dispatch sampled received packets in nanoseconds.
+     *
+     * @return receive time
+     */
+    public long getReceiveNanos() {
+        return receiveNanos;
+    }
+
+    /**
+     * Get max time to parse and dispatch a sampled received packet in nanoseconds.
+     *
+     * @return max receive time
+     */
+    public long getMaxReceiveNanos() {
+        return maxReceiveNanos;
+    }
+
+    public long getAverageReceiveNanos() {
+        return receiveCount > 0 ? receiveNanos / receiveCount : 0;
+    }
+
+    /**
+     * Get count of messages or packets waiting to be sent.
+     *
+     * @return send queue size
+     */
+    public int getSendQueueSize() {
+        return sendQueueSize;
+    }
+
+    /**
+     * Get count of messages or packets dropped because send queue is full.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Get count of messages or packets of exchange dropped to keep space for pings.
+     *
+     * @return dropped bulk count
+     */
+    public long getDroppedBulkCount() {
+        return droppedBulkCount;
+    }
+
+    /**
+     * Get stats by name of message type, like {@code PingRpc}. Only types sent or received are included.
+     *
+     * @return stats by message type
+     */
+    public Map<String, MessageStats> getMessageStatsMap() {
+        return messageStatsMap;
+    }
+
+    @Override
+    public String toString() {
+        return "TransporterStats{" +
+                "packetsReceived=" + packetsReceived +
+                ", bytesReceived=" + bytesReceived +
+                ", packetsSent=" + packetsSent +
+                ", bytesSent=" + bytesSent +
+                ", parseFailures=" + parseFailures +
+                ", sendFailures=" + sendFailures +
+                ", averageReceiveNanos=" + getAverageReceiveNanos() +
+                ", maxReceiveNanos=" + maxReceiveNanos +
+                ", sendQueueSize=" + sendQueueSize +
+                ", droppedCount=" + droppedCount +
+                ", messageStatsMap=" + messageStatsMap +
+                '}';
+    }
+
+    /**
+     * Stats of a message type, bytes are size of message in packet, without packet header.
+     */
+    @Immutable
+    public static class MessageStats {
+
+        private final long messagesReceived;
+        private final long bytesReceived;
+        private final long messagesSent;
+        private final long bytesSent;
+
+        MessageStats(long messagesReceived, long bytesReceived, long messagesSent, long bytesSent) {
+            this.messagesReceived = messagesReceived;
+            this.bytesReceived = bytesReceived;
+            this.messagesSent = messagesSent;
+            this.bytesSent = bytesSent;
+        }
+
+        public long getMessagesReceived() {
+            return messagesReceived;
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+
+        public long getMessagesSent() {
+            return messagesSent;
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        @Override
+        public String toString() {
+            return "MessageStats{" +
+                    "messagesReceived=" + messagesReceived +
+                    ", bytesReceived=" + bytesReceived +
+                    ", messagesSent=" + messagesSent +
+                    ", bytesSent=" + bytesSent +
+                    '}';
+        }
+
+    }
+
+}
@@ -1,4 +1,20 @@
 package in.xnnyygn.xgossip.rpc.messages;
 
 public abstract class AbstractMessage {
+
+    private final int typeId;
+
+    protected AbstractMessage(int typeId) {
+        this.typeId = typeId;
+    }
+
+    /**
+     * Get dense id of message type, see {@link MessageTypes}.
+     *
+     * @return type id
+     */
+    public final int getTypeId() {
+        return typeId;
+    }
+
 }
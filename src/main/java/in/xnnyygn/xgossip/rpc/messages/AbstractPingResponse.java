@@ -3,13 +3,24 @@ package in.xnnyygn.xgossip.rpc.messages;
 public class AbstractPingResponse extends AbstractMessage {
 
     private final long pingAt;
+    private final Piggyback piggyback;
 
-    public AbstractPingResponse(long pingAt) {
+    protected AbstractPingResponse(int typeId, long pingAt) {
+        this(typeId, pingAt, Piggyback.EMPTY);
+    }
+
+    protected AbstractPingResponse(int typeId, long pingAt, Piggyback piggyback) {
+        super(typeId);
         this.pingAt = pingAt;
+        this.piggyback = piggyback;
     }
 
     public long getPingAt() {
         return pingAt;
     }
 
+    public Piggyback getPiggyback() {
+        return piggyback;
+    }
+
 }
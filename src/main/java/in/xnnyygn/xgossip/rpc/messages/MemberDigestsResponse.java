@@ -0,0 +1,56 @@
+package in.xnnyygn.xgossip.rpc.messages;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Digests of nodes in a level of digest tree of member list, sent when digests of member lists are different.
+ */
+public class MemberDigestsResponse extends AbstractMessage {
+
+    private final long exchangeAt;
+    private final Map<Long, Boolean> updatedMap;
+    private final int level;
+    private final List<Integer> indices;
+    private final List<byte[]> digests;
+
+    public MemberDigestsResponse(long exchangeAt, Map<Long, Boolean> updatedMap, int level, List<Integer> indices, List<byte[]> digests) {
+        super(MessageTypes.MEMBER_DIGESTS_RESPONSE);
+        this.exchangeAt = exchangeAt;
+        this.updatedMap = updatedMap;
+        this.level = level;
+        this.indices = indices;
+        this.digests = digests;
+    }
+
+    public long getExchangeAt() {
+        return exchangeAt;
+    }
+
+    public Map<Long, Boolean> getUpdatedMap() {
+        return updatedMap;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public List<Integer> getIndices() {
+        return indices;
+    }
+
+    public List<byte[]> getDigests() {
+        return digests;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberDigestsResponse{" +
+                "exchangeAt=" + exchangeAt +
+                ", updatedMap=" + updatedMap +
+                ", level=" + level +
+                ", indices=" + indices +
+                '}';
+    }
+
+}
@@ -10,7 +10,7 @@ public class MemberJoinResponse extends AbstractMessage {
     private final Collection<Member> members;
 
     public MemberJoinResponse(@Nonnull Collection<Member> members) {
-        super();
+        super(MessageTypes.MEMBER_JOIN_RESPONSE);
         this.members = members;
     }
 
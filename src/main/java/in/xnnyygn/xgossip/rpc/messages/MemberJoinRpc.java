@@ -8,6 +8,7 @@ public class MemberJoinRpc extends AbstractMessage {
     private final long timeJoined;
 
     public MemberJoinRpc(MemberEndpoint endpoint, long timeJoined) {
+        super(MessageTypes.MEMBER_JOIN_RPC);
         this.endpoint = endpoint;
         this.timeJoined = timeJoined;
     }
@@ -8,6 +8,7 @@ public class MemberLeavedRpc extends AbstractMessage {
     private final long timeLeaved;
 
     public MemberLeavedRpc(MemberEndpoint endpoint, long timeLeaved) {
+        super(MessageTypes.MEMBER_LEAVED_RPC);
         this.endpoint = endpoint;
         this.timeLeaved = timeLeaved;
     }
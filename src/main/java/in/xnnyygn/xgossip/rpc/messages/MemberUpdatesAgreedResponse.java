@@ -8,6 +8,7 @@ public class MemberUpdatesAgreedResponse extends AbstractMessage {
     private final Map<Long, Boolean> updatedMap;
 
     public MemberUpdatesAgreedResponse(long exchangeAt, Map<Long, Boolean> updatedMap) {
+        super(MessageTypes.MEMBER_UPDATES_AGREED_RESPONSE);
         this.exchangeAt = exchangeAt;
         this.updatedMap = updatedMap;
     }
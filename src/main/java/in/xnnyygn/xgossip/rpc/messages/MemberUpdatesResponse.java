@@ -17,6 +17,7 @@ public class MemberUpdatesResponse extends AbstractMessage {
     }
 
     public MemberUpdatesResponse(long exchangeAt, Map<Long, Boolean> updatedMap, List<AbstractUpdate> updates, byte[] membersDigest, int hopCount) {
+        super(MessageTypes.MEMBER_UPDATES_RESPONSE);
         this.exchangeAt = exchangeAt;
         this.updatedMap = updatedMap;
         this.updates = updates;
@@ -21,6 +21,7 @@ public class MemberUpdatesRpc extends AbstractMessage {
     }
 
     public MemberUpdatesRpc(long exchangeAt, List<AbstractUpdate> updates, List<MemberNotification> notifications, byte[] membersDigest) {
+        super(MessageTypes.MEMBER_UPDATES_RPC);
         this.exchangeAt = exchangeAt;
         this.updates = updates;
         this.notifications = notifications;
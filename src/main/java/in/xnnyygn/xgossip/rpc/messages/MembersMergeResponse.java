@@ -11,6 +11,7 @@ public class MembersMergeResponse extends AbstractMessage {
     private final Collection<Member> members;
     private final byte[] membersDigest;
     private final int hopCount;
+    private final Set<Integer> buckets;
 
     public MembersMergeResponse(long exchangeAt, Collection<Member> members, byte[] membersDigest) {
         this(exchangeAt, members, membersDigest, 1);
@@ -25,11 +26,27 @@ public class MembersMergeResponse extends AbstractMessage {
     }
 
     public MembersMergeResponse(long exchangeAt, Map<Long, Boolean> updatedMap, Collection<Member> members, byte[] membersDigest, int hopCount) {
+        this(exchangeAt, updatedMap, members, membersDigest, hopCount, Collections.emptySet());
+    }
+
+    /**
+     * Create.
+     *
+     * @param exchangeAt    exchange at
+     * @param updatedMap    updated map
+     * @param members       members
+     * @param membersDigest digest of all members
+     * @param hopCount      hop count
+     * @param buckets       buckets of members, empty if members are all members
+     */
+    public MembersMergeResponse(long exchangeAt, Map<Long, Boolean> updatedMap, Collection<Member> members, byte[] membersDigest, int hopCount, Set<Integer> buckets) {
+        super(MessageTypes.MEMBERS_MERGE_RESPONSE);
         this.exchangeAt = exchangeAt;
         this.updatedMap = updatedMap;
         this.members = members;
         this.membersDigest = membersDigest;
         this.hopCount = hopCount;
+        this.buckets = buckets;
     }
 
     public long getExchangeAt() {
@@ -52,6 +69,10 @@ public class MembersMergeResponse extends AbstractMessage {
         return hopCount;
     }
 
+    public Set<Integer> getBuckets() {
+        return buckets;
+    }
+
     @Override
     public String toString() {
         return "MembersMergeResponse{" +
@@ -60,6 +81,7 @@ public class MembersMergeResponse extends AbstractMessage {
                 ", members.size=" + members.size() +
                 ", membersDigest=" + Base64.getEncoder().encodeToString(membersDigest) +
                 ", hopCount=" + hopCount +
+                ", buckets=" + buckets +
                 '}';
     }
 
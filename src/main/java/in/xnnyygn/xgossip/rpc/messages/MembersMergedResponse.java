@@ -5,6 +5,7 @@ public class MembersMergedResponse extends AbstractMessage {
     private final long exchangeAt;
 
     public MembersMergedResponse(long exchangeAt) {
+        super(MessageTypes.MEMBERS_MERGED_RESPONSE);
         this.exchangeAt = exchangeAt;
     }
 
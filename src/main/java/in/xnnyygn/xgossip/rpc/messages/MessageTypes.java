@@ -0,0 +1,81 @@
+package in.xnnyygn.xgossip.rpc.messages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dense ids of message types.
+ * <p>
+ * Id is kept in every message, so handlers and codecs are looked up by index of array or switch instead of
+ * class of message. Ids are not written to packet, packet protocol has its own message types.
+ * </p>
+ */
+public final class MessageTypes {
+
+    public static final int MEMBER_JOIN_RPC = 0;
+    public static final int MEMBER_JOIN_RESPONSE = 1;
+    public static final int MEMBER_LEAVED_RPC = 2;
+    public static final int MEMBER_UPDATES_RPC = 3;
+    public static final int MEMBER_UPDATES_AGREED_RESPONSE = 4;
+    public static final int MEMBER_UPDATES_RESPONSE = 5;
+    public static final int MEMBERS_MERGE_RESPONSE = 6;
+    public static final int MEMBERS_MERGED_RESPONSE = 7;
+    public static final int PING_RPC = 8;
+    public static final int PING_RESPONSE = 9;
+    public static final int PING_REQUEST_RPC = 10;
+    public static final int PROXY_PING_RPC = 11;
+    public static final int PROXY_PING_RESPONSE = 12;
+    public static final int PROXY_PING_DONE_RESPONSE = 13;
+    public static final int MEMBER_DIGESTS_RESPONSE = 14;
+    public static final int COUNT = 15;
+
+    private static final Map<Class<? extends AbstractMessage>, Integer> typeIdMap = new LinkedHashMap<>();
+
+    static {
+        typeIdMap.put(MemberJoinRpc.class, MEMBER_JOIN_RPC);
+        typeIdMap.put(MemberJoinResponse.class, MEMBER_JOIN_RESPONSE);
+        typeIdMap.put(MemberLeavedRpc.class, MEMBER_LEAVED_RPC);
+        typeIdMap.put(MemberUpdatesRpc.class, MEMBER_UPDATES_RPC);
+        typeIdMap.put(MemberUpdatesAgreedResponse.class, MEMBER_UPDATES_AGREED_RESPONSE);
+        typeIdMap.put(MemberUpdatesResponse.class, MEMBER_UPDATES_RESPONSE);
+        typeIdMap.put(MembersMergeResponse.class, MEMBERS_MERGE_RESPONSE);
+        typeIdMap.put(MembersMergedResponse.class, MEMBERS_MERGED_RESPONSE);
+        typeIdMap.put(PingRpc.class, PING_RPC);
+        typeIdMap.put(PingResponse.class, PING_RESPONSE);
+        typeIdMap.put(PingRequestRpc.class, PING_REQUEST_RPC);
+        typeIdMap.put(ProxyPingRpc.class, PROXY_PING_RPC);
+        typeIdMap.put(ProxyPingResponse.class, PROXY_PING_RESPONSE);
+        typeIdMap.put(ProxyPingDoneResponse.class, PROXY_PING_DONE_RESPONSE);
+        typeIdMap.put(MemberDigestsResponse.class, MEMBER_DIGESTS_RESPONSE);
+    }
+
+    private MessageTypes() {
+    }
+
+    /**
+     * List classes of message types, in order of type id.
+     *
+     * @return classes
+     */
+    public static Set<Class<? extends AbstractMessage>> listClasses() {
+        return Collections.unmodifiableSet(typeIdMap.keySet());
+    }
+
+    /**
+     * Get type id of message class.
+     *
+     * @param clazz class of message
+     * @return type id
+     * @throws IllegalArgumentException if class is not a message type
+     */
+    public static int of(Class<? extends AbstractMessage> clazz) {
+        Integer typeId = typeIdMap.get(clazz);
+        if (typeId == null) {
+            throw new IllegalArgumentException("unknown message type " + clazz);
+        }
+        return typeId;
+    }
+
+}
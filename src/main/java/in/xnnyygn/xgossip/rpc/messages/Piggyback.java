@@ -0,0 +1,71 @@
+package in.xnnyygn.xgossip.rpc.messages;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.MemberNotification;
+import in.xnnyygn.xgossip.updates.AbstractUpdate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Updates and notifications piggybacked on ping messages.
+ */
+public class Piggyback {
+
+    public static final Piggyback EMPTY = new Piggyback(Collections.emptyList(), Collections.emptyList());
+    private final List<AbstractUpdate> updates;
+    private final List<MemberNotification> notifications;
+
+    public Piggyback(List<AbstractUpdate> updates, List<MemberNotification> notifications) {
+        this.updates = updates;
+        this.notifications = notifications;
+    }
+
+    public List<AbstractUpdate> getUpdates() {
+        return updates;
+    }
+
+    public List<MemberNotification> getNotifications() {
+        return notifications;
+    }
+
+    public boolean isEmpty() {
+        return updates.isEmpty() && notifications.isEmpty();
+    }
+
+    /**
+     * Get max size of update in packet.
+     *
+     * @param update update
+     * @return max size
+     */
+    public static int estimateSize(AbstractUpdate update) {
+        // tag and length, id, endpoint, time
+        return 3 + 11 + estimateSize(update.getEndpoint()) + 11;
+    }
+
+    /**
+     * Get max size of notification in packet.
+     *
+     * @param notification notification
+     * @return max size
+     */
+    public static int estimateSize(MemberNotification notification) {
+        // tag and length, endpoint, suspected, timestamp, by
+        return 3 + estimateSize(notification.getEndpoint()) + 2 + 11 + estimateSize(notification.getBy());
+    }
+
+    private static int estimateSize(MemberEndpoint endpoint) {
+        // tag and length, host, port
+        return 3 + 3 + endpoint.getHost().length() * 3 + 6;
+    }
+
+    @Override
+    public String toString() {
+        return "Piggyback{" +
+                "updates.size=" + updates.size() +
+                ", notifications.size=" + notifications.size() +
+                '}';
+    }
+
+}
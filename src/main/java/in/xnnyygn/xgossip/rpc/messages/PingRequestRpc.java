@@ -8,6 +8,7 @@ public class PingRequestRpc extends AbstractMessage {
     private final MemberEndpoint endpoint;
 
     public PingRequestRpc(long pingAt, MemberEndpoint endpoint) {
+        super(MessageTypes.PING_REQUEST_RPC);
         this.pingAt = pingAt;
         this.endpoint = endpoint;
     }
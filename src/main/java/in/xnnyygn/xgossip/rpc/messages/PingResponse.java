@@ -3,13 +3,18 @@ package in.xnnyygn.xgossip.rpc.messages;
 public class PingResponse extends AbstractPingResponse {
 
     public PingResponse(long pingAt) {
-        super(pingAt);
+        super(MessageTypes.PING_RESPONSE, pingAt);
+    }
+
+    public PingResponse(long pingAt, Piggyback piggyback) {
+        super(MessageTypes.PING_RESPONSE, pingAt, piggyback);
     }
 
     @Override
     public String toString() {
         return "PingResponse{" +
                 "pingAt=" + getPingAt() +
+                ", piggyback=" + getPiggyback() +
                 '}';
     }
 
@@ -3,22 +3,33 @@ package in.xnnyygn.xgossip.rpc.messages;
 public class PingRpc extends AbstractMessage {
 
     private final long pingAt;
+    private final Piggyback piggyback;
 
     public PingRpc() {
         this(System.currentTimeMillis());
     }
 
     public PingRpc(long pingAt) {
+        this(pingAt, Piggyback.EMPTY);
+    }
+
+    public PingRpc(long pingAt, Piggyback piggyback) {
+        super(MessageTypes.PING_RPC);
         this.pingAt = pingAt;
+        this.piggyback = piggyback;
     }
 
     public long getPingAt() {
         return pingAt;
     }
 
+    public Piggyback getPiggyback() {
+        return piggyback;
+    }
+
     @Override
     public String toString() {
-        return "PingRpc{pingAt=" + pingAt + "}";
+        return "PingRpc{pingAt=" + pingAt + ", piggyback=" + piggyback + "}";
     }
 
 }
@@ -7,7 +7,7 @@ public class ProxyPingDoneResponse extends AbstractPingResponse {
     private final MemberEndpoint endpoint;
 
     public ProxyPingDoneResponse(long pingAt, MemberEndpoint endpoint) {
-        super(pingAt);
+        super(MessageTypes.PROXY_PING_DONE_RESPONSE, pingAt);
         this.endpoint = endpoint;
     }
 
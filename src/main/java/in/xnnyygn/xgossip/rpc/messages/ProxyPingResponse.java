@@ -6,10 +6,17 @@ public class ProxyPingResponse extends AbstractMessage {
 
     private final long pingAt;
     private final MemberEndpoint sourceEndpoint;
+    private final Piggyback piggyback;
 
     public ProxyPingResponse(long pingAt, MemberEndpoint sourceEndpoint) {
+        this(pingAt, sourceEndpoint, Piggyback.EMPTY);
+    }
+
+    public ProxyPingResponse(long pingAt, MemberEndpoint sourceEndpoint, Piggyback piggyback) {
+        super(MessageTypes.PROXY_PING_RESPONSE);
         this.pingAt = pingAt;
         this.sourceEndpoint = sourceEndpoint;
+        this.piggyback = piggyback;
     }
 
     public long getPingAt() {
@@ -20,11 +27,16 @@ public class ProxyPingResponse extends AbstractMessage {
         return sourceEndpoint;
     }
 
+    public Piggyback getPiggyback() {
+        return piggyback;
+    }
+
     @Override
     public String toString() {
         return "ProxyPingResponse{" +
                 "pingAt=" + pingAt +
                 ", sourceEndpoint=" + sourceEndpoint +
+                ", piggyback=" + piggyback +
                 '}';
     }
 
@@ -6,10 +6,17 @@ public class ProxyPingRpc extends AbstractMessage {
 
     private final long pingAt;
     private final MemberEndpoint sourceEndpoint;
+    private final Piggyback piggyback;
 
     public ProxyPingRpc(long pingAt, MemberEndpoint sourceEndpoint) {
+        this(pingAt, sourceEndpoint, Piggyback.EMPTY);
+    }
+
+    public ProxyPingRpc(long pingAt, MemberEndpoint sourceEndpoint, Piggyback piggyback) {
+        super(MessageTypes.PROXY_PING_RPC);
         this.pingAt = pingAt;
         this.sourceEndpoint = sourceEndpoint;
+        this.piggyback = piggyback;
     }
 
     public long getPingAt() {
@@ -20,11 +27,16 @@ public class ProxyPingRpc extends AbstractMessage {
         return sourceEndpoint;
     }
 
+    public Piggyback getPiggyback() {
+        return piggyback;
+    }
+
     @Override
     public String toString() {
         return "ProxyPingRpc{" +
                 "pingAt=" + pingAt +
                 ", sourceEndpoint=" + sourceEndpoint +
+                ", piggyback=" + piggyback +
                 '}';
     }
 
@@ -0,0 +1,132 @@
+package in.xnnyygn.xgossip.schedule;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Scheduler running timers and tasks in one thread.
+ * <p>
+ * When received messages, timers and calls of API all run in the event loop, state of member list is changed
+ * by one thread only, in order, without locks. The event loop may run on the thread receiving packets, like event
+ * loop of netty, so received messages are processed right after parsed, without handing off to another thread.
+ * </p>
+ */
+@ThreadSafe
+public class EventLoop implements Scheduler, Executor {
+
+    private final ScheduledExecutorService executorService;
+    private final boolean executorOwned;
+    private volatile Thread thread;
+
+    public EventLoop() {
+        ScheduledThreadPoolExecutor executorService = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "event-loop");
+            this.thread = thread;
+            return thread;
+        });
+        executorService.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executorService = executorService;
+        this.executorOwned = true;
+    }
+
+    /**
+     * Create on shared executor, which is not shut down with event loop.
+     *
+     * @param executorService executor running tasks in one thread, like event loop of netty
+     */
+    public EventLoop(ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+        this.executorOwned = false;
+        try {
+            this.thread = executorService.submit(Thread::currentThread).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted when waiting for event loop", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to start event loop", e.getCause());
+        }
+    }
+
+    /**
+     * Check if current thread is thread of event loop.
+     *
+     * @return true if in event loop, otherwise false
+     */
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(command);
+    }
+
+    /**
+     * Run task in event loop and wait for result. Run directly if in event loop.
+     *
+     * @param task task
+     * @param <T>  result type
+     * @return result
+     */
+    public <T> T call(Supplier<T> task) {
+        if (inEventLoop()) {
+            return task.get();
+        }
+        Future<T> future = executorService.submit(task::get);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted when waiting for event loop", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Run task in event loop and wait for completion. Run directly if in event loop.
+     *
+     * @param task task
+     */
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay) {
+        return executorService.schedule(command, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay) {
+        return executorService.scheduleWithFixedDelay(command, initialDelay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Shutdown own thread, shared executor is shut down by its owner.
+     */
+    @Override
+    public void shutdown() {
+        if (executorOwned) {
+            executorService.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,354 @@
+package in.xnnyygn.xgossip.schedule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Scheduler based on hashed timing wheel.
+ * <p>
+ * Timeouts are kept in buckets of a wheel by deadline, the worker thread moves to next bucket every tick and runs
+ * expired timeouts in it. Scheduling and cancelling are O(1), new and cancelled timeouts are queued and moved to or
+ * removed from buckets by worker thread, so no lock is needed. Most timeouts of ping are cancelled before expired,
+ * they are unlinked from bucket instead of staying in a heap until deadline.
+ * </p>
+ * <p>
+ * Timeouts are expired at tick granularity, up to one tick late. Deadline of each tick is computed from start time,
+ * so a late tick does not delay the following ticks.
+ * </p>
+ */
+@ThreadSafe
+public class HashedWheelScheduler implements Scheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelScheduler.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+    public static final long DEFAULT_TICK_DURATION = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final long startTime = System.nanoTime();
+    private final Thread workerThread;
+    private volatile boolean shutdown = false;
+    // accessed by worker thread only
+    private long tick = 0;
+
+    public HashedWheelScheduler() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Create.
+     *
+     * @param tickDuration duration of tick in milliseconds
+     * @param wheelSize    count of buckets, rounded up to power of 2
+     */
+    public HashedWheelScheduler(long tickDuration, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration <= 0");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("illegal wheel size " + wheelSize);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.workerThread = new Thread(this::work, "scheduler");
+        this.workerThread.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay) {
+        return add(new Timeout(this, command, elapsed() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay)), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay <= 0");
+        }
+        return add(new Timeout(this, command, elapsed() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, initialDelay)),
+                TimeUnit.MILLISECONDS.toNanos(delay)));
+    }
+
+    private Timeout add(Timeout timeout) {
+        if (shutdown) {
+            throw new IllegalStateException("scheduler is shut down");
+        }
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Get nanoseconds elapsed since scheduler is created.
+     */
+    private long elapsed() {
+        return System.nanoTime() - startTime;
+    }
+
+    private void work() {
+        while (!shutdown) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            removeCancelledTimeouts();
+            transferPendingTimeouts();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+        logger.debug("scheduler stopped");
+    }
+
+    /**
+     * Wait until deadline of current tick.
+     *
+     * @return elapsed time in nanoseconds, -1 if shut down
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = elapsed();
+            if (current >= deadline) {
+                return current;
+            }
+            LockSupport.parkNanos(this, deadline - current);
+            if (shutdown) {
+                return -1;
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state == Timeout.STATE_INIT) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long calculatedTick = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+        // expire in current tick if deadline is passed
+        long targetTick = Math.max(calculatedTick, tick);
+        wheel[(int) (targetTick & mask)].add(timeout);
+    }
+
+    /**
+     * Shutdown, timeouts not expired are discarded.
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(workerThread);
+    }
+
+    private static class Timeout implements ScheduledFuture<Object> {
+
+        static final int STATE_INIT = 0;
+        static final int STATE_CANCELLED = 1;
+        static final int STATE_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> stateUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelScheduler scheduler;
+        private final Runnable command;
+        // 0 if not periodic
+        private final long period;
+        private volatile long deadline;
+        private volatile int state = STATE_INIT;
+
+        // accessed by worker thread only
+        long remainingRounds;
+        Bucket bucket;
+        Timeout prev;
+        Timeout next;
+
+        Timeout(HashedWheelScheduler scheduler, Runnable command, long deadline, long period) {
+            this.scheduler = scheduler;
+            this.command = command;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        void expire() {
+            if (period == 0) {
+                if (!stateUpdater.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                    return;
+                }
+            } else if (state != STATE_INIT) {
+                // cancelled after cancelled timeouts are removed in this tick
+                return;
+            }
+            try {
+                command.run();
+            } catch (Throwable t) {
+                logger.warn("failed to run scheduled task", t);
+                if (period > 0 && stateUpdater.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                    signalDone();
+                }
+                return;
+            }
+            if (period == 0) {
+                signalDone();
+            } else if (state == STATE_INIT) {
+                // placed in next tick at the earliest
+                deadline = scheduler.elapsed() + period;
+                scheduler.pendingTimeouts.add(this);
+            }
+        }
+
+        private synchronized void signalDone() {
+            notifyAll();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!stateUpdater.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            scheduler.cancelledTimeouts.add(this);
+            signalDone();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != STATE_INIT;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            synchronized (this) {
+                while (state == STATE_INIT) {
+                    wait();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, @Nonnull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            long waitUntil = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                while (state == STATE_INIT) {
+                    long remaining = waitUntil - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return unit.convert(deadline - scheduler.elapsed(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+    }
+
+    /**
+     * Doubly linked list of timeouts, accessed by worker thread only.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        // placed in wrong bucket, should not happen
+                        throw new IllegalStateException("timeout deadline " + timeout.deadline + " > " + deadline);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+    }
+
+}
@@ -8,6 +8,15 @@ public interface Scheduler {
 
     ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay);
 
+    /**
+     * Get current time in milliseconds, in the same clock as delays of scheduler.
+     *
+     * @return current time
+     */
+    default long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
     void shutdown();
 
 }
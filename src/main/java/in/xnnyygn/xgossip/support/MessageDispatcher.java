@@ -1,20 +1,40 @@
 package in.xnnyygn.xgossip.support;
 
 import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.MessageTypes;
 import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Dispatcher of remote messages to handlers by type.
+ * <p>
+ * Handlers are indexed by type id of message, so posting is an array load without hashing the class.
+ * Messages of types assigned to a lane are processed by thread of the lane, others by the thread posting, e.g. the
+ * thread receiving packets in event loop mode.
+ * </p>
+ */
 public class MessageDispatcher {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageDispatcher.class);
-    private final Map<Class<? extends AbstractMessage>, Handler<? extends AbstractMessage>> handlerMap = new HashMap<>();
+    private final Handler<?>[] handlers = new Handler<?>[MessageTypes.COUNT];
+    private final MessageLane[] lanes = new MessageLane[MessageTypes.COUNT];
 
     public <T extends AbstractMessage> void register(Class<T> clazz, Handler<T> handler) {
-        handlerMap.put(clazz, handler);
+        handlers[MessageTypes.of(clazz)] = handler;
+    }
+
+    /**
+     * Process messages of type in lane. Remember to assign lanes before any invoking of post.
+     *
+     * @param clazz class of message
+     * @param lane  lane
+     */
+    public void assignLane(Class<? extends AbstractMessage> clazz, MessageLane lane) {
+        lanes[MessageTypes.of(clazz)] = lane;
     }
 
     /**
@@ -25,13 +45,47 @@ public class MessageDispatcher {
      */
     @SuppressWarnings("unchecked")
     public <T extends AbstractMessage> void post(RemoteMessage<T> message) {
-        Class<? extends AbstractMessage> payloadClass = message.getPayloadClass();
-        Handler<T> handler = (Handler<T>) handlerMap.get(payloadClass);
+        int typeId = message.get().getTypeId();
+        Handler<T> handler = (Handler<T>) handlers[typeId];
         if (handler == null) {
-            logger.warn("no handler for remote message, class {}", payloadClass);
+            logger.warn("no handler for remote message, class {}", message.getPayloadClass());
             return;
         }
-        handler.handle(message);
+        MessageLane lane = lanes[typeId];
+        if (lane == null) {
+            try {
+                handler.handle(message);
+            } catch (RuntimeException e) {
+                // rest of messages in packet are still processed
+                logger.warn("failed to process message " + message, e);
+            }
+        } else if (!lane.execute(() -> handler.handle(message))) {
+            logger.debug("lane {} is full, drop message {}", lane.getName(), message);
+        }
+    }
+
+    /**
+     * List assigned lanes.
+     *
+     * @return lanes
+     */
+    public List<MessageLane> getLanes() {
+        List<MessageLane> result = new ArrayList<>();
+        for (MessageLane lane : lanes) {
+            if (lane != null && !result.contains(lane)) {
+                result.add(lane);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shutdown assigned lanes.
+     */
+    public void shutdown() {
+        for (MessageLane lane : getLanes()) {
+            lane.shutdown();
+        }
     }
 
     public interface Handler<T extends AbstractMessage> {
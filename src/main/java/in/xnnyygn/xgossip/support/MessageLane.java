@@ -0,0 +1,136 @@
+package in.xnnyygn.xgossip.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lane to process messages in order by its own thread, or by a shared single thread executor like event loop.
+ * <p>
+ * Messages of a lane never wait for messages of other lanes, e.g. ping responses are not processed after a large
+ * member list to merge, which may take longer than ping timeout. Queue of lane is bounded, messages are dropped
+ * when full, like packets dropped by a full socket buffer.
+ * </p>
+ */
+@ThreadSafe
+public class MessageLane {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageLane.class);
+    private final String name;
+    private final int queueCapacity;
+    private final Executor executor;
+    private final boolean executorOwned;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create.
+     *
+     * @param name          name, thread is named {@code lane-<name>}
+     * @param queueCapacity capacity of queue
+     */
+    public MessageLane(String name, int queueCapacity) {
+        this(name, queueCapacity, Executors.newSingleThreadExecutor(r -> new Thread(r, "lane-" + name)), true);
+    }
+
+    /**
+     * Create with shared executor, which is not shut down with lane.
+     *
+     * @param name          name
+     * @param queueCapacity capacity of queue
+     * @param executor      executor running tasks in one thread
+     */
+    public MessageLane(String name, int queueCapacity, Executor executor) {
+        this(name, queueCapacity, executor, false);
+    }
+
+    private MessageLane(String name, int queueCapacity, Executor executor, boolean executorOwned) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queue capacity <= 0");
+        }
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.executor = executor;
+        this.executorOwned = executorOwned;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Add task to queue.
+     *
+     * @param task task
+     * @return true if added, false if dropped because queue is full or lane is shut down
+     */
+    boolean execute(Runnable task) {
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            droppedCount.increment();
+            return false;
+        }
+        long postedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(task, postedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queueSize.decrementAndGet();
+            droppedCount.increment();
+            return false;
+        }
+    }
+
+    private void run(Runnable task, long postedAt) {
+        queueSize.decrementAndGet();
+        long nanos = System.nanoTime() - postedAt;
+        waitNanos.add(nanos);
+        maxWaitNanos.accumulate(nanos);
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failedCount.increment();
+            logger.warn("failed to process message in lane " + name, e);
+        }
+        processedCount.increment();
+    }
+
+    /**
+     * Take snapshot of counters.
+     *
+     * @return stats
+     */
+    public MessageLaneStats getStats() {
+        return new MessageLaneStats(name, queueSize.get(), processedCount.sum(), droppedCount.sum(),
+                failedCount.sum(), waitNanos.sum(), maxWaitNanos.get());
+    }
+
+    /**
+     * Shutdown own thread, messages in queue are discarded.
+     */
+    public void shutdown() {
+        if (executorOwned) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageLane{" +
+                "name='" + name + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,100 @@
+package in.xnnyygn.xgossip.support;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Snapshot of counters of message lane, counted since lane is created.
+ */
+@Immutable
+public class MessageLaneStats {
+
+    private final String name;
+    private final int queueSize;
+    private final long processedCount;
+    private final long droppedCount;
+    private final long failedCount;
+    private final long waitNanos;
+    private final long maxWaitNanos;
+
+    MessageLaneStats(String name, int queueSize, long processedCount, long droppedCount, long failedCount,
+                     long waitNanos, long maxWaitNanos) {
+        this.name = name;
+        this.queueSize = queueSize;
+        this.processedCount = processedCount;
+        this.droppedCount = droppedCount;
+        this.failedCount = failedCount;
+        this.waitNanos = waitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get count of messages waiting in queue.
+     *
+     * @return queue size
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * Get count of messages dropped because queue is full.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Get count of messages whose handler threw exception.
+     *
+     * @return failed count
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Get total time of processed messages waiting in queue in nanoseconds.
+     *
+     * @return wait time
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Get max time of a message waiting in queue in nanoseconds.
+     *
+     * @return max wait time
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    public long getAverageWaitNanos() {
+        return processedCount > 0 ? waitNanos / processedCount : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageLaneStats{" +
+                "name='" + name + '\'' +
+                ", queueSize=" + queueSize +
+                ", processedCount=" + processedCount +
+                ", droppedCount=" + droppedCount +
+                ", failedCount=" + failedCount +
+                ", averageWaitNanos=" + getAverageWaitNanos() +
+                ", maxWaitNanos=" + maxWaitNanos +
+                '}';
+    }
+
+}
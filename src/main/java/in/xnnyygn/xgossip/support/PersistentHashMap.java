@@ -0,0 +1,424 @@
+package in.xnnyygn.xgossip.support;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent hash map based on hash array mapped trie.
+ * <p>
+ * Map is immutable, {@link #put(Object, Object)} and {@link #remove(Object)} return a new map which shares all
+ * nodes with the old one except the path from root to the changed entry, O(log32 n) nodes are copied instead of
+ * the whole map. Each node has a 32-bit bitmap of present children, and an array with only present children,
+ * entries or sub nodes. Keys with same hash are kept in collision node at the bottom.
+ * </p>
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+@Immutable
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        // spread higher bits to lower levels
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(@Nonnull Object key) {
+        if (root == null) {
+            return null;
+        }
+        Entry entry = root.find(hash(key), key, 0);
+        return entry != null ? (V) entry.value : null;
+    }
+
+    public boolean containsKey(@Nonnull Object key) {
+        return root != null && root.find(hash(key), key, 0) != null;
+    }
+
+    /**
+     * Put entry.
+     *
+     * @param key   key
+     * @param value value
+     * @return new map, or this map if value of key is same
+     */
+    public PersistentHashMap<K, V> put(@Nonnull K key, V value) {
+        int hash = hash(key);
+        Entry entry = new Entry(hash, key, value);
+        if (root == null) {
+            return new PersistentHashMap<>(new BitmapNode(1 << (hash & MASK), new Object[]{entry}), 1);
+        }
+        Node newRoot = root.put(entry, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, root.find(hash, key, 0) != null ? size : size + 1);
+    }
+
+    /**
+     * Remove entry.
+     *
+     * @param key key
+     * @return new map, or this map if key is not present
+     */
+    public PersistentHashMap<K, V> remove(@Nonnull Object key) {
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.remove(hash(key), key, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot != null ? new PersistentHashMap<>(newRoot, size - 1) : empty();
+    }
+
+    /**
+     * Get values, in order of hash of keys.
+     *
+     * @return unmodifiable view of values
+     */
+    public Collection<V> values() {
+        return new Values();
+    }
+
+    @Override
+    public String toString() {
+        return "PersistentHashMap{size=" + size + '}';
+    }
+
+    private static final class Entry {
+
+        final int hash;
+        final Object key;
+        final Object value;
+
+        Entry(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(int hash, Object key) {
+            return this.hash == hash && this.key.equals(key);
+        }
+
+    }
+
+    /**
+     * Node, children are entries or sub nodes.
+     */
+    private static abstract class Node {
+
+        final Object[] children;
+
+        Node(Object[] children) {
+            this.children = children;
+        }
+
+        abstract Entry find(int hash, Object key, int shift);
+
+        /**
+         * Put entry.
+         *
+         * @return new node, or this node if unchanged
+         */
+        abstract Node put(Entry entry, int shift);
+
+        /**
+         * Remove entry.
+         *
+         * @return new node, this node if unchanged, or null if empty
+         */
+        abstract Node remove(int hash, Object key, int shift);
+
+        /**
+         * Get the only entry, used to inline node into parent after removal.
+         *
+         * @return entry if node has only one entry, otherwise null
+         */
+        Entry singleEntry() {
+            return (children.length == 1 && children[0] instanceof Entry) ? (Entry) children[0] : null;
+        }
+
+    }
+
+    private static final class BitmapNode extends Node {
+
+        private final int bitmap;
+
+        BitmapNode(int bitmap, Object[] children) {
+            super(children);
+            this.bitmap = bitmap;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Entry find(int hash, Object key, int shift) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = children[indexOf(bit)];
+            if (child instanceof Node) {
+                return ((Node) child).find(hash, key, shift + BITS);
+            }
+            Entry entry = (Entry) child;
+            return entry.matches(hash, key) ? entry : null;
+        }
+
+        @Override
+        Node put(Entry entry, int shift) {
+            int bit = 1 << ((entry.hash >>> shift) & MASK);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = entry;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, newChildren);
+            }
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Node) {
+                newChild = ((Node) child).put(entry, shift + BITS);
+            } else {
+                Entry oldEntry = (Entry) child;
+                if (oldEntry.matches(entry.hash, entry.key)) {
+                    newChild = (oldEntry.value == entry.value ? oldEntry : entry);
+                } else {
+                    newChild = createNode(oldEntry, entry, shift + BITS);
+                }
+            }
+            if (newChild == child) {
+                return this;
+            }
+            return new BitmapNode(bitmap, replaceChild(children, index, newChild));
+        }
+
+        @Override
+        Node remove(int hash, Object key, int shift) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = indexOf(bit);
+            Object child = children[index];
+            if (child instanceof Node) {
+                Node newNode = ((Node) child).remove(hash, key, shift + BITS);
+                if (newNode == child) {
+                    return this;
+                }
+                if (newNode != null) {
+                    Entry entry = newNode.singleEntry();
+                    return new BitmapNode(bitmap, replaceChild(children, index, entry != null ? entry : newNode));
+                }
+            } else if (!((Entry) child).matches(hash, key)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new BitmapNode(bitmap ^ bit, newChildren);
+        }
+
+        private static Node createNode(Entry entry1, Entry entry2, int shift) {
+            if (entry1.hash == entry2.hash) {
+                return new CollisionNode(entry1.hash, new Object[]{entry1, entry2});
+            }
+            int index1 = (entry1.hash >>> shift) & MASK;
+            int index2 = (entry2.hash >>> shift) & MASK;
+            if (index1 == index2) {
+                return new BitmapNode(1 << index1, new Object[]{createNode(entry1, entry2, shift + BITS)});
+            }
+            return new BitmapNode((1 << index1) | (1 << index2),
+                    index1 < index2 ? new Object[]{entry1, entry2} : new Object[]{entry2, entry1});
+        }
+
+    }
+
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+
+        CollisionNode(int hash, Object[] children) {
+            super(children);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < children.length; i++) {
+                if (((Entry) children[i]).key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Entry find(int hash, Object key, int shift) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int index = indexOf(key);
+            return index >= 0 ? (Entry) children[index] : null;
+        }
+
+        @Override
+        Node put(Entry entry, int shift) {
+            if (entry.hash != hash) {
+                // move this node one level down
+                return new BitmapNode(1 << ((hash >>> shift) & MASK), new Object[]{this}).put(entry, shift);
+            }
+            int index = indexOf(entry.key);
+            if (index < 0) {
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, children.length);
+                newChildren[children.length] = entry;
+                return new CollisionNode(hash, newChildren);
+            }
+            if (((Entry) children[index]).value == entry.value) {
+                return this;
+            }
+            return new CollisionNode(hash, replaceChild(children, index, entry));
+        }
+
+        @Override
+        Node remove(int hash, Object key, int shift) {
+            int index = (hash == this.hash ? indexOf(key) : -1);
+            if (index < 0) {
+                return this;
+            }
+            if (children.length == 1) {
+                return null;
+            }
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new CollisionNode(hash, newChildren);
+        }
+
+    }
+
+    private static Object[] replaceChild(Object[] children, int index, Object child) {
+        Object[] newChildren = children.clone();
+        newChildren[index] = child;
+        return newChildren;
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        @Nonnull
+        public Iterator<V> iterator() {
+            return new ValueIterator<>(root);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    /**
+     * Depth first iterator, with a stack of nodes and positions in them.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+
+        // depth of trie is at most 7 for 32-bit hash, plus one for collision node
+        private final Object[][] nodeStack = new Object[8][];
+        private final int[] positionStack = new int[8];
+        private int depth = -1;
+        private Entry next;
+
+        ValueIterator(Node root) {
+            if (root != null) {
+                push(root);
+                advance();
+            }
+        }
+
+        private void push(Node node) {
+            depth++;
+            nodeStack[depth] = node.children;
+            positionStack[depth] = 0;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] children = nodeStack[depth];
+                int position = positionStack[depth];
+                if (position == children.length) {
+                    nodeStack[depth] = null;
+                    depth--;
+                    continue;
+                }
+                positionStack[depth] = position + 1;
+                Object child = children[position];
+                if (child instanceof Node) {
+                    push((Node) child);
+                } else {
+                    next = (Entry) child;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) next.value;
+            advance();
+            return value;
+        }
+
+    }
+
+}
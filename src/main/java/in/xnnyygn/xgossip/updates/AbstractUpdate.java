@@ -1,15 +1,30 @@
 package in.xnnyygn.xgossip.updates;
 
+import in.xnnyygn.xgossip.MemberEndpoint;
+
 public abstract class AbstractUpdate {
 
+    private final int typeId;
     private final long id;
 
-    public AbstractUpdate(long id) {
+    protected AbstractUpdate(int typeId, long id) {
+        this.typeId = typeId;
         this.id = id;
     }
 
+    /**
+     * Get dense id of update type, see {@link UpdateTypes}.
+     *
+     * @return type id
+     */
+    public final int getTypeId() {
+        return typeId;
+    }
+
     public long getId() {
         return id;
     }
 
+    public abstract MemberEndpoint getEndpoint();
+
 }
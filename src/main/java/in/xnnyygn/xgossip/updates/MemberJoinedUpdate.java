@@ -9,7 +9,7 @@ public class MemberJoinedUpdate extends AbstractUpdate {
     private final long timeJoined;
 
     public MemberJoinedUpdate(long id, MemberEndpoint endpoint, long timeJoined) {
-        super(id);
+        super(UpdateTypes.MEMBER_JOINED, id);
         this.endpoint = endpoint;
         this.timeJoined = timeJoined;
     }
@@ -8,7 +8,7 @@ public class MemberLeavedUpdate extends AbstractUpdate {
     private final long timeLeaved;
 
     public MemberLeavedUpdate(long id, MemberEndpoint endpoint, long timeLeaved) {
-        super(id);
+        super(UpdateTypes.MEMBER_LEAVED, id);
         this.endpoint = endpoint;
         this.timeLeaved = timeLeaved;
     }
@@ -0,0 +1,17 @@
+package in.xnnyygn.xgossip.updates;
+
+/**
+ * Dense ids of update types.
+ * <p>
+ * Id is kept in every update, so codecs switch on id instead of checking class of update.
+ * </p>
+ */
+public final class UpdateTypes {
+
+    public static final int MEMBER_JOINED = 0;
+    public static final int MEMBER_LEAVED = 1;
+
+    private UpdateTypes() {
+    }
+
+}
@@ -3,6 +3,8 @@ package in.xnnyygn.xgossip;
 import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
 import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
 import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.rpc.TransporterMetrics;
+import in.xnnyygn.xgossip.rpc.TransporterStats;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
 
 import java.util.Map;
@@ -42,6 +44,11 @@ public class EmbeddedTransporter implements Transporter {
         send(remoteMessage.getSender(), response);
     }
 
+    @Override
+    public TransporterStats getStats() {
+        return new TransporterMetrics().snapshot();
+    }
+
     @Override
     public void close() {
     }
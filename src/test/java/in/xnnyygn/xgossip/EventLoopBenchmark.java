@@ -0,0 +1,144 @@
+package in.xnnyygn.xgossip;
+
+import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.rpc.TransporterMetrics;
+import in.xnnyygn.xgossip.rpc.TransporterStats;
+import in.xnnyygn.xgossip.rpc.messages.*;
+import in.xnnyygn.xgossip.schedule.EventLoop;
+import in.xnnyygn.xgossip.support.MessageDispatcher;
+import in.xnnyygn.xgossip.support.MessageLane;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time to process a batch of received pings and exchanges, posted by the benchmark thread like the receiving thread
+ * of transporter, until all replies are sent.
+ * <p>
+ * {@code inline} processes messages in posting thread, as the baseline without handoff. {@code lanes} processes
+ * pings and exchanges in two lanes with concurrent state. {@code eventLoop} posts the batch in event loop, like
+ * the event loop of netty transporter receiving packets in one wakeup, and processes all messages inline with
+ * unsynchronized state.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLoopBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    @Param({"inline", "lanes", "eventLoop"})
+    public String mode;
+
+    private final MemberEndpoint selfEndpoint = new MemberEndpoint("localhost", 5302);
+    private final MemberEndpoint sender = new MemberEndpoint("localhost", 5303);
+    private final CountingTransporter transporter = new CountingTransporter();
+    private final MessageDispatcher dispatcher = new MessageDispatcher();
+    private EventLoop eventLoop;
+    private MemberManagerImpl manager;
+    private RemoteMessage<?>[] messages;
+
+    @Setup
+    public void setUp() {
+        eventLoop = "eventLoop".equals(mode) ? new EventLoop() : null;
+        if ("lanes".equals(mode)) {
+            MessageLane pingLane = new MessageLane("failure-detector", 1024);
+            dispatcher.assignLane(PingRpc.class, pingLane);
+            MessageLane membershipLane = new MessageLane("membership", 1024);
+            dispatcher.assignLane(MemberUpdatesRpc.class, membershipLane);
+        }
+        MemberListContext context = new MemberListContext(eventLoop);
+        context.setSelfEndpoint(selfEndpoint);
+        context.setMessageDispatcher(dispatcher);
+        context.setMemberList(new MemberList(selfEndpoint, 1));
+        context.setScheduler(new NullScheduler());
+        context.setTransporter(transporter);
+        for (int i = 0; i < 100; i++) {
+            context.getMemberList().add(new MemberEndpoint("node-" + i, 5302), 1);
+            context.getUpdateList().memberJoined(new MemberEndpoint("node-" + i, 5302), 1);
+        }
+        manager = new MemberManagerImpl(context);
+        manager.initialize();
+
+        byte[] digest = context.getMemberList().getDigest();
+        messages = new RemoteMessage<?>[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages[i] = (i % 2 == 0 ?
+                    new RemoteMessage<>(new PingRpc(i + 1), sender) :
+                    new RemoteMessage<>(new MemberUpdatesRpc(Collections.emptyList(), digest), sender));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.shutdown();
+        if (eventLoop != null) {
+            eventLoop.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long processBatch() {
+        long expected = transporter.replies.get() + BATCH_SIZE;
+        if (eventLoop != null) {
+            eventLoop.execute(this::postBatch);
+        } else {
+            postBatch();
+        }
+        long replies;
+        while ((replies = transporter.replies.get()) < expected) {
+            Thread.yield();
+        }
+        return replies;
+    }
+
+    private void postBatch() {
+        for (RemoteMessage<?> message : messages) {
+            dispatcher.post(message);
+        }
+    }
+
+    private static class CountingTransporter implements Transporter {
+
+        private final AtomicLong replies = new AtomicLong();
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public <T extends AbstractMessage> void send(MemberEndpoint endpoint, T message) {
+        }
+
+        @Override
+        public <M extends AbstractMessage, R extends AbstractMessage> void reply(RemoteMessage<M> remoteMessage, R response) {
+            replies.incrementAndGet();
+        }
+
+        @Override
+        public TransporterStats getStats() {
+            return new TransporterMetrics().snapshot();
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventLoopBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
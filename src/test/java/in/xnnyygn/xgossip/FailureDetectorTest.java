@@ -2,13 +2,15 @@ package in.xnnyygn.xgossip;
 
 import in.xnnyygn.xgossip.rpc.messages.*;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
+import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 public class FailureDetectorTest {
 
@@ -26,7 +28,8 @@ public class FailureDetectorTest {
         context.setMemberList(new MemberList(selfEndpoint, System.currentTimeMillis()));
         context.setMessageDispatcher(new MessageDispatcher());
 
-        detector = new FailureDetector(context);
+        MemberListExchanger exchanger = new MemberListExchanger(context);
+        detector = new FailureDetector(context, new Piggybacker(context, exchanger::applyUpdates));
         detector.initialize();
     }
 
@@ -59,6 +62,42 @@ public class FailureDetectorTest {
         mockScheduler.runLastCommand();
     }
 
+    @Test
+    public void testSuspectedNotMember() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        detector.processNotifications(Collections.singletonList(
+                new MemberNotification(endpoint, true, System.currentTimeMillis(), new MemberEndpoint("localhost", 5304))
+        ));
+        detector.ping();
+        MockTransporter mockTransporter = (MockTransporter) context.getTransporter();
+        assertTrue(mockTransporter.getMessages().isEmpty());
+    }
+
+    @Test
+    public void testPingTimeoutCollected() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        MemberList memberList = context.getMemberList();
+        memberList.add(endpoint, 1);
+        List<MemberEvent> events = new ArrayList<>();
+        context.addListener(new MemberEventListener() {
+            @Override
+            public void onChanged(MemberEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onMerged(List<MemberEvent> mergedEvents) {
+            }
+        });
+        detector.ping();
+        memberList.remove(endpoint, 2);
+        memberList.collectTombstones(Long.MAX_VALUE);
+        MockScheduler mockScheduler = (MockScheduler) context.getScheduler();
+        mockScheduler.runLastCommand();
+        assertTrue(events.isEmpty());
+        assertTrue(context.getNotificationList().take(10).isEmpty());
+    }
+
     @Test
     public void testProxyPing1() {
         MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5303);
@@ -94,4 +133,34 @@ public class FailureDetectorTest {
         assertEquals(1, latencyRanking.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPiggyback() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5303);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5304);
+        context.getMemberList().add(endpoint1, System.currentTimeMillis());
+        context.getUpdateList().memberJoined(endpoint1, System.currentTimeMillis());
+        context.getNotificationList().suspectMember(endpoint2, System.currentTimeMillis(), endpoint1);
+        detector.ping();
+        MockTransporter mockTransporter = (MockTransporter) context.getTransporter();
+        PingRpc pingRpc = (PingRpc) mockTransporter.getMessages().get(0).getPayload();
+        assertEquals(1, pingRpc.getPiggyback().getUpdates().size());
+        assertEquals(1, pingRpc.getPiggyback().getNotifications().size());
+    }
+
+    @Test
+    public void testReceivePiggybackedUpdate() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        Piggyback piggyback = new Piggyback(
+                Collections.singletonList(new MemberJoinedUpdate(1, endpoint, 100)),
+                Collections.emptyList()
+        );
+        context.getMessageDispatcher().post(new RemoteMessage<>(
+                new PingRpc(System.currentTimeMillis(), piggyback), new MemberEndpoint("localhost", 5304)
+        ));
+        Member member = context.getMemberList().getSnapshot().get(endpoint);
+        assertNotNull(member);
+        assertEquals(100, member.getTimeAdded());
+        assertTrue(member.doesExist());
+    }
+
+}
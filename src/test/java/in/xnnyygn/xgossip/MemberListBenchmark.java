@@ -0,0 +1,59 @@
+package in.xnnyygn.xgossip;
+
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to sample random endpoints from a member list with 10k members, some of them suspected, like selecting
+ * proxies of a ping and the target of spreading updates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberListBenchmark {
+
+    private static final int MEMBER_COUNT = 10000;
+    private static final int SUSPECTED_COUNT = 100;
+
+    private final MemberEndpoint selfEndpoint = new MemberEndpoint("localhost", 5302);
+    private MemberList memberList;
+    private Set<MemberEndpoint> excludingEndpoints;
+
+    @Setup
+    public void setUp() {
+        memberList = new MemberList(selfEndpoint, 1, new Random(0));
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("10.0." + (i >> 8) + "." + (i & 0xFF), 5302);
+            memberList.add(endpoint, 1);
+            if (i < SUSPECTED_COUNT) {
+                memberList.suspect(endpoint);
+            }
+        }
+        excludingEndpoints = ImmutableSet.of(selfEndpoint, new MemberEndpoint("10.0.0.200", 5302));
+    }
+
+    @Benchmark
+    public Set<MemberEndpoint> sampleProxies() {
+        return memberList.getRandomTrustedEndpointsExcept(3, excludingEndpoints);
+    }
+
+    @Benchmark
+    public MemberEndpoint sampleOne() {
+        return memberList.getRandomTrustedEndpointExcept(excludingEndpoints);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MemberListBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
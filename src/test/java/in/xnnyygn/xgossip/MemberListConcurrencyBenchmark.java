@@ -0,0 +1,77 @@
+package in.xnnyygn.xgossip;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of updating a member list with 10k members and reading its digest and members from multiple threads,
+ * like lanes of failure detector and membership. Compare one stripe with default stripes by count of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberListConcurrencyBenchmark {
+
+    private static final int MEMBER_COUNT = 10000;
+
+    @Param({"1", "16"})
+    private int stripeCount;
+
+    private final MemberEndpoint selfEndpoint = new MemberEndpoint("localhost", 5302);
+    private MemberEndpoint[] endpoints;
+    private MemberList memberList;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private final Random random = new Random();
+        private long timeAdded = 1;
+
+    }
+
+    @Setup
+    public void setUp() {
+        memberList = new MemberList(selfEndpoint, 1, new Random(0), MemberList.DEFAULT_TOMBSTONE_RETENTION,
+                MemberList.DEFAULT_MAX_TOMBSTONES, stripeCount);
+        endpoints = new MemberEndpoint[MEMBER_COUNT];
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            endpoints[i] = new MemberEndpoint("10.0." + (i >> 8) + "." + (i & 0xFF), 5302);
+            memberList.add(endpoints[i], 1);
+        }
+    }
+
+    @Benchmark
+    public boolean update(ThreadState state) {
+        MemberEndpoint endpoint = endpoints[state.random.nextInt(MEMBER_COUNT)];
+        return memberList.add(endpoint, ++state.timeAdded).isUpdated();
+    }
+
+    @Benchmark
+    public byte[] readDigest() {
+        return memberList.getDigest();
+    }
+
+    @Benchmark
+    public Member readMember(ThreadState state) {
+        return memberList.getSnapshot().get(endpoints[state.random.nextInt(MEMBER_COUNT)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[]{1, 2, 4}) {
+            new Runner(new OptionsBuilder()
+                    .include(MemberListConcurrencyBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()
+            ).run();
+        }
+    }
+
+}
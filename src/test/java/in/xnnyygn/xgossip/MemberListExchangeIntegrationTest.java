@@ -1,6 +1,9 @@
 package in.xnnyygn.xgossip;
 
+import in.xnnyygn.xgossip.rpc.messages.MemberDigestsResponse;
 import in.xnnyygn.xgossip.rpc.messages.MemberUpdatesRpc;
+import in.xnnyygn.xgossip.rpc.messages.MembersMergeResponse;
+import in.xnnyygn.xgossip.rpc.messages.MembersMergedResponse;
 import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
 import in.xnnyygn.xgossip.support.MessageDispatcher;
 import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
@@ -8,6 +11,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.*;
@@ -191,4 +195,33 @@ public class MemberListExchangeIntegrationTest {
         assertEquals(3, messageCollector.getMessages().size());
     }
 
+    // 1 -> 2
+    // local: (1, 2, 5..304, 3)
+    // remote: (1, 2, 5..304, 4)
+    @Test
+    public void testDifferentLargeNoUpdate() {
+        for (int i = 0; i < 300; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+            context1.getMemberList().add(endpoint, 1);
+            context2.getMemberList().add(endpoint, 1);
+        }
+        context1.getMemberList().add(new MemberEndpoint("localhost", 5304), System.currentTimeMillis());
+        context2.getMemberList().add(new MemberEndpoint("localhost", 5305), System.currentTimeMillis());
+
+        spreadUpdates();
+        // -> MemberUpdatesRpc
+        // <- MemberDigestsResponse
+        // -> MemberDigestsResponse
+        // <- MembersMergeResponse
+        // -> MembersMergeResponse
+        // <- MembersMergedResponse
+        List<MessageCollector.Message> messages = messageCollector.getMessages();
+        assertEquals(6, messages.size());
+        assertTrue(messages.get(1).getPayload() instanceof MemberDigestsResponse);
+        MembersMergeResponse response = (MembersMergeResponse) messages.get(3).getPayload();
+        assertTrue(response.getMembers().size() < 10);
+        assertTrue(messages.get(5).getPayload() instanceof MembersMergedResponse);
+        assertArrayEquals(context1.getMemberList().getDigest(), context2.getMemberList().getDigest());
+    }
+
 }
@@ -139,6 +139,32 @@ public class MemberListExchangerTest {
         assertTrue(messages.get(0).getPayload() instanceof MembersMergedResponse);
     }
 
+    @Test
+    public void testOnReceiveMembersMergeResponseNotifyEvents() {
+        List<List<MemberEvent>> merges = new ArrayList<>();
+        context.addListener(new MemberEventListener() {
+            @Override
+            public void onChanged(MemberEvent event) {
+            }
+
+            @Override
+            public void onMerged(List<MemberEvent> events) {
+                merges.add(events);
+            }
+        });
+        Member self = context.getMemberList().getAll().iterator().next();
+        List<Member> members = Arrays.asList(self, new Member(new MemberEndpoint("localhost", 5303)));
+        MembersMergeResponse response = new MembersMergeResponse(System.currentTimeMillis(), members, MemberList.generateDigest(members));
+        exchanger.onReceiveMembersMergeResponse(new RemoteMessage<>(response, new MemberEndpoint("localhost", 5303)));
+        assertEquals(1, merges.size());
+        assertEquals(1, merges.get(0).size());
+        assertEquals(MemberEvent.Kind.JOINED, merges.get(0).get(0).getKind());
+
+        // nothing changed
+        exchanger.onReceiveMembersMergeResponse(new RemoteMessage<>(response, new MemberEndpoint("localhost", 5303)));
+        assertEquals(1, merges.size());
+    }
+
     // case 2
     @Test
     public void testOnReceiveMembersMergeResponseApplyAndFailed() {
@@ -242,7 +268,30 @@ public class MemberListExchangerTest {
         exchanger.onReceiveMemberUpdatesResponse(new RemoteMessage<>(response, new MemberEndpoint("localhost", 5303)));
         MockTransporter mockTransporter = (MockTransporter) context.getTransporter();
         List<MockTransporter.Message> messages = mockTransporter.getMessages();
-        assertEquals(0, messages.size());
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).getPayload() instanceof MembersMergeResponse);
+    }
+
+    @Test
+    public void testOnReceiveMemberDigestsResponse() {
+        for (int i = 0; i < 100; i++) {
+            context.getMemberList().add(new MemberEndpoint("localhost", 6000 + i), 1);
+        }
+        List<Integer> indices = MemberDigestTree.listChildren(Collections.singletonList(0));
+        List<byte[]> digests = context.getMemberList().getDigests(1, indices);
+        digests.set(3, new byte[16]);
+        MemberDigestsResponse response = new MemberDigestsResponse(System.currentTimeMillis(), Collections.emptyMap(), 1, indices, digests);
+        exchanger.onReceiveMemberDigestsResponse(new RemoteMessage<>(response, new MemberEndpoint("localhost", 5303)));
+        MockTransporter mockTransporter = (MockTransporter) context.getTransporter();
+        List<MockTransporter.Message> messages = mockTransporter.getMessages();
+        assertEquals(1, messages.size());
+
+        // fewer members than buckets, merge members under different node directly
+        MembersMergeResponse mergeResponse = (MembersMergeResponse) messages.get(0).getPayload();
+        assertEquals(MemberDigestTree.FANOUT, mergeResponse.getBuckets().size());
+        for (Member member : mergeResponse.getMembers()) {
+            assertEquals(3, MemberDigestTree.bucketOf(member.getEndpoint()) / MemberDigestTree.FANOUT);
+        }
     }
 
 }
\ No newline at end of file
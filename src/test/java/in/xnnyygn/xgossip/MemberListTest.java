@@ -3,8 +3,18 @@ package in.xnnyygn.xgossip;
 import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 
@@ -20,8 +30,8 @@ public class MemberListTest {
     @Test
     public void testAddNoUpdate() {
         MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
-        MemberList list = new MemberList(endpoint, System.currentTimeMillis());
         long now = System.currentTimeMillis();
+        MemberList list = new MemberList(endpoint, now);
         MemberList.UpdateResult result = list.add(endpoint, now);
         assertFalse(result.isUpdated());
     }
@@ -61,6 +71,200 @@ public class MemberListTest {
         assertEquals(endpoint2, endpoints.iterator().next());
     }
 
+    @Test
+    public void testGetRandomTrustedEndpointsExcept() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint1, 1);
+        for (int i = 0; i < 100; i++) {
+            list.add(new MemberEndpoint("localhost", 6000 + i), 1);
+        }
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 6000);
+        list.suspect(endpoint2);
+        list.remove(new MemberEndpoint("localhost", 6001), 2);
+        Set<MemberEndpoint> endpoints = list.getRandomTrustedEndpointsExcept(200, Collections.singleton(endpoint1));
+        assertEquals(98, endpoints.size());
+        assertFalse(endpoints.contains(endpoint2));
+        assertEquals(99, list.listTrustedEndpoints().size());
+        assertEquals(99, list.getRandomEndpointsExcept(200, Collections.singleton(endpoint1)).size());
+        for (int i = 0; i < 100; i++) {
+            Set<MemberEndpoint> sample = list.getRandomTrustedEndpointsExcept(3, Collections.singleton(endpoint1));
+            assertEquals(3, sample.size());
+            assertFalse(sample.contains(endpoint1));
+            assertFalse(sample.contains(endpoint2));
+        }
+
+        list.trust(endpoint2);
+        assertEquals(100, list.listTrustedEndpoints().size());
+    }
+
+    @Test
+    public void testSuspectNotMember() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint1, 1);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        list.suspect(endpoint2);
+        assertEquals(1, list.getMemberTable().size());
+        list.add(endpoint2, 1);
+        assertEquals(endpoint2, list.getRandomTrustedEndpointExcept(Collections.singleton(endpoint1)));
+    }
+
+    @Test
+    public void testSuspectRemoved() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint1, 1);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        list.add(endpoint2, 1);
+        list.remove(endpoint2, 2);
+        list.suspect(endpoint2);
+        list.add(endpoint2, 3);
+        assertNull(list.getRandomTrustedEndpointExcept(Collections.singleton(endpoint1)));
+        assertEquals(endpoint2, list.getRandomEndpointExceptSelf());
+        list.trust(endpoint2);
+        assertEquals(endpoint2, list.getRandomTrustedEndpointExcept(Collections.singleton(endpoint1)));
+    }
+
+    @Test
+    public void testReleaseCollectedMembers() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1, new Random(), 100, 10);
+        MemberTable table = list.getMemberTable();
+        for (int i = 0; i < 1000; i++) {
+            MemberEndpoint e = new MemberEndpoint("localhost", 6000 + i);
+            list.add(e, 1);
+            table.setLatency(e, 1, -1);
+            list.suspect(e);
+            list.remove(e, 2);
+        }
+        // self, at most 10 tombstones and one more before collected, one new member
+        assertTrue(table.getRowCount() <= 13);
+        assertEquals(1 + list.getStats().getTombstoneCount(), table.size());
+        MemberEndpoint collected = new MemberEndpoint("localhost", 6000);
+        assertEquals(MemberTable.NO_ID, table.findId(collected));
+        // new member on reused row
+        list.add(collected, 3);
+        assertEquals(MemberTable.NO_LATENCY, table.getLatency(collected));
+        assertFalse(table.isSuspected(table.findId(collected)));
+        assertTrue(list.listTrustedEndpoints().contains(collected));
+        list.collectTombstones(200);
+        assertEquals(2, table.size());
+        assertEquals(2, list.getStats().getLiveCount());
+    }
+
+    @Test
+    public void testMergeAllEvents() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        MemberEndpoint endpoint3 = new MemberEndpoint("localhost", 5304);
+        MemberEndpoint endpoint4 = new MemberEndpoint("localhost", 5305);
+        MemberList list = new MemberList(endpoint1, 1);
+        list.add(endpoint2, 1);
+        list.add(endpoint3, 1);
+        MemberList.UpdateResult result = list.mergeAll(Arrays.asList(
+                new Member(endpoint1, 1, 0),
+                new Member(endpoint2, 2, 0),
+                new Member(endpoint3, 1, 2),
+                new Member(endpoint4, 1, 0),
+                new Member(new MemberEndpoint("localhost", 5306), 1, 2)
+        ));
+        assertTrue(result.isUpdated());
+        List<MemberEvent> events = result.getEvents();
+        assertEquals(3, events.size());
+        assertEquals(endpoint2, events.get(0).getEndpoint());
+        assertEquals(MemberEvent.Kind.UPDATED, events.get(0).getKind());
+        assertEquals(endpoint3, events.get(1).getEndpoint());
+        assertEquals(MemberEvent.Kind.LEAVED, events.get(1).getKind());
+        assertEquals(endpoint4, events.get(2).getEndpoint());
+        assertEquals(MemberEvent.Kind.JOINED, events.get(2).getKind());
+    }
+
+    @Test
+    public void testCollectTombstones() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        MemberList list = new MemberList(endpoint1, 1, new Random(), 100, 10);
+        byte[] digest = list.getDigest();
+        list.add(endpoint2, 1);
+        list.remove(endpoint2, 2);
+        assertEquals(0, list.collectTombstones(101));
+        assertEquals(1, list.getStats().getTombstoneCount());
+        assertEquals(1, list.collectTombstones(102));
+        assertEquals(1, list.getAll().size());
+        assertArrayEquals(digest, list.getDigest());
+        MemberListStats stats = list.getStats();
+        assertEquals(1, stats.getLiveCount());
+        assertEquals(0, stats.getTombstoneCount());
+        assertEquals(1, stats.getCollectedTombstoneCount());
+
+        // stale member from remote
+        assertFalse(list.mergeAll(Collections.singletonList(new Member(endpoint2, 1, 0))).isUpdated());
+        assertFalse(list.add(endpoint2, 1).isUpdated());
+        assertArrayEquals(digest, list.getDigest());
+
+        // joined again
+        MemberList.UpdateResult result = list.mergeAll(Collections.singletonList(new Member(endpoint2, 3, 0)));
+        assertEquals(MemberEvent.Kind.JOINED, result.getEvents().get(0).getKind());
+        assertEquals(2, list.getStats().getLiveCount());
+        assertEquals(0, list.getStats().getCollectedTombstoneCount());
+        assertArrayEquals(MemberList.generateDigest(list.getAll()), list.getDigest());
+    }
+
+    @Test
+    public void testMaxTombstones() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1, new Random(), 100, 2);
+        for (int i = 0; i < 5; i++) {
+            list.remove(new MemberEndpoint("localhost", 6000 + i), 2);
+        }
+        MemberListStats stats = list.getStats();
+        assertEquals(2, stats.getTombstoneCount());
+        assertEquals(2, stats.getCollectedTombstoneCount());
+        assertEquals(3, stats.getTotalCollectedCount());
+        assertEquals(3, list.getAll().size());
+        assertArrayEquals(MemberList.generateDigest(list.getAll()), list.getDigest());
+    }
+
+    @Test
+    public void testMaxTombstonesAcrossStripes() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1, new Random(), 100, 2, 16);
+        // two endpoints in one stripe, then endpoints in other stripes, one per stripe
+        int bucketsPerStripe = MemberDigestTree.BUCKET_COUNT / 16;
+        List<MemberEndpoint> endpoints = new ArrayList<>();
+        Set<Integer> stripes = new HashSet<>();
+        int stripe0 = MemberDigestTree.bucketOf(endpoint) / bucketsPerStripe;
+        stripes.add(stripe0);
+        for (int port = 6000; endpoints.size() < 5; port++) {
+            MemberEndpoint e = new MemberEndpoint("localhost", port);
+            int stripe = MemberDigestTree.bucketOf(e) / bucketsPerStripe;
+            if (endpoints.size() < 2 ? stripe == stripe0 : stripes.add(stripe)) {
+                endpoints.add(e);
+            }
+        }
+        for (MemberEndpoint e : endpoints) {
+            list.add(e, 1);
+        }
+        for (int i = 0; i < 3; i++) {
+            list.remove(endpoints.get(i), 2 + i);
+        }
+        // the earliest one collected, not the last one alone in its stripe
+        MemberListStats stats = list.getStats();
+        assertEquals(2, stats.getTombstoneCount());
+        assertEquals(1, stats.getCollectedTombstoneCount());
+        assertNull(list.getSnapshot().get(endpoints.get(0)));
+        assertNotNull(list.getSnapshot().get(endpoints.get(2)));
+        assertFalse(list.mergeAll(Collections.singletonList(new Member(endpoints.get(2), 1, 0))).isUpdated());
+
+        list.remove(endpoints.get(3), 5);
+        list.remove(endpoints.get(4), 6);
+        // the earliest collected one forgotten
+        stats = list.getStats();
+        assertEquals(2, stats.getTombstoneCount());
+        assertEquals(2, stats.getCollectedTombstoneCount());
+        assertFalse(list.mergeAll(Collections.singletonList(new Member(endpoints.get(2), 1, 0))).isUpdated());
+        assertTrue(list.mergeAll(Collections.singletonList(new Member(endpoints.get(0), 1, 0))).isUpdated());
+        assertArrayEquals(MemberList.generateDigest(list.getAll()), list.getDigest());
+    }
+
     @Test
     public void testGetAll() {
         MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
@@ -70,4 +274,129 @@ public class MemberListTest {
         assertEquals(endpoint, members.iterator().next().getEndpoint());
     }
 
+    @Test
+    public void testDigest() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        MemberList list1 = new MemberList(endpoint1, 1);
+        list1.add(endpoint2, 2);
+        list1.remove(endpoint2, 3);
+        list1.add(endpoint2, 4);
+        MemberList list2 = new MemberList(endpoint2, 4);
+        list2.mergeAll(Collections.singletonList(new Member(endpoint2, 2, 3)));
+        list2.add(endpoint1, 1);
+
+        byte[] digest = list1.getDigest();
+        assertEquals(16, digest.length);
+        assertArrayEquals(digest, list2.getDigest());
+        assertArrayEquals(digest, list1.getSnapshot().getDigest());
+        assertArrayEquals(digest, MemberList.generateDigest(Arrays.asList(
+                new Member(endpoint2, 4, 3), new Member(endpoint1, 1, 0)
+        )));
+        assertFalse(Arrays.equals(digest, MemberList.generateDigest(Arrays.asList(
+                new Member(endpoint2, 4, 4), new Member(endpoint1, 1, 0)
+        ))));
+    }
+
+    @Test
+    public void testFindDifferentNodes() {
+        MemberEndpoint endpoint1 = new MemberEndpoint("localhost", 5302);
+        MemberList list1 = new MemberList(endpoint1, 1);
+        MemberList list2 = new MemberList(endpoint1, 1);
+        for (int i = 0; i < 100; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+            list1.add(endpoint, 1);
+            list2.add(endpoint, 1);
+        }
+        MemberEndpoint endpoint2 = new MemberEndpoint("localhost", 5303);
+        list2.add(endpoint2, 2);
+        int bucket = MemberDigestTree.bucketOf(endpoint2);
+
+        List<Integer> indices = MemberDigestTree.listChildren(Collections.singletonList(0));
+        List<Integer> differentIndices = list1.findDifferentNodes(1, indices, list2.getDigests(1, indices));
+        assertEquals(Collections.singletonList(bucket / MemberDigestTree.FANOUT), differentIndices);
+
+        indices = MemberDigestTree.listChildren(differentIndices);
+        differentIndices = list1.findDifferentNodes(2, indices, list2.getDigests(2, indices));
+        assertEquals(Collections.singletonList(bucket), differentIndices);
+
+        Collection<Member> members = list2.getSnapshot().getMembersInBuckets(Collections.singleton(bucket));
+        assertTrue(members.stream().anyMatch(m -> m.getEndpoint().equals(endpoint2)));
+        list1.mergeAll(members);
+        assertArrayEquals(list1.getDigest(), list2.getDigest());
+    }
+
+    @Test
+    public void testSnapshotAfterUpdate() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1);
+        MemberList.Snapshot snapshot = list.getSnapshot();
+        assertSame(snapshot, list.getSnapshot());
+        list.add(new MemberEndpoint("localhost", 5303), 2);
+        assertEquals(2, list.getSnapshot().getMembers().size());
+        assertEquals(1, snapshot.getMembers().size());
+        assertNotNull(list.getSnapshot().get(new MemberEndpoint("localhost", 5303)));
+        assertNull(snapshot.get(new MemberEndpoint("localhost", 5303)));
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1, new Random(), 100, 100, 16);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 500;
+            executorService.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    MemberEndpoint e = new MemberEndpoint("localhost", 6000 + offset + i);
+                    list.add(e, 1);
+                    list.getDigest();
+                    if (i % 2 == 0) {
+                        list.remove(e, 2);
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        MemberListStats stats = list.getStats();
+        assertEquals(1001, stats.getLiveCount());
+        assertEquals(100, stats.getTombstoneCount());
+        assertEquals(900, stats.getTotalCollectedCount());
+        assertEquals(1101, list.getAll().size());
+        assertArrayEquals(MemberList.generateDigest(list.getAll()), list.getDigest());
+    }
+
+    @Test
+    public void testSampleWhileUpdating() throws Exception {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        MemberList list = new MemberList(endpoint, 1, new Random(), 100, 100, 16);
+        for (int i = 0; i < 10; i++) {
+            list.add(new MemberEndpoint("localhost", 5400 + i), 1);
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> future = executorService.submit(() -> {
+            for (int i = 0; i < 2000; i++) {
+                MemberEndpoint e = new MemberEndpoint("localhost", 6000 + i);
+                list.add(e, 1);
+                list.suspect(e);
+                list.remove(e, 2);
+            }
+        });
+        while (!future.isDone()) {
+            MemberEndpoint sampled = list.getRandomEndpointExceptSelf();
+            assertNotNull(sampled);
+            assertNotEquals(endpoint, sampled);
+            assertEquals(3, list.getRandomEndpointsExcept(3, Collections.singleton(endpoint)).size());
+        }
+        future.get();
+        executorService.shutdown();
+        assertEquals(11, list.getStats().getLiveCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalStripeCount() {
+        new MemberList(new MemberEndpoint("localhost", 5302), 1, new Random(), 100, 10, 3);
+    }
+
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ public class MemberManagerImplTest {
 
         context = new MemberListContext();
         context.setTransporter(new MockTransporter());
+        context.setScheduler(new NullScheduler());
         context.setSelfEndpoint(selfEndpoint);
         context.setMemberList(new MemberList(selfEndpoint, System.currentTimeMillis()));
 
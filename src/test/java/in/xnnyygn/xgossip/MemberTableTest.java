@@ -0,0 +1,97 @@
+package in.xnnyygn.xgossip;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MemberTableTest {
+
+    @Test
+    public void testIdOf() {
+        MemberTable table = new MemberTable(2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, table.idOf(new MemberEndpoint("localhost", 6000 + i)));
+        }
+        assertEquals(100, table.size());
+        for (int i = 0; i < 100; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+            assertEquals(i, table.idOf(endpoint));
+            assertEquals(i, table.findId(endpoint));
+            assertEquals(endpoint, table.getEndpoint(i));
+        }
+        assertEquals(MemberTable.NO_ID, table.findId(new MemberEndpoint("localhost", 5302)));
+        assertNull(table.getEndpoint(100));
+    }
+
+    @Test
+    public void testLatency() {
+        MemberTable table = new MemberTable();
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        // no id
+        assertEquals(MemberTable.NO_LATENCY, table.setLatency(endpoint, 1, 10));
+        assertEquals(MemberTable.NO_LATENCY, table.getLatency(endpoint));
+        int id = table.idOf(endpoint);
+        assertEquals(MemberTable.NO_LATENCY, table.getLatency(endpoint));
+        assertEquals(MemberTable.NO_LATENCY, table.setLatency(endpoint, 1, 10));
+        assertEquals(10, table.setLatency(endpoint, 2, -1));
+        assertEquals(-1, table.getLatency(endpoint));
+        assertEquals(2, table.getPingAt(id));
+        // latency is kept after growing
+        for (int i = 0; i < 100; i++) {
+            table.idOf(new MemberEndpoint("localhost", 6000 + i));
+        }
+        assertEquals(-1, table.getLatency(endpoint));
+        assertEquals(MemberTable.NO_LATENCY, table.getLatency(new MemberEndpoint("localhost", 6000)));
+    }
+
+    @Test
+    public void testSuspected() {
+        MemberTable table = new MemberTable();
+        int id = table.idOf(new MemberEndpoint("localhost", 5302));
+        assertFalse(table.isSuspected(id));
+        assertTrue(table.setSuspected(id, true));
+        assertFalse(table.setSuspected(id, true));
+        assertTrue(table.isSuspected(id));
+        assertTrue(table.setSuspected(id, false));
+        assertFalse(table.isSuspected(id));
+    }
+
+    @Test
+    public void testRelease() {
+        MemberTable table = new MemberTable(2);
+        for (int i = 0; i < 100; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+            table.setSuspected(table.idOf(endpoint), true);
+            table.setLatency(endpoint, 1, -1);
+        }
+        // release every other one, the rest are still found after removing slots
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(table.release(new MemberEndpoint("localhost", 6000 + i)));
+        }
+        assertFalse(table.release(new MemberEndpoint("localhost", 6000)));
+        assertEquals(50, table.size());
+        for (int i = 0; i < 100; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+            if (i % 2 == 0) {
+                assertEquals(MemberTable.NO_ID, table.findId(endpoint));
+                assertNull(table.getEndpoint(i));
+            } else {
+                assertEquals(i, table.findId(endpoint));
+                assertEquals(-1, table.getLatency(endpoint));
+            }
+        }
+        // released ids are reused with clean rows
+        for (int i = 0; i < 50; i++) {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 7000 + i);
+            int id = table.idOf(endpoint);
+            assertEquals(0, id % 2);
+            assertFalse(table.isSuspected(id));
+            assertEquals(MemberTable.NO_LATENCY, table.getLatency(endpoint));
+            assertEquals(endpoint, table.getEndpoint(id));
+        }
+        assertEquals(100, table.size());
+        assertEquals(100, table.getRowCount());
+        assertEquals(100, table.idOf(new MemberEndpoint("localhost", 8000)));
+    }
+
+}
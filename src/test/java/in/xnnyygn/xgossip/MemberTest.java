@@ -13,4 +13,15 @@ public class MemberTest {
         assertTrue(member.doesExist());
     }
 
+    @Test
+    public void testCachedForms() {
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        Member member = new Member(endpoint, 1, 2);
+        assertArrayEquals(new Member(endpoint, 1, 2).toBytes(), member.toBytes());
+        Member sameMember = new Member(endpoint, 1, 2);
+        assertEquals(sameMember.getDigestHashHigh(), member.getDigestHashHigh());
+        assertEquals(sameMember.getDigestHashLow(), member.getDigestHashLow());
+        assertNotEquals(new Member(endpoint, 1, 3).getDigestHashHigh(), member.getDigestHashHigh());
+    }
+
 }
\ No newline at end of file
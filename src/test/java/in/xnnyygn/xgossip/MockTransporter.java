@@ -3,6 +3,8 @@ package in.xnnyygn.xgossip;
 import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
 import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
 import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.rpc.TransporterMetrics;
+import in.xnnyygn.xgossip.rpc.TransporterStats;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,11 @@ public class MockTransporter implements Transporter {
         messages.add(new Message(remoteMessage.getSender(), response));
     }
 
+    @Override
+    public TransporterStats getStats() {
+        return new TransporterMetrics().snapshot();
+    }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,528 @@
+package in.xnnyygn.xgossip;
+
+import in.xnnyygn.xgossip.rpc.PacketSizes;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+import in.xnnyygn.xgossip.support.MessageDispatcher;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+
+/**
+ * Discrete event simulation of a cluster of {@link MemberManagerImpl} in one thread.
+ * <p>
+ * Timers and deliveries of messages are events in virtual time, processed in order of time, so a simulation with
+ * the same seed always runs the same way. Latency, loss and partitions of network are configurable. Member lists
+ * are checked periodically, cluster is converged when all nodes are started and all running nodes have the same
+ * member list with all nodes.
+ * </p>
+ */
+public class SimulatedCluster {
+
+    // virtual time starts at a positive value, since time 0 means unknown in member list
+    private static final long START_TIME = 1000;
+    private static final long CONVERGENCE_CHECK_INTERVAL = 100;
+    private final PriorityQueue<Event> eventQueue = new PriorityQueue<>();
+    private final Random random;
+    private final Node[] nodes;
+    private final Map<MemberEndpoint, Node> nodeMap = new HashMap<>();
+    private LatencyModel latencyModel = (random, from, to) -> 1 + random.nextInt(5);
+    private LossModel lossModel = (random, from, to) -> false;
+    private final int[] partitions;
+    private boolean measureBytes = true;
+    private long now = START_TIME;
+    private long nextSequence = 0;
+    private long eventCount = 0;
+    private long droppedCount = 0;
+    private int startedCount = 0;
+    private long convergedAt = -1;
+
+    /**
+     * Create.
+     *
+     * @param nodeCount count of nodes
+     * @param seed      seed of random
+     */
+    public SimulatedCluster(int nodeCount, long seed) {
+        this.random = new Random(seed);
+        this.nodes = new Node[nodeCount];
+        this.partitions = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            nodes[i] = new Node(i, new MemberEndpoint("node-" + i, 5302));
+            nodeMap.put(nodes[i].endpoint, nodes[i]);
+        }
+        schedule(CONVERGENCE_CHECK_INTERVAL, null, this::checkConvergence);
+    }
+
+    /**
+     * Set latency model, 1 to 5 milliseconds by default.
+     *
+     * @param latencyModel latency model
+     */
+    public void setLatencyModel(LatencyModel latencyModel) {
+        this.latencyModel = latencyModel;
+    }
+
+    /**
+     * Set loss model, no loss by default.
+     *
+     * @param lossModel loss model
+     */
+    public void setLossModel(LossModel lossModel) {
+        this.lossModel = lossModel;
+    }
+
+    /**
+     * Drop messages with probability.
+     *
+     * @param lossRate loss rate, 0 to 1
+     */
+    public void setLossRate(double lossRate) {
+        setLossModel((random, from, to) -> random.nextDouble() < lossRate);
+    }
+
+    /**
+     * Set if to count bytes of messages in v1 packet, true by default. Encoding takes most of time in large cluster.
+     *
+     * @param measureBytes true if to count bytes
+     */
+    public void setMeasureBytes(boolean measureBytes) {
+        this.measureBytes = measureBytes;
+    }
+
+    /**
+     * Separate nodes from others, messages between nodes in different partitions are dropped.
+     *
+     * @param indices indices of nodes in new partition
+     */
+    public void partition(Collection<Integer> indices) {
+        int partition = Arrays.stream(partitions).max().orElse(0) + 1;
+        for (int index : indices) {
+            partitions[index] = partition;
+        }
+    }
+
+    /**
+     * Remove all partitions.
+     */
+    public void heal() {
+        Arrays.fill(partitions, 0);
+    }
+
+    /**
+     * Start nodes one by one, first node starts now and others join with first node as seed.
+     *
+     * @param joinInterval interval between nodes in milliseconds
+     */
+    public void startAll(long joinInterval) {
+        for (int i = 0; i < nodes.length; i++) {
+            int index = i;
+            schedule(i * joinInterval, null, () -> start(index));
+        }
+    }
+
+    /**
+     * Start node and join with first node as seed, unless it is the first node.
+     *
+     * @param index index of node
+     */
+    public void start(int index) {
+        Node node = nodes[index];
+        if (node.manager != null) {
+            throw new IllegalStateException("node " + index + " started");
+        }
+        MemberListContext context = new MemberListContext();
+        context.setSelfEndpoint(node.endpoint);
+        context.setTimeStarted(now);
+        context.setMessageDispatcher(node.dispatcher);
+        context.setMemberList(new MemberList(node.endpoint, now, new Random(random.nextLong())));
+        context.setScheduler(new SimulatedScheduler(this, node));
+        context.setTransporter(new SimulatedTransporter(this, node));
+        node.context = context;
+        node.manager = new MemberManagerImpl(context);
+        node.running = true;
+        startedCount++;
+        node.manager.initialize();
+        node.manager.join(index == 0 ? Collections.emptyList() : Collections.singletonList(nodes[0].endpoint));
+    }
+
+    /**
+     * Stop node, timers and messages of node are dropped.
+     *
+     * @param index index of node
+     */
+    public void stop(int index) {
+        nodes[index].running = false;
+    }
+
+    public long getNow() {
+        return now;
+    }
+
+    void schedule(long delay, Node node, Runnable action) {
+        eventQueue.add(new Event(now + Math.max(0, delay), nextSequence++, node, action));
+    }
+
+    void send(Node from, MemberEndpoint endpoint, AbstractMessage message) {
+        if (!from.running) {
+            return;
+        }
+        int bytes = measureBytes ? PacketSizes.of(from.endpoint, message) : 0;
+        from.messagesSent++;
+        from.bytesSent += bytes;
+        Node to = nodeMap.get(endpoint);
+        if (to == null || partitions[from.index] != partitions[to.index] ||
+                lossModel.isLost(random, from.index, to.index)) {
+            droppedCount++;
+            return;
+        }
+        RemoteMessage<AbstractMessage> remoteMessage = new RemoteMessage<>(message, from.endpoint);
+        schedule(latencyModel.getLatency(random, from.index, to.index), to, () -> {
+            to.messagesReceived++;
+            to.bytesReceived += bytes;
+            to.dispatcher.post(remoteMessage);
+        });
+    }
+
+    /**
+     * Run events until time.
+     *
+     * @param duration duration from now in milliseconds
+     */
+    public void run(long duration) {
+        long end = now + duration;
+        while (!eventQueue.isEmpty() && eventQueue.peek().time <= end) {
+            processEvent(eventQueue.poll());
+        }
+        now = end;
+    }
+
+    /**
+     * Run events until converged or timeout.
+     *
+     * @param timeout timeout in milliseconds
+     * @return true if converged, otherwise false
+     */
+    public boolean runUntilConverged(long timeout) {
+        long end = now + timeout;
+        while (convergedAt < 0 && !eventQueue.isEmpty() && eventQueue.peek().time <= end) {
+            processEvent(eventQueue.poll());
+        }
+        return convergedAt >= 0;
+    }
+
+    private void processEvent(Event event) {
+        now = event.time;
+        if (event.node != null && !event.node.running) {
+            return;
+        }
+        eventCount++;
+        event.action.run();
+    }
+
+    private void checkConvergence() {
+        if (isConverged()) {
+            if (convergedAt < 0) {
+                convergedAt = now;
+            }
+        } else {
+            convergedAt = -1;
+        }
+        schedule(CONVERGENCE_CHECK_INTERVAL, null, this::checkConvergence);
+    }
+
+    /**
+     * Check if all nodes are started and all running nodes have the same member list with all nodes.
+     *
+     * @return true if converged, otherwise false
+     */
+    public boolean isConverged() {
+        if (startedCount < nodes.length) {
+            return false;
+        }
+        byte[] digest = null;
+        for (Node node : nodes) {
+            if (!node.running) {
+                continue;
+            }
+            MemberList.Snapshot snapshot = node.context.getMemberList().getSnapshot();
+            if (snapshot.getMembers().size() != startedCount) {
+                return false;
+            }
+            if (digest == null) {
+                digest = snapshot.getDigest();
+            } else if (!Arrays.equals(digest, snapshot.getDigest())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get time when cluster became converged, relative to start of simulation.
+     *
+     * @return convergence time, -1 if not converged
+     */
+    public long getConvergenceTime() {
+        return convergedAt < 0 ? -1 : convergedAt - START_TIME;
+    }
+
+    public Node getNode(int index) {
+        return nodes[index];
+    }
+
+    public Report report() {
+        long messagesSent = 0;
+        long bytesSent = 0;
+        long maxMessagesSent = 0;
+        long maxBytesSent = 0;
+        for (Node node : nodes) {
+            messagesSent += node.messagesSent;
+            bytesSent += node.bytesSent;
+            maxMessagesSent = Math.max(maxMessagesSent, node.messagesSent);
+            maxBytesSent = Math.max(maxBytesSent, node.bytesSent);
+        }
+        return new Report(nodes.length, now - START_TIME, getConvergenceTime(), eventCount, droppedCount,
+                messagesSent, bytesSent, maxMessagesSent, maxBytesSent);
+    }
+
+    /**
+     * Latency of network.
+     */
+    @FunctionalInterface
+    public interface LatencyModel {
+
+        /**
+         * Get latency of a message.
+         *
+         * @param random random of simulation
+         * @param from   index of sender
+         * @param to     index of recipient
+         * @return latency in milliseconds
+         */
+        long getLatency(Random random, int from, int to);
+
+    }
+
+    /**
+     * Loss of network.
+     */
+    @FunctionalInterface
+    public interface LossModel {
+
+        /**
+         * Check if a message is lost.
+         *
+         * @param random random of simulation
+         * @param from   index of sender
+         * @param to     index of recipient
+         * @return true if lost, otherwise false
+         */
+        boolean isLost(Random random, int from, int to);
+
+    }
+
+    /**
+     * Simulated node.
+     */
+    public static class Node {
+
+        private final int index;
+        private final MemberEndpoint endpoint;
+        private final MessageDispatcher dispatcher = new MessageDispatcher();
+        private MemberListContext context;
+        private MemberManagerImpl manager;
+        private boolean running = false;
+        private long messagesSent = 0;
+        private long bytesSent = 0;
+        private long messagesReceived = 0;
+        private long bytesReceived = 0;
+
+        Node(int index, MemberEndpoint endpoint) {
+            this.index = index;
+            this.endpoint = endpoint;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public MemberEndpoint getEndpoint() {
+            return endpoint;
+        }
+
+        MemberListContext getContext() {
+            return context;
+        }
+
+        public MemberManager getManager() {
+            return manager;
+        }
+
+        public boolean isRunning() {
+            return running;
+        }
+
+        public long getMessagesSent() {
+            return messagesSent;
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        public long getMessagesReceived() {
+            return messagesReceived;
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+
+    }
+
+    /**
+     * Report of simulation.
+     */
+    public static class Report {
+
+        private final int nodeCount;
+        private final long elapsed;
+        private final long convergenceTime;
+        private final long eventCount;
+        private final long droppedCount;
+        private final long messagesSent;
+        private final long bytesSent;
+        private final long maxMessagesSent;
+        private final long maxBytesSent;
+
+        Report(int nodeCount, long elapsed, long convergenceTime, long eventCount, long droppedCount,
+               long messagesSent, long bytesSent, long maxMessagesSent, long maxBytesSent) {
+            this.nodeCount = nodeCount;
+            this.elapsed = elapsed;
+            this.convergenceTime = convergenceTime;
+            this.eventCount = eventCount;
+            this.droppedCount = droppedCount;
+            this.messagesSent = messagesSent;
+            this.bytesSent = bytesSent;
+            this.maxMessagesSent = maxMessagesSent;
+            this.maxBytesSent = maxBytesSent;
+        }
+
+        public long getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Get virtual time when cluster became converged, relative to start of simulation.
+         *
+         * @return convergence time in milliseconds, -1 if not converged
+         */
+        public long getConvergenceTime() {
+            return convergenceTime;
+        }
+
+        public long getEventCount() {
+            return eventCount;
+        }
+
+        /**
+         * Get count of messages dropped by loss or partitions.
+         *
+         * @return dropped count
+         */
+        public long getDroppedCount() {
+            return droppedCount;
+        }
+
+        public long getMessagesSent() {
+            return messagesSent;
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        public double getMessagesPerNode() {
+            return (double) messagesSent / nodeCount;
+        }
+
+        public double getBytesPerNode() {
+            return (double) bytesSent / nodeCount;
+        }
+
+        public long getMaxMessagesSent() {
+            return maxMessagesSent;
+        }
+
+        public long getMaxBytesSent() {
+            return maxBytesSent;
+        }
+
+        @Override
+        public String toString() {
+            return "Report{" +
+                    "nodeCount=" + nodeCount +
+                    ", elapsed=" + elapsed +
+                    ", convergenceTime=" + convergenceTime +
+                    ", eventCount=" + eventCount +
+                    ", droppedCount=" + droppedCount +
+                    ", messagesSent=" + messagesSent +
+                    ", bytesSent=" + bytesSent +
+                    String.format(", messagesPerNode=%.1f, bytesPerNode=%.1f", getMessagesPerNode(), getBytesPerNode()) +
+                    ", maxMessagesSent=" + maxMessagesSent +
+                    ", maxBytesSent=" + maxBytesSent +
+                    '}';
+        }
+
+    }
+
+    private static class Event implements Comparable<Event> {
+
+        private final long time;
+        // events at the same time are processed in order of scheduling
+        private final long sequence;
+        private final Node node;
+        private final Runnable action;
+
+        Event(long time, long sequence, Node node, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.node = node;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(@Nonnull Event o) {
+            int c = Long.compare(time, o.time);
+            return c != 0 ? c : Long.compare(sequence, o.sequence);
+        }
+
+    }
+
+    /**
+     * Run simulation, arguments are count of nodes (10000 by default), join interval in milliseconds (10 by default),
+     * timeout in seconds (600 by default) and seed (1 by default).
+     * Member list of each node grows to all nodes, about 170 bytes per member in each node, so large cluster needs a
+     * large heap, like {@code -Xmx20g} for 10000 nodes.
+     *
+     * @param args arguments
+     */
+    public static void main(String[] args) {
+        int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        long joinInterval = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        long timeout = args.length > 2 ? Long.parseLong(args[2]) * 1000 : 600000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        Configurator.setLevel("in.xnnyygn.xgossip", Level.WARN);
+        SimulatedCluster cluster = new SimulatedCluster(nodeCount, seed);
+        cluster.setMeasureBytes(nodeCount <= 1000);
+        long startTime = System.nanoTime();
+        cluster.startAll(joinInterval);
+        boolean converged = cluster.runUntilConverged(timeout);
+        System.out.println((converged ? "converged " : "not converged ") + cluster.report());
+        System.out.println("wall time " + (System.nanoTime() - startTime) / 1000000 + "ms");
+    }
+
+}
@@ -0,0 +1,63 @@
+package in.xnnyygn.xgossip;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class SimulatedClusterTest {
+
+    @BeforeClass
+    public static void setUpClass() {
+        Configurator.setLevel("in.xnnyygn.xgossip", Level.WARN);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        Configurator.setLevel("in.xnnyygn.xgossip", Level.INFO);
+    }
+
+    @Test
+    public void testConverge() {
+        SimulatedCluster cluster = new SimulatedCluster(50, 1);
+        cluster.startAll(10);
+        assertTrue(cluster.runUntilConverged(60000));
+        SimulatedCluster.Report report = cluster.report();
+        assertTrue(report.getConvergenceTime() > 0);
+        assertTrue(report.getMessagesSent() > 0);
+        assertTrue(report.getBytesSent() > report.getMessagesSent());
+        assertEquals(0, report.getDroppedCount());
+    }
+
+    @Test
+    public void testDeterministic() {
+        SimulatedCluster cluster1 = new SimulatedCluster(20, 42);
+        cluster1.setLossRate(0.05);
+        cluster1.startAll(10);
+        cluster1.run(10000);
+        SimulatedCluster cluster2 = new SimulatedCluster(20, 42);
+        cluster2.setLossRate(0.05);
+        cluster2.startAll(10);
+        cluster2.run(10000);
+        assertEquals(cluster1.report().toString(), cluster2.report().toString());
+        assertTrue(cluster1.report().getDroppedCount() > 0);
+    }
+
+    @Test
+    public void testPartition() {
+        SimulatedCluster cluster = new SimulatedCluster(20, 1);
+        cluster.partition(IntStream.range(10, 20).boxed().collect(Collectors.toList()));
+        cluster.startAll(10);
+        cluster.run(10000);
+        assertFalse(cluster.isConverged());
+        cluster.heal();
+        assertTrue(cluster.runUntilConverged(60000));
+    }
+
+}
@@ -0,0 +1,115 @@
+package in.xnnyygn.xgossip;
+
+import in.xnnyygn.xgossip.schedule.Scheduler;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler of a node in {@link SimulatedCluster}, timers are events in virtual time.
+ */
+public class SimulatedScheduler implements Scheduler {
+
+    private final SimulatedCluster cluster;
+    private final SimulatedCluster.Node node;
+
+    SimulatedScheduler(SimulatedCluster cluster, SimulatedCluster.Node node) {
+        this.cluster = cluster;
+        this.node = node;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay) {
+        SimulatedFuture future = new SimulatedFuture(cluster.getNow() + delay);
+        cluster.schedule(delay, node, () -> future.run(command));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay) {
+        SimulatedFuture future = new SimulatedFuture(cluster.getNow() + initialDelay);
+        cluster.schedule(initialDelay, node, () -> runWithFixedDelay(future, command, delay));
+        return future;
+    }
+
+    private void runWithFixedDelay(SimulatedFuture future, Runnable command, long delay) {
+        if (future.cancelled) {
+            return;
+        }
+        command.run();
+        future.deadline = cluster.getNow() + delay;
+        cluster.schedule(delay, node, () -> runWithFixedDelay(future, command, delay));
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return cluster.getNow();
+    }
+
+    @Override
+    public void shutdown() {
+        cluster.stop(node.getIndex());
+    }
+
+    private class SimulatedFuture implements ScheduledFuture<Object> {
+
+        private long deadline;
+        private boolean cancelled = false;
+        private boolean done = false;
+
+        SimulatedFuture(long deadline) {
+            this.deadline = deadline;
+        }
+
+        void run(Runnable command) {
+            if (cancelled) {
+                return;
+            }
+            done = true;
+            command.run();
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return unit.convert(deadline - cluster.getNow(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed o) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), o.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public Object get() {
+            throw new UnsupportedOperationException("cannot wait in simulation");
+        }
+
+        @Override
+        public Object get(long timeout, @Nonnull TimeUnit unit) {
+            throw new UnsupportedOperationException("cannot wait in simulation");
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package in.xnnyygn.xgossip;
+
+import in.xnnyygn.xgossip.rpc.Transporter;
+import in.xnnyygn.xgossip.rpc.TransporterMetrics;
+import in.xnnyygn.xgossip.rpc.TransporterStats;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+
+/**
+ * Transporter of a node in {@link SimulatedCluster}, messages are delivered by network of cluster in virtual time.
+ */
+public class SimulatedTransporter implements Transporter {
+
+    private final SimulatedCluster cluster;
+    private final SimulatedCluster.Node node;
+
+    SimulatedTransporter(SimulatedCluster cluster, SimulatedCluster.Node node) {
+        this.cluster = cluster;
+        this.node = node;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    @Override
+    public <T extends AbstractMessage> void send(MemberEndpoint endpoint, T message) {
+        cluster.send(node, endpoint, message);
+    }
+
+    @Override
+    public <M extends AbstractMessage, R extends AbstractMessage> void reply(RemoteMessage<M> remoteMessage, R response) {
+        cluster.send(node, remoteMessage.getSender(), response);
+    }
+
+    @Override
+    public TransporterStats getStats() {
+        return new TransporterMetrics().snapshot();
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
@@ -1,6 +1,7 @@
 package in.xnnyygn.xgossip;
 
 import com.google.common.collect.ImmutableSet;
+import in.xnnyygn.xgossip.rpc.messages.Piggyback;
 import in.xnnyygn.xgossip.updates.AbstractUpdate;
 import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
 import org.junit.Test;
@@ -63,4 +64,51 @@ public class UpdateListTest {
         assertEquals(0, updates.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testDeletedNotPiggybacked() {
+        UpdateList list = new UpdateList(1);
+        long updateId1 = list.memberJoined(new MemberEndpoint("localhost", 5302), System.currentTimeMillis());
+        long updateId2 = list.memberJoined(new MemberEndpoint("localhost", 5303), System.currentTimeMillis());
+        list.decreaseUsefulness(updateId1);
+        List<AbstractUpdate> updates = list.takeForPiggyback(1000, 2);
+        assertEquals(1, updates.size());
+        assertEquals(updateId2, updates.get(0).getId());
+    }
+
+    @Test
+    public void testSingleThread() {
+        UpdateList list = new UpdateList(1, false);
+        long updateId1 = list.memberJoined(new MemberEndpoint("localhost", 5302), System.currentTimeMillis());
+        long updateId2 = list.memberLeaved(new MemberEndpoint("localhost", 5303), System.currentTimeMillis());
+        assertEquals(2, list.takeForPiggyback(1000, 1).size());
+        assertEquals(0, list.takeForPiggyback(1000, 1).size());
+        list.decreaseUsefulness(updateId1);
+        List<AbstractUpdate> updates = list.take(2);
+        assertEquals(1, updates.size());
+        assertEquals(updateId2, updates.get(0).getId());
+    }
+
+    @Test
+    public void testTakeForPiggyback() {
+        UpdateList list = new UpdateList(10);
+        long updateId1 = list.memberJoined(new MemberEndpoint("localhost", 5302), System.currentTimeMillis());
+        long updateId2 = list.memberJoined(new MemberEndpoint("localhost", 5303), System.currentTimeMillis());
+        int updateSize = Piggyback.estimateSize(list.take(1).get(0));
+        List<AbstractUpdate> updates = list.takeForPiggyback(updateSize, 2);
+        assertEquals(1, updates.size());
+        long firstId = updates.get(0).getId();
+
+        // least piggybacked first
+        updates = list.takeForPiggyback(updateSize * 2, 2);
+        assertEquals(2, updates.size());
+        assertEquals(firstId == updateId1 ? updateId2 : updateId1, updates.get(0).getId());
+
+        // max times reached
+        updates = list.takeForPiggyback(updateSize * 2, 2);
+        assertEquals(1, updates.size());
+        assertEquals(firstId == updateId1 ? updateId2 : updateId1, updates.get(0).getId());
+        assertEquals(0, list.takeForPiggyback(updateSize * 2, 2).size());
+        assertEquals(2, list.take(2).size());
+    }
+
+}
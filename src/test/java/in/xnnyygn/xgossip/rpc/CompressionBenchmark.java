@@ -0,0 +1,81 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.Member;
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.MembersMergeResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of compression of member list in merge response to a new peer, so definitions of all members are included.
+ * Size of packet is printed in setup, threshold 0 means no compression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompressionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int memberCount;
+
+    @Param({"0", "512"})
+    public int compressionThreshold;
+
+    private final EndpointRegistry endpointRegistry = new EndpointRegistry();
+    private final PacketProtocol protocol = new PacketProtocol(endpointRegistry);
+    private final PacketProtocol remoteProtocol = new PacketProtocol();
+    private final MemberEndpoint sender = new MemberEndpoint("node-0.cluster.example.com", 5302);
+    private final MemberEndpoint recipient = new MemberEndpoint("node-1.cluster.example.com", 5302);
+    private MembersMergeResponse message;
+    private ByteBuffer buffer;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        endpointRegistry.getPeerState(recipient).setVersion(PacketProtocol.VERSION_2);
+        long now = System.currentTimeMillis();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new Member(new MemberEndpoint("node-" + i + ".cluster.example.com", 5302), now - i * 1000));
+        }
+        message = new MembersMergeResponse(now, members, new byte[16]);
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        int size = writer.prepare(sender, message, recipient, compressionThreshold);
+        buffer = ByteBuffer.allocate(size);
+        bytes = new byte[size];
+        writer.writeTo(ByteBuffer.wrap(bytes));
+        System.out.println();
+        System.out.println("members " + memberCount + ", threshold " + compressionThreshold + ", packet size " + size);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, message, recipient, compressionThreshold);
+        writer.writeTo(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return remoteProtocol.fromBytes(bytes, 0, bytes.length);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CompressionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
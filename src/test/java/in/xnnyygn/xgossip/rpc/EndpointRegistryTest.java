@@ -0,0 +1,115 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class EndpointRegistryTest {
+
+    @Test
+    public void testIntern() {
+        EndpointRegistry registry = new EndpointRegistry();
+        MemberEndpoint endpoint = registry.intern("localhost", 5302);
+        assertSame(endpoint, registry.intern("localhost", 5302));
+        assertSame(endpoint, registry.intern(new MemberEndpoint("localhost", 5302)));
+        assertNotSame(endpoint, registry.intern("localhost", 5303));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testInternTooManyEntries() {
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistry.DEFAULT_TTL, EndpointRegistry.DEFAULT_NEGATIVE_TTL, 1);
+        registry.intern("localhost", 5302);
+        MemberEndpoint endpoint = registry.intern("localhost", 5303);
+        assertEquals(new MemberEndpoint("localhost", 5303), endpoint);
+        assertEquals(1, registry.size());
+        // kept after added
+        assertSame(endpoint, registry.intern("localhost", 5303));
+    }
+
+    @Test
+    public void testEvict() {
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistry.DEFAULT_TTL, EndpointRegistry.DEFAULT_NEGATIVE_TTL, 32);
+        MemberEndpoint peer = new MemberEndpoint("localhost", 5302);
+        registry.getPeerState(peer).setVersion(PacketProtocol.VERSION_2);
+        int peerId = registry.getId(peer);
+        int firstId = registry.getId(new MemberEndpoint("localhost", 6000));
+        for (int i = 1; i < 1000; i++) {
+            registry.intern("localhost", 6000 + i);
+            // peer in use is not evicted
+            assertEquals(PacketProtocol.VERSION_2, registry.getPeerState(peer).getVersion());
+        }
+        assertTrue(registry.size() <= 32);
+        assertEquals(1001, registry.getMaxId());
+        // id is kept after evicted
+        assertEquals(firstId, registry.getId(new MemberEndpoint("localhost", 6000)));
+        assertEquals(peerId, registry.getId(peer));
+        assertEquals(new MemberEndpoint("localhost", 6000), registry.getEndpoint(firstId));
+    }
+
+    @Test
+    public void testIdsConcurrently() throws Exception {
+        EndpointRegistry registry = new EndpointRegistry();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    MemberEndpoint endpoint = new MemberEndpoint("localhost", 6000 + i);
+                    int id = registry.getId(endpoint);
+                    assertTrue(id > 0);
+                    assertEquals(endpoint, registry.getEndpoint(id));
+                }
+            }));
+        }
+        executorService.shutdown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(1000, registry.getMaxId());
+        for (int id = 1; id <= 1000; id++) {
+            assertEquals(id, registry.getId(registry.getEndpoint(id)));
+        }
+    }
+
+    @Test
+    public void testGetProtoEndpoint() {
+        EndpointRegistry registry = new EndpointRegistry();
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        Protos.MemberEndpoint protoEndpoint = registry.getProtoEndpoint(endpoint, false);
+        assertEquals("localhost", protoEndpoint.getHost());
+        assertEquals(5302, protoEndpoint.getPort());
+        assertSame(protoEndpoint, registry.getProtoEndpoint(endpoint, false));
+        Protos.MemberEndpoint protoEndpointById = registry.getProtoEndpoint(endpoint, true);
+        assertEquals(registry.getId(endpoint), protoEndpointById.getId());
+        assertSame(protoEndpointById, registry.getProtoEndpoint(endpoint, true));
+    }
+
+    @Test
+    public void testResolveCached() {
+        EndpointRegistry registry = new EndpointRegistry();
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        InetSocketAddress address = registry.resolve(endpoint);
+        assertFalse(address.isUnresolved());
+        assertEquals(5302, address.getPort());
+        assertSame(address, registry.resolve(endpoint));
+    }
+
+    @Test
+    public void testResolveExpired() {
+        EndpointRegistry registry = new EndpointRegistry(-1, -1, EndpointRegistry.DEFAULT_MAX_ENTRIES);
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5302);
+        InetSocketAddress address = registry.resolve(endpoint);
+        assertNotSame(address, registry.resolve(endpoint));
+    }
+
+}
@@ -0,0 +1,44 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FragmentAssemblerTest {
+
+    private final MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+
+    @Test
+    public void testAdd() {
+        FragmentAssembler assembler = new FragmentAssembler();
+        byte[] buffer = new byte[]{1, 2, 3, 4, 5};
+        assertNull(assembler.add(sender, 1, 1, 2, buffer, 3, 2));
+        assertNull(assembler.add(sender, 1, 1, 2, buffer, 3, 2));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, assembler.add(sender, 1, 0, 2, buffer, 0, 3));
+        assertEquals(0, assembler.getPendingMessageCount());
+    }
+
+    @Test(expected = ParserException.class)
+    public void testAddIllegalIndex() {
+        new FragmentAssembler().add(sender, 1, 2, 2, new byte[1], 0, 1);
+    }
+
+    @Test
+    public void testTooManyPendingMessages() {
+        FragmentAssembler assembler = new FragmentAssembler(FragmentAssembler.DEFAULT_TIMEOUT, 2);
+        assembler.add(sender, 1, 0, 2, new byte[1], 0, 1);
+        assembler.add(sender, 2, 0, 2, new byte[1], 0, 1);
+        assembler.add(sender, 3, 0, 2, new byte[1], 0, 1);
+        assertEquals(2, assembler.getPendingMessageCount());
+    }
+
+    @Test
+    public void testExpired() {
+        FragmentAssembler assembler = new FragmentAssembler(-1, FragmentAssembler.DEFAULT_MAX_PENDING_MESSAGES);
+        assembler.add(sender, 1, 0, 2, new byte[1], 0, 1);
+        assembler.add(sender, 2, 0, 2, new byte[1], 0, 1);
+        assertEquals(1, assembler.getPendingMessageCount());
+    }
+
+}
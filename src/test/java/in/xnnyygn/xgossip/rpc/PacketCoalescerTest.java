@@ -0,0 +1,119 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.PingResponse;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.*;
+
+public class PacketCoalescerTest {
+
+    private final EndpointRegistry endpointRegistry = new EndpointRegistry();
+    private final PacketProtocol protocol = new PacketProtocol(endpointRegistry);
+    private final MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+    private final MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+    private final InetSocketAddress address = new InetSocketAddress("localhost", 5303);
+    private final List<byte[]> packets = new ArrayList<>();
+    private ScheduledExecutorService flushExecutor;
+
+    @Before
+    public void setUp() {
+        endpointRegistry.getPeerState(endpoint).setVersion(PacketProtocol.VERSION_2);
+        flushExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        flushExecutor.shutdownNow();
+    }
+
+    private PacketCoalescer newCoalescer(int maxPacketSize) {
+        return new PacketCoalescer(maxPacketSize, 60000, flushExecutor, (packet, address) -> {
+            byte[] bytes = new byte[packet.remaining()];
+            packet.get(bytes);
+            packets.add(bytes);
+        });
+    }
+
+    private void offer(PacketCoalescer coalescer, AbstractMessage message) {
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, message, endpoint);
+        assertTrue(coalescer.offer(endpoint, address, writer));
+    }
+
+    private List<RemoteMessage<? extends AbstractMessage>> parse(byte[] packet) {
+        List<RemoteMessage<? extends AbstractMessage>> messages = new ArrayList<>();
+        protocol.fromBytes(packet, 0, packet.length, messages::add);
+        return messages;
+    }
+
+    @Test
+    public void testCompound() {
+        PacketCoalescer coalescer = newCoalescer(1400);
+        offer(coalescer, new PingRpc(1));
+        offer(coalescer, new PingResponse(2));
+        assertEquals(0, packets.size());
+        coalescer.flushAll();
+        assertEquals(1, packets.size());
+        List<RemoteMessage<? extends AbstractMessage>> messages = parse(packets.get(0));
+        assertEquals(2, messages.size());
+        assertEquals(1, ((PingRpc) messages.get(0).get()).getPingAt());
+        assertEquals(2, ((PingResponse) messages.get(1).get()).getPingAt());
+        assertEquals(sender, messages.get(1).getSender());
+    }
+
+    @Test
+    public void testSingle() {
+        PacketCoalescer coalescer = newCoalescer(1400);
+        offer(coalescer, new PingRpc(1));
+        coalescer.flushAll();
+        assertEquals(1, packets.size());
+        assertArrayEquals(protocol.toBytes(sender, new PingRpc(1), endpoint), packets.get(0));
+    }
+
+    @Test
+    public void testFull() {
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, new PingRpc(1), endpoint);
+        int headerSize = writer.getCompoundHeaderSize();
+        int partSize = writer.getPartSize();
+        PacketCoalescer coalescer = newCoalescer(headerSize + partSize * 2);
+        offer(coalescer, new PingRpc(1));
+        offer(coalescer, new PingRpc(2));
+        offer(coalescer, new PingRpc(3));
+        assertEquals(1, packets.size());
+        assertEquals(2, parse(packets.get(0)).size());
+        coalescer.flushAll();
+        assertEquals(2, packets.size());
+        assertEquals(3, ((PingRpc) parse(packets.get(1)).get(0).get()).getPingAt());
+    }
+
+    @Test
+    public void testTooLarge() {
+        PacketCoalescer coalescer = newCoalescer(20);
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, new PingRpc(1), endpoint);
+        assertFalse(coalescer.offer(endpoint, address, writer));
+    }
+
+    @Test
+    public void testV1() {
+        PacketCoalescer coalescer = newCoalescer(1400);
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, new PingRpc(1));
+        assertFalse(coalescer.offer(endpoint, address, writer));
+    }
+
+}
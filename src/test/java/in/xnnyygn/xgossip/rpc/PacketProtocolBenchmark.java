@@ -0,0 +1,97 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.MemberNotification;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.MemberUpdatesRpc;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding and decoding messages, run with {@code -prof gc} to see allocation per message.
+ * {@code fromBytesWithMetrics} is decoding with counters updated as transporters do per received packet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketProtocolBenchmark {
+
+    @Param({"ping", "updates"})
+    public String messageType;
+
+    private final PacketProtocol protocol = new PacketProtocol();
+    private final MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private AbstractMessage message;
+    private final TransporterMetrics metrics = new TransporterMetrics();
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        if ("ping".equals(messageType)) {
+            message = new PingRpc(System.currentTimeMillis());
+        } else {
+            MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+            message = new MemberUpdatesRpc(
+                    Collections.singletonList(new MemberJoinedUpdate(1, endpoint, System.currentTimeMillis())),
+                    Collections.singletonList(new MemberNotification(endpoint, true, System.currentTimeMillis(), sender)),
+                    new byte[32]
+            );
+        }
+        bytes = protocol.toBytes(sender, message);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return protocol.toBytes(sender, message);
+    }
+
+    @Benchmark
+    public ByteBuffer toPooledBuffer() {
+        buffer.clear();
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, message);
+        writer.writeTo(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object fromBytes() {
+        return protocol.fromBytes(bytes, 0, bytes.length);
+    }
+
+    // same as transporters per received packet, to compare overhead of metrics
+    @Benchmark
+    public void fromBytesWithMetrics() {
+        long startTime = metrics.onReceiveStarted();
+        metrics.onPacketReceived(bytes.length);
+        protocol.fromBytes(bytes, 0, bytes.length, m -> {
+        }, metrics);
+        metrics.onReceiveProcessed(startTime);
+    }
+
+    @Benchmark
+    public void fromBytesWithoutMetrics() {
+        protocol.fromBytes(bytes, 0, bytes.length, m -> {
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PacketProtocolBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+}
@@ -1,12 +1,31 @@
 package in.xnnyygn.xgossip.rpc;
 
+import in.xnnyygn.xgossip.Member;
 import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.MemberNotification;
 import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+import in.xnnyygn.xgossip.rpc.messages.MemberDigestsResponse;
+import in.xnnyygn.xgossip.rpc.messages.MemberJoinResponse;
 import in.xnnyygn.xgossip.rpc.messages.MemberJoinRpc;
+import in.xnnyygn.xgossip.rpc.messages.MemberUpdatesResponse;
+import in.xnnyygn.xgossip.rpc.messages.MembersMergeResponse;
+import in.xnnyygn.xgossip.rpc.messages.Piggyback;
+import in.xnnyygn.xgossip.rpc.messages.PingRequestRpc;
+import in.xnnyygn.xgossip.rpc.messages.PingResponse;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import in.xnnyygn.xgossip.rpc.messages.ProxyPingRpc;
 import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+import in.xnnyygn.xgossip.updates.MemberJoinedUpdate;
+import in.xnnyygn.xgossip.updates.MemberLeavedUpdate;
 import org.junit.Test;
 
 import java.net.DatagramPacket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -30,4 +49,323 @@ public class PacketProtocolTest {
         assertEquals(rpc.getEndpoint(), rpc2.getEndpoint());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSenderInterned() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint recipient = new MemberEndpoint("localhost", 5303);
+        DatagramPacket packet1 = protocol.toPacket(sender, new PingRpc(1), recipient);
+        DatagramPacket packet2 = protocol.toPacket(sender, new PingRpc(2), recipient);
+        assertSame(protocol.fromPacket(packet1).getSender(), protocol.fromPacket(packet2).getSender());
+    }
+
+    @Test
+    public void testPingMessageSameAsProto() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        byte[] bytes = protocol.toBytes(sender, new ProxyPingRpc(System.currentTimeMillis(), endpoint));
+        ProxyPingRpc rpc = (ProxyPingRpc) protocol.fromBytes(bytes, 0, bytes.length).get();
+        byte[] protoBytes = Protos.ProxyPingRpc.newBuilder()
+                .setPingAt(rpc.getPingAt())
+                .setSourceEndpoint(Protos.MemberEndpoint.newBuilder().setHost("localhost").setPort(5303).build())
+                .build().toByteArray();
+        // followed by version field
+        assertArrayEquals(protoBytes, Arrays.copyOfRange(bytes, bytes.length - protoBytes.length - 3, bytes.length - 3));
+        assertEquals(endpoint, rpc.getSourceEndpoint());
+
+        bytes = protocol.toBytes(sender, new PingRpc(0));
+        assertEquals(0, ((PingRpc) protocol.fromBytes(bytes, 0, bytes.length).get()).getPingAt());
+    }
+
+    @Test
+    public void testPingMessageUnknownFieldSkipped() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        byte[] bytes = protocol.toBytes(sender, new PingRequestRpc(1, new MemberEndpoint("localhost", 5303)));
+        // field 15, varint 5
+        byte[] bytes2 = Arrays.copyOf(bytes, bytes.length + 2);
+        bytes2[bytes.length] = 0x78;
+        bytes2[bytes.length + 1] = 0x05;
+        PingRequestRpc rpc = (PingRequestRpc) protocol.fromBytes(bytes2, 0, bytes2.length).get();
+        assertEquals(1, rpc.getPingAt());
+        assertSame(protocol.fromBytes(bytes, 0, bytes.length).getSender(), protocol.fromBytes(bytes2, 0, bytes2.length).getSender());
+        assertSame(((PingRequestRpc) protocol.fromBytes(bytes, 0, bytes.length).get()).getEndpoint(), rpc.getEndpoint());
+    }
+
+    @Test
+    public void testPiggyback() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        Piggyback piggyback = new Piggyback(
+                Arrays.asList(new MemberJoinedUpdate(1, endpoint, 100), new MemberLeavedUpdate(2, endpoint, 200)),
+                Collections.singletonList(new MemberNotification(endpoint, true, 300, sender))
+        );
+        byte[] bytes = protocol.toBytes(sender, new ProxyPingRpc(400, endpoint, piggyback));
+        ProxyPingRpc rpc = (ProxyPingRpc) protocol.fromBytes(bytes, 0, bytes.length).get();
+        assertEquals(400, rpc.getPingAt());
+        assertEquals(endpoint, rpc.getSourceEndpoint());
+        Piggyback piggyback2 = rpc.getPiggyback();
+        assertEquals(2, piggyback2.getUpdates().size());
+        assertTrue(piggyback2.getUpdates().get(0) instanceof MemberJoinedUpdate);
+        assertEquals(endpoint, piggyback2.getUpdates().get(0).getEndpoint());
+        assertTrue(piggyback2.getUpdates().get(1) instanceof MemberLeavedUpdate);
+        assertEquals(1, piggyback2.getNotifications().size());
+        assertEquals(sender, piggyback2.getNotifications().get(0).getBy());
+
+        bytes = protocol.toBytes(sender, new PingRpc(400));
+        assertTrue(((PingRpc) protocol.fromBytes(bytes, 0, bytes.length).get()).getPiggyback().isEmpty());
+    }
+
+    @Test
+    public void testMemberUpdatesResponse() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint endpoint = new MemberEndpoint("localhost", 5303);
+        byte[] bytes = protocol.toBytes(sender, new MemberUpdatesResponse(
+                1, Collections.emptyMap(),
+                Arrays.asList(new MemberJoinedUpdate(1, endpoint, 100), new MemberLeavedUpdate(2, endpoint, 200)),
+                new byte[16]
+        ));
+        MemberUpdatesResponse response = (MemberUpdatesResponse) protocol.fromBytes(bytes, 0, bytes.length).get();
+        assertEquals(2, response.getUpdates().size());
+        assertTrue(response.getUpdates().get(0) instanceof MemberJoinedUpdate);
+        MemberLeavedUpdate memberLeavedUpdate = (MemberLeavedUpdate) response.getUpdates().get(1);
+        assertEquals(2, memberLeavedUpdate.getId());
+        assertEquals(endpoint, memberLeavedUpdate.getEndpoint());
+        assertEquals(200, memberLeavedUpdate.getTimeLeaved());
+    }
+
+    @Test
+    public void testMemberDigestsAndBuckets() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        byte[] bytes = protocol.toBytes(sender, new MemberDigestsResponse(
+                1, Collections.emptyMap(), 2, Arrays.asList(16, 17), Arrays.asList(new byte[16], new byte[]{1})
+        ));
+        MemberDigestsResponse response = (MemberDigestsResponse) protocol.fromBytes(bytes, 0, bytes.length).get();
+        assertEquals(2, response.getLevel());
+        assertEquals(Arrays.asList(16, 17), response.getIndices());
+        assertArrayEquals(new byte[]{1}, response.getDigests().get(1));
+
+        bytes = protocol.toBytes(sender, new MembersMergeResponse(
+                1, Collections.emptyMap(), Collections.emptyList(), new byte[16], 1, Collections.singleton(3)
+        ));
+        assertEquals(Collections.singleton(3), ((MembersMergeResponse) protocol.fromBytes(bytes, 0, bytes.length).get()).getBuckets());
+    }
+
+    @Test
+    public void testNegotiation() {
+        PacketProtocol protocol1 = new PacketProtocol(new EndpointRegistry());
+        PacketProtocol protocol2 = new PacketProtocol(new EndpointRegistry());
+        MemberEndpoint endpoint1 = new MemberEndpoint("node-1.cluster.example.com", 5302);
+        MemberEndpoint endpoint2 = new MemberEndpoint("node-2.cluster.example.com", 5302);
+
+        // v1 with version field to unknown peer
+        byte[] bytes = protocol1.toBytes(endpoint1, new PingRpc(1), endpoint2);
+        assertEquals(0, bytes[0]);
+        assertEquals(1, ((PingRpc) protocol2.fromBytes(bytes, 0, bytes.length).get()).getPingAt());
+
+        // v2 to peer which supports v2
+        bytes = protocol2.toBytes(endpoint2, new PingResponse(1), endpoint1);
+        assertEquals(PacketProtocol.VERSION_2, bytes[0]);
+        RemoteMessage<? extends AbstractMessage> message = protocol1.fromBytes(bytes, 0, bytes.length);
+        assertEquals(endpoint2, message.getSender());
+        assertEquals(1, ((PingResponse) message.get()).getPingAt());
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            members.add(new Member(new MemberEndpoint("node-" + i + ".cluster.example.com", 5302), 1000000000000L + i));
+        }
+        MembersMergeResponse response = new MembersMergeResponse(1, members, new byte[16]);
+        byte[] v1Bytes = protocol2.toBytes(endpoint2, response);
+        bytes = protocol2.toBytes(endpoint2, response, endpoint1);
+        assertMembersEquals(members, ((MembersMergeResponse) protocol1.fromBytes(bytes, 0, bytes.length).get()).getMembers());
+
+        // definitions acknowledged
+        bytes = protocol1.toBytes(endpoint1, new ProxyPingRpc(2, endpoint2), endpoint2);
+        assertEquals(PacketProtocol.VERSION_2, bytes[0]);
+        assertEquals(endpoint2, ((ProxyPingRpc) protocol2.fromBytes(bytes, 0, bytes.length).get()).getSourceEndpoint());
+        bytes = protocol2.toBytes(endpoint2, response, endpoint1);
+        assertTrue(bytes.length * 3 < v1Bytes.length);
+        assertMembersEquals(members, ((MembersMergeResponse) protocol1.fromBytes(bytes, 0, bytes.length).get()).getMembers());
+    }
+
+    @Test
+    public void testRestart() {
+        PacketProtocol protocol1 = new PacketProtocol(new EndpointRegistry());
+        PacketProtocol protocol2 = new PacketProtocol(new EndpointRegistry());
+        MemberEndpoint endpoint1 = new MemberEndpoint("node-1.cluster.example.com", 5302);
+        MemberEndpoint endpoint2 = new MemberEndpoint("node-2.cluster.example.com", 5302);
+        MemberEndpoint endpoint3 = new MemberEndpoint("node-3.cluster.example.com", 5302);
+
+        // v2 with ids acknowledged in both directions
+        byte[] bytes = protocol1.toBytes(endpoint1, new PingRpc(1), endpoint2);
+        protocol2.fromBytes(bytes, 0, bytes.length);
+        bytes = protocol2.toBytes(endpoint2, new ProxyPingRpc(2, endpoint3), endpoint1);
+        protocol1.fromBytes(bytes, 0, bytes.length);
+        bytes = protocol1.toBytes(endpoint1, new ProxyPingRpc(3, endpoint3), endpoint2);
+        assertEquals(PacketProtocol.VERSION_2, bytes[0]);
+        protocol2.fromBytes(bytes, 0, bytes.length);
+
+        // node 1 restarted, ids of node 2 are unknown to the new session
+        PacketProtocol restartedProtocol1 = new PacketProtocol(new EndpointRegistry());
+        bytes = protocol2.toBytes(endpoint2, new ProxyPingRpc(4, endpoint3), endpoint1);
+        try {
+            restartedProtocol1.fromBytes(bytes, 0, bytes.length);
+            fail();
+        } catch (ParserException ignored) {
+        }
+
+        // v1 from restarted node resets acknowledged ids
+        bytes = restartedProtocol1.toBytes(endpoint1, new PingRpc(5), endpoint2);
+        assertEquals(0, bytes[0]);
+        protocol2.fromBytes(bytes, 0, bytes.length);
+        bytes = protocol2.toBytes(endpoint2, new ProxyPingRpc(6, endpoint3), endpoint1);
+        assertEquals(PacketProtocol.VERSION_2, bytes[0]);
+        RemoteMessage<? extends AbstractMessage> message = restartedProtocol1.fromBytes(bytes, 0, bytes.length);
+        assertEquals(endpoint2, message.getSender());
+        assertEquals(endpoint3, ((ProxyPingRpc) message.get()).getSourceEndpoint());
+
+        // acknowledgement of previous session is ignored by node 1
+        bytes = restartedProtocol1.toBytes(endpoint1, new ProxyPingRpc(7, endpoint3), endpoint2);
+        assertEquals(PacketProtocol.VERSION_2, bytes[0]);
+        message = protocol2.fromBytes(bytes, 0, bytes.length);
+        assertEquals(endpoint1, message.getSender());
+        assertEquals(endpoint3, ((ProxyPingRpc) message.get()).getSourceEndpoint());
+        bytes = protocol2.toBytes(endpoint2, new ProxyPingRpc(8, endpoint3), endpoint1);
+        assertEquals(endpoint3, ((ProxyPingRpc) restartedProtocol1.fromBytes(bytes, 0, bytes.length).get()).getSourceEndpoint());
+    }
+
+    private void assertMembersEquals(List<Member> expected, Collection<Member> actual) {
+        assertEquals(expected.size(), actual.size());
+        int i = 0;
+        for (Member member : actual) {
+            assertEquals(expected.get(i).getEndpoint(), member.getEndpoint());
+            assertEquals(expected.get(i).getTimeAdded(), member.getTimeAdded());
+            i++;
+        }
+    }
+
+    @Test
+    public void testCompression() {
+        EndpointRegistry endpointRegistry = new EndpointRegistry();
+        PacketProtocol protocol1 = new PacketProtocol(endpointRegistry);
+        MemberEndpoint sender = new MemberEndpoint("node-0.cluster.example.com", 5302);
+        MemberEndpoint recipient = new MemberEndpoint("node-1.cluster.example.com", 5302);
+        endpointRegistry.getPeerState(recipient).setVersion(PacketProtocol.VERSION_2);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            members.add(new Member(new MemberEndpoint("node-" + i + ".cluster.example.com", 5302), 1000000000000L + i));
+        }
+        MemberJoinResponse response = new MemberJoinResponse(members);
+        PacketProtocol.PacketWriter writer = protocol1.getPacketWriter();
+        int size = writer.prepare(sender, response, recipient, 0);
+        byte[] bytes = protocol1.toBytes(sender, response, recipient);
+        assertTrue(bytes.length * 2 < size);
+        assertMembersEquals(members, ((MemberJoinResponse) protocol.fromBytes(bytes, 0, bytes.length).get()).getMembers());
+
+        // not compressed if smaller than threshold
+        assertEquals(size, writer.prepare(sender, response, recipient, size));
+    }
+
+    @Test(expected = ParserException.class)
+    public void testMalformedCompressedRecord() {
+        EndpointRegistry endpointRegistry = new EndpointRegistry();
+        PacketProtocol protocol1 = new PacketProtocol(endpointRegistry);
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint recipient = new MemberEndpoint("localhost", 5303);
+        endpointRegistry.getPeerState(recipient).setVersion(PacketProtocol.VERSION_2);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            members.add(new Member(new MemberEndpoint("localhost", 6000 + i), i));
+        }
+        byte[] bytes = protocol1.toBytes(sender, new MemberJoinResponse(members), recipient);
+        bytes[bytes.length - 8] ^= 0x55;
+        protocol.fromBytes(bytes, 0, bytes.length);
+    }
+
+    @Test(expected = ParserException.class)
+    public void testUnknownMemberId() {
+        EndpointRegistry endpointRegistry = new EndpointRegistry();
+        PacketProtocol protocol1 = new PacketProtocol(endpointRegistry);
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint recipient = new MemberEndpoint("localhost", 5303);
+        // recipient is believed to know all ids, but it doesn't
+        endpointRegistry.getPeerState(recipient).update(Integer.MAX_VALUE, null);
+        byte[] bytes = protocol1.toBytes(sender, new PingRpc(1), recipient);
+        protocol.fromBytes(bytes, 0, bytes.length);
+    }
+
+    @Test(expected = ParserException.class)
+    public void testTruncatedSender() {
+        byte[] bytes = protocol.toBytes(new MemberEndpoint("localhost", 5302), new PingRpc(1));
+        protocol.fromBytes(bytes, 0, 6);
+    }
+
+    @Test
+    public void testFragments() {
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            members.add(new Member(new MemberEndpoint("192.168.1." + (i % 256), 5302 + i), i));
+        }
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        assertTrue(writer.prepare(sender, new MemberJoinResponse(members)) > 1400);
+        int fragmentCount = writer.prepareFragments(1400);
+        List<byte[]> fragments = new ArrayList<>();
+        for (int i = 0; i < fragmentCount; i++) {
+            byte[] fragment = new byte[writer.getFragmentSize(i)];
+            assertTrue(fragment.length <= 1400);
+            writer.writeFragmentTo(ByteBuffer.wrap(fragment), i);
+            fragments.add(fragment);
+        }
+        Collections.reverse(fragments);
+        RemoteMessage<? extends AbstractMessage> message = null;
+        for (byte[] fragment : fragments) {
+            assertNull(message);
+            message = protocol.fromBytes(fragment, 0, fragment.length);
+        }
+        assertNotNull(message);
+        assertEquals(sender, message.getSender());
+        List<Member> members2 = new ArrayList<>(((MemberJoinResponse) message.get()).getMembers());
+        assertEquals(members.size(), members2.size());
+        assertEquals(members.get(999).getEndpoint(), members2.get(999).getEndpoint());
+    }
+
+    @Test
+    public void testFragmentsV2() {
+        EndpointRegistry endpointRegistry = new EndpointRegistry();
+        PacketProtocol protocol1 = new PacketProtocol(endpointRegistry);
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        MemberEndpoint recipient = new MemberEndpoint("localhost", 5303);
+        endpointRegistry.getPeerState(recipient).setVersion(PacketProtocol.VERSION_2);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            members.add(new Member(new MemberEndpoint("192.168.1." + (i % 256), 5302 + i), i));
+        }
+        PacketProtocol.PacketWriter writer = protocol1.getPacketWriter();
+        assertTrue(writer.prepare(sender, new MemberJoinResponse(members), recipient) > 1400);
+        assertEquals(PacketProtocol.VERSION_2, writer.getVersion());
+        int fragmentCount = writer.prepareFragments(1400);
+        List<byte[]> fragments = new ArrayList<>();
+        for (int i = 0; i < fragmentCount; i++) {
+            byte[] fragment = new byte[writer.getFragmentSize(i)];
+            assertTrue(fragment.length <= 1400);
+            writer.writeFragmentTo(ByteBuffer.wrap(fragment), i);
+            fragments.add(fragment);
+        }
+        Collections.reverse(fragments);
+        RemoteMessage<? extends AbstractMessage> message = null;
+        for (byte[] fragment : fragments) {
+            assertNull(message);
+            message = protocol.fromBytes(fragment, 0, fragment.length);
+        }
+        assertNotNull(message);
+        assertEquals(sender, message.getSender());
+        assertMembersEquals(members, ((MemberJoinResponse) message.get()).getMembers());
+    }
+
+    @Test(expected = ProtocolException.class)
+    public void testFragmentsNoSpaceForPayload() {
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(new MemberEndpoint("localhost", 5302), new MemberJoinRpc(new MemberEndpoint("localhost", 5303), 1));
+        writer.prepareFragments(29);
+    }
+
+}
@@ -0,0 +1,17 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.AbstractMessage;
+
+/**
+ * Size of messages in v1 packet, for transporters without socket in tests.
+ */
+public class PacketSizes {
+
+    private static final PacketProtocol protocol = new PacketProtocol();
+
+    public static int of(MemberEndpoint sender, AbstractMessage message) {
+        return protocol.getPacketWriter().prepare(sender, message, null);
+    }
+
+}
@@ -0,0 +1,100 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.rpc.messages.MembersMergeResponse;
+import in.xnnyygn.xgossip.rpc.messages.PingResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SendQueueTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        SendQueue<Integer> queue = new SendQueue<>(3);
+        assertEquals(4, queue.getCapacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        for (int round = 0; round < 3; round++) {
+            assertTrue(queue.offer(1, false));
+            assertTrue(queue.offer(2, false));
+            assertEquals(2, queue.size());
+            assertEquals(Integer.valueOf(1), queue.poll());
+            assertEquals(Integer.valueOf(2), queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void testFull() {
+        SendQueue<Integer> queue = new SendQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i, false));
+        }
+        assertFalse(queue.offer(4, false));
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(0, queue.getDroppedBulkCount());
+        queue.poll();
+        assertTrue(queue.offer(4, false));
+    }
+
+    @Test
+    public void testBulkDropped() {
+        SendQueue<Integer> queue = new SendQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(queue.offer(i, true));
+        }
+        // last quarter kept for non-bulk items
+        assertFalse(queue.offer(6, true));
+        assertTrue(queue.offer(6, false));
+        assertTrue(queue.offer(7, false));
+        assertFalse(queue.offer(8, false));
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(1, queue.getDroppedBulkCount());
+    }
+
+    @Test
+    public void testIsBulk() {
+        assertTrue(SendQueue.isBulk(new MembersMergeResponse(1, Collections.emptyList(), new byte[0])));
+        assertFalse(SendQueue.isBulk(new PingResponse(1)));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        SendQueue<Integer> queue = new SendQueue<>(64);
+        int producerCount = 4;
+        int itemCount = 10000;
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < itemCount; i++) {
+                    while (!queue.offer(i, false)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        long sum = 0;
+        int received = 0;
+        while (received < producerCount * itemCount) {
+            Integer item = queue.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            sum += item;
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals((long) producerCount * itemCount * (itemCount - 1) / 2, sum);
+    }
+
+}
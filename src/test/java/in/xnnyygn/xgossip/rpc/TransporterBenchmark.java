@@ -0,0 +1,122 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import in.xnnyygn.xgossip.support.MessageDispatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of {@link DefaultTransporter} and {@link NettyTransporter} over loopback.
+ * <p>
+ * At most {@link #WINDOW} pings are in flight, so {@code send} is close to the rate pings are delivered instead of
+ * the rate the receiving socket buffer overflows. Pings not received within {@link #LOSS_TIMEOUT} are counted as lost.
+ * {@code received} is the rate the other transporter dispatches pings. With coalescing, pings in the window are
+ * sent in compound packets, which requires v2, so transporters ping each other first to negotiate v2 and
+ * acknowledge member ids.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransporterBenchmark {
+
+    private static final int WINDOW = 64;
+    private static final long LOSS_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final AtomicLong received = new AtomicLong();
+
+    @Param({"default", "netty"})
+    public String transporter;
+
+    // coalescing delay in milliseconds, 0 means disabled
+    @Param({"0", "1"})
+    public long coalescingDelay;
+
+    private final MemberEndpoint senderEndpoint = new MemberEndpoint("localhost", 15302);
+    private final MemberEndpoint receiverEndpoint = new MemberEndpoint("localhost", 15303);
+    private final PingRpc rpc = new PingRpc(0);
+    private Transporter sender;
+    private Transporter receiver;
+    private long sent;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        MessageDispatcher receiverDispatcher = new MessageDispatcher();
+        receiverDispatcher.register(PingRpc.class, m -> received.incrementAndGet());
+        receiver = createTransporter(receiverEndpoint, receiverDispatcher);
+        receiver.initialize();
+        MessageDispatcher senderDispatcher = new MessageDispatcher();
+        senderDispatcher.register(PingRpc.class, m -> {
+        });
+        sender = createTransporter(senderEndpoint, senderDispatcher);
+        sender.initialize();
+        for (int i = 0; i < 3; i++) {
+            receiver.send(senderEndpoint, rpc);
+            Thread.sleep(50);
+            sender.send(receiverEndpoint, rpc);
+            Thread.sleep(50);
+        }
+        sent = received.get();
+    }
+
+    private Transporter createTransporter(MemberEndpoint endpoint, MessageDispatcher dispatcher) {
+        TransporterConfig config = new TransporterConfig();
+        config.setCoalescingDelay(coalescingDelay);
+        if ("netty".equals(transporter)) {
+            return new NettyTransporter(endpoint, dispatcher, config);
+        }
+        return new DefaultTransporter(endpoint, dispatcher, config);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.close();
+        receiver.close();
+    }
+
+    @Benchmark
+    public void send(ReceivedCounter counter) {
+        long deadline = 0;
+        while (sent - received.get() >= WINDOW) {
+            if (deadline == 0) {
+                deadline = System.nanoTime() + LOSS_TIMEOUT;
+            } else if (System.nanoTime() > deadline) {
+                sent = received.get();
+                break;
+            }
+            Thread.yield();
+        }
+        sent++;
+        sender.send(receiverEndpoint, rpc);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ReceivedCounter {
+
+        private long base;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            base = received.get();
+        }
+
+        public long received() {
+            return received.get() - base;
+        }
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TransporterBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
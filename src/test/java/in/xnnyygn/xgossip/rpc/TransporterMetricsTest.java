@@ -0,0 +1,52 @@
+package in.xnnyygn.xgossip.rpc;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TransporterMetricsTest {
+
+    @Test
+    public void testSnapshot() {
+        TransporterMetrics metrics = new TransporterMetrics();
+        metrics.onPacketReceived(100);
+        metrics.onPacketReceived(50);
+        metrics.onPacketSent(20);
+        metrics.onParseFailure();
+        metrics.onSendFailure();
+        for (int i = 0; i < TransporterMetrics.RECEIVE_SAMPLE_RATE * 100; i++) {
+            metrics.onReceiveProcessed(metrics.onReceiveStarted());
+        }
+        TransporterStats stats = metrics.snapshot();
+        assertEquals(2, stats.getPacketsReceived());
+        assertEquals(150, stats.getBytesReceived());
+        assertEquals(1, stats.getPacketsSent());
+        assertEquals(20, stats.getBytesSent());
+        assertEquals(1, stats.getParseFailures());
+        assertEquals(1, stats.getSendFailures());
+        assertTrue(stats.getReceiveCount() > 0);
+        assertTrue(stats.getMaxReceiveNanos() >= stats.getAverageReceiveNanos());
+        assertTrue(stats.getMessageStatsMap().isEmpty());
+    }
+
+    @Test
+    public void testMessageStats() {
+        TransporterMetrics metrics = new TransporterMetrics();
+        PacketProtocol protocol = new PacketProtocol();
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        PacketProtocol.PacketWriter writer = protocol.getPacketWriter();
+        writer.prepare(sender, new PingRpc(1));
+        metrics.onMessageSent(writer.getMessageType(), writer.getMessageSize());
+        byte[] bytes = protocol.toBytes(sender, new PingRpc(1));
+        protocol.fromBytes(bytes, 0, bytes.length, m -> {
+        }, metrics);
+        TransporterStats.MessageStats messageStats = metrics.snapshot().getMessageStatsMap().get("PingRpc");
+        assertNotNull(messageStats);
+        assertEquals(1, messageStats.getMessagesSent());
+        assertEquals(1, messageStats.getMessagesReceived());
+        assertEquals(messageStats.getBytesSent(), messageStats.getBytesReceived());
+    }
+
+}
@@ -0,0 +1,58 @@
+package in.xnnyygn.xgossip.schedule;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class EventLoopTest {
+
+    private final EventLoop eventLoop = new EventLoop();
+
+    @After
+    public void tearDown() {
+        eventLoop.shutdown();
+    }
+
+    @Test
+    public void testCall() {
+        assertFalse(eventLoop.inEventLoop());
+        assertEquals("event-loop", eventLoop.call(() -> Thread.currentThread().getName()));
+        assertTrue(eventLoop.call(eventLoop::inEventLoop));
+        // nested call runs directly instead of waiting for itself
+        assertEquals(Integer.valueOf(1), eventLoop.call(() -> eventLoop.call(() -> 1)));
+    }
+
+    @Test
+    public void testSharedExecutor() throws InterruptedException {
+        ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "udp-server"));
+        EventLoop sharedEventLoop = new EventLoop(executorService);
+        assertFalse(sharedEventLoop.inEventLoop());
+        assertEquals("udp-server", sharedEventLoop.call(() -> Thread.currentThread().getName()));
+        // tasks submitted to executor directly, like received packets, are also in event loop
+        CountDownLatch latch = new CountDownLatch(1);
+        executorService.execute(() -> {
+            if (sharedEventLoop.inEventLoop()) {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        // shared executor is shut down by its owner
+        sharedEventLoop.shutdown();
+        assertFalse(executorService.isShutdown());
+        executorService.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCallFailed() {
+        eventLoop.run(() -> {
+            throw new IllegalArgumentException();
+        });
+    }
+
+}
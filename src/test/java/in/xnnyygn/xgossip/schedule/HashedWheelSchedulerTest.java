@@ -0,0 +1,79 @@
+package in.xnnyygn.xgossip.schedule;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class HashedWheelSchedulerTest {
+
+    // small wheel, so timeouts in tests take more than one round
+    private final HashedWheelScheduler scheduler = new HashedWheelScheduler(1, 8);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        ScheduledFuture<?> future = scheduler.schedule(latch::countDown, 30);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(30));
+        future.get(1, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+        assertFalse(future.cancel(false));
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.schedule(count::incrementAndGet, 20);
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(latch::countDown, 40);
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void testScheduleWithFixedDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(latch::countDown, 5, 5);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(future.cancel(false));
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testCancelPeriodicInSameTick() throws Exception {
+        HashedWheelScheduler coarseScheduler = new HashedWheelScheduler(20, 8);
+        try {
+            AtomicInteger count = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<ScheduledFuture<?>> periodic = new AtomicReference<>();
+            // scheduled by worker, so both are placed in the same bucket in the next tick, the canceller first
+            coarseScheduler.schedule(() -> {
+                coarseScheduler.schedule(() -> periodic.get().cancel(false), 0);
+                periodic.set(coarseScheduler.scheduleWithFixedDelay(count::incrementAndGet, 0, 1000));
+                coarseScheduler.schedule(latch::countDown, 0);
+            }, 0);
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertTrue(periodic.get().isCancelled());
+            assertEquals(0, count.get());
+        } finally {
+            coarseScheduler.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package in.xnnyygn.xgossip.schedule;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost to schedule and cancel a ping timeout with {@link #OUTSTANDING_TIMEOUTS} outstanding timeouts, like a ping
+ * answered in time while many probes are in flight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+    private static final int OUTSTANDING_TIMEOUTS = 10000;
+    private static final long PING_TIMEOUT = 100;
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({"default", "wheel"})
+    public String scheduler;
+
+    private Scheduler instance;
+
+    @Setup
+    public void setUp() {
+        instance = "wheel".equals(scheduler) ? new HashedWheelScheduler() : new DefaultScheduler();
+        for (int i = 0; i < OUTSTANDING_TIMEOUTS; i++) {
+            instance.schedule(NOOP, TimeUnit.HOURS.toMillis(1) + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ScheduledFuture<?> future = instance.schedule(NOOP, PING_TIMEOUT);
+        return future.cancel(false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SchedulerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,122 @@
+package in.xnnyygn.xgossip.support;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatcher indexed by type id against the previous dispatcher keyed by class in hash map. Messages of
+ * several types are posted in turn, like a node receiving pings and exchanges.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageDispatcherBenchmark {
+
+    private final MessageDispatcher dispatcher = new MessageDispatcher();
+    private final HashMapDispatcher hashMapDispatcher = new HashMapDispatcher();
+    private RemoteMessage<?>[] messages;
+    private int index;
+    private long handled;
+
+    @Setup
+    public void setUp() {
+        register(dispatcher::register);
+        register(hashMapDispatcher::register);
+        MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+        messages = new RemoteMessage<?>[]{
+                new RemoteMessage<>(new PingRpc(1), sender),
+                new RemoteMessage<>(new PingResponse(1), sender),
+                new RemoteMessage<>(new PingRequestRpc(1, sender), sender),
+                new RemoteMessage<>(new ProxyPingRpc(1, sender), sender),
+                new RemoteMessage<>(new ProxyPingResponse(1, sender), sender),
+                new RemoteMessage<>(new ProxyPingDoneResponse(1, sender), sender),
+                new RemoteMessage<>(new MemberUpdatesRpc(Collections.emptyList(), new byte[16]), sender),
+                new RemoteMessage<>(new MembersMergedResponse(1), sender)
+        };
+    }
+
+    private void register(Registry registry) {
+        registry.register(MemberJoinRpc.class, this::handle);
+        registry.register(MemberJoinResponse.class, this::handle);
+        registry.register(MemberLeavedRpc.class, this::handle);
+        registry.register(MemberUpdatesRpc.class, this::handle);
+        registry.register(MemberUpdatesAgreedResponse.class, this::handle);
+        registry.register(MemberUpdatesResponse.class, this::handle);
+        registry.register(MembersMergeResponse.class, this::handle);
+        registry.register(MembersMergedResponse.class, this::handle);
+        registry.register(PingRpc.class, this::handle);
+        registry.register(PingResponse.class, this::handle);
+        registry.register(PingRequestRpc.class, this::handle);
+        registry.register(ProxyPingRpc.class, this::handle);
+        registry.register(ProxyPingResponse.class, this::handle);
+        registry.register(ProxyPingDoneResponse.class, this::handle);
+    }
+
+    private void handle(RemoteMessage<?> message) {
+        handled++;
+    }
+
+    private RemoteMessage<?> nextMessage() {
+        RemoteMessage<?> message = messages[index];
+        index = (index + 1) % messages.length;
+        return message;
+    }
+
+    @Benchmark
+    public long indexed() {
+        dispatcher.post(nextMessage());
+        return handled;
+    }
+
+    @Benchmark
+    public long hashMap() {
+        hashMapDispatcher.post(nextMessage());
+        return handled;
+    }
+
+    private interface Registry {
+
+        <T extends AbstractMessage> void register(Class<T> clazz, MessageDispatcher.Handler<T> handler);
+
+    }
+
+    /**
+     * Previous dispatcher, looking up handler by class of message.
+     */
+    private static class HashMapDispatcher {
+
+        private final Map<Class<? extends AbstractMessage>, MessageDispatcher.Handler<? extends AbstractMessage>> handlerMap = new HashMap<>();
+
+        <T extends AbstractMessage> void register(Class<T> clazz, MessageDispatcher.Handler<T> handler) {
+            handlerMap.put(clazz, handler);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends AbstractMessage> void post(RemoteMessage<T> message) {
+            MessageDispatcher.Handler<T> handler = (MessageDispatcher.Handler<T>) handlerMap.get(message.getPayloadClass());
+            if (handler != null) {
+                handler.handle(message);
+            }
+        }
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageDispatcherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,89 @@
+package in.xnnyygn.xgossip.support;
+
+import in.xnnyygn.xgossip.MemberEndpoint;
+import in.xnnyygn.xgossip.rpc.messages.MembersMergedResponse;
+import in.xnnyygn.xgossip.rpc.messages.PingResponse;
+import in.xnnyygn.xgossip.rpc.messages.PingRpc;
+import in.xnnyygn.xgossip.rpc.messages.RemoteMessage;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class MessageDispatcherTest {
+
+    private final MemberEndpoint sender = new MemberEndpoint("localhost", 5302);
+
+    @Test
+    public void testPostInline() {
+        MessageDispatcher dispatcher = new MessageDispatcher();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        dispatcher.register(PingRpc.class, m -> thread.set(Thread.currentThread()));
+        dispatcher.post(new RemoteMessage<>(new PingRpc(1), sender));
+        assertSame(Thread.currentThread(), thread.get());
+        assertTrue(dispatcher.getLanes().isEmpty());
+    }
+
+    @Test
+    public void testPostToLane() throws InterruptedException {
+        MessageDispatcher dispatcher = new MessageDispatcher();
+        MessageLane lane = new MessageLane("test", 16);
+        dispatcher.assignLane(PingRpc.class, lane);
+        dispatcher.assignLane(PingResponse.class, lane);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        dispatcher.register(PingRpc.class, m -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        dispatcher.post(new RemoteMessage<>(new PingRpc(1), sender));
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals("lane-test", threadName.get());
+            assertEquals(1, dispatcher.getLanes().size());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testLaneFull() throws InterruptedException {
+        MessageDispatcher dispatcher = new MessageDispatcher();
+        MessageLane slowLane = new MessageLane("slow", 1);
+        MessageLane fastLane = new MessageLane("fast", 1);
+        dispatcher.assignLane(MembersMergedResponse.class, slowLane);
+        dispatcher.assignLane(PingResponse.class, fastLane);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.register(MembersMergedResponse.class, m -> {
+            started.countDown();
+            try {
+                blocking.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        CountDownLatch pinged = new CountDownLatch(1);
+        dispatcher.register(PingResponse.class, m -> pinged.countDown());
+        try {
+            dispatcher.post(new RemoteMessage<>(new MembersMergedResponse(1), sender));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            // one in queue, one dropped
+            dispatcher.post(new RemoteMessage<>(new MembersMergedResponse(2), sender));
+            dispatcher.post(new RemoteMessage<>(new MembersMergedResponse(3), sender));
+            // not blocked by slow lane
+            dispatcher.post(new RemoteMessage<>(new PingResponse(1), sender));
+            assertTrue(pinged.await(1, TimeUnit.SECONDS));
+            MessageLaneStats stats = slowLane.getStats();
+            assertEquals("slow", stats.getName());
+            assertEquals(1, stats.getQueueSize());
+            assertEquals(1, stats.getDroppedCount());
+        } finally {
+            blocking.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package in.xnnyygn.xgossip.support;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void testPutGet() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(1), map.get("a"));
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertNull(map.get("c"));
+    }
+
+    @Test
+    public void testPutSameValue() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+    }
+
+    @Test
+    public void testPersistent() {
+        PersistentHashMap<String, Integer> map1 = PersistentHashMap.<String, Integer>empty().put("a", 1);
+        PersistentHashMap<String, Integer> map2 = map1.put("a", 2).put("b", 3);
+        assertEquals(1, map1.size());
+        assertEquals(Integer.valueOf(1), map1.get("a"));
+        assertNull(map1.get("b"));
+        assertEquals(2, map2.size());
+        assertEquals(Integer.valueOf(2), map2.get("a"));
+        PersistentHashMap<String, Integer> map3 = map2.remove("a");
+        assertEquals(1, map3.size());
+        assertEquals(Integer.valueOf(2), map2.get("a"));
+    }
+
+    @Test
+    public void testRemove() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", 1);
+        assertSame(map, map.remove("b"));
+        map = map.remove("a");
+        assertTrue(map.isEmpty());
+        assertFalse(map.values().iterator().hasNext());
+    }
+
+    @Test
+    public void testCollision() {
+        // "Aa" and "BB" have same hash code
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+                .put("Aa", 1).put("BB", 2).put("C", 3);
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(1), map.get("Aa"));
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+        assertEquals(3, map.values().size());
+        map = map.remove("Aa");
+        assertNull(map.get("Aa"));
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+        assertEquals(2, map.values().stream().count());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        List<PersistentHashMap<Integer, Integer>> versions = new ArrayList<>();
+        List<Map<Integer, Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            // keys spread over all bits to build deep tries
+            int key = random.nextInt(4000) * 0x9e3779b9;
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            if (i % 1000 == 0) {
+                versions.add(map);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertMapEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    private void assertMapEquals(Map<Integer, Integer> expected, PersistentHashMap<Integer, Integer> map) {
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        List<Integer> values = new ArrayList<>(map.values());
+        assertEquals(expected.size(), values.size());
+        values.sort(null);
+        List<Integer> expectedValues = new ArrayList<>(expected.values());
+        expectedValues.sort(null);
+        assertEquals(expectedValues, values);
+    }
+
+}